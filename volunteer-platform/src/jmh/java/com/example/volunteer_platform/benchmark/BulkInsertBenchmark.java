@@ -0,0 +1,113 @@
+package com.example.volunteer_platform.benchmark;
+
+import com.example.volunteer_platform.model.Task;
+import com.example.volunteer_platform.model.TaskSignup;
+import com.example.volunteer_platform.model.Volunteer;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.Session;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.orm.jpa.SharedEntityManagerCreator;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Inserts signups through JPA in one transaction, flushing and clearing the persistence context every
+ * FLUSH_EVERY entities. Signups take their IDs from a pooled sequence, so Hibernate sends the inserts in
+ * JDBC batches of jdbcBatchSize; jdbcBatchSize=1 runs the same code with one round trip per row, as with
+ * IDENTITY keys. The inserted rows are deleted after each iteration.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class BulkInsertBenchmark {
+
+    private static final int FLUSH_EVERY = 1000;
+
+    @Param({"100000"})
+    public int signups;
+
+    @Param({"1", "50"})
+    public int jdbcBatchSize;
+
+    private PlatformState platform;
+    private EntityManager entityManager;
+    private TransactionTemplate transactionTemplate;
+    private long[] taskIds; // Pairs without an existing signup
+    private long[] volunteerIds;
+    private long maxSignupIdBefore;
+
+    @Setup(Level.Trial)
+    public void setUp(PlatformState platform) {
+        this.platform = platform;
+        entityManager = SharedEntityManagerCreator.createSharedEntityManager(platform.bean(EntityManagerFactory.class));
+        transactionTemplate = new TransactionTemplate(platform.bean(PlatformTransactionManager.class));
+
+        List<Long> tasks = platform.jdbcTemplate.queryForList("SELECT id FROM tasks ORDER BY id", Long.class);
+        List<Long> volunteers = platform.jdbcTemplate.queryForList(
+                "SELECT id FROM user WHERE user_type = 'VOLUNTEER' ORDER BY id", Long.class);
+        Set<String> existing = new HashSet<>(platform.jdbcTemplate.queryForList(
+                "SELECT CONCAT(task_id, '-', user_id) FROM task_signup", String.class));
+        taskIds = new long[signups];
+        volunteerIds = new long[signups];
+        int n = 0;
+        for (long pair = 0; n < signups; pair++) {
+            long taskId = tasks.get((int) (pair % tasks.size()));
+            long volunteerId = volunteers.get((int) (pair / tasks.size() % volunteers.size()));
+            if (!existing.contains(taskId + "-" + volunteerId)) {
+                taskIds[n] = taskId;
+                volunteerIds[n] = volunteerId;
+                n++;
+            }
+        }
+    }
+
+    @Setup(Level.Iteration)
+    public void rememberMaxSignupId() {
+        Long max = platform.jdbcTemplate.queryForObject("SELECT MAX(signup_id) FROM task_signup", Long.class);
+        maxSignupIdBefore = max == null ? 0 : max;
+    }
+
+    @Benchmark
+    public int insertSignups() {
+        return transactionTemplate.execute(status -> {
+            entityManager.unwrap(Session.class).setJdbcBatchSize(jdbcBatchSize);
+            for (int i = 0; i < signups; i++) {
+                entityManager.persist(TaskSignup.builder()
+                        .task(entityManager.getReference(Task.class, taskIds[i]))
+                        .volunteer(entityManager.getReference(Volunteer.class, volunteerIds[i]))
+                        .build());
+                if ((i + 1) % FLUSH_EVERY == 0) {
+                    entityManager.flush();
+                    entityManager.clear();
+                }
+            }
+            return signups;
+        });
+    }
+
+    @TearDown(Level.Iteration)
+    public void deleteInsertedSignups() {
+        platform.jdbcTemplate.update("DELETE FROM task_signup WHERE signup_id > ?", maxSignupIdBefore);
+    }
+}
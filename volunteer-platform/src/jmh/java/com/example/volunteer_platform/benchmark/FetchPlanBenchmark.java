@@ -0,0 +1,101 @@
+package com.example.volunteer_platform.benchmark;
+
+import com.example.volunteer_platform.monitoring.QueryStatsFilter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+
+/**
+ * Pages and endpoints that load signups, volunteers and tasks as entities, served through MockMvc with
+ * open-in-view like a real request. Besides the time per request, the statements and repository rows of
+ * each endpoint are printed at the end of the trial from the request.statements and request.rows metrics,
+ * so fetch plan changes can be compared by the SQL they cause.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class FetchPlanBenchmark {
+
+    private MockMvc mockMvc;
+    private MeterRegistry meterRegistry;
+    private List<Long> busyTaskIds; // Tasks with the most applicants
+    private List<Long> signupIds;
+    private final Random random = new Random(11);
+
+    @Setup
+    public void setUp(PlatformState platform) {
+        mockMvc = MockMvcBuilders.webAppContextSetup((WebApplicationContext) platform.context)
+                .addFilters(platform.bean(QueryStatsFilter.class))
+                .build();
+        meterRegistry = platform.bean(MeterRegistry.class);
+        busyTaskIds = platform.jdbcTemplate.queryForList(
+                "SELECT task_id FROM task_signup GROUP BY task_id ORDER BY COUNT(*) DESC LIMIT 100", Long.class);
+        signupIds = platform.jdbcTemplate.queryForList("SELECT signup_id FROM task_signup LIMIT 1000", Long.class);
+    }
+
+    @Benchmark
+    public MvcResult taskApplicants() throws Exception {
+        return mockMvc.perform(get("/o/task/applicants").param("taskId", pick(busyTaskIds).toString())).andReturn();
+    }
+
+    @Benchmark
+    public MvcResult volunteerHistory(PlatformState platform) throws Exception {
+        return mockMvc.perform(get("/v/history").sessionAttr("userId", platform.data.randomVolunteerId(random))).andReturn();
+    }
+
+    @Benchmark
+    public MvcResult volunteerTaskView(PlatformState platform) throws Exception {
+        return mockMvc.perform(get("/v/opportunities/{taskId}", platform.data.randomTaskId(random))
+                .sessionAttr("userId", platform.data.randomVolunteerId(random))).andReturn();
+    }
+
+    @Benchmark
+    public MvcResult volunteerProfile(PlatformState platform) throws Exception {
+        return mockMvc.perform(get("/v/profile").param("id", String.valueOf(platform.data.randomVolunteerId(random)))).andReturn();
+    }
+
+    @Benchmark
+    public MvcResult reminderStatus() throws Exception {
+        return mockMvc.perform(get("/api/test/reminders/status/{signupId}", pick(signupIds))).andReturn();
+    }
+
+    @TearDown(Level.Trial)
+    public void printQueryStats() {
+        System.out.printf("%n%-45s %10s %12s %12s%n", "Endpoint", "Requests", "Statements", "Rows");
+        for (DistributionSummary statements : meterRegistry.find("request.statements").summaries()) {
+            String method = statements.getId().getTag("method");
+            String uri = statements.getId().getTag("uri");
+            DistributionSummary rows = meterRegistry.find("request.rows").tags("method", method, "uri", uri).summary();
+            System.out.printf("%-45s %10d %12.1f %12.1f%n", method + " " + uri, statements.count(),
+                    statements.mean(), rows == null ? 0 : rows.mean());
+        }
+    }
+
+    private Long pick(List<Long> ids) {
+        return ids.get(random.nextInt(ids.size()));
+    }
+}
@@ -0,0 +1,70 @@
+package com.example.volunteer_platform.benchmark;
+
+import com.example.volunteer_platform.loadtest.DataGenerator;
+import com.example.volunteer_platform.security.CustomAuthenticationSuccessHandler;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.AuthenticationProvider;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.userdetails.UserCache;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Login throughput: password check and session setup, with the user served from the login cache or
+ * loaded from the database. BCrypt dominates both; the difference is the user query.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+@Threads(4)
+public class LoginBenchmark {
+
+    private static final int USERS = 100; // Distinct volunteers logging in, all fitting in the cache
+
+    private AuthenticationProvider authenticationProvider;
+    private CustomAuthenticationSuccessHandler successHandler;
+    private UserCache userCache;
+
+    @Setup
+    public void setUp(PlatformState platform) {
+        authenticationProvider = platform.bean(AuthenticationProvider.class);
+        successHandler = platform.bean(CustomAuthenticationSuccessHandler.class);
+        userCache = platform.bean(UserCache.class);
+    }
+
+    @Benchmark
+    public Authentication loginWithCachedUser() throws Exception {
+        return login(DataGenerator.volunteerEmail(ThreadLocalRandom.current().nextInt(USERS)));
+    }
+
+    @Benchmark
+    public Authentication loginWithoutCachedUser() throws Exception {
+        String email = DataGenerator.volunteerEmail(ThreadLocalRandom.current().nextInt(USERS));
+        userCache.removeUserFromCache(email);
+        return login(email);
+    }
+
+    private Authentication login(String email) throws Exception {
+        Authentication authentication = authenticationProvider.authenticate(
+                UsernamePasswordAuthenticationToken.unauthenticated(email, DataGenerator.PASSWORD));
+        successHandler.onAuthenticationSuccess(new MockHttpServletRequest(), new MockHttpServletResponse(), authentication);
+        return authentication;
+    }
+}
@@ -0,0 +1,71 @@
+package com.example.volunteer_platform.benchmark;
+
+import com.example.volunteer_platform.VolunteerPlatformApplication;
+import com.example.volunteer_platform.loadtest.DataGenerator;
+import com.example.volunteer_platform.loadtest.DataSetSize;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.Duration;
+
+/**
+ * The application started against an in-memory H2 database seeded with the requested number of rows.
+ * One context is shared by all threads of a trial; mail goes to the fake-mail sender.
+ */
+@State(Scope.Benchmark)
+public class PlatformState {
+
+    @Param({"10000", "100000", "1000000"})
+    public int rows;
+
+    public ConfigurableApplicationContext context;
+    public JdbcTemplate jdbcTemplate;
+    public DataGenerator data;
+
+    @Setup(Level.Trial)
+    public void start() {
+        SpringApplication application = new SpringApplicationBuilder(VolunteerPlatformApplication.class)
+                .profiles("fake-mail")
+                .properties(
+                        "server.port=0",
+                        "spring.datasource.url=jdbc:h2:mem:benchmark;MODE=MySQL;NON_KEYWORDS=USER;DB_CLOSE_DELAY=-1",
+                        "spring.datasource.username=sa",
+                        "spring.datasource.password=",
+                        "spring.jpa.hibernate.ddl-auto=create-drop",
+                        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+                        "spring.jpa.show-sql=false",
+                        "spring.jpa.properties.hibernate.format_sql=false",
+                        "scheduler.lease.lock-at-least-for=0s", // Leased jobs would otherwise skip every run after the first
+                        "logging.level.root=WARN")
+                .build();
+        context = application.run();
+        jdbcTemplate = context.getBean(JdbcTemplate.class);
+
+        data = new DataGenerator(jdbcTemplate, 42);
+        data.generate(DataSetSize.forRows(rows));
+
+        // The seeded rows carry explicit IDs; move the ID sequences past them as a fresh start would
+        context.getBean("idSequenceReconciler", SmartInitializingSingleton.class).afterSingletonsInstantiated();
+        // Rebuild the search index, skill index, rating aggregates and signup counters from the seeded rows
+        context.publishEvent(new ApplicationReadyEvent(application, new String[0], context, Duration.ZERO));
+    }
+
+    @TearDown(Level.Trial)
+    public void stop() {
+        context.close();
+    }
+
+    public <T> T bean(Class<T> type) {
+        return context.getBean(type);
+    }
+}
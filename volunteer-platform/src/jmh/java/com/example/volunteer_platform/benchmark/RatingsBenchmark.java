@@ -0,0 +1,56 @@
+package com.example.volunteer_platform.benchmark;
+
+import com.example.volunteer_platform.dto.LeaderboardEntryDto;
+import com.example.volunteer_platform.dto.RatingResponseDto;
+import com.example.volunteer_platform.dto.RatingSummaryDto;
+import com.example.volunteer_platform.enums.UserType;
+import com.example.volunteer_platform.service.RatingsService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Rating summary, leaderboard and per-user rating listings.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class RatingsBenchmark {
+
+    private RatingsService ratingsService;
+    private final Random random = new Random(11);
+
+    @Setup
+    public void setUp(PlatformState platform) {
+        ratingsService = platform.bean(RatingsService.class);
+    }
+
+    @Benchmark
+    public RatingSummaryDto getRatingSummary(PlatformState platform) {
+        return ratingsService.getRatingSummary(platform.data.randomVolunteerId(random));
+    }
+
+    @Benchmark
+    public List<LeaderboardEntryDto> getLeaderboard() {
+        return ratingsService.getLeaderboard(UserType.VOLUNTEER, 0, 20);
+    }
+
+    @Benchmark
+    public List<RatingResponseDto> getRatingsForOrganization(PlatformState platform) {
+        return ratingsService.getRatingResponsesForUser(platform.data.randomOrganizationId(random));
+    }
+}
@@ -0,0 +1,72 @@
+package com.example.volunteer_platform.benchmark;
+
+import com.example.volunteer_platform.dto.ReminderRunSummaryDto;
+import com.example.volunteer_platform.scheduler.ReminderScheduler;
+import com.example.volunteer_platform.scheduler.TaskStatusScheduler;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * One run of each nightly job. The rows a run changes are reset before every invocation so that
+ * each run finds the same amount of work. A run that skipped work because of a scheduler lease fails.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 10)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class SchedulerBenchmark {
+
+    private ReminderScheduler reminderScheduler;
+    private TaskStatusScheduler taskStatusScheduler;
+    private PlatformState platform;
+    private LocalDateTime invocationStart;
+
+    @Setup
+    public void setUp(PlatformState platform) {
+        reminderScheduler = platform.bean(ReminderScheduler.class);
+        taskStatusScheduler = platform.bean(TaskStatusScheduler.class);
+        this.platform = platform;
+    }
+
+    @Setup(Level.Invocation)
+    public void resetJobState(PlatformState platform) {
+        platform.jdbcTemplate.update("UPDATE task_signup SET reminder_sent = false WHERE reminder_sent = true");
+        platform.jdbcTemplate.update("UPDATE tasks SET status = 'AVAILABLE' WHERE status IN ('APPLICATION_ENDED', 'ENDED')");
+        invocationStart = LocalDateTime.now();
+    }
+
+    @Benchmark
+    public ReminderRunSummaryDto sendTaskReminders() {
+        ReminderRunSummaryDto summary = reminderScheduler.sendTaskReminders();
+        if (summary.getShardsSkipped() > 0) {
+            throw new IllegalStateException(summary.getShardsSkipped() + " reminder shards were skipped for their leases");
+        }
+        return summary;
+    }
+
+    @Benchmark
+    public void updateTaskStatuses() {
+        taskStatusScheduler.updateTaskStatuses();
+        // One primary key lookup, negligible next to the job
+        List<LocalDateTime> lockedAt = platform.jdbcTemplate.queryForList(
+                "SELECT locked_at FROM scheduler_leases WHERE name = 'task-status'", LocalDateTime.class);
+        if (lockedAt.isEmpty() || lockedAt.get(0).isBefore(invocationStart)) {
+            throw new IllegalStateException("Task status update was skipped for its lease");
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package com.example.volunteer_platform.benchmark;
+
+import com.example.volunteer_platform.dto.SignupResultDto;
+import com.example.volunteer_platform.dto.TaskFeedPageDto;
+import com.example.volunteer_platform.dto.TaskSearchPageDto;
+import com.example.volunteer_platform.model.Task;
+import com.example.volunteer_platform.service.TaskService;
+import com.example.volunteer_platform.service.TaskSignupService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Task listing, feed, search and signup paths of the REST API, measured at the service layer.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class TaskServiceBenchmark {
+
+    private static final String[] QUERIES = {"beach", "food drive", "river", "garden", "library"};
+
+    private TaskService taskService;
+    private TaskSignupService taskSignupService;
+    private final Random random = new Random(7);
+
+    @Setup
+    public void setUp(PlatformState platform) {
+        taskService = platform.bean(TaskService.class);
+        taskSignupService = platform.bean(TaskSignupService.class);
+    }
+
+    @Benchmark
+    public List<Task> getAllTasks() {
+        return taskService.getAllTasks();
+    }
+
+    @Benchmark
+    public TaskFeedPageDto getTaskFeedFirstPage() {
+        return taskService.getTaskFeed(null, null, null, null, 20);
+    }
+
+    @Benchmark
+    public TaskSearchPageDto searchTasks() {
+        return taskService.searchTasks(QUERIES[random.nextInt(QUERIES.length)], null, null, null, null, 0, 20);
+    }
+
+    @Benchmark
+    public SignupResultDto signUpForTask(PlatformState platform) {
+        // Mostly new signups; repeated pairs and full tasks exercise the duplicate and waitlist branches
+        try {
+            return taskSignupService.signUp(platform.data.randomTaskId(random), platform.data.randomVolunteerId(random));
+        } catch (DataIntegrityViolationException e) {
+            return null; // A signup raced by another benchmark thread; any other failure aborts the run
+        }
+    }
+}
@@ -0,0 +1,270 @@
+package com.example.volunteer_platform.loadtest;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+/**
+ * Seeds an empty schema with a reproducible data set through JDBC batches instead of one save per entity.
+ * The same seed gives the same rows; dates are relative to the day of the run.
+ * <ul>
+ *     <li>Skill popularity is skewed: a few skills are common, most are rare. Volunteers have 1 to 6 skills.</li>
+ *     <li>Task ownership is skewed towards a few large organizations.</li>
+ *     <li>Events cluster in the next weeks and thin out over half a year; one in twenty lies in the past so the
+ *     nightly status job has work. Applications close 1 to 14 days and cancellations 1 to 3 days before the event.</li>
+ *     <li>A third of the tasks have a capacity; signups never overfill one. Popular tasks get more signups.</li>
+ *     <li>Ratings go both ways between volunteers and organizations and lean towards 4 and 5.</li>
+ * </ul>
+ * Every user can log in with {@link #PASSWORD}; volunteer i has the email returned by {@link #volunteerEmail(int)}.
+ * Skills, signups and ratings take their IDs from pooled sequences in the application, so they are written with
+ * explicit IDs here and the application moves the sequences past them at startup.
+ */
+public class DataGenerator {
+
+    public static final String PASSWORD = "loadtest";
+
+    private static final int BATCH_SIZE = 10_000;
+    private static final int SKILLS = 50;
+    private static final int RETRIES = 10; // Attempts to find a free (task, volunteer) pair before a signup is skipped
+    private static final String[] WORDS = {"beach", "food", "tree", "river", "school", "animal", "clinic", "park",
+            "library", "kitchen", "garden", "shelter", "market", "museum", "harbour", "stadium"};
+    private static final String[] CITIES = {"Mumbai", "Pune", "Delhi", "Chennai", "Kolkata", "Bengaluru", "Jaipur", "Goa"};
+    private static final String[] GENDERS = {"MALE", "FEMALE", "OTHER"};
+    private static final int[] SCORES = {1, 2, 3, 3, 3, 4, 4, 4, 4, 4, 4, 4, 5, 5, 5, 5, 5, 5, 5, 5}; // 5% ones and twos, 40% fives
+
+    private final JdbcTemplate jdbcTemplate;
+    private final Random random;
+    private final LocalDate today = LocalDate.now();
+    private final LocalDateTime now = LocalDateTime.now();
+
+    private long[] skillIds;
+    private long[] organizationIds;
+    private long[] volunteerIds;
+    private long[] taskIds;
+    private Integer[] capacities;
+
+    public DataGenerator(JdbcTemplate jdbcTemplate, long seed) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.random = new Random(seed);
+    }
+
+    /**
+     * Email of the i-th generated volunteer.
+     *
+     * @param i Index of the volunteer, starting at 0.
+     * @return The email to log in with.
+     */
+    public static String volunteerEmail(int i) {
+        return "volunteer" + i + "@loadtest.example";
+    }
+
+    /**
+     * Seed the database.
+     *
+     * @param size Number of rows per table.
+     */
+    public void generate(DataSetSize size) {
+        String passwordHash = new BCryptPasswordEncoder().encode(PASSWORD);
+        insertSkills();
+        insertOrganizations(size.getOrganizations(), passwordHash);
+        insertVolunteers(size.getVolunteers(), passwordHash);
+        insertTasks(size.getTasks());
+        insertSignups(size.getSignups());
+        insertRatings(size.getRatings());
+    }
+
+    public long randomTaskId(Random rnd) {
+        return taskIds[rnd.nextInt(taskIds.length)];
+    }
+
+    public long randomVolunteerId(Random rnd) {
+        return volunteerIds[rnd.nextInt(volunteerIds.length)];
+    }
+
+    public long randomOrganizationId(Random rnd) {
+        return organizationIds[rnd.nextInt(organizationIds.length)];
+    }
+
+    private void insertSkills() {
+        long after = maxId("skill");
+        Batch batch = new Batch("INSERT INTO skill (id, name) VALUES (?, ?)");
+        for (int i = 0; i < SKILLS; i++) {
+            batch.add(after + 1 + i, capitalize(WORDS[i % WORDS.length]) + " skill " + i);
+        }
+        batch.flush();
+        skillIds = idsAfter("SELECT id FROM skill WHERE id > ? ORDER BY id", after);
+    }
+
+    private void insertOrganizations(int count, String passwordHash) {
+        long after = maxId("user");
+        Timestamp createdAt = Timestamp.valueOf(now);
+        Batch batch = new Batch("INSERT INTO user (user_type, name, email, password, phone_number, created_at, updated_at, " +
+                "address, website) VALUES ('ORGANIZATION', ?, ?, ?, ?, ?, ?, ?, ?)");
+        for (int i = 0; i < count; i++) {
+            batch.add("Organization " + i, "org" + i + "@loadtest.example", passwordHash, String.format("8%09d", i),
+                    createdAt, createdAt, "Street " + i + ", " + CITIES[i % CITIES.length], "https://org" + i + ".loadtest.example");
+        }
+        batch.flush();
+        organizationIds = idsAfter("SELECT id FROM user WHERE id > ? AND user_type = 'ORGANIZATION' ORDER BY id", after);
+    }
+
+    private void insertVolunteers(int count, String passwordHash) {
+        long after = maxId("user");
+        Timestamp createdAt = Timestamp.valueOf(now);
+        Batch batch = new Batch("INSERT INTO user (user_type, name, email, password, phone_number, created_at, updated_at, " +
+                "gender) VALUES ('VOLUNTEER', ?, ?, ?, ?, ?, ?, ?)");
+        for (int i = 0; i < count; i++) {
+            batch.add("Volunteer " + i, volunteerEmail(i), passwordHash, String.format("9%09d", i), createdAt, createdAt,
+                    GENDERS[random.nextInt(GENDERS.length)]);
+        }
+        batch.flush();
+        volunteerIds = idsAfter("SELECT id FROM user WHERE id > ? AND user_type = 'VOLUNTEER' ORDER BY id", after);
+
+        Batch skills = new Batch("INSERT INTO volunteer_skills (volunteer_id, skill_id) VALUES (?, ?)");
+        for (long volunteerId : volunteerIds) {
+            for (int skill : distinctSkills(1 + Math.min(5, (int) Math.abs(random.nextGaussian() * 2)))) {
+                skills.add(volunteerId, skillIds[skill]);
+            }
+        }
+        skills.flush();
+    }
+
+    private void insertTasks(int count) {
+        long after = maxId("tasks");
+        Timestamp createdAt = Timestamp.valueOf(now);
+        int[] owners = new int[count];
+        capacities = new Integer[count];
+        Batch batch = new Batch("INSERT INTO tasks (title, description, location, event_date, cancellation_deadline, " +
+                "application_deadline, created_at, updated_at, status, organization_id, capacity, signup_count) " +
+                "VALUES (?, ?, ?, ?, ?, ?, ?, ?, 'AVAILABLE', ?, ?, 0)");
+        for (int i = 0; i < count; i++) {
+            LocalDate eventDate = random.nextInt(20) == 0
+                    ? today.minusDays(1 + random.nextInt(30))
+                    : today.plusDays(1 + skewed(180));
+            owners[i] = skewed(organizationIds.length);
+            capacities[i] = random.nextInt(3) == 0 ? 5 + random.nextInt(46) : null;
+            String word = WORDS[random.nextInt(WORDS.length)];
+            batch.add(capitalize(word) + " drive " + i,
+                    "Help the " + WORDS[random.nextInt(WORDS.length)] + " team with the " + word + " drive",
+                    CITIES[random.nextInt(CITIES.length)],
+                    Date.valueOf(eventDate),
+                    Date.valueOf(eventDate.minusDays(1 + random.nextInt(3))),
+                    Date.valueOf(eventDate.minusDays(1 + random.nextInt(14))),
+                    createdAt, createdAt, organizationIds[owners[i]], capacities[i]);
+        }
+        batch.flush();
+        taskIds = idsAfter("SELECT id FROM tasks WHERE id > ? ORDER BY id", after);
+
+        Batch skills = new Batch("INSERT INTO task_skills (task_id, skill_id) VALUES (?, ?)");
+        for (int i = 0; i < taskIds.length; i++) {
+            for (int skill : distinctSkills(1 + random.nextInt(3))) {
+                skills.add(taskIds[i], skillIds[skill]);
+            }
+        }
+        skills.flush();
+    }
+
+    private void insertSignups(int count) {
+        // Signup counters are left at 0 and reconciled by the application at startup
+        Set<Long> pairs = new HashSet<>();
+        int[] signupCounts = new int[taskIds.length];
+        long nextId = maxId("task_signup", "signup_id") + 1;
+        Batch batch = new Batch("INSERT INTO task_signup (signup_id, task_id, user_id, signup_date, reminder_sent) VALUES (?, ?, ?, ?, false)");
+        for (int i = 0; i < count; i++) {
+            for (int attempt = 0; attempt < RETRIES; attempt++) {
+                int task = skewed(taskIds.length);
+                int volunteer = random.nextInt(volunteerIds.length);
+                if ((capacities[task] == null || signupCounts[task] < capacities[task])
+                        && pairs.add((long) task * volunteerIds.length + volunteer)) {
+                    signupCounts[task]++;
+                    batch.add(nextId++, taskIds[task], volunteerIds[volunteer], Timestamp.valueOf(now.minusMinutes(random.nextInt(60 * 24 * 30))));
+                    break;
+                }
+            }
+        }
+        batch.flush();
+    }
+
+    private void insertRatings(int count) {
+        Timestamp createdAt = Timestamp.valueOf(now);
+        long nextId = maxId("ratings", "rating_id") + 1;
+        Batch batch = new Batch("INSERT INTO ratings (rating_id, rated_by_user_id, rated_user_id, rating_score, review, " +
+                "created_date, updated_date, is_deleted) VALUES (?, ?, ?, ?, ?, ?, ?, false)");
+        for (int i = 0; i < count; i++) {
+            long volunteer = randomVolunteerId(random);
+            long organization = organizationIds[skewed(organizationIds.length)];
+            boolean volunteerRates = random.nextBoolean();
+            batch.add(nextId++, volunteerRates ? volunteer : organization, volunteerRates ? organization : volunteer,
+                    SCORES[random.nextInt(SCORES.length)], "Review " + i, createdAt, createdAt);
+        }
+        batch.flush();
+    }
+
+    /**
+     * Random index below n, skewed towards 0 so that low indexes are picked far more often.
+     */
+    private int skewed(int n) {
+        double u = random.nextDouble();
+        return (int) (n * u * u);
+    }
+
+    private Set<Integer> distinctSkills(int count) {
+        Set<Integer> skills = new HashSet<>();
+        while (skills.size() < count) {
+            skills.add(skewed(SKILLS));
+        }
+        return skills;
+    }
+
+    private long maxId(String table) {
+        return maxId(table, "id");
+    }
+
+    private long maxId(String table, String idColumn) {
+        Long max = jdbcTemplate.queryForObject("SELECT MAX(" + idColumn + ") FROM " + table, Long.class);
+        return max == null ? 0 : max;
+    }
+
+    private long[] idsAfter(String sql, long after) {
+        return jdbcTemplate.queryForList(sql, Long.class, after).stream().mapToLong(Long::longValue).toArray();
+    }
+
+    private static String capitalize(String word) {
+        return Character.toUpperCase(word.charAt(0)) + word.substring(1);
+    }
+
+    /**
+     * Accumulates parameter rows and writes them in JDBC batches.
+     */
+    private class Batch {
+        private final String sql;
+        private final List<Object[]> rows = new ArrayList<>(BATCH_SIZE);
+
+        Batch(String sql) {
+            this.sql = sql;
+        }
+
+        void add(Object... values) {
+            rows.add(values);
+            if (rows.size() == BATCH_SIZE) {
+                flush();
+            }
+        }
+
+        void flush() {
+            if (!rows.isEmpty()) {
+                jdbcTemplate.batchUpdate(sql, rows);
+                rows.clear();
+            }
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package com.example.volunteer_platform.loadtest;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+/**
+ * Number of rows DataGenerator creates per table.
+ */
+@Data
+@AllArgsConstructor
+public class DataSetSize {
+
+    private int organizations;
+    private int volunteers;
+    private int tasks;
+    private int signups; // Upper bound; signups that would overfill a task are skipped
+    private int ratings;
+
+    /**
+     * Size used by the benchmarks: N tasks, signups and ratings, N/10 volunteers and N/1000 organizations.
+     *
+     * @param rows Number of tasks.
+     * @return The data set size.
+     */
+    public static DataSetSize forRows(int rows) {
+        return new DataSetSize(Math.max(10, rows / 1000), Math.max(100, rows / 10), rows, rows, rows);
+    }
+
+    /**
+     * Read the size from the system properties dataset.organizations, dataset.volunteers, dataset.tasks,
+     * dataset.signups and dataset.ratings, defaulting to forRows(dataset.rows).
+     *
+     * @return The data set size.
+     */
+    public static DataSetSize fromSystemProperties() {
+        DataSetSize size = forRows(Integer.getInteger("dataset.rows", 10_000));
+        size.setOrganizations(Integer.getInteger("dataset.organizations", size.getOrganizations()));
+        size.setVolunteers(Integer.getInteger("dataset.volunteers", size.getVolunteers()));
+        size.setTasks(Integer.getInteger("dataset.tasks", size.getTasks()));
+        size.setSignups(Integer.getInteger("dataset.signups", size.getSignups()));
+        size.setRatings(Integer.getInteger("dataset.ratings", size.getRatings()));
+        return size;
+    }
+}
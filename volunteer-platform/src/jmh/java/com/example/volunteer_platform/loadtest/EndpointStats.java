@@ -0,0 +1,55 @@
+package com.example.volunteer_platform.loadtest;
+
+import lombok.Getter;
+
+import java.util.Arrays;
+
+/**
+ * Latencies and errors of one endpoint during a load test. Every sample is kept so percentiles are exact.
+ */
+public class EndpointStats {
+
+    @Getter
+    private final String name;
+    private long[] nanos = new long[1024];
+    private int count;
+    private int errors; // Transport failures and 5xx responses
+
+    public EndpointStats(String name) {
+        this.name = name;
+    }
+
+    public synchronized void record(long elapsedNanos, boolean error) {
+        if (count == nanos.length) {
+            nanos = Arrays.copyOf(nanos, count * 2);
+        }
+        nanos[count++] = elapsedNanos;
+        if (error) {
+            errors++;
+        }
+    }
+
+    public synchronized int getCount() {
+        return count;
+    }
+
+    public synchronized int getErrors() {
+        return errors;
+    }
+
+    /**
+     * Get a latency percentile.
+     *
+     * @param percentile Between 0 and 100.
+     * @return The latency in milliseconds, or 0 without samples.
+     */
+    public synchronized double percentileMillis(double percentile) {
+        if (count == 0) {
+            return 0;
+        }
+        long[] sorted = Arrays.copyOf(nanos, count);
+        Arrays.sort(sorted);
+        int index = Math.max(0, (int) Math.ceil(percentile / 100 * count) - 1);
+        return sorted[index] / 1_000_000.0;
+    }
+}
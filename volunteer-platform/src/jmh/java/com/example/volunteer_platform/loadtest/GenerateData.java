@@ -0,0 +1,33 @@
+package com.example.volunteer_platform.loadtest;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+/**
+ * Seeds a database for load tests. The schema must already exist, e.g. by starting the application once
+ * against it with spring.jpa.hibernate.ddl-auto=update, and should be empty. Restart the application after
+ * seeding; it reconciles signup counters and moves its ID sequences past the generated rows at startup.
+ * <pre>
+ * mvn -Pbenchmarks test-compile exec:java -Dexec.classpathScope=test \
+ *     -Dexec.mainClass=com.example.volunteer_platform.loadtest.GenerateData \
+ *     -Ddataset.password=secret -Ddataset.rows=100000 -Ddataset.volunteers=20000
+ * </pre>
+ * System properties: dataset.url, dataset.username, dataset.password, dataset.seed and the sizes read by
+ * {@link DataSetSize#fromSystemProperties()}.
+ */
+public class GenerateData {
+
+    public static void main(String[] args) {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+                System.getProperty("dataset.url", "jdbc:mysql://localhost:3306/volunteering_platform?rewriteBatchedStatements=true"),
+                System.getProperty("dataset.username", "root"),
+                System.getProperty("dataset.password", ""));
+        DataSetSize size = DataSetSize.fromSystemProperties();
+        long seed = Long.getLong("dataset.seed", 42);
+
+        long start = System.nanoTime();
+        new DataGenerator(new JdbcTemplate(dataSource), seed).generate(size);
+        System.out.printf("Generated %s with seed %d in %d s%n", size, seed, (System.nanoTime() - start) / 1_000_000_000);
+        System.out.println("Restart the application so it rebuilds its indexes, rating aggregates and signup counters.");
+    }
+}
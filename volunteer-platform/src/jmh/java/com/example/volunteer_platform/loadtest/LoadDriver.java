@@ -0,0 +1,196 @@
+package com.example.volunteer_platform.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.net.CookieManager;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Drives a running instance with virtual volunteers, each logged in with its own session and looping over
+ * the volunteer journey: browse opportunities, view a task, apply, view history and cancel the signup the
+ * way the task page does. Prints requests, errors, throughput and p50/p99 latency per endpoint.
+ * <pre>
+ * mvn -Pbenchmarks test-compile exec:java -Dexec.classpathScope=test \
+ *     -Dexec.mainClass=com.example.volunteer_platform.loadtest.LoadDriver \
+ *     -Dload.users=50 -Dload.duration=120
+ * </pre>
+ * System properties: load.baseUrl (http://localhost:8080), load.users (20), load.duration in seconds (60)
+ * and load.thinkMillis between steps (0). Virtual user i logs in as the i-th volunteer of {@link DataGenerator}.
+ */
+public class LoadDriver {
+
+    private static final Pattern TASK_LINK = Pattern.compile("/v/opportunities/(\\d+)\"");
+
+    private final String baseUrl;
+    private final long thinkMillis;
+    private final Map<String, EndpointStats> stats = new LinkedHashMap<>();
+
+    public LoadDriver(String baseUrl, long thinkMillis) {
+        this.baseUrl = baseUrl;
+        this.thinkMillis = thinkMillis;
+        for (String endpoint : List.of("log in", "browse opportunities", "view task", "apply", "view history", "cancel")) {
+            stats.put(endpoint, new EndpointStats(endpoint));
+        }
+    }
+
+    public static void main(String[] args) throws Exception {
+        LoadDriver driver = new LoadDriver(System.getProperty("load.baseUrl", "http://localhost:8080"),
+                Long.getLong("load.thinkMillis", 0));
+        int users = Integer.getInteger("load.users", 20);
+        Duration duration = Duration.ofSeconds(Long.getLong("load.duration", 60));
+
+        long elapsed = driver.run(users, duration);
+        driver.printReport(elapsed);
+    }
+
+    /**
+     * Run the scenario until the duration has passed.
+     *
+     * @param users    Number of concurrent virtual volunteers.
+     * @param duration How long to keep sending requests.
+     * @return Elapsed time in nanoseconds.
+     */
+    public long run(int users, Duration duration) throws Exception {
+        Map<String, Long> volunteerIds = fetchVolunteerIds();
+        long start = System.nanoTime();
+        long deadline = start + duration.toNanos();
+
+        ExecutorService executor = Executors.newFixedThreadPool(users);
+        List<Future<?>> futures = new ArrayList<>();
+        for (int i = 0; i < users; i++) {
+            String email = DataGenerator.volunteerEmail(i);
+            Long volunteerId = volunteerIds.get(email);
+            if (volunteerId == null) {
+                throw new IllegalStateException("No volunteer " + email + "; generate at least " + users + " volunteers");
+            }
+            Random random = new Random(i);
+            futures.add(executor.submit(() -> {
+                runVirtualUser(email, volunteerId, random, deadline);
+                return null;
+            }));
+        }
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        executor.shutdown();
+        return System.nanoTime() - start;
+    }
+
+    private void runVirtualUser(String email, Long volunteerId, Random random, long deadline) throws InterruptedException {
+        HttpClient client = HttpClient.newBuilder()
+                .cookieHandler(new CookieManager()) // Keeps the session of this volunteer
+                .followRedirects(HttpClient.Redirect.NEVER) // Time each request on its own
+                .connectTimeout(Duration.ofSeconds(10))
+                .build();
+
+        String form = "username=" + URLEncoder.encode(email, StandardCharsets.UTF_8) + "&password=" + DataGenerator.PASSWORD;
+        HttpResponse<String> login = send(client, "log in", request("/login")
+                .header("Content-Type", "application/x-www-form-urlencoded")
+                .POST(HttpRequest.BodyPublishers.ofString(form)));
+        if (login == null || login.headers().firstValue("Location").orElse("").contains("error")) {
+            System.err.println("Login failed for " + email);
+            return;
+        }
+
+        while (System.nanoTime() < deadline) {
+            HttpResponse<String> opportunities = send(client, "browse opportunities", request("/v/opportunities").GET());
+            List<Long> taskIds = opportunities == null ? List.of() : taskIds(opportunities.body());
+            if (taskIds.isEmpty()) {
+                Thread.sleep(1000);
+                continue;
+            }
+            long taskId = taskIds.get(random.nextInt(taskIds.size()));
+            think();
+            send(client, "view task", request("/v/opportunities/" + taskId).GET());
+            think();
+            send(client, "apply", request("/v/opportunities/" + taskId + "/apply").POST(HttpRequest.BodyPublishers.noBody()));
+            think();
+            send(client, "view history", request("/v/history").GET());
+            think();
+            send(client, "cancel", request("/api/task-signups/volunteer/" + volunteerId + "/task/" + taskId).DELETE());
+            think();
+        }
+    }
+
+    private HttpResponse<String> send(HttpClient client, String endpoint, HttpRequest.Builder request) {
+        long start = System.nanoTime();
+        try {
+            HttpResponse<String> response = client.send(request.build(), HttpResponse.BodyHandlers.ofString());
+            stats.get(endpoint).record(System.nanoTime() - start, response.statusCode() >= 500);
+            return response;
+        } catch (IOException e) {
+            stats.get(endpoint).record(System.nanoTime() - start, true);
+            return null;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return null;
+        }
+    }
+
+    private HttpRequest.Builder request(String path) {
+        return HttpRequest.newBuilder(URI.create(baseUrl + path)).timeout(Duration.ofSeconds(60));
+    }
+
+    private void think() throws InterruptedException {
+        if (thinkMillis > 0) {
+            Thread.sleep(thinkMillis);
+        }
+    }
+
+    private static List<Long> taskIds(String html) {
+        List<Long> ids = new ArrayList<>();
+        Matcher matcher = TASK_LINK.matcher(html);
+        while (matcher.find()) {
+            ids.add(Long.parseLong(matcher.group(1)));
+        }
+        return ids;
+    }
+
+    /**
+     * Map volunteer emails to ids once, outside the measurement, for the cancel call.
+     */
+    private Map<String, Long> fetchVolunteerIds() throws IOException, InterruptedException {
+        HttpResponse<String> response = HttpClient.newHttpClient().send(
+                request("/api/volunteers?fields=id,email").GET().build(), HttpResponse.BodyHandlers.ofString());
+        Map<String, Long> ids = new HashMap<>();
+        if (response.statusCode() == 200) {
+            for (JsonNode volunteer : new ObjectMapper().readTree(response.body())) {
+                ids.put(volunteer.get("email").asText(), volunteer.get("id").asLong());
+            }
+        }
+        return ids;
+    }
+
+    /**
+     * Print one line per endpoint.
+     *
+     * @param elapsedNanos Duration of the run.
+     */
+    public void printReport(long elapsedNanos) {
+        double seconds = elapsedNanos / 1_000_000_000.0;
+        System.out.printf("%-22s %10s %8s %10s %10s %10s%n", "Endpoint", "Requests", "Errors", "Req/s", "p50 ms", "p99 ms");
+        for (EndpointStats endpoint : stats.values()) {
+            System.out.printf("%-22s %10d %8d %10.1f %10.1f %10.1f%n", endpoint.getName(), endpoint.getCount(),
+                    endpoint.getErrors(), endpoint.getCount() / seconds, endpoint.percentileMillis(50), endpoint.percentileMillis(99));
+        }
+    }
+}
@@ -0,0 +1,76 @@
+package com.example.volunteer_platform.cache;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Thread-safe least-recently-used map with a size bound and a time to live per entry. Values should be
+ * immutable or copied by the caller, since the same instance is handed to every reader.
+ *
+ * @param <K> Key type.
+ * @param <V> Value type.
+ */
+public class BoundedCache<K, V> {
+
+    private final int maxSize;
+    private final long ttlNanos;
+    private final Map<K, Entry<V>> entries;
+
+    /**
+     * Create a cache.
+     *
+     * @param maxSize Maximum number of entries; 0 disables caching.
+     * @param ttl     Time after which an entry is no longer returned.
+     */
+    public BoundedCache(int maxSize, Duration ttl) {
+        this.maxSize = maxSize;
+        this.ttlNanos = ttl.toNanos();
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<K, Entry<V>> eldest) {
+                return size() > BoundedCache.this.maxSize;
+            }
+        };
+    }
+
+    /**
+     * Get a live entry.
+     *
+     * @param key Key.
+     * @return The value, or null if absent or expired.
+     */
+    public synchronized V get(K key) {
+        Entry<V> entry = entries.get(key);
+        if (entry == null) {
+            return null;
+        }
+        if (System.nanoTime() - entry.cachedAt() > ttlNanos) {
+            entries.remove(key);
+            return null;
+        }
+        return entry.value();
+    }
+
+    public synchronized void put(K key, V value) {
+        if (maxSize > 0) {
+            entries.put(key, new Entry<>(value, System.nanoTime()));
+        }
+    }
+
+    public synchronized void remove(K key) {
+        entries.remove(key);
+    }
+
+    /**
+     * Number of entries, including expired ones not yet dropped.
+     *
+     * @return Current size.
+     */
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    private record Entry<V>(V value, long cachedAt) {
+    }
+}
@@ -1,5 +1,9 @@
 package com.example.volunteer_platform.config;
 
+import com.example.volunteer_platform.dto.ResponseFields;
+import com.fasterxml.jackson.databind.ser.impl.SimpleBeanPropertyFilter;
+import com.fasterxml.jackson.databind.ser.impl.SimpleFilterProvider;
+import org.springframework.boot.autoconfigure.jackson.Jackson2ObjectMapperBuilderCustomizer;
 import org.springframework.boot.web.client.RestTemplateBuilder;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -12,4 +16,14 @@ public class AppConfig {
     public RestTemplate restTemplate(RestTemplateBuilder builder) {
         return builder.build();
     }
+
+    /**
+     * Serialize every property of the response DTOs unless a request selects fields.
+     * Without a registered filter Jackson refuses to write classes annotated with the field selection filter.
+     */
+    @Bean
+    public Jackson2ObjectMapperBuilderCustomizer responseFieldsFilter() {
+        return builder -> builder.filters(new SimpleFilterProvider()
+                .addFilter(ResponseFields.FILTER, SimpleBeanPropertyFilter.serializeAll()));
+    }
 }
\ No newline at end of file
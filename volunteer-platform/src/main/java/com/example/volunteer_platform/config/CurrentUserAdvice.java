@@ -0,0 +1,31 @@
+package com.example.volunteer_platform.config;
+
+import com.example.volunteer_platform.controller.AuthController;
+import com.example.volunteer_platform.controller.views.ViewsController;
+import com.example.volunteer_platform.dto.UserProfileDto;
+import com.example.volunteer_platform.service.UserService;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpSession;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.bind.annotation.ModelAttribute;
+
+/**
+ * Adds the name of the logged-in user to the model of every page, for the navbar. The session only holds
+ * the user's ID, so the name comes from the cached profile and shows a change on the next page load.
+ */
+@ControllerAdvice(basePackageClasses = ViewsController.class, assignableTypes = AuthController.class)
+public class CurrentUserAdvice {
+
+    @Autowired
+    private UserService userService;
+
+    @ModelAttribute("currentUserName")
+    public String currentUserName(HttpServletRequest request) {
+        HttpSession session = request.getSession(false); // Do not start a session for anonymous visitors
+        if (session == null || !(session.getAttribute("userId") instanceof Long userId)) {
+            return null; // Not logged in
+        }
+        return userService.getProfile(userId).map(UserProfileDto::getName).orElse(null);
+    }
+}
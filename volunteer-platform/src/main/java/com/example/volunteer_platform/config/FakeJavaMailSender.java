@@ -0,0 +1,122 @@
+package com.example.volunteer_platform.config;
+
+import jakarta.mail.Session;
+import jakarta.mail.internet.MimeMessage;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.SimpleMailMessage;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.stereotype.Component;
+
+import java.io.InputStream;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Properties;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * In-process JavaMailSender for local runs and load tests, enabled with the "fake-mail" profile.
+ * It records recipients instead of talking to SMTP and can simulate server latency and rejections.
+ */
+@Component
+@Profile("fake-mail")
+public class FakeJavaMailSender implements JavaMailSender {
+
+    private final long latencyMillis;
+    private final AtomicLong sentCount = new AtomicLong();
+    private final Set<String> recipients = ConcurrentHashMap.newKeySet();
+    private final Set<String> failingRecipients = ConcurrentHashMap.newKeySet();
+
+    public FakeJavaMailSender(@Value("${fake-mail.latency-ms:0}") long latencyMillis) {
+        this.latencyMillis = latencyMillis;
+    }
+
+    @Override
+    public void send(SimpleMailMessage... simpleMessages) {
+        for (SimpleMailMessage message : simpleMessages) {
+            deliver(message.getTo() == null ? new String[0] : message.getTo());
+        }
+    }
+
+    @Override
+    public void send(MimeMessage... mimeMessages) {
+        for (MimeMessage message : mimeMessages) {
+            try {
+                deliver(Arrays.stream(message.getAllRecipients()).map(Object::toString).toArray(String[]::new));
+            } catch (jakarta.mail.MessagingException e) {
+                throw new MailSendException("Invalid recipients", e);
+            }
+        }
+    }
+
+    @Override
+    public MimeMessage createMimeMessage() {
+        return new MimeMessage(Session.getInstance(new Properties()));
+    }
+
+    @Override
+    public MimeMessage createMimeMessage(InputStream contentStream) {
+        try {
+            return new MimeMessage(Session.getInstance(new Properties()), contentStream);
+        } catch (jakarta.mail.MessagingException e) {
+            throw new MailSendException("Could not parse message", e);
+        }
+    }
+
+    private void deliver(String[] to) {
+        if (latencyMillis > 0) {
+            try {
+                Thread.sleep(latencyMillis); // Simulated SMTP round trip
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new MailSendException("Interrupted while sending", e);
+            }
+        }
+        for (String recipient : to) {
+            if (failingRecipients.contains(recipient)) {
+                throw new MailSendException("Simulated rejection for " + recipient);
+            }
+        }
+        recipients.addAll(Arrays.asList(to));
+        sentCount.incrementAndGet();
+    }
+
+    /**
+     * Make every message to the given recipients fail.
+     *
+     * @param addresses Recipient addresses to reject.
+     */
+    public void rejectRecipients(String... addresses) {
+        failingRecipients.addAll(Arrays.asList(addresses));
+    }
+
+    /**
+     * Get the number of messages accepted so far.
+     *
+     * @return Number of sent messages.
+     */
+    public long getSentCount() {
+        return sentCount.get();
+    }
+
+    /**
+     * Get the recipients of all accepted messages.
+     *
+     * @return Copy of the recipient addresses.
+     */
+    public Set<String> getRecipients() {
+        return new HashSet<>(recipients);
+    }
+
+    /**
+     * Forget all recorded messages and simulated rejections.
+     */
+    public void reset() {
+        sentCount.set(0);
+        recipients.clear();
+        failingRecipients.clear();
+    }
+}
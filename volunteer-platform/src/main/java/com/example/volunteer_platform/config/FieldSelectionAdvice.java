@@ -0,0 +1,38 @@
+package com.example.volunteer_platform.config;
+
+import com.example.volunteer_platform.dto.ResponseFields;
+import com.fasterxml.jackson.databind.ser.impl.SimpleBeanPropertyFilter;
+import com.fasterxml.jackson.databind.ser.impl.SimpleFilterProvider;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.MappingJacksonValue;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.http.server.ServletServerHttpRequest;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.AbstractMappingJacksonResponseBodyAdvice;
+
+import java.util.Set;
+
+/**
+ * Applies the {@code fields} request parameter to JSON responses of the REST controllers, so that
+ * clients can ask for a subset of the properties of the response DTOs, e.g. {@code ?fields=id,title,eventDate}.
+ * Nested objects of the selected properties are serialized in full.
+ */
+@RestControllerAdvice
+public class FieldSelectionAdvice extends AbstractMappingJacksonResponseBodyAdvice {
+
+    @Override
+    protected void beforeBodyWriteInternal(MappingJacksonValue bodyContainer, MediaType contentType,
+                                           MethodParameter returnType, ServerHttpRequest request, ServerHttpResponse response) {
+        if (!(request instanceof ServletServerHttpRequest servletRequest)) {
+            return;
+        }
+        Set<String> fields = ResponseFields.parse(servletRequest.getServletRequest().getParameter(ResponseFields.PARAM));
+        if (fields == null) {
+            return; // The default filter provider serializes every property
+        }
+        bodyContainer.setFilters(new SimpleFilterProvider()
+                .addFilter(ResponseFields.FILTER, SimpleBeanPropertyFilter.filterOutAllExcept(fields)));
+    }
+}
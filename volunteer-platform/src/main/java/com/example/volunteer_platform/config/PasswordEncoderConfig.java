@@ -1,5 +1,6 @@
 package com.example.volunteer_platform.config;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
@@ -9,7 +10,7 @@ import org.springframework.security.crypto.password.PasswordEncoder;
 public class PasswordEncoderConfig {
 
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public PasswordEncoder passwordEncoder(@Value("${security.bcrypt-strength:10}") int strength) {
+        return new BCryptPasswordEncoder(strength); // Each step doubles the cost of a login; 10 is the BCrypt default
     }
 }
\ No newline at end of file
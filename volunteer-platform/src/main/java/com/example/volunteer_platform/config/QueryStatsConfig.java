@@ -0,0 +1,45 @@
+package com.example.volunteer_platform.config;
+
+import com.example.volunteer_platform.monitoring.QueryCountingStatementInspector;
+import com.example.volunteer_platform.monitoring.RepositoryStatsInterceptor;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.repository.core.support.RepositoryFactoryBeanSupport;
+
+/**
+ * Wires the per-request query instrumentation into Hibernate and into every Spring Data repository.
+ */
+@Configuration
+public class QueryStatsConfig {
+
+    /**
+     * Count every statement Hibernate prepares.
+     */
+    @Bean
+    public HibernatePropertiesCustomizer queryCountingStatementInspector() {
+        return properties -> properties.put(AvailableSettings.STATEMENT_INSPECTOR, new QueryCountingStatementInspector());
+    }
+
+    /**
+     * Add the stats advice to each repository proxy. Static so the post-processor is created before the repositories.
+     */
+    @Bean
+    public static BeanPostProcessor repositoryStatsPostProcessor(ObjectProvider<MeterRegistry> meterRegistry) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessBeforeInitialization(Object bean, String beanName) {
+                if (bean instanceof RepositoryFactoryBeanSupport<?, ?, ?> factoryBean) {
+                    factoryBean.addRepositoryFactoryCustomizer(factory -> factory.addRepositoryProxyPostProcessor(
+                            (proxyFactory, repositoryInformation) -> proxyFactory.addAdvice(new RepositoryStatsInterceptor(
+                                    repositoryInformation.getRepositoryInterface().getSimpleName(), meterRegistry))));
+                }
+                return bean;
+            }
+        };
+    }
+}
@@ -0,0 +1,89 @@
+package com.example.volunteer_platform.config;
+
+import com.example.volunteer_platform.datasource.ReplicaLagMonitor;
+import com.example.volunteer_platform.datasource.ReplicaRoutingDataSource;
+import com.zaxxer.hikari.HikariDataSource;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.resource.jdbc.spi.PhysicalConnectionHandlingMode;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Splits reads from writes when datasource.replicas.urls is set: read-only transactions run on a replica,
+ * everything else on the primary from spring.datasource. Without replicas Spring Boot's single data source is used.
+ */
+@Configuration
+@ConditionalOnProperty("datasource.replicas.urls")
+public class ReadReplicaConfig {
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        return properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+    }
+
+    @Bean
+    public ReplicaRoutingDataSource replicaRoutingDataSource(HikariDataSource primaryDataSource,
+                                                             DataSourceProperties properties,
+                                                             @Value("${datasource.replicas.urls}") String[] urls,
+                                                             @Value("${datasource.replicas.username:${spring.datasource.username:}}") String username,
+                                                             @Value("${datasource.replicas.password:${spring.datasource.password:}}") String password,
+                                                             @Value("${datasource.replicas.pool-size:10}") int poolSize) {
+        List<ReplicaRoutingDataSource.Replica> replicas = new ArrayList<>();
+        for (int i = 0; i < urls.length; i++) {
+            HikariDataSource pool = DataSourceBuilder.create()
+                    .type(HikariDataSource.class)
+                    .driverClassName(properties.determineDriverClassName())
+                    .url(urls[i].trim())
+                    .username(username)
+                    .password(password)
+                    .build();
+            pool.setPoolName("replica-" + (i + 1));
+            pool.setMaximumPoolSize(poolSize);
+            pool.setReadOnly(true); // A write routed here by mistake fails instead of diverging from the primary
+            replicas.add(new ReplicaRoutingDataSource.Replica(pool.getPoolName(), pool));
+        }
+        return new ReplicaRoutingDataSource(primaryDataSource, replicas);
+    }
+
+    /**
+     * The data source everything else uses. The proxy takes a connection from the routing data source only
+     * when the first statement runs, by which time the transaction's read-only flag is known.
+     */
+    @Bean
+    @Primary
+    public DataSource dataSource(ReplicaRoutingDataSource replicaRoutingDataSource) {
+        return new LazyConnectionDataSourceProxy(replicaRoutingDataSource);
+    }
+
+    @Bean
+    public ReplicaLagMonitor replicaLagMonitor(ReplicaRoutingDataSource replicaRoutingDataSource,
+                                               @Value("${datasource.replicas.max-lag:5s}") Duration maxLag,
+                                               @Value("${datasource.replicas.check-interval:1s}") Duration checkInterval) {
+        return new ReplicaLagMonitor(replicaRoutingDataSource, maxLag, checkInterval);
+    }
+
+    /**
+     * Hibernate keeps a session's connection until the session closes by default, which with open-in-view is
+     * the whole request: a replica connection taken by an early read would then serve later writes. Releasing it
+     * after each transaction lets every transaction be routed on its own.
+     */
+    @Bean
+    public HibernatePropertiesCustomizer releaseConnectionsAfterTransaction() {
+        return properties -> properties.put(AvailableSettings.CONNECTION_HANDLING,
+                PhysicalConnectionHandlingMode.DELAYED_ACQUISITION_AND_RELEASE_AFTER_TRANSACTION);
+    }
+}
@@ -0,0 +1,91 @@
+package com.example.volunteer_platform.controller;
+
+import com.example.volunteer_platform.enums.ExportFormat;
+import com.example.volunteer_platform.service.ExportService;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.IOException;
+import java.time.LocalDate;
+import java.util.Locale;
+
+/**
+ * ExportController handles API endpoints for streaming reporting exports.
+ * Responses are written row by row as the database returns them.
+ */
+@RestController
+@RequestMapping("/api/export")
+public class ExportController {
+
+    @Autowired
+    private ExportService exportService;
+
+    /**
+     * Export task signups.
+     *
+     * @param format ndjson (default) or csv.
+     * @param from Only signups for tasks with an event date on or after this date (dd-MM-yyyy).
+     * @param to Only signups for tasks with an event date on or before this date (dd-MM-yyyy).
+     * @param organizationId Only signups for tasks of this organization.
+     * @param response Response the export is written to; HTTP 400 for an unknown format.
+     */
+    @GetMapping("/signups")
+    public void exportSignups(@RequestParam(defaultValue = "ndjson") String format,
+                              @RequestParam(required = false) LocalDate from,
+                              @RequestParam(required = false) LocalDate to,
+                              @RequestParam(required = false) Long organizationId,
+                              HttpServletResponse response) throws IOException {
+        ExportFormat exportFormat = startExport(format, "signups", response);
+        if (exportFormat != null) {
+            exportService.exportSignups(from, to, organizationId, exportFormat, response.getOutputStream());
+        }
+    }
+
+    /**
+     * Export tasks.
+     *
+     * @param format ndjson (default) or csv.
+     * @param from Only tasks with an event date on or after this date (dd-MM-yyyy).
+     * @param to Only tasks with an event date on or before this date (dd-MM-yyyy).
+     * @param organizationId Only tasks of this organization.
+     * @param response Response the export is written to; HTTP 400 for an unknown format.
+     */
+    @GetMapping("/tasks")
+    public void exportTasks(@RequestParam(defaultValue = "ndjson") String format,
+                            @RequestParam(required = false) LocalDate from,
+                            @RequestParam(required = false) LocalDate to,
+                            @RequestParam(required = false) Long organizationId,
+                            HttpServletResponse response) throws IOException {
+        ExportFormat exportFormat = startExport(format, "tasks", response);
+        if (exportFormat != null) {
+            exportService.exportTasks(from, to, organizationId, exportFormat, response.getOutputStream());
+        }
+    }
+
+    /**
+     * Set the response headers for an export, or send HTTP 400 if the format is unknown.
+     *
+     * @return The export format, or null if an error was sent.
+     */
+    private ExportFormat startExport(String format, String name, HttpServletResponse response) throws IOException {
+        ExportFormat exportFormat;
+        try {
+            exportFormat = ExportFormat.valueOf(format.toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            response.sendError(HttpServletResponse.SC_BAD_REQUEST, "Unknown export format: " + format);
+            return null;
+        }
+        boolean csv = exportFormat == ExportFormat.CSV;
+        response.setCharacterEncoding("UTF-8");
+        response.setContentType(csv ? "text/csv" : MediaType.APPLICATION_NDJSON_VALUE);
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION,
+                "attachment; filename=\"" + name + (csv ? ".csv" : ".ndjson") + "\"");
+        return exportFormat;
+    }
+}
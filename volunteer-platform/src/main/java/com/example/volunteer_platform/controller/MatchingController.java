@@ -0,0 +1,93 @@
+package com.example.volunteer_platform.controller;
+
+import com.example.volunteer_platform.dto.TaskMatchDto;
+import com.example.volunteer_platform.dto.VolunteerMatchDto;
+import com.example.volunteer_platform.model.Task;
+import com.example.volunteer_platform.service.MatchingService;
+import com.example.volunteer_platform.service.TaskService;
+import com.example.volunteer_platform.service.UserService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * MatchingController handles API endpoints for skill-based matching between volunteers and tasks.
+ */
+@RestController
+@RequestMapping("/api")
+public class MatchingController {
+
+    private static final int MAX_MATCHES = 100;
+
+    @Autowired
+    private MatchingService matchingService;
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private UserService userService;
+
+    /**
+     * Get the open tasks that best match a volunteer's skills.
+     *
+     * @param volunteerId Volunteer ID.
+     * @param limit Maximum number of tasks, between 1 and 100.
+     * @return Recommended tasks, HTTP 204 if none match, or HTTP 404 if the volunteer is not found.
+     */
+    @GetMapping("/volunteers/{volunteerId}/recommended-tasks")
+    public ResponseEntity<List<TaskMatchDto>> getRecommendedTasks(@PathVariable Long volunteerId,
+                                                                  @RequestParam(defaultValue = "10") int limit) {
+        if (limit < 1 || limit > MAX_MATCHES) {
+            return new ResponseEntity<>(HttpStatus.BAD_REQUEST);
+        }
+        if (userService.findVolunteerById(volunteerId).isEmpty()) {
+            return new ResponseEntity<>(HttpStatus.NOT_FOUND);
+        }
+
+        List<TaskMatchDto> recommendations = matchingService.recommendTasksForVolunteer(volunteerId, limit);
+        if (recommendations.isEmpty()) {
+            return new ResponseEntity<>(HttpStatus.NO_CONTENT);
+        }
+        return new ResponseEntity<>(recommendations, HttpStatus.OK);
+    }
+
+    /**
+     * Get the volunteers whose skills best match one of an organization's tasks.
+     *
+     * @param organizationId Organization ID.
+     * @param taskId Task ID.
+     * @param limit Maximum number of volunteers, between 1 and 100.
+     * @return Suggested volunteers, HTTP 204 if none match, HTTP 404 if the task is not found,
+     *         or HTTP 403 if the task belongs to another organization.
+     */
+    @GetMapping("/organizations/{organizationId}/tasks/{taskId}/suggested-volunteers")
+    public ResponseEntity<List<VolunteerMatchDto>> getSuggestedVolunteers(@PathVariable Long organizationId,
+                                                                          @PathVariable Long taskId,
+                                                                          @RequestParam(defaultValue = "10") int limit) {
+        if (limit < 1 || limit > MAX_MATCHES) {
+            return new ResponseEntity<>(HttpStatus.BAD_REQUEST);
+        }
+        Optional<Task> taskOpt = taskService.findById(taskId);
+        if (taskOpt.isEmpty()) {
+            return new ResponseEntity<>(HttpStatus.NOT_FOUND);
+        }
+        if (!organizationId.equals(taskOpt.get().getOrganizationId())) {
+            return new ResponseEntity<>(HttpStatus.FORBIDDEN); // Task does not belong to this organization
+        }
+
+        List<VolunteerMatchDto> suggestions = matchingService.suggestVolunteersForTask(taskId, limit);
+        if (suggestions.isEmpty()) {
+            return new ResponseEntity<>(HttpStatus.NO_CONTENT);
+        }
+        return new ResponseEntity<>(suggestions, HttpStatus.OK);
+    }
+}
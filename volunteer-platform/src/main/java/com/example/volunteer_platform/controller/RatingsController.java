@@ -1,6 +1,10 @@
 package com.example.volunteer_platform.controller;
 
+import com.example.volunteer_platform.dto.LeaderboardEntryDto;
+import com.example.volunteer_platform.dto.RatingResponseDto;
+import com.example.volunteer_platform.dto.RatingSummaryDto;
 import com.example.volunteer_platform.dto.RatingsDto;
+import com.example.volunteer_platform.enums.UserType;
 import jakarta.transaction.Transactional;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -20,6 +24,8 @@ import java.util.Optional;
 @RequestMapping("/api/ratings")
 public class RatingsController {
 
+    private static final int MAX_LEADERBOARD_PAGE_SIZE = 100;
+
     @Autowired
     private RatingsService ratingsService;
 
@@ -30,8 +36,8 @@ public class RatingsController {
      * @return List of ratings for the user.
      */
     @GetMapping("/forUser/{ratedUserId}")
-    public ResponseEntity<List<Ratings>> getRatingsForUser(@PathVariable long ratedUserId) {
-        List<Ratings> ratings = ratingsService.getRatingsForUser(ratedUserId);
+    public ResponseEntity<List<RatingResponseDto>> getRatingsForUser(@PathVariable long ratedUserId) {
+        List<RatingResponseDto> ratings = ratingsService.getRatingResponsesForUser(ratedUserId);
         if (ratings == null) {
             return new ResponseEntity<>(HttpStatus.NO_CONTENT);
         }
@@ -45,8 +51,8 @@ public class RatingsController {
      * @return List of ratings submitted by the user.
      */
     @GetMapping("/byUser/{ratedByUserId}")
-    public ResponseEntity<List<Ratings>> getRatingsByUser (@PathVariable int ratedByUserId) {
-        List<Ratings> ratings = ratingsService.getRatingsByUser(ratedByUserId);
+    public ResponseEntity<List<RatingResponseDto>> getRatingsByUser (@PathVariable int ratedByUserId) {
+        List<RatingResponseDto> ratings = ratingsService.getRatingResponsesByUser(ratedByUserId);
         if (ratings == null) {
             return new ResponseEntity<>(HttpStatus.NO_CONTENT);
         }
@@ -60,13 +66,13 @@ public class RatingsController {
      * @return The rating details.
      */
     @GetMapping("/{ratingId}")
-    public ResponseEntity<Ratings> getRatingById(@PathVariable int ratingId) {
+    public ResponseEntity<RatingResponseDto> getRatingById(@PathVariable int ratingId) {
         Optional<Ratings> ratingOpt = ratingsService.getRatingById(ratingId);
         if (ratingOpt.isEmpty()) {
             return new ResponseEntity<>(HttpStatus.NOT_FOUND);
         }
         Ratings rating = ratingOpt.get();
-        return new ResponseEntity<>(rating, HttpStatus.OK);
+        return new ResponseEntity<>(RatingResponseDto.from(rating), HttpStatus.OK);
     }
 
     /**
@@ -77,7 +83,7 @@ public class RatingsController {
      */
     @PostMapping
     @Transactional
-    public ResponseEntity<Ratings> submitRating(@RequestBody @Valid RatingsDto ratingDto) {
+    public ResponseEntity<RatingResponseDto> submitRating(@RequestBody @Valid RatingsDto ratingDto) {
         Ratings rating = new Ratings();
         rating.setRatedByUserId(ratingDto.getRatedByUserId());
         rating.setRatedUserId(ratingDto.getRatedUserId());
@@ -89,7 +95,7 @@ public class RatingsController {
         }
 
         Ratings submittedRating = ratingsService.submitRating(rating);
-        return new ResponseEntity<>(submittedRating, HttpStatus.OK);
+        return new ResponseEntity<>(RatingResponseDto.from(submittedRating), HttpStatus.OK);
     }
 
     /**
@@ -101,20 +107,12 @@ public class RatingsController {
      */
     @PutMapping("/{ratingId}")
     @Transactional
-    public ResponseEntity<Ratings> editRating(@PathVariable long ratingId, @RequestBody @Valid RatingsDto ratingDto) {
-        Optional<Ratings> optionalRating = ratingsService.getRatingById(ratingId);
-        if (optionalRating.isEmpty()) {
+    public ResponseEntity<RatingResponseDto> editRating(@PathVariable long ratingId, @RequestBody @Valid RatingsDto ratingDto) {
+        Optional<Ratings> updatedRating = ratingsService.editRating(ratingId, ratingDto.getRatingScore(), ratingDto.getReview());
+        if (updatedRating.isEmpty()) {
             return new ResponseEntity<>(HttpStatus.NOT_FOUND);
         }
-        Ratings existingRating = optionalRating.get();
-        try {
-            existingRating.setRatingScore(ratingDto.getRatingScore());
-            existingRating.setReview(ratingDto.getReview());
-        } catch (Exception e) {
-            return new ResponseEntity<>(HttpStatus.BAD_REQUEST);
-        }
-        ratingsService.submitRating(existingRating);
-        return new ResponseEntity<>(existingRating, HttpStatus.OK);
+        return new ResponseEntity<>(RatingResponseDto.from(updatedRating.get()), HttpStatus.OK);
     }
 
     /**
@@ -133,4 +131,52 @@ public class RatingsController {
         ratingsService.deleteRating(ratingId);
         return new ResponseEntity<>(HttpStatus.NO_CONTENT);
     }
+
+    /**
+     * Get the rating totals of a user.
+     *
+     * @param userId The ID of the rated user.
+     * @return Rating count, average and ranking score.
+     */
+    @GetMapping("/summary/{userId}")
+    public ResponseEntity<RatingSummaryDto> getRatingSummary(@PathVariable long userId) {
+        return new ResponseEntity<>(ratingsService.getRatingSummary(userId), HttpStatus.OK);
+    }
+
+    /**
+     * Get a page of the volunteer leaderboard.
+     *
+     * @param page Zero-based page number.
+     * @param size Page size, at most 100.
+     * @return Ranked volunteers, HTTP 204 if the page is empty, or HTTP 400 for an invalid page.
+     */
+    @GetMapping("/leaderboard/volunteers")
+    public ResponseEntity<List<LeaderboardEntryDto>> getVolunteerLeaderboard(@RequestParam(defaultValue = "0") int page,
+                                                                             @RequestParam(defaultValue = "10") int size) {
+        return leaderboardPage(UserType.VOLUNTEER, page, size);
+    }
+
+    /**
+     * Get a page of the organization leaderboard.
+     *
+     * @param page Zero-based page number.
+     * @param size Page size, at most 100.
+     * @return Ranked organizations, HTTP 204 if the page is empty, or HTTP 400 for an invalid page.
+     */
+    @GetMapping("/leaderboard/organizations")
+    public ResponseEntity<List<LeaderboardEntryDto>> getOrganizationLeaderboard(@RequestParam(defaultValue = "0") int page,
+                                                                                @RequestParam(defaultValue = "10") int size) {
+        return leaderboardPage(UserType.ORGANIZATION, page, size);
+    }
+
+    private ResponseEntity<List<LeaderboardEntryDto>> leaderboardPage(UserType userType, int page, int size) {
+        if (page < 0 || size < 1 || size > MAX_LEADERBOARD_PAGE_SIZE) {
+            return new ResponseEntity<>(HttpStatus.BAD_REQUEST);
+        }
+        List<LeaderboardEntryDto> entries = ratingsService.getLeaderboard(userType, page, size);
+        if (entries.isEmpty()) {
+            return new ResponseEntity<>(HttpStatus.NO_CONTENT);
+        }
+        return new ResponseEntity<>(entries, HttpStatus.OK);
+    }
 }
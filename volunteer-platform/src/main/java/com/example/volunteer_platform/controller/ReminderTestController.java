@@ -1,10 +1,10 @@
 package com.example.volunteer_platform.controller;
 
 
+import com.example.volunteer_platform.dto.ReminderRunSummaryDto;
 import com.example.volunteer_platform.dto.ReminderStatusDTO;
 import com.example.volunteer_platform.scheduler.ReminderScheduler;
 import com.example.volunteer_platform.service.TaskSignupService;
-import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
@@ -20,11 +20,11 @@ public class ReminderTestController {
 
     // Trigger reminders manually
     @PostMapping("/send")
-    @Transactional
     public ResponseEntity<String> triggerReminders() {
         try {
-            reminderScheduler.sendTaskReminders();
-            return ResponseEntity.ok("Reminder check triggered successfully");
+            ReminderRunSummaryDto summary = reminderScheduler.sendTaskReminders();
+            return ResponseEntity.ok(String.format("Reminder check triggered successfully: %d due, %d sent, %d failed in %d ms",
+                summary.getDue(), summary.getSent(), summary.getFailed(), summary.getElapsedMillis()));
         } catch (Exception e) {
             return ResponseEntity.internalServerError()
                 .body("Error sending reminders: " + e.getMessage());
@@ -5,6 +5,7 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import com.example.volunteer_platform.dto.SkillCacheStatsDto;
 import com.example.volunteer_platform.dto.SkillDto;
 import com.example.volunteer_platform.model.Skill;
 import com.example.volunteer_platform.model.Task;
@@ -120,6 +121,16 @@ public class SkillController {
         return new ResponseEntity<>(HttpStatus.NOT_FOUND);
     }
 
+    /**
+     * Retrieves hit and miss counts of the skill catalog cache.
+     *
+     * @return Cache statistics.
+     */
+    @GetMapping("/skills/cache/stats")
+    public ResponseEntity<SkillCacheStatsDto> getSkillCacheStats() {
+        return new ResponseEntity<>(skillService.getCacheStats(), HttpStatus.OK);
+    }
+
     // Volunteer Skills APIs
     /**
      * Retrieves all skills associated with a volunteer.
@@ -129,7 +140,7 @@ public class SkillController {
      */
     @GetMapping("/volunteers/{volunteerId}/skills")
     public ResponseEntity<List<Skill>> getVolunteerSkills(@PathVariable Long volunteerId) {
-        Optional<Volunteer> volunteerOpt = userService.findVolunteerById(volunteerId);
+        Optional<Volunteer> volunteerOpt = userService.findVolunteerWithSkillsById(volunteerId);
         if (volunteerOpt.isEmpty()) {
             return new ResponseEntity<>(HttpStatus.NOT_FOUND);
         }
@@ -149,19 +160,13 @@ public class SkillController {
     @PostMapping("/volunteers/{volunteerId}/skills")
     @Transactional
     public ResponseEntity<Volunteer> addSkillToVolunteer(@PathVariable Long volunteerId, @RequestBody @Valid SkillDto skillDto) {
-        Optional<Volunteer> volunteerOpt = userService.findVolunteerById(volunteerId);
+        Optional<Volunteer> volunteerOpt = userService.findVolunteerWithSkillsById(volunteerId);
         if (volunteerOpt.isEmpty()) {
             return new ResponseEntity<>(HttpStatus.NOT_FOUND);
         }
 
         Volunteer volunteer = volunteerOpt.get();
-        Skill skill = skillService.findByName(skillDto.getName().toLowerCase()).orElse(null);
-
-        if (skill == null) {
-            skill = new Skill();
-            skill.setName(skillDto.getName().toLowerCase());
-            skillService.saveSkill(skill);
-        }
+        Skill skill = skillService.resolveOrCreate(List.of(skillDto.getName())).get(0);
 
         volunteer.getSkills().add(skill);
         userService.saveUser(volunteer);
@@ -178,7 +183,7 @@ public class SkillController {
     @DeleteMapping("/volunteers/{volunteerId}/skills/{skillId}")
     @Transactional
     public ResponseEntity<Volunteer> removeSkillFromVolunteer(@PathVariable Long volunteerId, @PathVariable Long skillId) {
-        Optional<Volunteer> volunteerOpt = userService.findVolunteerById(volunteerId);
+        Optional<Volunteer> volunteerOpt = userService.findVolunteerWithSkillsById(volunteerId);
         if (volunteerOpt.isEmpty()) {
             return new ResponseEntity<>(HttpStatus.NOT_FOUND);
         }
@@ -204,7 +209,7 @@ public class SkillController {
      */
     @GetMapping("/tasks/{taskId}/skills")
     public ResponseEntity<List<Skill>> getTaskSkills(@PathVariable Long taskId) {
-        Optional<Task> taskOpt = taskService.findById(taskId);
+        Optional<Task> taskOpt = taskService.findWithSkillsById(taskId);
         if (taskOpt.isEmpty()) {
             return new ResponseEntity<>(HttpStatus.NOT_FOUND);
         }
@@ -224,19 +229,13 @@ public class SkillController {
     @PostMapping("/tasks/{taskId}/skills")
     @Transactional
     public ResponseEntity<Task> addSkillToTask(@PathVariable Long taskId, @RequestBody @Valid SkillDto skillDto) {
-        Optional<Task> taskOpt = taskService.findById(taskId);
+        Optional<Task> taskOpt = taskService.findWithSkillsById(taskId);
         if (taskOpt.isEmpty()) {
             return new ResponseEntity<>(HttpStatus.NOT_FOUND);
         }
 
         Task task = taskOpt.get();
-        Skill skill = skillService.findByName(skillDto.getName().toLowerCase()).orElse(null);
-
-        if (skill == null) {
-            skill = new Skill();
-            skill.setName(skillDto.getName().toLowerCase());
-            skillService.saveSkill(skill);
-        }
+        Skill skill = skillService.resolveOrCreate(List.of(skillDto.getName())).get(0);
 
         task.getSkills().add(skill);
         taskService.saveTask(task);
@@ -253,7 +252,7 @@ public class SkillController {
     @DeleteMapping("/tasks/{taskId}/skills/{skillId}")
     @Transactional
     public ResponseEntity<Task> removeSkillFromTask(@PathVariable Long taskId, @PathVariable Long skillId) {
-        Optional<Task> taskOpt = taskService.findById(taskId);
+        Optional<Task> taskOpt = taskService.findWithSkillsById(taskId);
         if (taskOpt.isEmpty()) {
             return new ResponseEntity<>(HttpStatus.NOT_FOUND);
         }
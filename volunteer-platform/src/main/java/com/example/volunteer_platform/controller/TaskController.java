@@ -2,24 +2,33 @@ package com.example.volunteer_platform.controller;
 
 import com.example.volunteer_platform.enums.TaskStatus;
 import com.example.volunteer_platform.service.SkillService;
+import com.example.volunteer_platform.service.TaskImportService;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.transaction.Transactional;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import com.example.volunteer_platform.dto.ResponseFields;
 import com.example.volunteer_platform.dto.TaskDto;
+import com.example.volunteer_platform.dto.TaskFeedPageDto;
+import com.example.volunteer_platform.dto.TaskImportResultDto;
 import com.example.volunteer_platform.dto.TaskPartialDto;
+import com.example.volunteer_platform.dto.TaskResponseDto;
+import com.example.volunteer_platform.dto.TaskSearchPageDto;
 import com.example.volunteer_platform.model.*;
 import com.example.volunteer_platform.service.TaskSignupService;
 import com.example.volunteer_platform.service.UserService;
 import com.example.volunteer_platform.service.TaskService;
 
 import jakarta.validation.Valid;
+import java.io.IOException;
 import java.time.LocalDate;
-import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Optional;
@@ -31,6 +40,8 @@ import java.util.Optional;
 @RequestMapping("/api")
 public class TaskController {
 
+    private static final int MAX_FEED_PAGE_SIZE = 100;
+
     @Autowired
     private TaskService taskService;
 
@@ -42,19 +53,41 @@ public class TaskController {
     @Autowired
     private SkillService skillService;
 
+    @Autowired
+    private TaskImportService taskImportService;
+
     /**
-     * Get all tasks posted by any organization.
+     * Get a page of tasks posted by any organization, ordered by event date.
      *
-     * @return List of tasks or HTTP 204 if no tasks exist.
+     * @param cursor Cursor token returned with the previous page; omit for the first page.
+     * @param status Only return tasks with this status.
+     * @param from Only return tasks with an event date on or after this date (yyyy-MM-dd).
+     * @param to Only return tasks with an event date on or before this date (yyyy-MM-dd).
+     * @param size Page size, between 1 and 100.
+     * @return Page of task summaries, HTTP 204 if the page is empty, or HTTP 400 for an invalid cursor or size.
      */
     @GetMapping("/tasks")
-    public ResponseEntity<List<Task>> getAllTasks() {
-        List<Task> tasks = taskService.getAllTasks();
+    public ResponseEntity<TaskFeedPageDto> getAllTasks(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) TaskStatus status,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(defaultValue = "20") int size) {
+        if (size < 1 || size > MAX_FEED_PAGE_SIZE) {
+            return new ResponseEntity<>(HttpStatus.BAD_REQUEST);
+        }
+
+        TaskFeedPageDto page;
+        try {
+            page = taskService.getTaskFeed(cursor, status, from, to, size);
+        } catch (IllegalArgumentException e) {
+            return new ResponseEntity<>(HttpStatus.BAD_REQUEST);
+        }
 
-        if (tasks.isEmpty()) {
+        if (page.getItems().isEmpty()) {
             return new ResponseEntity<>(HttpStatus.NO_CONTENT);
         }
-        return new ResponseEntity<>(tasks, HttpStatus.OK);
+        return new ResponseEntity<>(page, HttpStatus.OK);
     }
 
     /**
@@ -64,31 +97,50 @@ public class TaskController {
      * @return Task details or HTTP 404 if not found.
      */
     @GetMapping("/tasks/{taskId}")
-    public ResponseEntity<Task> getTaskById(@PathVariable Long taskId) {
+    public ResponseEntity<TaskResponseDto> getTaskById(@PathVariable Long taskId) {
         Task task = taskService.findById(taskId).orElse(null);
         if (task != null) {
-            return new ResponseEntity<>(task, HttpStatus.OK);
+            return new ResponseEntity<>(TaskResponseDto.from(task), HttpStatus.OK);
         } else {
             return new ResponseEntity<>(HttpStatus.NOT_FOUND);
         }
     }
 
-    // GET or Search tasks by name, location, or description (will implement later)
-//    @GetMapping("/search")
-//    public ResponseEntity<List<Task>> searchTasks(
-//            @RequestParam(required = false) String title,
-//            @RequestParam(required = false) String location,
-//            @RequestParam(required = false) String description) {
-//
-//        List<Task> tasks = taskService.searchTasks(title, location, description);
-//
-//        if (tasks.isEmpty()) {
-//            return new ResponseEntity<>(HttpStatus.NO_CONTENT);
-//        }
-//
-//        return new ResponseEntity<>(tasks, HttpStatus.OK);
-//    }
+    /**
+     * Search tasks by free text and per-field filters, best match first.
+     *
+     * @param q Free-text query over title, description, location and skill names.
+     * @param title Words that must appear in the title.
+     * @param location Words that must appear in the location.
+     * @param description Words that must appear in the description.
+     * @param skill Words that must appear in a required skill name.
+     * @param page Zero-based page number.
+     * @param size Page size, between 1 and 100.
+     * @return Page of matching tasks, HTTP 204 if nothing matches, or HTTP 400 if no criteria are given.
+     */
+    @GetMapping("/search")
+    public ResponseEntity<TaskSearchPageDto> searchTasks(
+            @RequestParam(required = false) String q,
+            @RequestParam(required = false) String title,
+            @RequestParam(required = false) String location,
+            @RequestParam(required = false) String description,
+            @RequestParam(required = false) String skill,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size) {
+        if (isBlank(q) && isBlank(title) && isBlank(location) && isBlank(description) && isBlank(skill)) {
+            return new ResponseEntity<>(HttpStatus.BAD_REQUEST);
+        }
+        if (page < 0 || size < 1 || size > MAX_FEED_PAGE_SIZE) {
+            return new ResponseEntity<>(HttpStatus.BAD_REQUEST);
+        }
+
+        TaskSearchPageDto results = taskService.searchTasks(q, title, location, description, skill, page, size);
 
+        if (results.getItems().isEmpty()) {
+            return new ResponseEntity<>(HttpStatus.NO_CONTENT);
+        }
+        return new ResponseEntity<>(results, HttpStatus.OK);
+    }
 
     /**
      * Delete a task by its ID (Admin only).
@@ -97,20 +149,12 @@ public class TaskController {
      * @return HTTP 204 if deleted, HTTP 404 if not found.
      */
     @DeleteMapping("/tasks/delete/{taskId}")
-    @Transactional
     public ResponseEntity<Void> deleteTask(@PathVariable Long taskId) {
-        Optional<Task> task = taskService.findById(taskId);
-        if (task.isEmpty()) {
+        if (taskService.findById(taskId).isEmpty()) {
             return new ResponseEntity<>(HttpStatus.NOT_FOUND);
         }
 
-        List<TaskSignup> signups = taskSignupService.getTaskSignups(taskId);
-
-        for (TaskSignup signup : signups) {
-            taskSignupService.deleteById(signup.getSignupId());
-        }
-
-        taskService.deleteByTaskId(taskId);
+        taskService.deleteTasks(List.of(taskId)); // Signups and waitlist go with it; nobody is promoted
         return new ResponseEntity<>(HttpStatus.NO_CONTENT);
     }
 
@@ -119,16 +163,18 @@ public class TaskController {
      * Get all tasks for a specific organization.
      *
      * @param organizationId Organization ID.
+     * @param fields Comma-separated properties to return; skills are only loaded when selected.
      * @return List of tasks for the organization or HTTP 404 if not found.
      */
     @GetMapping("/organizations/{organizationId}/tasks")
-    public ResponseEntity<List<Task>> getOrganizationTasks(@PathVariable Long organizationId) {
+    public ResponseEntity<List<TaskResponseDto>> getOrganizationTasks(@PathVariable Long organizationId,
+                                                                      @RequestParam(name = ResponseFields.PARAM, required = false) String fields) {
         Optional<Organization> organizationOpt = userService.findOrganizationById(organizationId);
         if (organizationOpt.isEmpty()) {
             return new ResponseEntity<>(HttpStatus.NOT_FOUND);
         }
-        Organization organization = organizationOpt.get();
-        return new ResponseEntity<>(organization.getTasks(), HttpStatus.OK);
+        List<TaskResponseDto> tasks = taskService.getOrganizationTaskResponses(organizationId, ResponseFields.includes(fields, "skills"));
+        return new ResponseEntity<>(tasks, HttpStatus.OK);
     }
 
     /**
@@ -140,7 +186,7 @@ public class TaskController {
      */
     @PostMapping("/organizations/{organizationId}/tasks")
     @Transactional
-    public ResponseEntity<Task> addTaskToOrganization(
+    public ResponseEntity<TaskResponseDto> addTaskToOrganization(
             @PathVariable Long organizationId,
             @RequestBody @Valid TaskDto taskDto) {
 
@@ -159,19 +205,9 @@ public class TaskController {
             return new ResponseEntity<>(HttpStatus.BAD_REQUEST);
         }
 
-        // Create Skill objects from the list of skill names
-        List<Skill> skillObjects = new ArrayList<>();
-        for (String skillName : taskDto.getSkills()) { // Use skills from taskDto
-            Skill skill = skillService.findByName(skillName).orElse(null);
-            if (skill == null) {
-                skill = new Skill();
-                skill.setName(skillName);
-                skillService.saveSkill(skill);
-            }
-            skillObjects.add(skill);
-        }
+        // Resolve all skill names at once, creating the ones that do not exist yet
+        List<Skill> skillObjects = taskDto.getSkills() == null ? List.of() : skillService.resolveOrCreate(taskDto.getSkills());
 
-        Organization organization = organizationOpt.get();
         Task task = new Task();
         try {
             task.setTitle(taskDto.getTitle());
@@ -180,18 +216,69 @@ public class TaskController {
             task.setEventDate(taskDto.getEventDate());
             task.setCancellationDeadline(taskDto.getCancellationDeadline());
             task.setApplicationDeadline(taskDto.getApplicationDeadline());
+            task.setCapacity(taskDto.getCapacity());
             task.setSkills(new HashSet<>(skillObjects)); // Set skills to the task
-            task.setOrganizationId(organizationId); // Set organization ID
+            task.setOrganizationId(organizationId); // Owning organization; no collection needs updating
             taskService.saveTask(task);
-            organization.getTasks().add(task);
-            userService.saveUser(organization);
         } catch (Exception e) {
             return new ResponseEntity<>(HttpStatus.BAD_REQUEST);
         }
 
-        return new ResponseEntity<>(task, HttpStatus.CREATED);
+        return new ResponseEntity<>(TaskResponseDto.from(task), HttpStatus.CREATED);
+    }
+
+
+    /**
+     * Create many tasks for an organization from a JSON array. Each row is validated on its own.
+     *
+     * @param organizationId Organization ID.
+     * @param tasks Task details.
+     * @return Per-row import report, or HTTP 404 if the organization is not found.
+     */
+    @PostMapping(value = "/organizations/{organizationId}/tasks/bulk", consumes = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<TaskImportResultDto> importTasks(@PathVariable Long organizationId,
+                                                           @RequestBody List<TaskDto> tasks) {
+        if (userService.findOrganizationById(organizationId).isEmpty()) {
+            return new ResponseEntity<>(HttpStatus.NOT_FOUND);
+        }
+        return new ResponseEntity<>(taskImportService.importTasks(organizationId, tasks), HttpStatus.OK);
+    }
+
+    /**
+     * Create many tasks for an organization from a newline-delimited JSON upload, one task per line.
+     *
+     * @param organizationId Organization ID.
+     * @param request Request whose body is streamed.
+     * @return Per-row import report, or HTTP 404 if the organization is not found.
+     */
+    @PostMapping(value = "/organizations/{organizationId}/tasks/bulk", consumes = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<TaskImportResultDto> importTasksFromNdjson(@PathVariable Long organizationId,
+                                                                     HttpServletRequest request) throws IOException {
+        if (userService.findOrganizationById(organizationId).isEmpty()) {
+            return new ResponseEntity<>(HttpStatus.NOT_FOUND);
+        }
+        return new ResponseEntity<>(taskImportService.importTasksFromNdjson(organizationId, request.getInputStream()), HttpStatus.OK);
     }
 
+    /**
+     * Create many tasks for an organization from a CSV upload with a header line.
+     *
+     * @param organizationId Organization ID.
+     * @param request Request whose body is streamed.
+     * @return Per-row import report, HTTP 400 if the header is invalid, or HTTP 404 if the organization is not found.
+     */
+    @PostMapping(value = "/organizations/{organizationId}/tasks/bulk", consumes = "text/csv")
+    public ResponseEntity<TaskImportResultDto> importTasksFromCsv(@PathVariable Long organizationId,
+                                                                  HttpServletRequest request) throws IOException {
+        if (userService.findOrganizationById(organizationId).isEmpty()) {
+            return new ResponseEntity<>(HttpStatus.NOT_FOUND);
+        }
+        try {
+            return new ResponseEntity<>(taskImportService.importTasksFromCsv(organizationId, request.getInputStream()), HttpStatus.OK);
+        } catch (IllegalArgumentException e) {
+            return new ResponseEntity<>(HttpStatus.BAD_REQUEST); // Missing or incomplete header
+        }
+    }
 
     /**
      * Update an existing task in an organization.
@@ -203,7 +290,7 @@ public class TaskController {
      */
     @PutMapping("/organizations/{organizationId}/tasks/{taskId}")
     @Transactional
-    public ResponseEntity<Task> updateTaskInOrganization(@PathVariable Long organizationId, @PathVariable Long taskId, @RequestBody @Valid TaskPartialDto updatedTask) {
+    public ResponseEntity<TaskResponseDto> updateTaskInOrganization(@PathVariable Long organizationId, @PathVariable Long taskId, @RequestBody @Valid TaskPartialDto updatedTask) {
         Optional<Organization> organizationOpt = userService.findOrganizationById(organizationId);
         if (organizationOpt.isEmpty()) {
             return new ResponseEntity<>(HttpStatus.NOT_FOUND);
@@ -225,7 +312,12 @@ public class TaskController {
         }
 
         taskService.saveTask(existingTask);
-        return new ResponseEntity<>(existingTask, HttpStatus.OK);
+        if (updatedTask.getCapacity() != null) {
+            taskService.changeCapacity(taskId, updatedTask.getCapacity());
+            taskSignupService.promoteFromWaitlist(taskId); // A raised capacity goes to waiting volunteers first
+            existingTask.setCapacity(updatedTask.getCapacity());
+        }
+        return new ResponseEntity<>(TaskResponseDto.from(existingTask), HttpStatus.OK);
     }
 
     /**
@@ -238,27 +330,20 @@ public class TaskController {
     @DeleteMapping("/organizations/{organizationId}/tasks/{taskId}")
     @Transactional
     public ResponseEntity<Void> deleteTaskInOrganization(@PathVariable Long organizationId, @PathVariable Long taskId) {
-        Optional<Organization> organizationOpt = userService.findOrganizationById(organizationId);
-        if (organizationOpt.isEmpty()) {
+        if (userService.findOrganizationById(organizationId).isEmpty()) {
             return new ResponseEntity<>(HttpStatus.NOT_FOUND);
         }
-        Organization organization = organizationOpt.get();
-        Task existingTask = taskService.findById(taskId).orElse(null);
-        if (existingTask == null) {
+        if (taskService.findById(taskId).isEmpty()) {
             return new ResponseEntity<>(HttpStatus.NOT_FOUND);
         }
-        if (!organization.getTasks().contains(existingTask)) {
+        if (!taskService.isTaskOfOrganization(taskId, organizationId)) {
             return new ResponseEntity<>(HttpStatus.FORBIDDEN); // Task does not belong to this organization
         }
 
-        List<TaskSignup> signups = taskSignupService.getTaskSignups(taskId);
-
-        if (!signups.isEmpty()) {
+        if (taskSignupService.countTaskSignups(taskId) > 0) {
             return new ResponseEntity<>(HttpStatus.FORBIDDEN); // If task got volunteers signed up for it, then it cannot be deleted. However, task can be cancelled.
         }
 
-        organization.getTasks().remove(existingTask);
-        userService.saveUser(organization);
         taskService.deleteByTaskId(taskId);
         return new ResponseEntity<>(HttpStatus.NO_CONTENT);
     }
@@ -271,26 +356,24 @@ public class TaskController {
      */
     @PutMapping("/organizations/{organizationId}/tasks/{taskId}/cancel")
     @Transactional
-    public ResponseEntity<Task> cancelTaskInOrganization(@PathVariable Long organizationId, @PathVariable Long taskId) {
-        Optional<Organization> organizationOpt = userService.findOrganizationById(organizationId);
-        if (organizationOpt.isEmpty()) {
+    public ResponseEntity<TaskResponseDto> cancelTaskInOrganization(@PathVariable Long organizationId, @PathVariable Long taskId) {
+        if (userService.findOrganizationById(organizationId).isEmpty()) {
             return new ResponseEntity<>(HttpStatus.NOT_FOUND);
         }
-        Organization organization = organizationOpt.get();
         Task existingTask = taskService.findById(taskId).orElse(null);
         if (existingTask == null) {
             return new ResponseEntity<>(HttpStatus.NOT_FOUND);
         }
-        if (!organization.getTasks().contains(existingTask)) {
+        if (!taskService.isTaskOfOrganization(taskId, organizationId)) {
             return new ResponseEntity<>(HttpStatus.FORBIDDEN); // Task does not belong to this organization
         }
-        try {
-            existingTask.setStatus(TaskStatus.CANCELLED);
-        } catch (Exception e) {
-            return new ResponseEntity<>(HttpStatus.BAD_REQUEST);
-        }
+        taskService.cancelTask(taskId);
+        TaskResponseDto response = TaskResponseDto.from(existingTask);
+        response.setStatus(TaskStatus.CANCELLED); // The loaded task still holds the status it had before the update
+        return new ResponseEntity<>(response, HttpStatus.OK);
+    }
 
-        taskService.saveTask(existingTask);
-        return new ResponseEntity<>(existingTask, HttpStatus.OK);
+    private static boolean isBlank(String value) {
+        return value == null || value.isBlank();
     }
 }
\ No newline at end of file
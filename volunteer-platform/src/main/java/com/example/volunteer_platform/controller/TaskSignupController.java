@@ -1,8 +1,8 @@
 package com.example.volunteer_platform.controller;
 
-import com.example.volunteer_platform.enums.TaskStatus;
 import jakarta.transaction.Transactional;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
@@ -12,7 +12,10 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import com.example.volunteer_platform.dto.SignupResultDto;
 import com.example.volunteer_platform.dto.TaskSignupDto;
+import com.example.volunteer_platform.dto.TaskSignupResponseDto;
+import com.example.volunteer_platform.dto.WaitlistEntryDto;
 import com.example.volunteer_platform.model.Task;
 import com.example.volunteer_platform.model.TaskSignup;
 import com.example.volunteer_platform.model.Volunteer;
@@ -51,8 +54,8 @@ public class TaskSignupController {
      * @return List of task signups or HTTP 204 if no signups exist.
      */
     @GetMapping
-    public ResponseEntity<List<TaskSignup>> getAllSignups() {
-        List<TaskSignup> signups = taskSignupService.getAllSignups();
+    public ResponseEntity<List<TaskSignupResponseDto>> getAllSignups() {
+        List<TaskSignupResponseDto> signups = taskSignupService.getAllSignupResponses(); // One query for signups, tasks and volunteers
 
         if (signups.isEmpty()) {
             return new ResponseEntity<>(HttpStatus.NO_CONTENT);
@@ -67,12 +70,12 @@ public class TaskSignupController {
      * @return List of task signups or HTTP 404 if volunteer not found.
      */
     @GetMapping("/volunteer/{volunteerId}")
-    public ResponseEntity<List<TaskSignup>> getUserSignups(@PathVariable Long volunteerId) {
+    public ResponseEntity<List<TaskSignupResponseDto>> getUserSignups(@PathVariable Long volunteerId) {
         Optional<Volunteer> volunteerOpt = userService.findVolunteerById(volunteerId);
         if (volunteerOpt.isEmpty()) {
             return new ResponseEntity<>(HttpStatus.NOT_FOUND);
         }
-        List<TaskSignup> signups = taskSignupService.getUserSignups(volunteerId);
+        List<TaskSignupResponseDto> signups = taskSignupService.getUserSignupResponses(volunteerId);
 
         if (signups.isEmpty()) {
             return new ResponseEntity<>(HttpStatus.NO_CONTENT);
@@ -87,12 +90,12 @@ public class TaskSignupController {
      * @return List of task signups or HTTP 404 if task not found.
      */
     @GetMapping("/task/{taskId}")
-    public ResponseEntity<List<TaskSignup>> getTaskSignups(@PathVariable Long taskId) {
+    public ResponseEntity<List<TaskSignupResponseDto>> getTaskSignups(@PathVariable Long taskId) {
         Optional<Task> taskOpt = taskService.findById(taskId);
         if (taskOpt.isEmpty()) {
             return new ResponseEntity<>(HttpStatus.NOT_FOUND);
         }
-        List<TaskSignup> signups = taskSignupService.getTaskSignups(taskId);
+        List<TaskSignupResponseDto> signups = taskSignupService.getTaskSignupResponses(taskId);
 
         if (signups.isEmpty()) {
             return new ResponseEntity<>(HttpStatus.NO_CONTENT);
@@ -100,6 +103,41 @@ public class TaskSignupController {
         return new ResponseEntity<>(signups, HttpStatus.OK);
     }
     
+    /**
+     * Get the waitlist of a task.
+     *
+     * @param taskId Task ID.
+     * @return Waitlist entries in queue order, HTTP 204 if nobody is waiting or HTTP 404 if task not found.
+     */
+    @GetMapping("/task/{taskId}/waitlist")
+    public ResponseEntity<List<WaitlistEntryDto>> getWaitlist(@PathVariable Long taskId) {
+        Optional<Task> taskOpt = taskService.findById(taskId);
+        if (taskOpt.isEmpty()) {
+            return new ResponseEntity<>(HttpStatus.NOT_FOUND);
+        }
+        List<WaitlistEntryDto> waitlist = taskSignupService.getWaitlist(taskId);
+
+        if (waitlist.isEmpty()) {
+            return new ResponseEntity<>(HttpStatus.NO_CONTENT);
+        }
+        return new ResponseEntity<>(waitlist, HttpStatus.OK);
+    }
+
+    /**
+     * Remove a volunteer from the waitlist of a task.
+     *
+     * @param volunteerId Volunteer ID.
+     * @param taskId Task ID.
+     * @return HTTP 200 if removed or HTTP 404 if the volunteer was not waiting.
+     */
+    @DeleteMapping("/waitlist/volunteer/{volunteerId}/task/{taskId}")
+    public ResponseEntity<Void> leaveWaitlist(@PathVariable Long volunteerId, @PathVariable Long taskId) {
+        if (!taskSignupService.leaveWaitlist(taskId, volunteerId)) {
+            return new ResponseEntity<>(HttpStatus.NOT_FOUND);
+        }
+        return new ResponseEntity<>(HttpStatus.OK);
+    }
+
     @GetMapping("/task/{taskId}/volunteer/{volunteerId}")
     public ResponseEntity<Boolean> isVolunteerSignedUp(@PathVariable Long taskId, @PathVariable Long volunteerId) {
         boolean exists = taskSignupService.isVolunteerSignedUpForTask(volunteerId, taskId);
@@ -111,38 +149,37 @@ public class TaskSignupController {
      * Sign up a volunteer for a task.
      *
      * @param request TaskSignupDto containing volunteer and task IDs.
-     * @return Created TaskSignup or HTTP 404 if task or volunteer not found.
+     * @return Created TaskSignup, the existing signup with HTTP 302, HTTP 404 if task or volunteer not found,
+     * the volunteer's waitlist entry with HTTP 202 if the task is full, or HTTP 400 if it is not open for applications.
      */
     @PostMapping
-    @Transactional
-    public ResponseEntity<TaskSignup> signUpForTask(@RequestBody @Valid TaskSignupDto request) {
+    public ResponseEntity<?> signUpForTask(@RequestBody @Valid TaskSignupDto request) {
         try {
-            Optional<Task> taskOptional = taskService.findById(request.getTaskId());
-            Optional<Volunteer> userOptional = userService.findVolunteerById(request.getVolunteerId());
-
-            if (taskOptional.isEmpty() || userOptional.isEmpty()) {
-                return new ResponseEntity<>(HttpStatus.NOT_FOUND);
-            }
-
-            Task task = taskOptional.get();
-            Volunteer volunteer = userOptional.get();
-
-            if (task.getStatus() != TaskStatus.AVAILABLE) {
-                return new ResponseEntity<>(HttpStatus.BAD_REQUEST);
+            SignupResultDto result = taskSignupService.signUp(request.getTaskId(), request.getVolunteerId());
+            switch (result.getOutcome()) {
+                case CREATED:
+                    return new ResponseEntity<>(TaskSignupResponseDto.from(result.getSignup()), HttpStatus.CREATED);
+                case ALREADY_SIGNED_UP:
+                    return new ResponseEntity<>(TaskSignupResponseDto.from(result.getSignup()), HttpStatus.FOUND); // Return existing if signup already exists
+                case TASK_NOT_FOUND:
+                case VOLUNTEER_NOT_FOUND:
+                    return new ResponseEntity<>(HttpStatus.NOT_FOUND);
+                case WAITLISTED:
+                    return new ResponseEntity<>(result.getWaitlistEntry(), HttpStatus.ACCEPTED); // Task is full; the volunteer is on its waitlist
+                default:
+                    return new ResponseEntity<>(HttpStatus.BAD_REQUEST);
             }
-
-            Optional<TaskSignup> existingSignup = taskSignupService.findByTaskIdAndVolunteerId(task.getId(), volunteer.getId());
+        } catch (DataIntegrityViolationException e) {
+            // Lost a race against a concurrent signup of the same volunteer for the same task; without a
+            // signup the other attempt put the volunteer on the waitlist
+            Optional<TaskSignup> existingSignup = taskSignupService.findByTaskIdAndVolunteerId(request.getTaskId(), request.getVolunteerId());
             if (existingSignup.isPresent()) {
-                return new ResponseEntity<>(existingSignup.get(), HttpStatus.FOUND); // Return existing if signup already exists
+                return new ResponseEntity<>(TaskSignupResponseDto.from(existingSignup.get()), HttpStatus.FOUND);
             }
-
-            TaskSignup taskSignup = TaskSignup.builder()
-                    .task(task)
-                    .volunteer(volunteer)
-                    .build();
-
-            taskSignupService.save(taskSignup);
-            return new ResponseEntity<>(taskSignup, HttpStatus.CREATED);
+            Optional<WaitlistEntryDto> waitlistEntry = taskSignupService.getWaitlist(request.getTaskId()).stream()
+                    .filter(entry -> entry.getVolunteerId().equals(request.getVolunteerId()))
+                    .findFirst();
+            return new ResponseEntity<>(waitlistEntry.orElse(null), HttpStatus.ACCEPTED);
         } catch (Exception e) {
             return new ResponseEntity<>(HttpStatus.INTERNAL_SERVER_ERROR);
         }
@@ -40,8 +40,8 @@ public class UserController {
 	 * @return List of users or HTTP 204 if no users exist.
 	 */
 	@GetMapping("/users")
-	public ResponseEntity<List<User>> getAllUsers() {
-		List<User> allUsers = userService.getAllUsers();
+	public ResponseEntity<List<UserResponseDto>> getAllUsers() {
+		List<UserResponseDto> allUsers = userService.getAllUserResponses(); // One query, no skills or tasks loaded
 		if (allUsers.isEmpty()) {
 			return new ResponseEntity<>(HttpStatus.NO_CONTENT);
 		}
@@ -55,9 +55,9 @@ public class UserController {
 	 * @return User details or HTTP 404 if not found.
 	 */
 	@GetMapping("/users/{userId}")
-	public ResponseEntity<User> getUserById(@PathVariable Long userId) {
+	public ResponseEntity<UserResponseDto> getUserById(@PathVariable Long userId) {
 		Optional<User> user = userService.findUserById(userId);
-		return user.map(value -> new ResponseEntity<>(value, HttpStatus.OK))
+		return user.map(value -> new ResponseEntity<>(UserResponseDto.from(value), HttpStatus.OK))
 				.orElseGet(() -> new ResponseEntity<>(HttpStatus.NOT_FOUND));
 	}
 
@@ -68,8 +68,8 @@ public class UserController {
 	 * @return List of organizations or HTTP 204 if none exist.
 	 */
 	@GetMapping("/organizations")
-	public ResponseEntity<List<Organization>> getAllOrganizations() {
-		List<Organization> organizations = userService.getAllOrganizations();
+	public ResponseEntity<List<OrganizationResponseDto>> getAllOrganizations() {
+		List<OrganizationResponseDto> organizations = userService.getAllOrganizationResponses();
 		if (organizations.isEmpty()) {
 			return new ResponseEntity<>(HttpStatus.NO_CONTENT);
 		}
@@ -99,9 +99,9 @@ public class UserController {
 	 * @return Organization details or HTTP 404 if not found.
 	 */
 	@GetMapping("/organizations/{orgId}")
-	public ResponseEntity<Organization> getOrganizationById(@PathVariable Long orgId) {
+	public ResponseEntity<OrganizationResponseDto> getOrganizationById(@PathVariable Long orgId) {
 		Optional<Organization> org = userService.findOrganizationById(orgId);
-		return org.map(value -> new ResponseEntity<>(value, HttpStatus.OK))
+		return org.map(value -> new ResponseEntity<>(OrganizationResponseDto.from(value), HttpStatus.OK))
 				.orElseGet(() -> new ResponseEntity<>(HttpStatus.NOT_FOUND));
 	}
 
@@ -113,10 +113,10 @@ public class UserController {
 	 * @return Updated organization or HTTP 404 if not found.
 	 */
 	@PutMapping("/organizations/{organizationId}")
-	public ResponseEntity<Organization> updateOrganizationById(@PathVariable Long organizationId, @RequestBody @Valid OrganizationPartialDto updatedOrg) {
+	public ResponseEntity<OrganizationResponseDto> updateOrganizationById(@PathVariable Long organizationId, @RequestBody @Valid OrganizationPartialDto updatedOrg) {
 		try {
 			Optional<Organization> updatedOrganization = userService.updateOrganization(organizationId, updatedOrg);
-			return updatedOrganization.map(value -> new ResponseEntity<>(value, HttpStatus.OK))
+			return updatedOrganization.map(value -> new ResponseEntity<>(OrganizationResponseDto.from(value), HttpStatus.OK))
 					.orElseGet(() -> new ResponseEntity<>(HttpStatus.NOT_FOUND));
 		} catch (RuntimeException e) {
 			return new ResponseEntity<>(HttpStatus.INTERNAL_SERVER_ERROR);
@@ -124,13 +124,20 @@ public class UserController {
 	}
 
 	/**
-	 * Delete an organization by its ID.
+	 * Delete an organization by its ID, or queue its deletion for organizations with many tasks.
 	 *
 	 * @param organizationId Organization ID.
-	 * @return HTTP 204 if deleted, HTTP 404 if not found.
+	 * @param async Whether to delete in the background instead of within the request.
+	 * @return HTTP 204 if deleted, HTTP 202 with the job to poll if queued, HTTP 404 if not found.
 	 */
 	@DeleteMapping("/organizations/{organizationId}")
-	public ResponseEntity<Void> deleteOrganizationById(@PathVariable Long organizationId) {
+	public ResponseEntity<ErasureJobDto> deleteOrganizationById(@PathVariable Long organizationId,
+																@RequestParam(defaultValue = "false") boolean async) {
+		if (async) {
+			return userService.startOrganizationErasure(organizationId)
+					.map(job -> new ResponseEntity<>(job, HttpStatus.ACCEPTED))
+					.orElseGet(() -> new ResponseEntity<>(HttpStatus.NOT_FOUND));
+		}
 		try {
 			if (userService.deleteOrganizationById(organizationId)) {
 				return new ResponseEntity<>(HttpStatus.NO_CONTENT);
@@ -141,15 +148,29 @@ public class UserController {
 		}
 	}
 
+	/**
+	 * Get the progress of a background deletion.
+	 *
+	 * @param jobId Job ID returned when the deletion was queued.
+	 * @return The job, or HTTP 404 if unknown or expired.
+	 */
+	@GetMapping("/erasures/{jobId}")
+	public ResponseEntity<ErasureJobDto> getErasureJob(@PathVariable String jobId) {
+		return userService.getErasureJob(jobId)
+				.map(job -> new ResponseEntity<>(job, HttpStatus.OK))
+				.orElseGet(() -> new ResponseEntity<>(HttpStatus.NOT_FOUND));
+	}
+
 	// Volunteer APIs
 	/**
 	 * Get all volunteers.
 	 *
+	 * @param fields Comma-separated properties to return; skills are only loaded when selected.
 	 * @return List of volunteers or HTTP 204 if none exist.
 	 */
 	@GetMapping("/volunteers")
-	public ResponseEntity<List<Volunteer>> getAllVolunteers() {
-		List<Volunteer> volunteers = userService.getAllVolunteers();
+	public ResponseEntity<List<VolunteerResponseDto>> getAllVolunteers(@RequestParam(name = ResponseFields.PARAM, required = false) String fields) {
+		List<VolunteerResponseDto> volunteers = userService.getAllVolunteerResponses(ResponseFields.includes(fields, "skills"));
 		if (volunteers.isEmpty()) {
 			return new ResponseEntity<>(HttpStatus.NO_CONTENT);
 		}
@@ -179,9 +200,9 @@ public class UserController {
 	 * @return Volunteer details or HTTP 404 if not found.
 	 */
 	@GetMapping("/volunteers/{volunteerId}")
-	public ResponseEntity<Volunteer> getVolunteerById(@PathVariable Long volunteerId) {
-		Optional<Volunteer> volunteer = userService.findVolunteerById(volunteerId);
-		return volunteer.map(value -> new ResponseEntity<>(value, HttpStatus.OK))
+	public ResponseEntity<VolunteerResponseDto> getVolunteerById(@PathVariable Long volunteerId) {
+		Optional<Volunteer> volunteer = userService.findVolunteerWithSkillsById(volunteerId);
+		return volunteer.map(value -> new ResponseEntity<>(VolunteerResponseDto.from(value), HttpStatus.OK))
 				.orElseGet(() -> new ResponseEntity<>(HttpStatus.NOT_FOUND));
 	}
 
@@ -195,10 +216,10 @@ public class UserController {
 	 * @return Updated volunteer or HTTP 404 if not found.
 	 */
 	@PutMapping("/volunteers/{volunteerId}")
-	public ResponseEntity<Volunteer> updateVolunteerById(@PathVariable Long volunteerId, @RequestBody @Valid VolunteerPartialDto updatedVol) {
+	public ResponseEntity<VolunteerResponseDto> updateVolunteerById(@PathVariable Long volunteerId, @RequestBody @Valid VolunteerPartialDto updatedVol) {
 		try {
 			Optional<Volunteer> updatedVolunteer = userService.updateVolunteer(volunteerId, updatedVol);
-			return updatedVolunteer.map(value -> new ResponseEntity<>(value, HttpStatus.OK))
+			return updatedVolunteer.map(value -> new ResponseEntity<>(VolunteerResponseDto.from(value), HttpStatus.OK))
 					.orElseGet(() -> new ResponseEntity<>(HttpStatus.NOT_FOUND));
 		} catch (RuntimeException e) {
 			return new ResponseEntity<>(HttpStatus.INTERNAL_SERVER_ERROR);
@@ -226,10 +247,10 @@ public class UserController {
 	
 	
 	@GetMapping("/volunteers/email/{email}")
-	public ResponseEntity<Volunteer> findVolunteerByEmailOptional(@PathVariable String email) {
+	public ResponseEntity<VolunteerResponseDto> findVolunteerByEmailOptional(@PathVariable String email) {
 	    Optional<Volunteer> volunteerOpt = userService.findVolunteerByEmailOptional(email);
 	    
-	    return volunteerOpt.map(ResponseEntity::ok) // If volunteer is found, return 200 OK
+	    return volunteerOpt.map(volunteer -> ResponseEntity.ok(VolunteerResponseDto.from(volunteer))) // If volunteer is found, return 200 OK
 	                      .orElseGet(() -> ResponseEntity.notFound().build()); // If not found, return 404
 	}
 
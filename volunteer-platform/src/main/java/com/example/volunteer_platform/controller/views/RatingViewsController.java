@@ -1,20 +1,44 @@
 package com.example.volunteer_platform.controller.views;
 
+import com.example.volunteer_platform.dto.LeaderboardEntryDto;
+import com.example.volunteer_platform.enums.UserType;
+import com.example.volunteer_platform.service.RatingsService;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Controller;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.servlet.ModelAndView;
 
+import java.util.List;
+
 @Controller
 @Slf4j
 public class RatingViewsController {
+
+    private static final int LEADERBOARD_PAGE_SIZE = 10;
+
+    @Autowired
+    private RatingsService ratingsService;
+
     @GetMapping("/rankings/organizations")
-    public ModelAndView topOrganizations() {
-        return new ModelAndView("top_organizations");
+    public ModelAndView topOrganizations(@RequestParam(defaultValue = "0") int page) {
+        return leaderboardView("top_organizations", UserType.ORGANIZATION, page);
     }
 
     @GetMapping("/rankings/volunteers")
-    public ModelAndView topVolunteers() {
-        return new ModelAndView("top_volunteers");
+    public ModelAndView topVolunteers(@RequestParam(defaultValue = "0") int page) {
+        return leaderboardView("top_volunteers", UserType.VOLUNTEER, page);
+    }
+
+    private ModelAndView leaderboardView(String viewName, UserType userType, int page) {
+        ModelAndView mav = new ModelAndView(viewName);
+        int currentPage = Math.max(page, 0);
+        List<LeaderboardEntryDto> leaders = ratingsService.getLeaderboard(userType, currentPage, LEADERBOARD_PAGE_SIZE);
+        mav.addObject("leaders", leaders);
+        mav.addObject("page", currentPage);
+        mav.addObject("hasNext", leaders.size() == LEADERBOARD_PAGE_SIZE);
+        log.info("Leaderboard page {} fetched for {}: {} entries", currentPage, userType, leaders.size());
+        return mav;
     }
 }
@@ -5,6 +5,7 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 
 import com.example.volunteer_platform.enums.TaskStatus;
 import com.example.volunteer_platform.model.*;
@@ -19,12 +20,13 @@ import org.springframework.web.bind.annotation.*;
 import org.springframework.web.servlet.ModelAndView;
 import org.springframework.web.servlet.mvc.support.RedirectAttributes;
 
-import com.example.volunteer_platform.controller.TaskController;
 import com.example.volunteer_platform.controller.TaskSignupController;
-import com.example.volunteer_platform.controller.UserController;
+import com.example.volunteer_platform.dto.OpportunityDto;
 import com.example.volunteer_platform.dto.TaskSignupDto;
 import com.example.volunteer_platform.dto.VolunteerPartialDto;
+import com.example.volunteer_platform.service.TaskService;
 import com.example.volunteer_platform.service.TaskSignupService;
+import com.example.volunteer_platform.service.UserService;
 
 import lombok.extern.slf4j.Slf4j;
 
@@ -32,52 +34,25 @@ import lombok.extern.slf4j.Slf4j;
 @Slf4j
 public class VolunteerViewsController {
 
-    @Autowired
-    private TaskController taskController;
-
     @Autowired
     private TaskSignupController taskSignupController;
 
     @Autowired
-    private UserController userController;
+    private UserService userService;
 
     @Autowired
     private TaskSignupService taskSignupService;
 
+    @Autowired
+    private TaskService taskService;
+
     @GetMapping("/v/opportunities")
     public ModelAndView viewOpportunities() {
         ModelAndView mav = new ModelAndView("volunteer_opportunities");
-        ResponseEntity<List<Task>> response = taskController.getAllTasks();
-
-        if (response.getStatusCode().is2xxSuccessful()) {
-            List<Task> tasks = response.getBody();
-            List<Task> availableTasks = tasks != null ?
-                    tasks.stream()
-                            .filter(task -> TaskStatus.AVAILABLE.equals(task.getStatus()))
-                            .toList() :
-                    new ArrayList<>();
-
-            // Create a map to hold organization names
-            Map<Long, String> organizationNames = new HashMap<>();
-
-            // Fetch organization names for each task
-            for (Task task : availableTasks) {
-                ResponseEntity<Organization> orgResponse = userController.getOrganizationById(task.getOrganizationId());
-                if (orgResponse.getStatusCode().is2xxSuccessful() && orgResponse.getBody() != null) {
-                    organizationNames.put(task.getOrganizationId(), orgResponse.getBody().getName());
-                } else {
-                    log.error("Organization not found with id: {}", task.getOrganizationId());
-                    organizationNames.put(task.getOrganizationId(), "Unknown Organization"); // Fallback if organization not found
-                }
-            }
+        List<OpportunityDto> opportunities = taskService.getAvailableOpportunities(); // One query: tasks joined with organization names
 
-            mav.addObject("tasks", availableTasks.toArray(new Task[0]));
-            mav.addObject("organizationNames", organizationNames); // Add the map to the model
-            log.info("Tasks fetched successfully: {}", availableTasks.size());
-        } else {
-            mav.addObject("errorMessage", "Unable to load tasks. Please try again later.");
-            log.error("Failed to fetch tasks, status code: {}", response.getStatusCode());
-        }
+        mav.addObject("tasks", opportunities.toArray(new OpportunityDto[0]));
+        log.info("Tasks fetched successfully: {}", opportunities.size());
 
         return mav;
     }
@@ -85,25 +60,23 @@ public class VolunteerViewsController {
     @GetMapping("/v/opportunities/{taskId}")
     public ModelAndView viewTaskDetails(@PathVariable Long taskId, HttpServletRequest request) {
         ModelAndView mav = new ModelAndView("volunteer_task_view");
-        ResponseEntity<Task> response = taskController.getTaskById(taskId);
+        Optional<Task> taskOpt = taskService.findWithSkillsById(taskId); // Views render entities; the REST API returns DTOs
         Long volunteerId = (Long) request.getSession().getAttribute("userId");
 
-        if (response.getStatusCode().is2xxSuccessful()) {
-            Task task = response.getBody();
+        if (taskOpt.isPresent()) {
+            Task task = taskOpt.get();
             mav.addObject("task", task);
 
-            mav.addObject("signups", taskSignupService.getTaskSignups(taskId));
-      
-            int applicantsCount = taskSignupService.getTaskSignups(taskId).size();
+            int applicantsCount = taskSignupService.countTaskSignups(taskId); // Stored counter, no signup rows loaded
 
             mav.addObject("applicantsCount", applicantsCount);
 
-            mav.addObject("alreadySignedUp", taskSignupController.isVolunteerSignedUp(taskId, volunteerId).getBody());
+            mav.addObject("alreadySignedUp", taskSignupService.isVolunteerSignedUpForTask(volunteerId, taskId));
             
             log.info("Task details fetched successfully for ID: {}", taskId);
         } else {
             mav.addObject("errorMessage", "The requested task could not be found.");
-            log.error("Failed to fetch task ID: {}, status code: {}", taskId, response.getStatusCode());
+            log.error("Failed to fetch task ID: {}", taskId);
         }
 
         return mav;
@@ -111,23 +84,22 @@ public class VolunteerViewsController {
 
     @PostMapping("/v/opportunities/{taskId}/apply")
     public String applyForTask(@PathVariable Long taskId, Principal principal, Model model) {
-        ResponseEntity<Task> taskResponse = taskController.getTaskById(taskId);
-        if (taskResponse.getStatusCode() != HttpStatus.OK || taskResponse.getBody() == null) {
+        Optional<Task> taskOpt = taskService.findById(taskId);
+        if (taskOpt.isEmpty()) {
             log.error("Task not found with ID: {}", taskId);
             return "redirect:/v/opportunities?error=taskNotFound";
         }
-        Task task = taskResponse.getBody();
+        Task task = taskOpt.get();
 
         String email = principal.getName();
-        ResponseEntity<Volunteer> volunteerResponse = userController.findVolunteerByEmailOptional(email);
-        if (volunteerResponse.getStatusCode() != HttpStatus.OK || volunteerResponse.getBody() == null) {
+        Optional<Volunteer> volunteerOpt = userService.findVolunteerByEmailOptional(email);
+        if (volunteerOpt.isEmpty()) {
             log.error("Volunteer not found with email: {}", email);
             return "redirect:/v/opportunities?error=volunteerNotFound";
         }
-        Volunteer volunteer = volunteerResponse.getBody();
+        Volunteer volunteer = volunteerOpt.get();
 
-        ResponseEntity<Boolean> isSignedUpResponse = taskSignupController.isVolunteerSignedUp(taskId, volunteer.getId());
-        boolean alreadySignedUp = isSignedUpResponse.getBody() != null && isSignedUpResponse.getBody();
+        boolean alreadySignedUp = taskSignupService.isVolunteerSignedUpForTask(volunteer.getId(), taskId);
         if (alreadySignedUp) {
             log.warn("Volunteer {} already signed up for task {}", volunteer.getId(), taskId);
             model.addAttribute("alreadySignedUp", alreadySignedUp);
@@ -139,10 +111,13 @@ public class VolunteerViewsController {
                 .volunteerId(volunteer.getId())
                 .build();
 
-        ResponseEntity<TaskSignup> response = taskSignupController.signUpForTask(taskSignupDto);
+        ResponseEntity<?> response = taskSignupController.signUpForTask(taskSignupDto);
         if (response.getStatusCode() == HttpStatus.CREATED) {
             log.info("Volunteer {} successfully signed up for task {}", volunteer.getId(), taskId);
             return "redirect:/v/opportunities/" + taskId + "?success=taskApplied";
+        } else if (response.getStatusCode() == HttpStatus.ACCEPTED) {
+            log.info("Task {} is full; volunteer {} joined its waitlist", taskId, volunteer.getId());
+            return "redirect:/v/opportunities/" + taskId + "?success=waitlisted";
         } else {
             log.error("Failed to sign up volunteer {} for task {}", volunteer.getId(), taskId);
             return "redirect:/v/opportunities?error=signupFailed";
@@ -152,13 +127,13 @@ public class VolunteerViewsController {
     @DeleteMapping("/v/opportunities/{taskId}/cancel")
     public String cancelSignup(@PathVariable Long taskId, Principal principal, Model model) {
         String email = principal.getName();
-        ResponseEntity<Volunteer> volunteerResponse = userController.findVolunteerByEmailOptional(email);
-        if (volunteerResponse.getStatusCode() != HttpStatus.OK || volunteerResponse.getBody() == null) {
+        Optional<Volunteer> volunteerOpt = userService.findVolunteerByEmailOptional(email);
+        if (volunteerOpt.isEmpty()) {
             log.error("Volunteer not found with email: {}", email);
             model.addAttribute("error", "Volunteer not found");
             return "redirect:/v/opportunities/" + taskId;
         }
-        Volunteer volunteer = volunteerResponse.getBody();
+        Volunteer volunteer = volunteerOpt.get();
 
         ResponseEntity<Void> cancelResponse = taskSignupController.cancelSignup(taskId, volunteer.getId());
         if (cancelResponse.getStatusCode() == HttpStatus.OK) {
@@ -176,10 +151,10 @@ public class VolunteerViewsController {
     public ModelAndView profile(@RequestParam Long id) {
         ModelAndView mav = new ModelAndView("volunteer_profile");
         log.info("Fetching profile for volId: {}", id);
-        ResponseEntity<Volunteer> response = userController.getVolunteerById(id);
+        Optional<Volunteer> volunteerOpt = userService.findVolunteerWithSkillsById(id);
 
-        if (response.getStatusCode().is2xxSuccessful()) {
-            Volunteer volunteer = response.getBody();
+        if (volunteerOpt.isPresent()) {
+            Volunteer volunteer = volunteerOpt.get();
             mav.addObject("volId", id);
             assert volunteer != null;
             mav.addObject("volName", volunteer.getName());
@@ -189,7 +164,7 @@ public class VolunteerViewsController {
             mav.addObject("volPhone", volunteer.getPhoneNumber());
         } else {
             mav.addObject("errorMessage", "Unable to load volunteer details. Please try again later.");
-            log.error("Failed to fetch task, status code: {}", response.getStatusCode());
+            log.error("Failed to fetch volunteer ID: {}", id);
         }
         return mav;
     }
@@ -198,26 +173,18 @@ public class VolunteerViewsController {
     public ModelAndView tasksHistory(HttpServletRequest request) {
         ModelAndView mav = new ModelAndView("volunteer_history");
         Long volunteerId = (Long) request.getSession().getAttribute("userId");
-        ResponseEntity<List<TaskSignup>> response = taskSignupController.getUserSignups(volunteerId);
-        if (response.getStatusCode().is2xxSuccessful()) {
-            List<TaskSignup> taskSignups = response.getBody();
+        if (volunteerId != null && userService.findVolunteerById(volunteerId).isPresent()) {
+            List<TaskSignup> taskSignups = taskSignupService.getUserSignups(volunteerId);
             Map<Long, Task> taskMap = new HashMap<>();
-            if (taskSignups != null) {
-                for (TaskSignup taskSignup : taskSignups) {
-                    ResponseEntity<Task> taskResponse = taskController.getTaskById(taskSignup.getTask().getId());
-                    if (taskResponse.getStatusCode().is2xxSuccessful() && taskResponse.getBody() != null) {
-                        taskMap.put(taskSignup.getTask().getId(), taskResponse.getBody());
-                    } else {
-                        log.error("Task not found with id: {}", taskSignup.getTask().getId());
-                    }
-                }
+            for (TaskSignup taskSignup : taskSignups) {
+                taskMap.put(taskSignup.getTask().getId(), taskSignup.getTask()); // Already loaded with the signup
             }
 
             mav.addObject("tasks", taskMap);
             mav.addObject("taskSignups", taskSignups.toArray());
         } else {
             mav.addObject("errorMessage", "Unable to load tasks. Please try again later.");
-            log.error("Failed to fetch tasks, status code: {}", response.getStatusCode());
+            log.error("Failed to fetch tasks for volunteer ID: {}", volunteerId);
         }
         return mav;
     }
@@ -225,13 +192,13 @@ public class VolunteerViewsController {
     @GetMapping("/v/profile/edit")
     public ModelAndView profileSettings(Principal principal) {
         String email = principal.getName();
-        ResponseEntity<Volunteer> volunteerResponse = userController.findVolunteerByEmailOptional(email);
+        Optional<Volunteer> volunteerOpt = userService.findVolunteerByEmailOptional(email);
         ModelAndView modelAndView = new ModelAndView("volunteer_profile_settings");
 
         StringBuilder skillsString = new StringBuilder();
-        if (volunteerResponse != null && volunteerResponse.getBody() != null) {
-            modelAndView.addObject("volunteer", volunteerResponse.getBody());
-            for (Skill skill : volunteerResponse.getBody().getSkills()) {
+        if (volunteerOpt.isPresent()) {
+            modelAndView.addObject("volunteer", volunteerOpt.get());
+            for (Skill skill : volunteerOpt.get().getSkills()) {
                 skillsString.append(skill.getName());
                 skillsString.append(", ");
             }
@@ -246,18 +213,23 @@ public class VolunteerViewsController {
     public String updateVolunteerProfile(@ModelAttribute VolunteerPartialDto volunteerDto, 
                                          Principal principal, RedirectAttributes redirectAttributes) {
         String email = principal.getName();
-        ResponseEntity<Volunteer> volunteerResponse = userController.findVolunteerByEmailOptional(email);
+        Optional<Volunteer> volunteerOpt = userService.findVolunteerByEmailOptional(email);
 
-        if (volunteerResponse.getStatusCode() != HttpStatus.OK || volunteerResponse.getBody() == null) {
+        if (volunteerOpt.isEmpty()) {
             redirectAttributes.addFlashAttribute("error", "Volunteer not found!");
             return "redirect:/v/profile/edit";
         }
 
-        Volunteer volunteer = volunteerResponse.getBody();
+        Volunteer volunteer = volunteerOpt.get();
 
-        ResponseEntity<Volunteer> updatedVolunteerResponse = userController.updateVolunteerById(volunteer.getId(), volunteerDto);
+        Optional<Volunteer> updatedVolunteer;
+        try {
+            updatedVolunteer = userService.updateVolunteer(volunteer.getId(), volunteerDto);
+        } catch (RuntimeException e) {
+            updatedVolunteer = Optional.empty();
+        }
         
-        if (updatedVolunteerResponse.getStatusCode() == HttpStatus.OK && updatedVolunteerResponse.getBody() != null) {
+        if (updatedVolunteer.isPresent()) {
             redirectAttributes.addFlashAttribute("success", "Profile updated successfully!");
         } else {
             redirectAttributes.addFlashAttribute("error", "Profile update failed!");
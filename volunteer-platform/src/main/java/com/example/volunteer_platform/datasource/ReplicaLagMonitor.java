@@ -0,0 +1,123 @@
+package com.example.volunteer_platform.datasource;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.io.Closeable;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures how far each replica is behind the primary and tells the routing data source which replicas
+ * read-only transactions may use. Every check compares the heartbeat row each replica holds with the current
+ * time, then writes a new heartbeat to the primary. All data written before a replica's heartbeat has reached
+ * it, so the heartbeat's age bounds the replica's staleness; it includes up to one check interval, so max-lag
+ * must be larger than the interval. Heartbeats from several nodes only ever move forward, and clock skew
+ * between the nodes adds to the measured lag.
+ */
+public class ReplicaLagMonitor implements Closeable {
+
+    private static final Logger logger = LoggerFactory.getLogger(ReplicaLagMonitor.class);
+
+    private final ReplicaRoutingDataSource routingDataSource;
+    private final JdbcTemplate primary;
+    private final Duration maxLag;
+    private final Duration checkInterval;
+    private final ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "replica-lag-monitor");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public ReplicaLagMonitor(ReplicaRoutingDataSource routingDataSource, Duration maxLag, Duration checkInterval) {
+        this.routingDataSource = routingDataSource;
+        this.primary = new JdbcTemplate(routingDataSource.getPrimary());
+        this.maxLag = maxLag;
+        this.checkInterval = checkInterval;
+    }
+
+    /**
+     * Start checking once the schema exists; until the first check passes all reads go to the primary.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        executor.scheduleWithFixedDelay(this::checkQuietly, 0, checkInterval.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    private void checkQuietly() {
+        try {
+            check();
+        } catch (RuntimeException e) {
+            logger.warn("Replica lag check failed", e); // Keep the schedule alive; the usable replicas stay as they were
+        }
+    }
+
+    /**
+     * Measure the lag of every replica, update the replicas in use and write the next heartbeat.
+     *
+     * @return Replicas within max-lag.
+     */
+    public List<ReplicaRoutingDataSource.Replica> check() {
+        LocalDateTime now = LocalDateTime.now();
+        List<ReplicaRoutingDataSource.Replica> wasUsable = routingDataSource.getUsableReplicas();
+        List<ReplicaRoutingDataSource.Replica> usable = new ArrayList<>();
+        for (ReplicaRoutingDataSource.Replica replica : routingDataSource.getReplicas()) {
+            Duration lag = measureLag(replica, now);
+            boolean withinMaxLag = lag != null && lag.compareTo(maxLag) <= 0;
+            if (withinMaxLag) {
+                usable.add(replica);
+            }
+            if (withinMaxLag != wasUsable.contains(replica)) {
+                if (withinMaxLag) {
+                    logger.info("Replica {} is {} ms behind, sending reads to it", replica.name(), lag.toMillis());
+                } else {
+                    logger.warn("Replica {} is {} behind, sending its reads to the primary", replica.name(),
+                            lag == null ? "unreachable or" : lag.toMillis() + " ms");
+                }
+            }
+        }
+        routingDataSource.setUsableReplicas(usable);
+        writeHeartbeat(now);
+        return usable;
+    }
+
+    /**
+     * @return Age of the replica's heartbeat, or null if the replica cannot be read or has none.
+     */
+    private Duration measureLag(ReplicaRoutingDataSource.Replica replica, LocalDateTime now) {
+        try {
+            LocalDateTime beatAt = new JdbcTemplate(replica.dataSource()).queryForObject(
+                    "SELECT beat_at FROM replication_heartbeat WHERE id = 1", LocalDateTime.class);
+            return beatAt == null ? null : Duration.between(beatAt, now);
+        } catch (DataAccessException e) {
+            logger.debug("Could not read the heartbeat of replica {}", replica.name(), e);
+            return null;
+        }
+    }
+
+    private void writeHeartbeat(LocalDateTime now) {
+        if (primary.update("UPDATE replication_heartbeat SET beat_at = ? WHERE id = 1 AND beat_at < ?", now, now) > 0) {
+            return;
+        }
+        try {
+            primary.update("INSERT INTO replication_heartbeat (id, beat_at) VALUES (1, ?)", now);
+        } catch (DuplicateKeyException e) {
+            // Another node holds a later heartbeat
+        }
+    }
+
+    @Override
+    public void close() {
+        executor.shutdownNow();
+    }
+}
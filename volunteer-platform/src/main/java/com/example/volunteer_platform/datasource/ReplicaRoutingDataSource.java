@@ -0,0 +1,115 @@
+package com.example.volunteer_platform.datasource;
+
+import org.springframework.jdbc.datasource.AbstractDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+import javax.sql.DataSource;
+import java.io.Closeable;
+import java.io.IOException;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Hands out connections of the primary, or of a read replica inside read-only transactions. Replicas take
+ * turns, and only those the lag monitor found close enough to the primary are used; with none left, and for
+ * the rest of a request once it has opened a read-write transaction, reads go to the primary too.
+ * <p>
+ * The decision is made when a connection is requested, so this data source must sit behind a
+ * LazyConnectionDataSourceProxy: the transaction manager asks for the connection before it publishes the
+ * read-only flag, and the proxy defers the request until the first statement.
+ */
+public class ReplicaRoutingDataSource extends AbstractDataSource implements Closeable {
+
+    private static final String PRIMARY_PINNED = ReplicaRoutingDataSource.class.getName() + ".PRIMARY_PINNED";
+
+    /**
+     * A replica and the name it is logged under.
+     */
+    public record Replica(String name, DataSource dataSource) { }
+
+    private final DataSource primary;
+    private final List<Replica> replicas;
+    private volatile List<Replica> usableReplicas = List.of(); // None until the first lag check
+    private final AtomicInteger nextReplica = new AtomicInteger();
+
+    public ReplicaRoutingDataSource(DataSource primary, List<Replica> replicas) {
+        this.primary = primary;
+        this.replicas = List.copyOf(replicas);
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return determineTarget().getConnection();
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return determineTarget().getConnection(username, password);
+    }
+
+    private DataSource determineTarget() {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            if (TransactionSynchronizationManager.isActualTransactionActive()) {
+                pinRequestToPrimary();
+            }
+            return primary;
+        }
+        List<Replica> usable = usableReplicas;
+        if (usable.isEmpty() || isRequestPinnedToPrimary()) {
+            return primary;
+        }
+        return usable.get(Math.floorMod(nextReplica.getAndIncrement(), usable.size())).dataSource();
+    }
+
+    /**
+     * Reads after a write in the same request must see that write, which a replica may not have yet.
+     */
+    private void pinRequestToPrimary() {
+        RequestAttributes request = RequestContextHolder.getRequestAttributes();
+        if (request != null) {
+            request.setAttribute(PRIMARY_PINNED, Boolean.TRUE, RequestAttributes.SCOPE_REQUEST);
+        }
+    }
+
+    private boolean isRequestPinnedToPrimary() {
+        RequestAttributes request = RequestContextHolder.getRequestAttributes();
+        return request != null && request.getAttribute(PRIMARY_PINNED, RequestAttributes.SCOPE_REQUEST) != null;
+    }
+
+    public DataSource getPrimary() {
+        return primary;
+    }
+
+    public List<Replica> getReplicas() {
+        return replicas;
+    }
+
+    /**
+     * Set the replicas read-only transactions may use.
+     *
+     * @param usable Replicas within the allowed lag, in the order they take turns.
+     */
+    public void setUsableReplicas(List<Replica> usable) {
+        usableReplicas = List.copyOf(usable);
+    }
+
+    public List<Replica> getUsableReplicas() {
+        return usableReplicas;
+    }
+
+    /**
+     * Close the replica pools; the primary pool is a bean of its own.
+     */
+    @Override
+    public void close() throws IOException {
+        for (Replica replica : replicas) {
+            if (replica.dataSource() instanceof Closeable pool) {
+                pool.close();
+            }
+        }
+    }
+}
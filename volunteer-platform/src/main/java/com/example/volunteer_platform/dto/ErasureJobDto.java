@@ -0,0 +1,27 @@
+package com.example.volunteer_platform.dto;
+
+import com.example.volunteer_platform.enums.ErasureState;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * ErasureJobDto reports the progress of a user erasure running in the background.
+ */
+@Data
+@Builder(toBuilder = true)
+@NoArgsConstructor
+@AllArgsConstructor
+public class ErasureJobDto {
+    private String jobId;
+    private Long userId;             // ID of the user being erased
+    private ErasureState state;
+    private long totalTasks;         // Tasks of the user when the job was started
+    private long tasksDeleted;
+    private LocalDateTime startedAt;
+    private LocalDateTime finishedAt;
+    private String error;            // Reason of a failure
+}
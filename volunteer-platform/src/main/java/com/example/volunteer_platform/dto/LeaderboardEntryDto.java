@@ -0,0 +1,48 @@
+package com.example.volunteer_platform.dto;
+
+import com.example.volunteer_platform.enums.Gender;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * LeaderboardEntryDto is one row of a volunteer or organization leaderboard.
+ */
+@Data
+@NoArgsConstructor
+public class LeaderboardEntryDto {
+    private int rank;
+    private Long userId;
+    private String name;
+    private long ratingCount;
+    private double averageRating;
+    private double score; // Bayesian-smoothed rating used for ordering
+    private Gender gender; // Volunteers only
+    private String website; // Organizations only
+
+    public LeaderboardEntryDto(Long userId, String name, long ratingCount, long ratingSum, double score, Gender gender) {
+        this(userId, name, ratingCount, ratingSum, score);
+        this.gender = gender;
+    }
+
+    public LeaderboardEntryDto(Long userId, String name, long ratingCount, long ratingSum, double score, String website) {
+        this(userId, name, ratingCount, ratingSum, score);
+        this.website = website;
+    }
+
+    private LeaderboardEntryDto(Long userId, String name, long ratingCount, long ratingSum, double score) {
+        this.userId = userId;
+        this.name = name;
+        this.ratingCount = ratingCount;
+        this.averageRating = ratingCount == 0 ? 0 : (double) ratingSum / ratingCount;
+        this.score = score;
+    }
+
+    /**
+     * Get the average rating rounded to whole stars.
+     *
+     * @return Number of filled stars, 0 to 5.
+     */
+    public int getStars() {
+        return (int) Math.round(averageRating);
+    }
+}
@@ -0,0 +1,22 @@
+package com.example.volunteer_platform.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+/**
+ * Row of the volunteer opportunities page: an available task joined with its organization's name.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class OpportunityDto {
+    private Long id;
+    private String title;
+    private String location;
+    private LocalDate eventDate; // When the event will be hosted
+    private Long organizationId;
+    private String organizationName; // Null if the organization no longer exists
+}
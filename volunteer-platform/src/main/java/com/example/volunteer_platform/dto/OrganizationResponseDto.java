@@ -0,0 +1,38 @@
+package com.example.volunteer_platform.dto;
+
+import com.example.volunteer_platform.model.Organization;
+import com.fasterxml.jackson.annotation.JsonFilter;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * REST view of an Organization without its password or task list.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonFilter(ResponseFields.FILTER)
+public class OrganizationResponseDto {
+    private Long id;
+    private String name;
+    private String email;
+    private String phoneNumber;
+    private String address;
+    private String website;
+    private LocalDateTime createdAt;
+
+    /**
+     * Build the view of a loaded organization.
+     *
+     * @param organization Organization.
+     * @return Organization view.
+     */
+    public static OrganizationResponseDto from(Organization organization) {
+        return new OrganizationResponseDto(organization.getId(), organization.getName(), organization.getEmail(),
+                organization.getPhoneNumber(), organization.getAddress(), organization.getWebsite(),
+                organization.getCreatedAt());
+    }
+}
@@ -0,0 +1,30 @@
+package com.example.volunteer_platform.dto;
+
+import com.example.volunteer_platform.enums.TaskStatus;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * One page of an organization's tasks, with the number of its tasks in each status.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class OrganizationTaskPageDto {
+    private List<TaskResponseDto> items;
+    private Map<TaskStatus, Long> statusCounts; // All of the organization's tasks, by status; every status is present
+    private long total; // Number of tasks in the listed statuses across all pages
+    private int page; // Zero-based page number
+    private int size;
+
+    /**
+     * @return Number of pages, at least 1.
+     */
+    public int getTotalPages() {
+        return (int) Math.max(1, (total + size - 1) / size);
+    }
+}
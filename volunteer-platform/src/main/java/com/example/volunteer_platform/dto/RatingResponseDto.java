@@ -0,0 +1,37 @@
+package com.example.volunteer_platform.dto;
+
+import com.example.volunteer_platform.model.Ratings;
+import com.fasterxml.jackson.annotation.JsonFilter;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * REST view of a rating.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonFilter(ResponseFields.FILTER)
+public class RatingResponseDto {
+    private long ratingId;
+    private long ratedByUserId; // ID of the user who rated
+    private long ratedUserId; // ID of the user being rated
+    private int ratingScore;
+    private String review;
+    private LocalDateTime createdDate;
+    private LocalDateTime updatedDate;
+
+    /**
+     * Build the view of a loaded rating.
+     *
+     * @param rating Rating.
+     * @return Rating view.
+     */
+    public static RatingResponseDto from(Ratings rating) {
+        return new RatingResponseDto(rating.getRatingId(), rating.getRatedByUserId(), rating.getRatedUserId(),
+                rating.getRatingScore(), rating.getReview(), rating.getCreatedDate(), rating.getUpdatedDate());
+    }
+}
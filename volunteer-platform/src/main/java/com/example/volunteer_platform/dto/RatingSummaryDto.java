@@ -0,0 +1,18 @@
+package com.example.volunteer_platform.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * RatingSummaryDto holds the rating totals of one user.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class RatingSummaryDto {
+    private Long userId;
+    private long ratingCount;
+    private double averageRating;
+    private double score; // Bayesian-smoothed rating used for leaderboards
+}
@@ -0,0 +1,23 @@
+package com.example.volunteer_platform.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+/**
+ * ReminderDto carries the fields needed to render one task reminder email.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ReminderDto {
+    private Long signupId;
+    private String volunteerName;
+    private String volunteerEmail;
+    private String taskTitle;
+    private LocalDate eventDate;
+    private String location;
+    private String description;
+}
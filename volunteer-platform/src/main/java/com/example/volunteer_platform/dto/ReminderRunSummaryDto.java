@@ -0,0 +1,23 @@
+package com.example.volunteer_platform.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * ReminderRunSummaryDto reports the outcome and throughput of one reminder run.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ReminderRunSummaryDto {
+    private int due;           // Signups due a reminder when the run started
+    private int sent;          // Reminders delivered and marked as sent
+    private int failed;        // Reminders left unsent; retried on the next run
+    private long elapsedMillis;
+    private double messagesPerSecond;
+    private int shards;        // Task ID shards processed by this node
+    private int shardsSkipped; // Shards leased by another node
+}
@@ -0,0 +1,46 @@
+package com.example.volunteer_platform.dto;
+
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+/**
+ * Field selection for REST responses. Response DTOs carry the {@link #FILTER} Jackson filter, which
+ * serializes only the properties named in the {@code fields} request parameter, or all of them if it is absent.
+ */
+public final class ResponseFields {
+
+    public static final String FILTER = "responseFields"; // Jackson filter ID on the response DTOs
+    public static final String PARAM = "fields"; // Comma-separated property names, e.g. ?fields=id,title
+
+    private ResponseFields() {
+    }
+
+    /**
+     * Parse a field selection.
+     *
+     * @param fields Value of the fields parameter, may be null.
+     * @return Selected property names, or null if every property is selected.
+     */
+    public static Set<String> parse(String fields) {
+        if (fields == null || fields.isBlank()) {
+            return null;
+        }
+        Set<String> names = new LinkedHashSet<>();
+        Arrays.stream(fields.split(",")).map(String::trim).filter(name -> !name.isEmpty()).forEach(names::add);
+        return names.isEmpty() ? null : names;
+    }
+
+    /**
+     * Check whether a property is part of a field selection, so that list endpoints can skip
+     * the queries behind properties nobody asked for.
+     *
+     * @param fields Value of the fields parameter, may be null.
+     * @param name Property name.
+     * @return True if the property will be serialized.
+     */
+    public static boolean includes(String fields, String name) {
+        Set<String> names = parse(fields);
+        return names == null || names.contains(name);
+    }
+}
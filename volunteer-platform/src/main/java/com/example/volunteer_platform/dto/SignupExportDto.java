@@ -0,0 +1,30 @@
+package com.example.volunteer_platform.dto;
+
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * SignupExportDto is one row of the signup export.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonPropertyOrder({"signupId", "signupDate", "reminderSent", "taskId", "taskTitle", "eventDate",
+        "organizationId", "volunteerId", "volunteerName", "volunteerEmail"})
+public class SignupExportDto {
+    private Long signupId;
+    private LocalDateTime signupDate;
+    private boolean reminderSent;
+    private Long taskId;
+    private String taskTitle;
+    private LocalDate eventDate;
+    private Long organizationId;
+    private Long volunteerId;
+    private String volunteerName;
+    private String volunteerEmail;
+}
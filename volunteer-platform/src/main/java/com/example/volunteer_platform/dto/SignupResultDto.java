@@ -0,0 +1,31 @@
+package com.example.volunteer_platform.dto;
+
+import com.example.volunteer_platform.enums.SignupOutcome;
+import com.example.volunteer_platform.model.TaskSignup;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * DTO for the result of a signup attempt.
+ */
+@Getter
+@AllArgsConstructor
+public class SignupResultDto {
+
+    private final SignupOutcome outcome;
+
+    private final TaskSignup signup; // The new or existing signup, or null if there is none
+
+    private final WaitlistEntryDto waitlistEntry; // The volunteer's place on the waitlist when waitlisted, otherwise null
+
+    public SignupResultDto(SignupOutcome outcome, TaskSignup signup) {
+        this(outcome, signup, null);
+    }
+
+    /**
+     * @return Position on the waitlist when waitlisted, otherwise null.
+     */
+    public Integer getWaitlistPosition() {
+        return waitlistEntry == null ? null : waitlistEntry.getPosition();
+    }
+}
@@ -0,0 +1,18 @@
+package com.example.volunteer_platform.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * SkillCacheStatsDto reports how well the skill catalog cache is serving lookups.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class SkillCacheStatsDto {
+    private int size;    // Number of cached skills
+    private long hits;   // Lookups answered from memory
+    private long misses; // Lookups that had to go to the database
+    private double hitRatio;
+}
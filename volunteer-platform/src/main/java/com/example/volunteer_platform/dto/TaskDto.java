@@ -2,6 +2,7 @@ package com.example.volunteer_platform.dto;
 
 import jakarta.persistence.Column;
 import jakarta.validation.constraints.Future;
+import jakarta.validation.constraints.Positive;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Size;
@@ -49,4 +50,7 @@ public class TaskDto {
     @NotNull(message = "Application deadline cannot be null")
     @Future(message = "Application deadline must be a future date")
     private  LocalDate applicationDeadline;
+
+    @Positive(message = "Capacity must be positive")
+    private Integer capacity; // Maximum number of volunteers, or null for no limit
 }
\ No newline at end of file
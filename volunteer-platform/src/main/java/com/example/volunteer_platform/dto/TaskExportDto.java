@@ -0,0 +1,31 @@
+package com.example.volunteer_platform.dto;
+
+import com.example.volunteer_platform.enums.TaskStatus;
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * TaskExportDto is one row of the task export.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonPropertyOrder({"id", "title", "description", "location", "eventDate", "applicationDeadline",
+        "cancellationDeadline", "status", "organizationId", "createdAt"})
+public class TaskExportDto {
+    private Long id;
+    private String title;
+    private String description;
+    private String location;
+    private LocalDate eventDate;
+    private LocalDate applicationDeadline;
+    private LocalDate cancellationDeadline;
+    private TaskStatus status;
+    private Long organizationId;
+    private LocalDateTime createdAt;
+}
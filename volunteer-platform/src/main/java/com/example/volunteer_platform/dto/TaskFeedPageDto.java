@@ -0,0 +1,65 @@
+package com.example.volunteer_platform.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.List;
+
+/**
+ * One page of the task feed, ordered by (eventDate, id).
+ * The nextCursor token is opaque to clients and is null on the last page.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskFeedPageDto {
+    private List<TaskSummaryDto> items;
+    private String nextCursor; // Pass back as ?cursor= to fetch the following page
+
+    /**
+     * Encode the keyset position of a task into a cursor token.
+     *
+     * @param eventDate Event date of the last task on the page.
+     * @param id ID of the last task on the page.
+     * @return URL-safe cursor token.
+     */
+    public static String encodeCursor(LocalDate eventDate, Long id) {
+        String raw = eventDate + "|" + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Decode a cursor token into its (eventDate, id) keyset position.
+     *
+     * @param cursor Cursor token produced by {@link #encodeCursor(LocalDate, Long)}.
+     * @return Decoded position.
+     * @throws IllegalArgumentException if the token is malformed.
+     */
+    public static Cursor decodeCursor(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = raw.indexOf('|');
+            if (separator < 0) {
+                throw new IllegalArgumentException("Malformed cursor: " + cursor);
+            }
+            return new Cursor(LocalDate.parse(raw.substring(0, separator)), Long.parseLong(raw.substring(separator + 1)));
+        } catch (DateTimeParseException | NumberFormatException e) {
+            throw new IllegalArgumentException("Malformed cursor: " + cursor, e);
+        }
+    }
+
+    /**
+     * Keyset position inside the task feed.
+     */
+    @Data
+    @AllArgsConstructor
+    public static class Cursor {
+        private LocalDate eventDate;
+        private Long id;
+    }
+}
@@ -0,0 +1,20 @@
+package com.example.volunteer_platform.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * TaskImportResultDto summarizes a bulk task import with one entry per uploaded row.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskImportResultDto {
+    private int total;
+    private int created;
+    private int rejected;
+    private List<TaskImportRowDto> rows;
+}
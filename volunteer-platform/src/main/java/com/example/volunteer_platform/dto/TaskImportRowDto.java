@@ -0,0 +1,19 @@
+package com.example.volunteer_platform.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * TaskImportRowDto reports the outcome of one row of a bulk task import.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskImportRowDto {
+    private int row;             // 1-based position in the upload, not counting a CSV header
+    private Long taskId;         // ID of the created task, null if the row was rejected
+    private List<String> errors; // Why the row was rejected, empty if it was created
+}
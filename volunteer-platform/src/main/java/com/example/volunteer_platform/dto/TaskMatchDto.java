@@ -0,0 +1,17 @@
+package com.example.volunteer_platform.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * A task recommended to a volunteer, with how well its required skills match the volunteer's.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskMatchDto {
+    private TaskSummaryDto task;
+    private double score; // Jaccard similarity of the two skill sets, between 0 and 1
+    private int sharedSkills;
+}
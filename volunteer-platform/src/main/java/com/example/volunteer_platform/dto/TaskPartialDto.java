@@ -1,6 +1,7 @@
 package com.example.volunteer_platform.dto;
 
 import jakarta.validation.constraints.Future;
+import jakarta.validation.constraints.Positive;
 import jakarta.validation.constraints.Size;
 import lombok.Data;
 
@@ -27,4 +28,7 @@ public class TaskPartialDto {
 
     @Future(message = "Application deadline must be a future date")
     private  LocalDate applicationDeadline;
+
+    @Positive(message = "Capacity must be positive")
+    private Integer capacity; // Maximum number of volunteers, or null for no limit
 }
\ No newline at end of file
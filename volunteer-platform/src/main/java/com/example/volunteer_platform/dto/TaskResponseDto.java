@@ -0,0 +1,68 @@
+package com.example.volunteer_platform.dto;
+
+import com.example.volunteer_platform.enums.TaskStatus;
+import com.example.volunteer_platform.model.Skill;
+import com.example.volunteer_platform.model.Task;
+import com.fasterxml.jackson.annotation.JsonFilter;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * REST view of a Task. Skills are reduced to their names; signups and the organization are not included.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonFilter(ResponseFields.FILTER)
+public class TaskResponseDto {
+    private Long id;
+    private String title;
+    private String description;
+    private String location;
+    private LocalDate eventDate; // When the event will be hosted
+    private LocalDate applicationDeadline; // Deadline for task applications
+    private LocalDate cancellationDeadline; // Deadline for signup cancellations
+    private TaskStatus status;
+    private Integer capacity; // Maximum number of volunteers, or null for no limit
+    private int signupCount;
+    private Long organizationId;
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+    private List<String> skills; // Names of the required skills
+
+    /**
+     * Constructor used by JPQL projections; skills are filled in by a separate batch query.
+     */
+    public TaskResponseDto(Long id, String title, String description, String location, LocalDate eventDate,
+                           LocalDate applicationDeadline, LocalDate cancellationDeadline, TaskStatus status,
+                           Integer capacity, int signupCount, Long organizationId,
+                           LocalDateTime createdAt, LocalDateTime updatedAt) {
+        this(id, title, description, location, eventDate, applicationDeadline, cancellationDeadline, status,
+                capacity, signupCount, organizationId, createdAt, updatedAt, null);
+    }
+
+    /**
+     * Build the view of a loaded task.
+     *
+     * @param task Task; its skills are read if initialized or loadable.
+     * @return Task view.
+     */
+    public static TaskResponseDto from(Task task) {
+        List<String> skillNames = new ArrayList<>();
+        if (task.getSkills() != null) {
+            for (Skill skill : task.getSkills()) {
+                skillNames.add(skill.getName());
+            }
+        }
+        return new TaskResponseDto(task.getId(), task.getTitle(), task.getDescription(), task.getLocation(),
+                task.getEventDate(), task.getApplicationDeadline(), task.getCancellationDeadline(), task.getStatus(),
+                task.getCapacity(), task.getSignupCount(), task.getOrganizationId(),
+                task.getCreatedAt(), task.getUpdatedAt(), skillNames);
+    }
+}
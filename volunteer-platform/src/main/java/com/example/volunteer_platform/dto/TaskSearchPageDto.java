@@ -0,0 +1,20 @@
+package com.example.volunteer_platform.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * One page of task search results, best match first.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskSearchPageDto {
+    private List<TaskSummaryDto> items;
+    private long totalMatches; // Number of matching tasks across all pages
+    private int page; // Zero-based page number
+    private int size;
+}
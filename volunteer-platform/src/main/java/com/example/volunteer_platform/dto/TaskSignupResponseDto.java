@@ -0,0 +1,40 @@
+package com.example.volunteer_platform.dto;
+
+import com.example.volunteer_platform.model.TaskSignup;
+import com.fasterxml.jackson.annotation.JsonFilter;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * REST view of a TaskSignup, flattened to the task and volunteer fields a client needs to display it.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonFilter(ResponseFields.FILTER)
+public class TaskSignupResponseDto {
+    private Long signupId;
+    private LocalDateTime signupDate;
+    private boolean reminderSent;
+    private Long taskId;
+    private String taskTitle;
+    private LocalDate eventDate; // Event date of the task
+    private Long volunteerId;
+    private String volunteerName;
+
+    /**
+     * Build the view of a loaded signup.
+     *
+     * @param signup Signup with its task and volunteer.
+     * @return Signup view.
+     */
+    public static TaskSignupResponseDto from(TaskSignup signup) {
+        return new TaskSignupResponseDto(signup.getSignupId(), signup.getSignupDate(), signup.isReminderSent(),
+                signup.getTask().getId(), signup.getTask().getTitle(), signup.getTask().getEventDate(),
+                signup.getVolunteer().getId(), signup.getVolunteer().getName());
+    }
+}
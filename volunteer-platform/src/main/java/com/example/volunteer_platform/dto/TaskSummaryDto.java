@@ -0,0 +1,24 @@
+package com.example.volunteer_platform.dto;
+
+import com.example.volunteer_platform.enums.TaskStatus;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+/**
+ * Lean read-only view of a Task, projected directly from the database for list endpoints.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskSummaryDto {
+    private Long id;
+    private String title;
+    private String location;
+    private LocalDate eventDate; // When the event will be hosted
+    private LocalDate applicationDeadline; // Deadline for task applications
+    private TaskStatus status;
+    private Long organizationId;
+}
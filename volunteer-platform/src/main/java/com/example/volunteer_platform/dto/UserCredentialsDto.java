@@ -0,0 +1,19 @@
+package com.example.volunteer_platform.dto;
+
+import com.example.volunteer_platform.enums.UserType;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * What a login needs to know about a user: who it is, the password hash to check and the role to grant.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class UserCredentialsDto {
+    private Long id;
+    private String email;
+    private String password; // BCrypt hash
+    private UserType userType;
+}
@@ -1,5 +1,6 @@
 package com.example.volunteer_platform.dto;
 
+import com.fasterxml.jackson.annotation.JsonProperty;
 import jakarta.validation.constraints.Email;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.Pattern;
@@ -26,6 +27,7 @@ public class UserDto {
 
     @NotBlank(message = "Password is required")
     @Size(min = 8, message = "Password must have at least 8 characters")
+    @JsonProperty(access = JsonProperty.Access.WRITE_ONLY) // Accepted on registration, never echoed back
     private String password;
 
     @NotBlank(message = "Phone number is required")
@@ -0,0 +1,28 @@
+package com.example.volunteer_platform.dto;
+
+import com.example.volunteer_platform.enums.Gender;
+import com.example.volunteer_platform.enums.UserType;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Profile of the logged-in user for the views. Looked up by ID and cached instead of being copied into the session.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class UserProfileDto {
+    private Long id;
+    private UserType userType;
+    private String name;
+    private String email;
+    private String phoneNumber;
+    private String address; // Organizations only
+    private String website; // Organizations only
+    private Gender gender; // Volunteers only
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+}
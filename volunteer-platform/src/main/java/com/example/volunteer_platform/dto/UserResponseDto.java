@@ -0,0 +1,39 @@
+package com.example.volunteer_platform.dto;
+
+import com.example.volunteer_platform.enums.UserType;
+import com.example.volunteer_platform.model.Organization;
+import com.example.volunteer_platform.model.User;
+import com.fasterxml.jackson.annotation.JsonFilter;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * REST view of a User of either kind. Passwords are never part of a response.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonFilter(ResponseFields.FILTER)
+public class UserResponseDto {
+    private Long id;
+    private String name;
+    private String email;
+    private String phoneNumber;
+    private UserType userType;
+    private LocalDateTime createdAt;
+
+    /**
+     * Build the view of a loaded user.
+     *
+     * @param user User.
+     * @return User view.
+     */
+    public static UserResponseDto from(User user) {
+        UserType userType = user instanceof Organization ? UserType.ORGANIZATION : UserType.VOLUNTEER;
+        return new UserResponseDto(user.getId(), user.getName(), user.getEmail(), user.getPhoneNumber(),
+                userType, user.getCreatedAt());
+    }
+}
@@ -0,0 +1,18 @@
+package com.example.volunteer_platform.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * A volunteer suggested for a task, with how well their skills match the task's required skills.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class VolunteerMatchDto {
+    private Long volunteerId;
+    private String name;
+    private double score; // Jaccard similarity of the two skill sets, between 0 and 1
+    private int sharedSkills;
+}
@@ -0,0 +1,54 @@
+package com.example.volunteer_platform.dto;
+
+import com.example.volunteer_platform.enums.Gender;
+import com.example.volunteer_platform.model.Skill;
+import com.example.volunteer_platform.model.Volunteer;
+import com.fasterxml.jackson.annotation.JsonFilter;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * REST view of a Volunteer without its password. Skills are reduced to their names.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonFilter(ResponseFields.FILTER)
+public class VolunteerResponseDto {
+    private Long id;
+    private String name;
+    private String email;
+    private String phoneNumber;
+    private Gender gender;
+    private LocalDateTime createdAt;
+    private List<String> skills; // Names of the volunteer's skills
+
+    /**
+     * Constructor used by JPQL projections; skills are filled in by a separate batch query.
+     */
+    public VolunteerResponseDto(Long id, String name, String email, String phoneNumber, Gender gender, LocalDateTime createdAt) {
+        this(id, name, email, phoneNumber, gender, createdAt, null);
+    }
+
+    /**
+     * Build the view of a loaded volunteer.
+     *
+     * @param volunteer Volunteer with its skills.
+     * @return Volunteer view.
+     */
+    public static VolunteerResponseDto from(Volunteer volunteer) {
+        List<String> skillNames = new ArrayList<>();
+        if (volunteer.getSkills() != null) {
+            for (Skill skill : volunteer.getSkills()) {
+                skillNames.add(skill.getName());
+            }
+        }
+        return new VolunteerResponseDto(volunteer.getId(), volunteer.getName(), volunteer.getEmail(),
+                volunteer.getPhoneNumber(), volunteer.getGender(), volunteer.getCreatedAt(), skillNames);
+    }
+}
@@ -0,0 +1,28 @@
+package com.example.volunteer_platform.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * DTO for a volunteer's place on a task's waitlist.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class WaitlistEntryDto {
+
+    private int position; // 1 for the next volunteer to be promoted
+
+    private Long volunteerId;
+
+    private String volunteerName;
+
+    private LocalDateTime joinedAt;
+
+    public WaitlistEntryDto(Long volunteerId, String volunteerName, LocalDateTime joinedAt) {
+        this(0, volunteerId, volunteerName, joinedAt);
+    }
+}
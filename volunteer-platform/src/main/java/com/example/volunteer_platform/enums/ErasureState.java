@@ -0,0 +1,11 @@
+package com.example.volunteer_platform.enums;
+
+/**
+ * ErasureState enum represents the progress of a background erasure job.
+ */
+public enum ErasureState {
+    QUEUED,     // Waiting for earlier erasures to finish
+    RUNNING,
+    COMPLETED,
+    FAILED      // Stopped after an error; chunks already deleted stay deleted and the job can be started again
+}
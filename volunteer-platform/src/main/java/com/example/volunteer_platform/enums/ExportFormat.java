@@ -0,0 +1,9 @@
+package com.example.volunteer_platform.enums;
+
+/**
+ * ExportFormat enum represents the file formats supported by the reporting exports.
+ */
+public enum ExportFormat {
+    NDJSON, // One JSON object per line
+    CSV     // Comma-separated values with a header line
+}
@@ -0,0 +1,13 @@
+package com.example.volunteer_platform.enums;
+
+/**
+ * SignupOutcome enum represents the result of a volunteer's attempt to sign up for a task.
+ */
+public enum SignupOutcome {
+    CREATED,                // The volunteer was signed up
+    ALREADY_SIGNED_UP,      // The volunteer already had a signup for the task
+    TASK_NOT_FOUND,
+    VOLUNTEER_NOT_FOUND,
+    NOT_AVAILABLE,          // The task is not open for applications
+    WAITLISTED              // The task is full; the volunteer is on its waitlist
+}
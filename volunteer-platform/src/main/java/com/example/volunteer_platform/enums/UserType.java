@@ -0,0 +1,9 @@
+package com.example.volunteer_platform.enums;
+
+/**
+ * UserType enum represents the kinds of users that can be rated and ranked.
+ */
+public enum UserType {
+    VOLUNTEER,    // Represents a volunteer user
+    ORGANIZATION  // Represents an organization user
+}
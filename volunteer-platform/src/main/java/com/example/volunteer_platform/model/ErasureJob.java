@@ -0,0 +1,57 @@
+package com.example.volunteer_platform.model;
+
+import com.example.volunteer_platform.enums.ErasureState;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+/**
+ * ErasureJob class records the progress of a user erasure running in the background, so any node can report it.
+ * The node running the job refreshes updatedAt while the job is queued or running; rows are purged after
+ * erasure.jobs.ttl.
+ */
+@Entity
+@Table(name = "erasure_jobs", indexes = {
+        @Index(name = "idx_erasure_jobs_node_state", columnList = "node_id, state"), // Heartbeats of a node's jobs
+        @Index(name = "idx_erasure_jobs_updated_at", columnList = "updated_at") // Purging
+})
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class ErasureJob {
+
+    @Id
+    @Column(length = 36)
+    private String jobId; // Random UUID
+
+    @Column(nullable = false)
+    private Long userId; // ID of the user being erased
+
+    @Column(nullable = false, length = 100)
+    private String nodeId; // Node running the job
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private ErasureState state;
+
+    @Column(nullable = false)
+    private long totalTasks; // Tasks of the user when the job was started
+
+    @Column(nullable = false)
+    private long tasksDeleted;
+
+    private LocalDateTime startedAt;
+
+    private LocalDateTime finishedAt;
+
+    @Column(nullable = false)
+    private LocalDateTime updatedAt; // Last change or heartbeat, by the clock of the node running the job
+
+    @Column(length = 1000)
+    private String error; // Reason of a failure
+}
@@ -0,0 +1,41 @@
+package com.example.volunteer_platform.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+/**
+ * IndexChange class records that a task or a volunteer changed in a way the in-memory search and skill match
+ * indexes reflect. Every other node polls recent rows and reloads the entity into its own indexes; rows are
+ * purged after a few minutes.
+ */
+@Entity
+@Table(name = "index_changes", indexes = {
+        @Index(name = "idx_index_changes_created_at", columnList = "created_at") // Polling and purging
+})
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class IndexChange {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false, length = 20)
+    private String entityType; // TASK or VOLUNTEER
+
+    @Column(nullable = false)
+    private Long entityId; // ID of the changed, created or deleted task or volunteer
+
+    @Column(nullable = false, length = 100)
+    private String nodeId; // Node that made the change and already updated its own indexes
+
+    @Column(nullable = false)
+    private LocalDateTime createdAt; // When the change was made, by the clock of the node that made it
+}
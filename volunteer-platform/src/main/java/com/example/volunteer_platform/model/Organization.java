@@ -9,6 +9,7 @@ import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.EqualsAndHashCode;
 import lombok.NoArgsConstructor;
+import lombok.ToString;
 
 /**
  * Organization class represents an organization user in the system, extending the User class.
@@ -21,12 +22,19 @@ import lombok.NoArgsConstructor;
 @EqualsAndHashCode(callSuper = true)
 public class Organization extends User {
 
-    @Column(nullable = false)
+    @NotBlank
+    @Column // Nullable in the shared user table; volunteers have no address
     private String address; // Address of the organization
 
-    @Column(nullable = false)
+    @NotBlank
+    @Column // Nullable in the shared user table; volunteers have no website
     private String website; // Website of the organization
 
-    @OneToMany(cascade = CascadeType.ALL, orphanRemoval = true, fetch = FetchType.LAZY)
+    // Read-only view of Task.organizationId, which alone owns the relationship; query TaskRepository instead of loading it
+    @OneToMany(fetch = FetchType.LAZY)
+    @JoinColumn(name = "organization_id", insertable = false, updatable = false,
+            foreignKey = @ForeignKey(name = "fk_tasks_organization"))
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
     private List<Task> tasks; // List of tasks created by the organization
 }
\ No newline at end of file
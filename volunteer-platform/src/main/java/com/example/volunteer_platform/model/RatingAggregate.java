@@ -0,0 +1,76 @@
+package com.example.volunteer_platform.model;
+
+import com.example.volunteer_platform.enums.UserType;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * RatingAggregate class holds the running rating totals of one rated user.
+ * It is updated together with every rating change, so leaderboards and summaries never scan the ratings table.
+ */
+@Entity
+@Table(name = "rating_aggregates", indexes = {
+        @Index(name = "idx_rating_aggregates_leaderboard", columnList = "user_type, score, user_id") // Leaderboard order
+})
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class RatingAggregate {
+
+    public static final double PRIOR_MEAN = 3.0; // Score assumed for a user with no ratings
+    public static final int PRIOR_WEIGHT = 5;    // Number of ratings needed before a user's own average dominates
+
+    @Id
+    @Column(name = "user_id")
+    private Long userId; // ID of the rated user
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "user_type", nullable = false)
+    private UserType userType; // Leaderboard the user belongs to
+
+    @Column(nullable = false)
+    private long ratingCount; // Number of ratings received
+
+    @Column(nullable = false)
+    private long ratingSum; // Sum of all rating scores received
+
+    @Column(nullable = false)
+    private double score; // Bayesian-smoothed average used for ranking
+
+    /**
+     * Add or remove ratings from the totals and recompute the ranking score.
+     *
+     * @param countDelta Change in the number of ratings.
+     * @param sumDelta Change in the sum of rating scores.
+     */
+    public void apply(long countDelta, long sumDelta) {
+        ratingCount += countDelta;
+        ratingSum += sumDelta;
+        score = bayesianScore(ratingCount, ratingSum);
+    }
+
+    /**
+     * Get the plain average rating.
+     *
+     * @return Average rating, or 0 if there are no ratings.
+     */
+    public double getAverage() {
+        return ratingCount == 0 ? 0 : (double) ratingSum / ratingCount;
+    }
+
+    /**
+     * Average pulled towards a fixed prior, so a single 5-star rating does not outrank a long record of 4.8s.
+     * The prior is fixed rather than the global mean so stored scores never go stale.
+     *
+     * @param ratingCount Number of ratings.
+     * @param ratingSum Sum of rating scores.
+     * @return Smoothed score.
+     */
+    public static double bayesianScore(long ratingCount, long ratingSum) {
+        return (PRIOR_WEIGHT * PRIOR_MEAN + ratingSum) / (PRIOR_WEIGHT + ratingCount);
+    }
+}
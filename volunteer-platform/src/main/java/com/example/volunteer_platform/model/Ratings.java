@@ -19,7 +19,8 @@ import java.time.LocalDateTime;
 public class Ratings {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "ratings_seq")
+    @SequenceGenerator(name = "ratings_seq", sequenceName = "ratings_seq", allocationSize = 50)
     private long ratingId;
 
     @Column(nullable = false)
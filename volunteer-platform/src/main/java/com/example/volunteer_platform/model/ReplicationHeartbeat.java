@@ -0,0 +1,28 @@
+package com.example.volunteer_platform.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+/**
+ * ReplicationHeartbeat class is the single row the replica lag monitor writes to the primary.
+ * Replicas receive it through replication like any other row, so the age of their copy bounds how far they are behind.
+ */
+@Entity
+@Table(name = "replication_heartbeat")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class ReplicationHeartbeat {
+
+    @Id
+    private Integer id; // Always 1
+
+    @Column(nullable = false)
+    private LocalDateTime beatAt; // Time of the latest heartbeat written by any node
+}
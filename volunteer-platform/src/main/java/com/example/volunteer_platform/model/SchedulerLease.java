@@ -0,0 +1,36 @@
+package com.example.volunteer_platform.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+/**
+ * SchedulerLease class is the cluster-wide lock of one scheduled job or job shard.
+ * A node may run the job only while it holds the lease; rows are taken over with a conditional update
+ * once they expire, so a crashed node never blocks a job for longer than the lease time.
+ */
+@Entity
+@Table(name = "scheduler_leases")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class SchedulerLease {
+
+    @Id
+    @Column(length = 100)
+    private String name; // Job or shard, e.g. "task-status" or "reminders-3"
+
+    @Column(nullable = false)
+    private String owner; // Node that holds, or last held, the lease
+
+    @Column(nullable = false)
+    private LocalDateTime lockedAt; // When the owner acquired the lease
+
+    @Column(nullable = false)
+    private LocalDateTime lockedUntil; // Other nodes may acquire the lease from this time on
+}
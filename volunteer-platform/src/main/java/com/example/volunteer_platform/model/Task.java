@@ -10,21 +10,31 @@ import jakarta.persistence.*;
 import jakarta.validation.constraints.Future;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
 import jakarta.validation.constraints.Size;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 import lombok.AllArgsConstructor;
+import org.hibernate.annotations.BatchSize;
 
 /**
  * Task class represents a task that volunteers can sign up for.
  */
 @Entity
-@Table(name = "tasks")
+@Table(name = "tasks", indexes = {
+		@Index(name = "idx_tasks_event_date_id", columnList = "event_date, id"), // Keyset order of the task feed
+		@Index(name = "idx_tasks_status_application_deadline", columnList = "status, application_deadline"), // Nightly status transitions
+		@Index(name = "idx_tasks_status_event_date", columnList = "status, event_date"),
+		@Index(name = "idx_tasks_organization_status_event_date", columnList = "organization_id, status, event_date") // Organization listings and counts
+})
+@NamedEntityGraph(name = Task.WITH_SKILLS, attributeNodes = @NamedAttributeNode("skills")) // Task detail pages
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
 public class Task {
 
+	public static final String WITH_SKILLS = "Task.withSkills";
+
 	@Id
 	@GeneratedValue(strategy = GenerationType.IDENTITY)
 	private Long id;
@@ -55,12 +65,21 @@ public class Task {
 	private LocalDateTime updatedAt;
 
 	@Enumerated(EnumType.STRING) // Store the enum as a string in the database
-	@Column(nullable = false)
-	private TaskStatus status; // Use the TaskStatus enum
+	@Column(nullable = false, updatable = false)
+	private TaskStatus status; // Use the TaskStatus enum. Changed only through the targeted updates in TaskRepository
+
+	@Positive
+	@Column(updatable = false)
+	private Integer capacity; // Maximum number of volunteers, or null for no limit. Changed only through TaskRepository.changeCapacity
+
+	@Column(nullable = false, updatable = false)
+	private int signupCount; // Number of signups. Changed only through the atomic updates in TaskRepository
 
- 	private Long organizationId;
+ 	@Column(name = "organization_id")
+ 	private Long organizationId; // Owning organization; a foreign key to the user table
 
 	@ManyToMany
+	@BatchSize(size = 100) // Lists touching skills, e.g. the search index rebuild, load them for up to 100 tasks per statement
 	@JoinTable(
 			name = "task_skills", // Join table name
 			joinColumns = @JoinColumn(name = "task_id"), // Foreign key for Task
@@ -4,7 +4,9 @@ import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
+import lombok.EqualsAndHashCode;
 import lombok.NoArgsConstructor;
+import lombok.ToString;
 
 import java.time.LocalDateTime;
 
@@ -12,23 +14,40 @@ import java.time.LocalDateTime;
  * TaskSignup class represents the signup of a volunteer for a specific task.
  */
 @Entity
-@Table(name = "task_signup")
+@NamedEntityGraph(name = TaskSignup.WITH_TASK, attributeNodes = @NamedAttributeNode("task")) // A volunteer's history
+@NamedEntityGraph(name = TaskSignup.WITH_VOLUNTEER_SKILLS, // A task's applicants with their skills
+        attributeNodes = @NamedAttributeNode(value = "volunteer", subgraph = "volunteer"),
+        subgraphs = @NamedSubgraph(name = "volunteer", attributeNodes = @NamedAttributeNode("skills")))
+@NamedEntityGraph(name = TaskSignup.WITH_TASK_AND_VOLUNTEER, // Reminder status, without the volunteer's skills
+        attributeNodes = {@NamedAttributeNode("task"), @NamedAttributeNode("volunteer")})
+@Table(name = "task_signup", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_task_signup_task_user", columnNames = {"task_id", "user_id"}) // One signup per volunteer and task
+})
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
 public class TaskSignup {
 
+    public static final String WITH_TASK = "TaskSignup.withTask";
+    public static final String WITH_VOLUNTEER_SKILLS = "TaskSignup.withVolunteerSkills";
+    public static final String WITH_TASK_AND_VOLUNTEER = "TaskSignup.withTaskAndVolunteer";
+
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "task_signup_seq")
+    @SequenceGenerator(name = "task_signup_seq", sequenceName = "task_signup_seq", allocationSize = 50) // Pooled, so inserts can be batched
     private Long signupId;
 
-    @ManyToOne(optional = false)
+    @ManyToOne(fetch = FetchType.LAZY, optional = false) // Loaded through the entity graphs above where needed
     @JoinColumn(name = "task_id", nullable = false)
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
     private Task task; // The task the volunteer signed up for
 
-    @ManyToOne(optional = false)
+    @ManyToOne(fetch = FetchType.LAZY, optional = false)
     @JoinColumn(name = "user_id", nullable = false)
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
     private Volunteer volunteer; // The volunteer who signed up
 
     @Column(name = "signup_date", nullable = false, updatable = false)
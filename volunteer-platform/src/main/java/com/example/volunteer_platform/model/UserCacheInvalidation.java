@@ -0,0 +1,36 @@
+package com.example.volunteer_platform.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+/**
+ * UserCacheInvalidation class records that a user's cached login principal and profile went stale.
+ * Every node polls recent rows and evicts the user from its own caches; rows are purged after a few minutes.
+ */
+@Entity
+@Table(name = "user_cache_invalidations", indexes = {
+        @Index(name = "idx_user_cache_invalidations_created_at", columnList = "created_at") // Polling and purging
+})
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class UserCacheInvalidation {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false)
+    private Long userId; // User whose profile is evicted
+
+    private String email; // Login principal to evict; current or previous email of the user
+
+    @Column(nullable = false)
+    private LocalDateTime createdAt; // When the change was made, by the clock of the node that made it
+}
@@ -8,23 +8,31 @@ import jakarta.validation.constraints.NotNull;
 import lombok.Data;
 import lombok.EqualsAndHashCode;
 import lombok.NoArgsConstructor;
+import lombok.ToString;
+import org.hibernate.annotations.BatchSize;
 
 /**
  * Volunteer class represents a volunteer user in the system, extending the User class.
  */
 @Entity
 @DiscriminatorValue("VOLUNTEER")
+@NamedEntityGraph(name = Volunteer.WITH_SKILLS, attributeNodes = @NamedAttributeNode("skills")) // Profile and skill pages
 @Data
 @NoArgsConstructor
 @EqualsAndHashCode(callSuper = true)
 public class Volunteer extends User {
 
+    public static final String WITH_SKILLS = "Volunteer.withSkills";
+
     @NotNull
     @Enumerated(EnumType.STRING) // Persist the enum as a string in the database
-    @Column(nullable = false)
+    @Column // Nullable in the shared user table; organizations have no gender
     private Gender gender; // Gender of the volunteer
 
-    @ManyToMany(fetch = FetchType.EAGER)
+    @ManyToMany
+    @BatchSize(size = 100) // Lists touching skills load them for up to 100 volunteers per statement
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
     @JoinTable(
             name = "volunteer_skills", // Join table name
             joinColumns = @JoinColumn(name = "volunteer_id"), // Column in the join table referencing Volunteer
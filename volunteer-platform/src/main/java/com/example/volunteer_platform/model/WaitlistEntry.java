@@ -0,0 +1,46 @@
+package com.example.volunteer_platform.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * WaitlistEntry class represents a volunteer waiting for a slot on a full task.
+ * Entries of a task are served in ID order, so the lowest ID is the head of the queue.
+ */
+@Entity
+@Table(name = "task_waitlist", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_task_waitlist_task_user", columnNames = {"task_id", "user_id"}) // One place per volunteer and task
+}, indexes = {
+        @Index(name = "idx_task_waitlist_task_id", columnList = "task_id, id") // Head of a task's queue
+})
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class WaitlistEntry {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY) // One counter for all nodes keeps IDs in joining order; pooled blocks would not
+    private Long id;
+
+    @ManyToOne(optional = false)
+    @JoinColumn(name = "task_id", nullable = false)
+    private Task task; // The full task
+
+    @ManyToOne(optional = false)
+    @JoinColumn(name = "user_id", nullable = false)
+    private Volunteer volunteer; // The waiting volunteer
+
+    @Column(nullable = false, updatable = false)
+    private LocalDateTime joinedAt; // Date and time the volunteer joined the waitlist
+
+    @PrePersist
+    public void prePersist() {
+        this.joinedAt = LocalDateTime.now();
+    }
+}
@@ -0,0 +1,19 @@
+package com.example.volunteer_platform.monitoring;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * Hibernate hook that sees every SQL statement before it is prepared and counts it against the current request.
+ * Statements issued through JdbcTemplate bypass Hibernate and are not counted.
+ */
+public class QueryCountingStatementInspector implements StatementInspector {
+
+    @Override
+    public String inspect(String sql) {
+        QueryStats stats = QueryStats.current();
+        if (stats != null) {
+            stats.recordStatement(sql);
+        }
+        return sql;
+    }
+}
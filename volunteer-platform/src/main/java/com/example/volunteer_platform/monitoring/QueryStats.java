@@ -0,0 +1,88 @@
+package com.example.volunteer_platform.monitoring;
+
+import lombok.Getter;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Statements, rows and repository time of the current HTTP request. One instance is bound to the
+ * request thread by QueryStatsFilter; work on other threads (schedulers, reminder pool) is not counted.
+ */
+@Getter
+public class QueryStats {
+
+    private static final ThreadLocal<QueryStats> CURRENT = new ThreadLocal<>();
+
+    private int statements; // SQL statements prepared through Hibernate
+    private long rows; // Entities or projections returned by repository methods
+    private long repositoryNanos; // Time spent inside outermost repository calls
+    private final Map<String, MethodStats> methods = new LinkedHashMap<>(); // "TaskRepository.findById" -> totals
+    private final Map<String, Integer> statementShapes = new HashMap<>(); // SQL text -> executions; parameters are bound, so equal text means equal shape
+
+    /**
+     * Bind a fresh instance to the current thread.
+     *
+     * @return The bound instance.
+     */
+    static QueryStats begin() {
+        QueryStats stats = new QueryStats();
+        CURRENT.set(stats);
+        return stats;
+    }
+
+    /**
+     * Unbind the instance of the current thread.
+     */
+    static void end() {
+        CURRENT.remove();
+    }
+
+    /**
+     * Get the instance bound to the current thread.
+     *
+     * @return Stats of the current request, or null outside a request.
+     */
+    public static QueryStats current() {
+        return CURRENT.get();
+    }
+
+    void recordStatement(String sql) {
+        statements++;
+        statementShapes.merge(sql, 1, Integer::sum);
+    }
+
+    void recordRepositoryCall(String method, int statementCount, long rowCount, long nanos) {
+        rows += rowCount;
+        repositoryNanos += nanos;
+        methods.computeIfAbsent(method, name -> new MethodStats()).add(statementCount, rowCount, nanos);
+    }
+
+    /**
+     * Summary suitable for a response header or a log line.
+     *
+     * @return e.g. "statements=4; rows=20; repository-ms=3".
+     */
+    public String summary() {
+        return "statements=" + statements + "; rows=" + rows + "; repository-ms=" + repositoryNanos / 1_000_000;
+    }
+
+    /**
+     * Totals of one repository method within a request.
+     */
+    @Getter
+    public static class MethodStats {
+        private int calls;
+        private int statements;
+        private long rows;
+        private long nanos;
+
+        private void add(int statementCount, long rowCount, long elapsedNanos) {
+            calls++;
+            statements += statementCount;
+            rows += rowCount;
+            nanos += elapsedNanos;
+        }
+    }
+}
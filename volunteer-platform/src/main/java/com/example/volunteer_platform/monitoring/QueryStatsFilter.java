@@ -0,0 +1,149 @@
+package com.example.volunteer_platform.monitoring;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.util.Map;
+
+/**
+ * Binds QueryStats to each request, publishes its totals as metrics and warns about statements that
+ * a single request repeats suspiciously often, which usually means an N+1 query pattern.
+ * With query-stats.response-header=true (for development) the totals are also sent in the X-Query-Stats
+ * header; the header is written when the response starts, so statements issued while rendering a view are not in it.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 10) // Outside the security filters, so authentication lookups are counted too
+public class QueryStatsFilter extends OncePerRequestFilter {
+
+    public static final String HEADER = "X-Query-Stats";
+
+    private static final Logger logger = LoggerFactory.getLogger(QueryStatsFilter.class);
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Value("${query-stats.response-header:false}")
+    private boolean responseHeader;
+
+    @Value("${query-stats.repeated-statement-threshold:10}")
+    private int repeatedStatementThreshold; // Executions of one statement within a request before it is reported
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        QueryStats stats = QueryStats.begin();
+        try {
+            HttpServletResponse target = responseHeader ? new HeaderWritingResponse(response, stats) : response;
+            filterChain.doFilter(request, target);
+            if (responseHeader && !response.isCommitted()) {
+                response.setHeader(HEADER, stats.summary()); // Nothing was written, e.g. HTTP 204
+            }
+        } finally {
+            QueryStats.end();
+            publish(request, stats);
+        }
+    }
+
+    private void publish(HttpServletRequest request, QueryStats stats) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        String uri = pattern != null ? pattern.toString() : "UNKNOWN"; // Raw paths would explode tag cardinality
+        String method = request.getMethod();
+
+        DistributionSummary.builder("request.statements")
+                .description("SQL statements per HTTP request")
+                .tags("method", method, "uri", uri)
+                .register(meterRegistry).record(stats.getStatements());
+        DistributionSummary.builder("request.rows")
+                .description("Rows returned by repositories per HTTP request")
+                .tags("method", method, "uri", uri)
+                .register(meterRegistry).record(stats.getRows());
+
+        for (Map.Entry<String, Integer> shape : stats.getStatementShapes().entrySet()) {
+            if (shape.getValue() > repeatedStatementThreshold) {
+                Counter.builder("request.repeated.statements")
+                        .description("Requests that ran one statement more often than the threshold")
+                        .tags("method", method, "uri", uri)
+                        .register(meterRegistry).increment();
+                logger.warn("Possible N+1: {} {} ran the same statement {} times: {}",
+                        method, uri, shape.getValue(), shape.getKey());
+            }
+        }
+        if (logger.isDebugEnabled()) {
+            logger.debug("{} {}: {} {}", method, uri, stats.summary(), stats.getMethods().keySet());
+        }
+    }
+
+    /**
+     * Adds the stats header just before the response is committed.
+     */
+    private static class HeaderWritingResponse extends HttpServletResponseWrapper {
+        private final QueryStats stats;
+        private boolean headerWritten;
+
+        HeaderWritingResponse(HttpServletResponse response, QueryStats stats) {
+            super(response);
+            this.stats = stats;
+        }
+
+        private void writeHeader() {
+            if (!headerWritten && !isCommitted()) {
+                setHeader(HEADER, stats.summary());
+            }
+            headerWritten = true;
+        }
+
+        @Override
+        public ServletOutputStream getOutputStream() throws IOException {
+            writeHeader();
+            return super.getOutputStream();
+        }
+
+        @Override
+        public PrintWriter getWriter() throws IOException {
+            writeHeader();
+            return super.getWriter();
+        }
+
+        @Override
+        public void flushBuffer() throws IOException {
+            writeHeader();
+            super.flushBuffer();
+        }
+
+        @Override
+        public void sendError(int sc, String msg) throws IOException {
+            writeHeader();
+            super.sendError(sc, msg);
+        }
+
+        @Override
+        public void sendError(int sc) throws IOException {
+            writeHeader();
+            super.sendError(sc);
+        }
+
+        @Override
+        public void sendRedirect(String location) throws IOException {
+            writeHeader();
+            super.sendRedirect(location);
+        }
+    }
+}
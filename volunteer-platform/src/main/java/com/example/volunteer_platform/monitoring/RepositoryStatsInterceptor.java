@@ -0,0 +1,95 @@
+package com.example.volunteer_platform.monitoring;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.data.domain.Slice;
+
+import java.util.Collection;
+import java.util.Optional;
+import java.util.stream.BaseStream;
+
+/**
+ * Advice added to a repository proxy. Within a request it attributes statements, returned rows and time
+ * to the outermost repository method being called, and records per-method statement and row metrics.
+ * Call time is also published by Spring Boot as the spring.data.repository.invocations timer.
+ */
+public class RepositoryStatsInterceptor implements MethodInterceptor {
+
+    private static final ThreadLocal<int[]> DEPTH = ThreadLocal.withInitial(() -> new int[1]); // Nested repository calls count once
+
+    private final String repositoryName;
+    private final ObjectProvider<MeterRegistry> meterRegistry;
+
+    public RepositoryStatsInterceptor(String repositoryName, ObjectProvider<MeterRegistry> meterRegistry) {
+        this.repositoryName = repositoryName;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public Object invoke(MethodInvocation invocation) throws Throwable {
+        QueryStats stats = QueryStats.current();
+        int[] depth = DEPTH.get();
+        if (stats == null || depth[0] > 0) {
+            return invocation.proceed();
+        }
+
+        int statementsBefore = stats.getStatements();
+        long start = System.nanoTime();
+        depth[0]++;
+        Object result = null;
+        try {
+            result = invocation.proceed();
+            return result;
+        } finally {
+            depth[0]--;
+            long nanos = System.nanoTime() - start;
+            int statements = stats.getStatements() - statementsBefore;
+            long rows = rowCount(result);
+            String method = invocation.getMethod().getName();
+            stats.recordRepositoryCall(repositoryName + "." + method, statements, rows, nanos);
+            record(method, statements, rows);
+        }
+    }
+
+    private void record(String method, int statements, long rows) {
+        MeterRegistry registry = meterRegistry.getIfAvailable();
+        if (registry == null) {
+            return;
+        }
+        DistributionSummary.builder("repository.statements")
+                .description("SQL statements per repository call")
+                .tags("repository", repositoryName, "method", method)
+                .register(registry).record(statements);
+        DistributionSummary.builder("repository.rows")
+                .description("Entities or projections returned per repository call")
+                .tags("repository", repositoryName, "method", method)
+                .register(registry).record(rows);
+    }
+
+    /**
+     * Count the entities or projections in a repository result. Scalars such as counts, flags and
+     * update counts, and streams that are consumed later, count as zero.
+     *
+     * @param result Repository method result.
+     * @return Number of returned rows.
+     */
+    static long rowCount(Object result) {
+        if (result == null || result instanceof Number || result instanceof Boolean
+                || result instanceof Enum<?> || result instanceof BaseStream<?, ?>) {
+            return 0;
+        }
+        if (result instanceof Collection<?> collection) {
+            return collection.size();
+        }
+        if (result instanceof Slice<?> slice) {
+            return slice.getNumberOfElements();
+        }
+        if (result instanceof Optional<?> optional) {
+            return optional.isPresent() ? 1 : 0;
+        }
+        return 1;
+    }
+}
@@ -1,13 +1,26 @@
 package com.example.volunteer_platform.repository;
 
+import com.example.volunteer_platform.dto.OrganizationResponseDto;
 import com.example.volunteer_platform.model.Organization;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
+
 /**
  * Repository interface for managing Organization entities.
  */
 @Repository
 public interface OrganizationRepository extends JpaRepository<Organization, Long> {
     // Additional query methods can be defined here if needed
+
+    /**
+     * Find the REST views of all organizations in one statement, without loading their tasks.
+     *
+     * @return Organization views in ID order.
+     */
+    @Query("SELECT new com.example.volunteer_platform.dto.OrganizationResponseDto(o.id, o.name, o.email, o.phoneNumber, " +
+           "o.address, o.website, o.createdAt) FROM Organization o ORDER BY o.id")
+    List<OrganizationResponseDto> findAllResponses();
 }
\ No newline at end of file
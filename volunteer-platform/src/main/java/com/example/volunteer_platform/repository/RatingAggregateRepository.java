@@ -0,0 +1,77 @@
+package com.example.volunteer_platform.repository;
+
+import com.example.volunteer_platform.dto.LeaderboardEntryDto;
+import com.example.volunteer_platform.model.RatingAggregate;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * RatingAggregateRepository provides methods to interact with the per-user rating totals.
+ */
+@Repository
+public interface RatingAggregateRepository extends JpaRepository<RatingAggregate, Long> {
+
+    /**
+     * Create zeroed totals for a user unless a row exists, e.g. because a concurrent first rating created it.
+     *
+     * @param userId ID of the rated user.
+     * @param userType Leaderboard of the user, VOLUNTEER or ORGANIZATION.
+     * @param priorMean Score of a user without ratings.
+     * @return Number of rows inserted or touched.
+     */
+    @Modifying
+    @Query(value = "INSERT INTO rating_aggregates (user_id, user_type, rating_count, rating_sum, score) " +
+                   "VALUES (:userId, :userType, 0, 0, :priorMean) ON DUPLICATE KEY UPDATE user_id = user_id",
+           nativeQuery = true)
+    int insertIfAbsent(@Param("userId") Long userId, @Param("userType") String userType, @Param("priorMean") double priorMean);
+
+    /**
+     * Add ratings to a user's totals and recompute the score in one statement; the row lock serializes
+     * concurrent changes. The score is assigned first because MySQL reads columns already assigned
+     * earlier in the same SET with their new values.
+     *
+     * @param userId ID of the rated user.
+     * @param countDelta Change in the number of ratings.
+     * @param sumDelta Change in the sum of rating scores.
+     * @param priorWeight RatingAggregate.PRIOR_WEIGHT.
+     * @param priorTotal RatingAggregate.PRIOR_WEIGHT * RatingAggregate.PRIOR_MEAN.
+     * @return 1 if the user has totals, otherwise 0.
+     */
+    @Modifying
+    @Query("UPDATE RatingAggregate a SET " +
+           "a.score = (:priorTotal + a.ratingSum + :sumDelta) / (:priorWeight + a.ratingCount + :countDelta), " +
+           "a.ratingCount = a.ratingCount + :countDelta, a.ratingSum = a.ratingSum + :sumDelta " +
+           "WHERE a.userId = :userId")
+    int addToTotals(@Param("userId") Long userId, @Param("countDelta") long countDelta, @Param("sumDelta") long sumDelta,
+                    @Param("priorWeight") double priorWeight, @Param("priorTotal") double priorTotal);
+
+    /**
+     * Get a page of the volunteer leaderboard, best score first.
+     *
+     * @param pageable Page to read.
+     * @return Leaderboard rows without ranks.
+     */
+    @Query("SELECT new com.example.volunteer_platform.dto.LeaderboardEntryDto(a.userId, v.name, a.ratingCount, a.ratingSum, a.score, v.gender) " +
+           "FROM RatingAggregate a JOIN Volunteer v ON v.id = a.userId " +
+           "WHERE a.userType = com.example.volunteer_platform.enums.UserType.VOLUNTEER AND a.ratingCount > 0 " +
+           "ORDER BY a.score DESC, a.userId DESC")
+    List<LeaderboardEntryDto> findVolunteerLeaderboard(Pageable pageable);
+
+    /**
+     * Get a page of the organization leaderboard, best score first.
+     *
+     * @param pageable Page to read.
+     * @return Leaderboard rows without ranks.
+     */
+    @Query("SELECT new com.example.volunteer_platform.dto.LeaderboardEntryDto(a.userId, o.name, a.ratingCount, a.ratingSum, a.score, o.website) " +
+           "FROM RatingAggregate a JOIN Organization o ON o.id = a.userId " +
+           "WHERE a.userType = com.example.volunteer_platform.enums.UserType.ORGANIZATION AND a.ratingCount > 0 " +
+           "ORDER BY a.score DESC, a.userId DESC")
+    List<LeaderboardEntryDto> findOrganizationLeaderboard(Pageable pageable);
+}
@@ -1,8 +1,11 @@
 package com.example.volunteer_platform.repository;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import com.example.volunteer_platform.dto.RatingResponseDto;
 import com.example.volunteer_platform.model.Ratings;
 
 import java.util.List;
@@ -14,4 +17,42 @@ import java.util.List;
 public interface RatingsRepository extends JpaRepository<Ratings, Long> {
     List<Ratings> findByRatedUserId(long ratedUserId);
     List<Ratings> findByRatedByUserId(long ratedByUserId);
-}
\ No newline at end of file
+
+    /**
+     * Find the REST views of the ratings received by a user.
+     *
+     * @param ratedUserId ID of the rated user.
+     * @return Rating views, newest first.
+     */
+    @Query("SELECT new com.example.volunteer_platform.dto.RatingResponseDto(r.ratingId, r.ratedByUserId, r.ratedUserId, " +
+           "r.ratingScore, r.review, r.createdDate, r.updatedDate) FROM Ratings r " +
+           "WHERE r.ratedUserId = :ratedUserId ORDER BY r.ratingId DESC")
+    List<RatingResponseDto> findResponsesByRatedUserId(@Param("ratedUserId") long ratedUserId);
+
+    /**
+     * Find the REST views of the ratings submitted by a user.
+     *
+     * @param ratedByUserId ID of the user who rated.
+     * @return Rating views, newest first.
+     */
+    @Query("SELECT new com.example.volunteer_platform.dto.RatingResponseDto(r.ratingId, r.ratedByUserId, r.ratedUserId, " +
+           "r.ratingScore, r.review, r.createdDate, r.updatedDate) FROM Ratings r " +
+           "WHERE r.ratedByUserId = :ratedByUserId ORDER BY r.ratingId DESC")
+    List<RatingResponseDto> findResponsesByRatedByUserId(@Param("ratedByUserId") long ratedByUserId);
+
+    /**
+     * Sum up the ratings received by each volunteer.
+     *
+     * @return Rows of [volunteer ID, rating count, rating sum].
+     */
+    @Query("SELECT r.ratedUserId, COUNT(r), SUM(r.ratingScore) FROM Ratings r JOIN Volunteer v ON v.id = r.ratedUserId GROUP BY r.ratedUserId")
+    List<Object[]> sumRatingsPerVolunteer();
+
+    /**
+     * Sum up the ratings received by each organization.
+     *
+     * @return Rows of [organization ID, rating count, rating sum].
+     */
+    @Query("SELECT r.ratedUserId, COUNT(r), SUM(r.ratingScore) FROM Ratings r JOIN Organization o ON o.id = r.ratedUserId GROUP BY r.ratedUserId")
+    List<Object[]> sumRatingsPerOrganization();
+}
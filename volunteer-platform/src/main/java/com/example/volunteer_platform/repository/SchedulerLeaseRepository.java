@@ -0,0 +1,64 @@
+package com.example.volunteer_platform.repository;
+
+import com.example.volunteer_platform.model.SchedulerLease;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+
+/**
+ * Repository interface for the scheduler leases. Every method commits on its own, so a lease is visible
+ * to the other nodes before the job starts.
+ */
+@Repository
+public interface SchedulerLeaseRepository extends JpaRepository<SchedulerLease, String> {
+
+    /**
+     * Create an expired lease row. Fails with a duplicate key if the row exists, e.g. because another
+     * node created it at the same moment.
+     *
+     * @param name Job or shard name.
+     * @param owner Node creating the row.
+     * @param expired A time in the past.
+     * @return Number of rows inserted.
+     */
+    @Transactional
+    @Modifying
+    @Query(value = "INSERT INTO scheduler_leases (name, owner, locked_at, locked_until) VALUES (:name, :owner, :expired, :expired)",
+           nativeQuery = true)
+    int insertExpired(@Param("name") String name, @Param("owner") String owner, @Param("expired") LocalDateTime expired);
+
+    /**
+     * Take the lease if it has expired or already belongs to the owner. The row lock of the update makes
+     * this atomic across nodes on MySQL and H2 alike.
+     *
+     * @param name Job or shard name.
+     * @param owner Node taking the lease.
+     * @param now Current time.
+     * @param lockedUntil End of the lease.
+     * @return 1 if the lease was taken, 0 if another node holds it or the row does not exist.
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE SchedulerLease l SET l.owner = :owner, l.lockedAt = :now, l.lockedUntil = :lockedUntil " +
+           "WHERE l.name = :name AND (l.lockedUntil <= :now OR l.owner = :owner)")
+    int acquire(@Param("name") String name, @Param("owner") String owner,
+                @Param("now") LocalDateTime now, @Param("lockedUntil") LocalDateTime lockedUntil);
+
+    /**
+     * Shorten a held lease to the given time.
+     *
+     * @param name Job or shard name.
+     * @param owner Node holding the lease.
+     * @param lockedUntil New end of the lease.
+     * @return 1 if the lease was still held by the owner, otherwise 0.
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE SchedulerLease l SET l.lockedUntil = :lockedUntil WHERE l.name = :name AND l.owner = :owner")
+    int release(@Param("name") String name, @Param("owner") String owner, @Param("lockedUntil") LocalDateTime lockedUntil);
+}
@@ -3,6 +3,8 @@ package com.example.volunteer_platform.repository;
 import com.example.volunteer_platform.model.Skill;
 import org.springframework.data.jpa.repository.JpaRepository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -17,4 +19,12 @@ public interface SkillRepository extends JpaRepository<Skill, Long> {
      * @return Optional containing the skill if found.
      */
     Optional<Skill> findByName(String name);
-}
\ No newline at end of file
+
+    /**
+     * Find all skills with one of the given names.
+     *
+     * @param names Names of the skills.
+     * @return Skills found; names with no skill are skipped.
+     */
+    List<Skill> findByNameIn(Collection<String> names);
+}
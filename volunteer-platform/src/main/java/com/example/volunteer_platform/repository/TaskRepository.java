@@ -1,10 +1,29 @@
 package com.example.volunteer_platform.repository;
 
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.stereotype.Repository;
 
+import com.example.volunteer_platform.dto.OpportunityDto;
+import com.example.volunteer_platform.dto.TaskExportDto;
+import com.example.volunteer_platform.dto.TaskResponseDto;
+import com.example.volunteer_platform.dto.TaskSummaryDto;
+import com.example.volunteer_platform.enums.TaskStatus;
 import com.example.volunteer_platform.model.Task;
 
 /**
@@ -36,4 +55,456 @@ public interface TaskRepository extends JpaRepository<Task, Long> {
      * @return List of tasks matching the location criteria.
      */
     List<Task> findByLocationContaining(String location);
+
+    /**
+     * Find a task with its skills joined in the same statement.
+     *
+     * @param id Task ID.
+     * @return Optional containing the task if found.
+     */
+    @EntityGraph(Task.WITH_SKILLS)
+    Optional<Task> findWithSkillsById(Long id);
+
+    /**
+     * Find the first page of the task feed, ordered by event date and ID.
+     *
+     * @param status Status filter, or null for any status.
+     * @param from Earliest event date (inclusive), or null for no lower bound.
+     * @param to Latest event date (inclusive), or null for no upper bound.
+     * @param pageable Page size; only the first page is ever requested.
+     * @return Task summaries for the first page of the feed.
+     */
+    @Query("SELECT new com.example.volunteer_platform.dto.TaskSummaryDto(t.id, t.title, t.location, t.eventDate, t.applicationDeadline, t.status, t.organizationId) " +
+            "FROM Task t " +
+            "WHERE (:status IS NULL OR t.status = :status) " +
+            "AND (:from IS NULL OR t.eventDate >= :from) " +
+            "AND (:to IS NULL OR t.eventDate <= :to) " +
+            "ORDER BY t.eventDate, t.id")
+    List<TaskSummaryDto> findTaskFeed(@Param("status") TaskStatus status,
+                                      @Param("from") LocalDate from,
+                                      @Param("to") LocalDate to,
+                                      Pageable pageable);
+
+    /**
+     * Find the page of the task feed that follows the given (eventDate, id) keyset position.
+     *
+     * @param status Status filter, or null for any status.
+     * @param from Earliest event date (inclusive), or null for no lower bound.
+     * @param to Latest event date (inclusive), or null for no upper bound.
+     * @param cursorDate Event date of the last task on the previous page.
+     * @param cursorId ID of the last task on the previous page.
+     * @param pageable Page size; only the first page is ever requested.
+     * @return Task summaries positioned strictly after the cursor.
+     */
+    @Query("SELECT new com.example.volunteer_platform.dto.TaskSummaryDto(t.id, t.title, t.location, t.eventDate, t.applicationDeadline, t.status, t.organizationId) " +
+            "FROM Task t " +
+            "WHERE (:status IS NULL OR t.status = :status) " +
+            "AND (:from IS NULL OR t.eventDate >= :from) " +
+            "AND (:to IS NULL OR t.eventDate <= :to) " +
+            "AND (t.eventDate > :cursorDate OR (t.eventDate = :cursorDate AND t.id > :cursorId)) " +
+            "ORDER BY t.eventDate, t.id")
+    List<TaskSummaryDto> findTaskFeedAfter(@Param("status") TaskStatus status,
+                                           @Param("from") LocalDate from,
+                                           @Param("to") LocalDate to,
+                                           @Param("cursorDate") LocalDate cursorDate,
+                                           @Param("cursorId") Long cursorId,
+                                           Pageable pageable);
+
+    /**
+     * Find tasks with the given status together with the name of the organization that posted them,
+     * in a single statement.
+     *
+     * @param status Task status to filter on.
+     * @return Opportunity rows ordered by event date.
+     */
+    @Query("SELECT new com.example.volunteer_platform.dto.OpportunityDto(t.id, t.title, t.location, t.eventDate, t.organizationId, o.name) " +
+            "FROM Task t LEFT JOIN Organization o ON o.id = t.organizationId " +
+            "WHERE t.status = :status " +
+            "ORDER BY t.eventDate, t.id")
+    List<OpportunityDto> findOpportunitiesByStatus(@Param("status") TaskStatus status);
+
+    /**
+     * Find task summaries for the given IDs, in no particular order.
+     *
+     * @param ids Task IDs.
+     * @return Task summaries for the tasks that exist.
+     */
+    @Query("SELECT new com.example.volunteer_platform.dto.TaskSummaryDto(t.id, t.title, t.location, t.eventDate, t.applicationDeadline, t.status, t.organizationId) " +
+            "FROM Task t WHERE t.id IN :ids")
+    List<TaskSummaryDto> findSummariesByIdIn(@Param("ids") Collection<Long> ids);
+
+    /**
+     * Find tasks with IDs greater than the given one, ordered by ID. Used to walk the whole table in batches.
+     *
+     * @param id Exclusive lower bound on the task ID.
+     * @param pageable Batch size; only the first page is ever requested.
+     * @return Next batch of tasks.
+     */
+    List<Task> findByIdGreaterThanOrderByIdAsc(Long id, Pageable pageable);
+
+    /**
+     * Find (task ID, skill name) pairs for the given tasks in one statement.
+     *
+     * @param ids Task IDs.
+     * @return Rows of [taskId, skillName].
+     */
+    @Query("SELECT t.id, s.name FROM Task t JOIN t.skills s WHERE t.id IN :ids")
+    List<Object[]> findSkillNamesByTaskIds(@Param("ids") Collection<Long> ids);
+
+    /**
+     * Find the REST views of an organization's tasks, without their skills.
+     *
+     * @param organizationId Organization ID.
+     * @return Task views ordered by event date.
+     */
+    @Query("SELECT new com.example.volunteer_platform.dto.TaskResponseDto(t.id, t.title, t.description, t.location, " +
+           "t.eventDate, t.applicationDeadline, t.cancellationDeadline, t.status, t.capacity, t.signupCount, " +
+           "t.organizationId, t.createdAt, t.updatedAt) " +
+           "FROM Task t WHERE t.organizationId = :organizationId ORDER BY t.eventDate, t.id")
+    List<TaskResponseDto> findResponsesByOrganizationId(@Param("organizationId") Long organizationId);
+
+    /**
+     * Find one page of the REST views of an organization's tasks in the given statuses, without their skills.
+     *
+     * @param organizationId Organization ID.
+     * @param statuses Task statuses.
+     * @param pageable Page and sort order; no count query is run.
+     * @return Task views.
+     */
+    @Query("SELECT new com.example.volunteer_platform.dto.TaskResponseDto(t.id, t.title, t.description, t.location, " +
+           "t.eventDate, t.applicationDeadline, t.cancellationDeadline, t.status, t.capacity, t.signupCount, " +
+           "t.organizationId, t.createdAt, t.updatedAt) " +
+           "FROM Task t WHERE t.organizationId = :organizationId AND t.status IN :statuses")
+    List<TaskResponseDto> findResponsesByOrganizationIdAndStatusIn(@Param("organizationId") Long organizationId,
+                                                                   @Param("statuses") Collection<TaskStatus> statuses,
+                                                                   Pageable pageable);
+
+    /**
+     * Count an organization's tasks per status, read from the (organization_id, status, event_date) index.
+     *
+     * @param organizationId Organization ID.
+     * @return Rows of [status, count]; statuses without tasks are missing.
+     */
+    @Query("SELECT t.status, COUNT(t) FROM Task t WHERE t.organizationId = :organizationId GROUP BY t.status")
+    List<Object[]> countByOrganizationIdGroupByStatus(@Param("organizationId") Long organizationId);
+
+    /**
+     * Check whether a task belongs to an organization without loading either.
+     *
+     * @param id Task ID.
+     * @param organizationId Organization ID.
+     * @return True if the task exists and belongs to the organization.
+     */
+    boolean existsByIdAndOrganizationId(Long id, Long organizationId);
+
+    /**
+     * Find (task ID, skill ID) pairs for tasks with the given status, positioned after the given pair and
+     * ordered by task then skill. Used to walk every open task's skills in batches.
+     *
+     * @param status Task status to filter on.
+     * @param taskId Task ID of the last pair already read.
+     * @param skillId Skill ID of the last pair already read.
+     * @param pageable Batch size; only the first page is ever requested.
+     * @return Rows of [taskId, skillId].
+     */
+    @Query("SELECT t.id, s.id FROM Task t JOIN t.skills s " +
+            "WHERE t.status = :status AND (t.id > :taskId OR (t.id = :taskId AND s.id > :skillId)) " +
+            "ORDER BY t.id, s.id")
+    List<Object[]> findSkillIdPairsAfter(@Param("status") TaskStatus status,
+                                         @Param("taskId") Long taskId,
+                                         @Param("skillId") Long skillId,
+                                         Pageable pageable);
+
+    /**
+     * Find IDs of tasks in a status whose application deadline has passed.
+     *
+     * @param status Task status.
+     * @param today Tasks with an application deadline before this date are returned.
+     * @param pageable Maximum number of IDs.
+     * @return Task IDs.
+     */
+    @Query("SELECT t.id FROM Task t WHERE t.status = :status AND t.applicationDeadline < :today")
+    List<Long> findIdsByStatusAndApplicationDeadlineBefore(@Param("status") TaskStatus status,
+                                                           @Param("today") LocalDate today,
+                                                           Pageable pageable);
+
+    /**
+     * Find the lowest task ID on an event date, read from the (event_date, id) index.
+     *
+     * @param eventDate The date of the event.
+     * @return Lowest task ID, or null if no task takes place on the date.
+     */
+    @Query("SELECT MIN(t.id) FROM Task t WHERE t.eventDate = :eventDate")
+    Long findMinIdByEventDate(@Param("eventDate") LocalDate eventDate);
+
+    /**
+     * Find the highest task ID on an event date, read from the (event_date, id) index.
+     *
+     * @param eventDate The date of the event.
+     * @return Highest task ID, or null if no task takes place on the date.
+     */
+    @Query("SELECT MAX(t.id) FROM Task t WHERE t.eventDate = :eventDate")
+    Long findMaxIdByEventDate(@Param("eventDate") LocalDate eventDate);
+
+    /**
+     * Find IDs of tasks not yet in a status whose event date has passed.
+     *
+     * @param status Status the tasks are not in.
+     * @param today Tasks with an event date before this date are returned.
+     * @param pageable Maximum number of IDs.
+     * @return Task IDs.
+     */
+    @Query("SELECT t.id FROM Task t WHERE t.status <> :status AND t.eventDate < :today")
+    List<Long> findIdsByStatusNotAndEventDateBefore(@Param("status") TaskStatus status,
+                                                    @Param("today") LocalDate today,
+                                                    Pageable pageable);
+
+    /**
+     * Move tasks from one status to another in a single update statement.
+     * Tasks that are no longer in the expected status are left untouched.
+     *
+     * @param ids Task IDs.
+     * @param from Expected current status.
+     * @param to New status.
+     * @param now Update timestamp.
+     * @return Number of tasks updated.
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE Task t SET t.status = :to, t.updatedAt = :now WHERE t.id IN :ids AND t.status = :from")
+    int transitionStatus(@Param("ids") List<Long> ids, @Param("from") TaskStatus from,
+                         @Param("to") TaskStatus to, @Param("now") LocalDateTime now);
+
+    /**
+     * Move tasks to a status from whatever status they are in, in a single update statement.
+     *
+     * @param ids Task IDs.
+     * @param to New status.
+     * @param now Update timestamp.
+     * @return Number of tasks updated.
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE Task t SET t.status = :to, t.updatedAt = :now WHERE t.id IN :ids AND t.status <> :to")
+    int forceStatus(@Param("ids") List<Long> ids, @Param("to") TaskStatus to, @Param("now") LocalDateTime now);
+
+    /**
+     * Stream tasks for export, read through a forward-only cursor instead of being loaded at once.
+     * Must be consumed inside a transaction and closed afterwards.
+     *
+     * @param from Only tasks with an event date on or after this date, or null.
+     * @param to Only tasks with an event date on or before this date, or null.
+     * @param organizationId Only tasks of this organization, or null.
+     * @return Stream of export rows in task ID order.
+     */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT new com.example.volunteer_platform.dto.TaskExportDto(t.id, t.title, t.description, t.location, " +
+           "t.eventDate, t.applicationDeadline, t.cancellationDeadline, t.status, t.organizationId, t.createdAt) " +
+           "FROM Task t " +
+           "WHERE (:from IS NULL OR t.eventDate >= :from) AND (:to IS NULL OR t.eventDate <= :to) " +
+           "AND (:organizationId IS NULL OR t.organizationId = :organizationId) " +
+           "ORDER BY t.id")
+    Stream<TaskExportDto> streamForExport(@Param("from") LocalDate from,
+                                          @Param("to") LocalDate to,
+                                          @Param("organizationId") Long organizationId);
+
+    /**
+     * Take one signup slot of an open task. The task is moved to FILLED when the slot taken is the last one.
+     * The check and the increment are a single statement, so concurrent signups cannot exceed the capacity.
+     *
+     * @param id Task ID.
+     * @param today Current date; no slots are taken after the application deadline.
+     * @param now Update timestamp.
+     * @return 1 if a slot was taken, 0 if the task does not exist, is not AVAILABLE, is full or its applications have closed.
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE Task t SET " +
+            "t.status = CASE WHEN t.capacity IS NOT NULL AND t.signupCount + 1 >= t.capacity " +
+            "THEN com.example.volunteer_platform.enums.TaskStatus.FILLED ELSE t.status END, " + // Before the increment: MySQL assigns left to right
+            "t.signupCount = t.signupCount + 1, t.updatedAt = :now " +
+            "WHERE t.id = :id AND t.status = com.example.volunteer_platform.enums.TaskStatus.AVAILABLE " +
+            "AND (t.capacity IS NULL OR t.signupCount < t.capacity) AND (t.applicationDeadline IS NULL OR t.applicationDeadline >= :today)")
+    int reserveSlot(@Param("id") Long id, @Param("today") LocalDate today, @Param("now") LocalDateTime now);
+
+    /**
+     * Give back one signup slot. A FILLED task is reopened when it drops below its capacity, unless its
+     * application deadline has passed.
+     *
+     * @param id Task ID.
+     * @param today Current date.
+     * @param now Update timestamp.
+     * @return Number of tasks updated.
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE Task t SET " +
+            "t.status = CASE WHEN t.status = com.example.volunteer_platform.enums.TaskStatus.FILLED AND t.signupCount - 1 < t.capacity " +
+            "AND (t.applicationDeadline IS NULL OR t.applicationDeadline >= :today) " +
+            "THEN com.example.volunteer_platform.enums.TaskStatus.AVAILABLE ELSE t.status END, " +
+            "t.signupCount = t.signupCount - 1, t.updatedAt = :now " +
+            "WHERE t.id = :id AND t.signupCount > 0")
+    int releaseSlot(@Param("id") Long id, @Param("today") LocalDate today, @Param("now") LocalDateTime now);
+
+    /**
+     * Change the capacity of a task, filling or reopening it to match its current signup count. A task is not
+     * reopened after its application deadline.
+     *
+     * @param id Task ID.
+     * @param capacity New capacity.
+     * @param today Current date.
+     * @param now Update timestamp.
+     * @return Number of tasks updated.
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE Task t SET " +
+            "t.status = CASE " +
+            "WHEN t.status = com.example.volunteer_platform.enums.TaskStatus.AVAILABLE AND t.signupCount >= :capacity " +
+            "THEN com.example.volunteer_platform.enums.TaskStatus.FILLED " +
+            "WHEN t.status = com.example.volunteer_platform.enums.TaskStatus.FILLED AND t.signupCount < :capacity " +
+            "AND (t.applicationDeadline IS NULL OR t.applicationDeadline >= :today) " +
+            "THEN com.example.volunteer_platform.enums.TaskStatus.AVAILABLE " +
+            "ELSE t.status END, " +
+            "t.capacity = :capacity, t.updatedAt = :now " +
+            "WHERE t.id = :id")
+    int changeCapacity(@Param("id") Long id, @Param("capacity") Integer capacity,
+                       @Param("today") LocalDate today, @Param("now") LocalDateTime now);
+
+    /**
+     * Recount the signups of every task whose stored count is out of date.
+     *
+     * @return Number of tasks corrected.
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE Task t SET t.signupCount = (SELECT COUNT(ts) FROM TaskSignup ts WHERE ts.task.id = t.id) " +
+            "WHERE t.signupCount <> (SELECT COUNT(ts) FROM TaskSignup ts WHERE ts.task.id = t.id)")
+    int reconcileSignupCounts();
+
+    /**
+     * Read the stored signup count of a task.
+     *
+     * @param id Task ID.
+     * @return Number of signups, or null if the task does not exist.
+     */
+    @Query("SELECT t.signupCount FROM Task t WHERE t.id = :id")
+    Integer findSignupCountById(@Param("id") Long id);
+
+    /**
+     * Check whether the application deadline of a task has passed.
+     *
+     * @param id Task ID.
+     * @param today Current date.
+     * @return true if the task exists and its application deadline is before today.
+     */
+    boolean existsByIdAndApplicationDeadlineBefore(Long id, LocalDate today);
+
+    /**
+     * Give back one signup slot of each task, e.g. after a volunteer's signups were deleted in bulk.
+     * FILLED tasks are reopened as in releaseSlot.
+     *
+     * @param ids Task IDs; each loses exactly one signup.
+     * @param today Current date.
+     * @param now Update timestamp.
+     * @return Number of tasks updated.
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE Task t SET " +
+            "t.status = CASE WHEN t.status = com.example.volunteer_platform.enums.TaskStatus.FILLED AND t.signupCount - 1 < t.capacity " +
+            "AND (t.applicationDeadline IS NULL OR t.applicationDeadline >= :today) " +
+            "THEN com.example.volunteer_platform.enums.TaskStatus.AVAILABLE ELSE t.status END, " +
+            "t.signupCount = t.signupCount - 1, t.updatedAt = :now " +
+            "WHERE t.id IN :ids AND t.signupCount > 0")
+    int releaseSlots(@Param("ids") Collection<Long> ids, @Param("today") LocalDate today, @Param("now") LocalDateTime now);
+
+    /**
+     * Find the first IDs of an organization's tasks, e.g. to delete them chunk by chunk.
+     *
+     * @param organizationId Organization ID.
+     * @param pageable Maximum number of IDs; only the first page is ever requested.
+     * @return Task IDs in ascending order.
+     */
+    @Query("SELECT t.id FROM Task t WHERE t.organizationId = :organizationId ORDER BY t.id")
+    List<Long> findIdsByOrganizationId(@Param("organizationId") Long organizationId, Pageable pageable);
+
+    /**
+     * Count an organization's tasks.
+     *
+     * @param organizationId Organization ID.
+     * @return Number of tasks.
+     */
+    long countByOrganizationId(Long organizationId);
+
+    /**
+     * Find which of the given tasks are in a status.
+     *
+     * @param ids Task IDs.
+     * @param status Task status.
+     * @return IDs of the tasks in the status.
+     */
+    @Query("SELECT t.id FROM Task t WHERE t.id IN :ids AND t.status = :status")
+    List<Long> findIdsByIdInAndStatus(@Param("ids") Collection<Long> ids, @Param("status") TaskStatus status);
+
+    /**
+     * Remove tasks from the legacy user_tasks join table. Only call it when the table exists.
+     *
+     * @param ids Task IDs.
+     * @return Number of links deleted.
+     */
+    @Transactional
+    @Modifying
+    @Query(value = "DELETE FROM user_tasks WHERE tasks_id IN (:ids)", nativeQuery = true)
+    int deleteOrganizationLinks(@Param("ids") Collection<Long> ids);
+
+    /**
+     * Delete tasks in a single statement. Hibernate also removes their rows in task_skills; signups and
+     * waitlist entries must be deleted first.
+     *
+     * @param ids Task IDs.
+     * @return Number of tasks deleted.
+     */
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM Task t WHERE t.id IN :ids")
+    int deleteByIdIn(@Param("ids") Collection<Long> ids);
+
+    /**
+     * Take the row locks of several tasks until the end of the transaction, in ID order, as lockById does
+     * for one task.
+     *
+     * @param ids Task IDs.
+     * @param now Update timestamp.
+     * @return Number of tasks locked.
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE Task t SET t.updatedAt = :now WHERE t.id IN :ids")
+    int lockByIdIn(@Param("ids") Collection<Long> ids, @Param("now") LocalDateTime now);
+
+    /**
+     * Read the current status of a task straight from the database, bypassing any loaded entity.
+     *
+     * @param id Task ID.
+     * @return Task status, or null if the task does not exist.
+     */
+    @Query("SELECT t.status FROM Task t WHERE t.id = :id")
+    TaskStatus findStatusById(@Param("id") Long id);
+
+    /**
+     * Take the row lock of a task until the end of the transaction. Signups that go to the waitlist and
+     * cancellations that promote from it hold this lock, so a freed slot is never missed by either side.
+     *
+     * @param id Task ID.
+     * @param now Update timestamp.
+     * @return 1 if the task exists, otherwise 0.
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE Task t SET t.updatedAt = :now WHERE t.id = :id")
+    int lockById(@Param("id") Long id, @Param("now") LocalDateTime now);
 }
\ No newline at end of file
@@ -1,15 +1,29 @@
 package com.example.volunteer_platform.repository;
 
+import com.example.volunteer_platform.dto.ReminderDto;
+import com.example.volunteer_platform.dto.SignupExportDto;
+import com.example.volunteer_platform.dto.TaskSignupResponseDto;
 import com.example.volunteer_platform.model.Task;
 import com.example.volunteer_platform.model.TaskSignup;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 /**
  * Repository interface for managing TaskSignup entities.
@@ -17,21 +31,41 @@ import java.util.Optional;
 public interface TaskSignupRepository extends JpaRepository<TaskSignup, Long> {
 
     /**
-     * Find signups by volunteer ID.
+     * Find signups by volunteer ID, with their tasks joined in the same statement.
      *
      * @param volunteerId Volunteer ID.
      * @return List of task signups for the specified volunteer.
      */
+    @EntityGraph(TaskSignup.WITH_TASK)
     List<TaskSignup> findByVolunteerId(Long volunteerId);
 
     /**
-     * Find signups by task ID.
+     * Find signups by task ID, with their volunteers and the volunteers' skills joined in the same statement.
      *
      * @param taskId Task ID.
      * @return List of task signups for the specified task.
      */
+    @EntityGraph(TaskSignup.WITH_VOLUNTEER_SKILLS)
     List<TaskSignup> findByTaskId(Long taskId);
 
+    /**
+     * Find all signups with their tasks and volunteers in one statement, for the reminder status report.
+     *
+     * @return Signups in signup ID order.
+     */
+    @EntityGraph(TaskSignup.WITH_TASK_AND_VOLUNTEER)
+    @Query("SELECT ts FROM TaskSignup ts ORDER BY ts.signupId")
+    List<TaskSignup> findAllWithTaskAndVolunteer();
+
+    /**
+     * Find a signup with its task and volunteer in one statement.
+     *
+     * @param signupId Signup ID.
+     * @return Optional containing the signup if found.
+     */
+    @EntityGraph(TaskSignup.WITH_TASK_AND_VOLUNTEER)
+    Optional<TaskSignup> findWithTaskAndVolunteerBySignupId(Long signupId);
+
     /**
      * Find signups for tasks within a specific time range.
      *
@@ -49,6 +83,17 @@ public interface TaskSignupRepository extends JpaRepository<TaskSignup, Long> {
      * @return Optional containing the task signup if found.
      */
     Optional<TaskSignup> findByTaskIdAndVolunteerId(Long taskId, Long volunteerId);
+
+    /**
+     * Find a task signup by task ID and volunteer ID and lock it. Call it under the task's row lock.
+     *
+     * @param taskId Task ID.
+     * @param volunteerId Volunteer ID.
+     * @return Optional containing the task signup if found.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE) // A locking read sees signups committed after this transaction began
+    @Query("SELECT s FROM TaskSignup s WHERE s.task.id = :taskId AND s.volunteer.id = :volunteerId")
+    Optional<TaskSignup> findLockedByTaskIdAndVolunteerId(@Param("taskId") Long taskId, @Param("volunteerId") Long volunteerId);
     
    // @Query("SELECT t.task FROM TaskSignup t WHERE t.volunteer.id = :volunteerId AND t.task.completed = true")
     //List<Task> findCompletedTasksByVolunteerId(@Param("volunteerId") Long volunteerId);
@@ -57,12 +102,125 @@ public interface TaskSignupRepository extends JpaRepository<TaskSignup, Long> {
     boolean existsByVolunteerIdAndTaskId(Long volunteerId, Long taskId);
 
     /**
-     * Find upcoming task signups for tasks happening on a specific event date
-     * where reminders haven't been sent yet.
+     * Find the REST views of all signups in one statement.
+     *
+     * @return Signup views in signup ID order.
+     */
+    @Query("SELECT new com.example.volunteer_platform.dto.TaskSignupResponseDto(ts.signupId, ts.signupDate, ts.reminderSent, " +
+           "t.id, t.title, t.eventDate, v.id, v.name) " +
+           "FROM TaskSignup ts JOIN ts.task t JOIN ts.volunteer v " +
+           "ORDER BY ts.signupId")
+    List<TaskSignupResponseDto> findAllResponses();
+
+    /**
+     * Find the REST views of a volunteer's signups in one statement.
+     *
+     * @param volunteerId Volunteer ID.
+     * @return Signup views in signup ID order.
+     */
+    @Query("SELECT new com.example.volunteer_platform.dto.TaskSignupResponseDto(ts.signupId, ts.signupDate, ts.reminderSent, " +
+           "t.id, t.title, t.eventDate, v.id, v.name) " +
+           "FROM TaskSignup ts JOIN ts.task t JOIN ts.volunteer v " +
+           "WHERE v.id = :volunteerId ORDER BY ts.signupId")
+    List<TaskSignupResponseDto> findResponsesByVolunteerId(@Param("volunteerId") Long volunteerId);
+
+    /**
+     * Find the REST views of a task's signups in one statement.
+     *
+     * @param taskId Task ID.
+     * @return Signup views in signup ID order.
+     */
+    @Query("SELECT new com.example.volunteer_platform.dto.TaskSignupResponseDto(ts.signupId, ts.signupDate, ts.reminderSent, " +
+           "t.id, t.title, t.eventDate, v.id, v.name) " +
+           "FROM TaskSignup ts JOIN ts.task t JOIN ts.volunteer v " +
+           "WHERE t.id = :taskId ORDER BY ts.signupId")
+    List<TaskSignupResponseDto> findResponsesByTaskId(@Param("taskId") Long taskId);
+
+    /**
+     * Find the next chunk of signups due a reminder for an event date, ordered by signup ID.
+     * Only the fields needed to render the email are loaded.
      *
      * @param eventDate The date of the event.
-     * @return List of task signups matching the criteria.
+     * @param fromTaskId Only signups for tasks with this ID or greater.
+     * @param toTaskId Only signups for tasks with an ID below this one.
+     * @param afterSignupId Only signups with a greater ID are returned; 0 for the first chunk.
+     * @param pageable Chunk size; the page number must be 0.
+     * @return Reminders to send, in signup ID order.
+     */
+    @Query("SELECT new com.example.volunteer_platform.dto.ReminderDto(ts.signupId, v.name, v.email, " +
+           "t.title, t.eventDate, t.location, t.description) " +
+           "FROM TaskSignup ts JOIN ts.task t JOIN ts.volunteer v " +
+           "WHERE t.eventDate = :eventDate AND t.id >= :fromTaskId AND t.id < :toTaskId " +
+           "AND ts.reminderSent = false AND ts.signupId > :afterSignupId " +
+           "ORDER BY ts.signupId")
+    List<ReminderDto> findDueReminders(@Param("eventDate") LocalDate eventDate,
+                                       @Param("fromTaskId") Long fromTaskId,
+                                       @Param("toTaskId") Long toTaskId,
+                                       @Param("afterSignupId") Long afterSignupId,
+                                       Pageable pageable);
+
+    /**
+     * Find the tasks a volunteer signed up for.
+     *
+     * @param volunteerId Volunteer ID.
+     * @return Task IDs in ascending order.
+     */
+    @Query("SELECT ts.task.id FROM TaskSignup ts WHERE ts.volunteer.id = :volunteerId ORDER BY ts.task.id")
+    List<Long> findTaskIdsByVolunteerId(@Param("volunteerId") Long volunteerId);
+
+    /**
+     * Delete all signups of a volunteer in a single statement. Signup counts are not adjusted.
+     *
+     * @param volunteerId Volunteer ID.
+     * @return Number of signups deleted.
+     */
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM TaskSignup ts WHERE ts.volunteer.id = :volunteerId")
+    int deleteByVolunteerId(@Param("volunteerId") Long volunteerId);
+
+    /**
+     * Delete all signups of the given tasks in a single statement, e.g. before the tasks are deleted.
+     *
+     * @param taskIds Task IDs.
+     * @return Number of signups deleted.
+     */
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM TaskSignup ts WHERE ts.task.id IN :taskIds")
+    int deleteByTaskIdIn(@Param("taskIds") Collection<Long> taskIds);
+
+    /**
+     * Mark reminders as sent in a single update statement.
+     *
+     * @param signupIds IDs of the signups whose reminders were delivered.
+     * @return Number of signups updated.
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE TaskSignup ts SET ts.reminderSent = true WHERE ts.signupId IN :signupIds")
+    int markRemindersSent(@Param("signupIds") List<Long> signupIds);
+
+    /**
+     * Stream signups for export, read through a forward-only cursor instead of being loaded at once.
+     * Must be consumed inside a transaction and closed afterwards.
+     *
+     * @param from Only signups for tasks with an event date on or after this date, or null.
+     * @param to Only signups for tasks with an event date on or before this date, or null.
+     * @param organizationId Only signups for tasks of this organization, or null.
+     * @return Stream of export rows in signup ID order.
      */
-     @Query("SELECT ts FROM TaskSignup ts JOIN ts.task t WHERE t.eventDate = :eventDate AND ts.reminderSent = false")
-    List<TaskSignup> findUpcomingTaskSignups(@Param("eventDate") LocalDate eventDate, @Param("reminderSent") boolean reminderSent);
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT new com.example.volunteer_platform.dto.SignupExportDto(ts.signupId, ts.signupDate, ts.reminderSent, " +
+           "t.id, t.title, t.eventDate, t.organizationId, v.id, v.name, v.email) " +
+           "FROM TaskSignup ts JOIN ts.task t JOIN ts.volunteer v " +
+           "WHERE (:from IS NULL OR t.eventDate >= :from) AND (:to IS NULL OR t.eventDate <= :to) " +
+           "AND (:organizationId IS NULL OR t.organizationId = :organizationId) " +
+           "ORDER BY ts.signupId")
+    Stream<SignupExportDto> streamForExport(@Param("from") LocalDate from,
+                                            @Param("to") LocalDate to,
+                                            @Param("organizationId") Long organizationId);
 }
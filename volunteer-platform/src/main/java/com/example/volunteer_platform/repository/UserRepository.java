@@ -1,10 +1,18 @@
 package com.example.volunteer_platform.repository;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import com.example.volunteer_platform.dto.UserCredentialsDto;
+import com.example.volunteer_platform.dto.UserProfileDto;
+import com.example.volunteer_platform.dto.UserResponseDto;
 import com.example.volunteer_platform.model.User;
 
+import java.util.List;
+import java.util.Optional;
+
 /**
  * Repository interface for managing User entities.
  */
@@ -19,4 +27,41 @@ public interface UserRepository extends JpaRepository<User, Long> {
 	 */
 	User findByEmail(String email);
 
+	/**
+	 * Find what a login needs in one statement, without loading skills or tasks.
+	 *
+	 * @param email Email of the user.
+	 * @return ID, password hash and type of the user if found.
+	 */
+	@Query("SELECT new com.example.volunteer_platform.dto.UserCredentialsDto(u.id, u.email, u.password, " +
+			"CASE WHEN TYPE(u) = Organization THEN com.example.volunteer_platform.enums.UserType.ORGANIZATION " +
+			"ELSE com.example.volunteer_platform.enums.UserType.VOLUNTEER END) " +
+			"FROM User u WHERE u.email = :email")
+	Optional<UserCredentialsDto> findCredentialsByEmail(@Param("email") String email);
+
+	/**
+	 * Find the profile of a user in one statement, without loading skills or tasks.
+	 *
+	 * @param id ID of the user.
+	 * @return Profile if found.
+	 */
+	@Query("SELECT new com.example.volunteer_platform.dto.UserProfileDto(u.id, " +
+			"CASE WHEN TYPE(u) = Organization THEN com.example.volunteer_platform.enums.UserType.ORGANIZATION " +
+			"ELSE com.example.volunteer_platform.enums.UserType.VOLUNTEER END, " +
+			"u.name, u.email, u.phoneNumber, TREAT(u AS Organization).address, TREAT(u AS Organization).website, " +
+			"TREAT(u AS Volunteer).gender, u.createdAt, u.updatedAt) " +
+			"FROM User u WHERE u.id = :id")
+	Optional<UserProfileDto> findProfileById(@Param("id") Long id);
+
+	/**
+	 * Find the REST views of all users in one statement, without loading skills or tasks.
+	 *
+	 * @return User views in ID order.
+	 */
+	@Query("SELECT new com.example.volunteer_platform.dto.UserResponseDto(u.id, u.name, u.email, u.phoneNumber, " +
+			"CASE WHEN TYPE(u) = Organization THEN com.example.volunteer_platform.enums.UserType.ORGANIZATION " +
+			"ELSE com.example.volunteer_platform.enums.UserType.VOLUNTEER END, u.createdAt) " +
+			"FROM User u ORDER BY u.id")
+	List<UserResponseDto> findAllResponses();
+
 }
\ No newline at end of file
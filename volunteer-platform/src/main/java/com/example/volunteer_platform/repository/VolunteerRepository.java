@@ -1,10 +1,17 @@
 package com.example.volunteer_platform.repository;
 
+import com.example.volunteer_platform.dto.VolunteerResponseDto;
 import com.example.volunteer_platform.model.Volunteer;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 /**
@@ -15,4 +22,54 @@ public interface VolunteerRepository extends JpaRepository<Volunteer, Long> {
     // Additional query methods can be defined here if needed
 	//Volunteer findByEmail(String email);
 	Optional<Volunteer> findByEmail(String email);  // Use Optional for safety
+
+	/**
+	 * Find a volunteer with its skills joined in the same statement.
+	 *
+	 * @param id Volunteer ID.
+	 * @return Optional containing the volunteer if found.
+	 */
+	@EntityGraph(Volunteer.WITH_SKILLS)
+	Optional<Volunteer> findWithSkillsById(Long id);
+
+	/**
+	 * Find (volunteer ID, skill ID) pairs positioned after the given pair, ordered by volunteer then skill.
+	 * Used to walk every volunteer's skills in batches.
+	 *
+	 * @param volunteerId Volunteer ID of the last pair already read.
+	 * @param skillId Skill ID of the last pair already read.
+	 * @param pageable Batch size; only the first page is ever requested.
+	 * @return Rows of [volunteerId, skillId].
+	 */
+	@Query("SELECT v.id, s.id FROM Volunteer v JOIN v.skills s " +
+			"WHERE v.id > :volunteerId OR (v.id = :volunteerId AND s.id > :skillId) " +
+			"ORDER BY v.id, s.id")
+	List<Object[]> findSkillIdPairsAfter(@Param("volunteerId") Long volunteerId, @Param("skillId") Long skillId, Pageable pageable);
+
+	/**
+	 * Find the names of the given volunteers in one statement.
+	 *
+	 * @param ids Volunteer IDs.
+	 * @return Rows of [volunteerId, name].
+	 */
+	@Query("SELECT v.id, v.name FROM Volunteer v WHERE v.id IN :ids")
+	List<Object[]> findNamesByIdIn(@Param("ids") Collection<Long> ids);
+
+	/**
+	 * Find the REST views of all volunteers in one statement, without their skills.
+	 *
+	 * @return Volunteer views in ID order.
+	 */
+	@Query("SELECT new com.example.volunteer_platform.dto.VolunteerResponseDto(v.id, v.name, v.email, v.phoneNumber, " +
+			"v.gender, v.createdAt) FROM Volunteer v ORDER BY v.id")
+	List<VolunteerResponseDto> findAllResponses();
+
+	/**
+	 * Find (volunteer ID, skill name) pairs for the given volunteers in one statement.
+	 *
+	 * @param ids Volunteer IDs.
+	 * @return Rows of [volunteerId, skillName].
+	 */
+	@Query("SELECT v.id, s.name FROM Volunteer v JOIN v.skills s WHERE v.id IN :ids")
+	List<Object[]> findSkillNamesByVolunteerIds(@Param("ids") Collection<Long> ids);
 }
\ No newline at end of file
@@ -0,0 +1,106 @@
+package com.example.volunteer_platform.repository;
+
+import com.example.volunteer_platform.dto.WaitlistEntryDto;
+import com.example.volunteer_platform.model.WaitlistEntry;
+import org.springframework.data.domain.Pageable;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Repository interface for managing WaitlistEntry entities.
+ */
+public interface WaitlistRepository extends JpaRepository<WaitlistEntry, Long> {
+
+    /**
+     * Find the head of a task's waitlist and lock it.
+     *
+     * @param taskId Task ID.
+     * @param pageable Number of entries; only the first page is ever requested.
+     * @return Oldest entries first.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE) // A locking read sees entries committed after this transaction began
+    @Query("SELECT w FROM WaitlistEntry w WHERE w.task.id = :taskId ORDER BY w.id")
+    List<WaitlistEntry> findHead(@Param("taskId") Long taskId, Pageable pageable);
+
+    /**
+     * Find a volunteer's entry on a task's waitlist.
+     *
+     * @param taskId Task ID.
+     * @param volunteerId Volunteer ID.
+     * @return Optional containing the entry if the volunteer is waiting.
+     */
+    Optional<WaitlistEntry> findByTaskIdAndVolunteerId(Long taskId, Long volunteerId);
+
+    /**
+     * Count the entries of a task's waitlist up to and including the given one.
+     *
+     * @param taskId Task ID.
+     * @param id Entry ID.
+     * @return Position of the entry in the queue, starting at 1.
+     */
+    long countByTaskIdAndIdLessThanEqual(Long taskId, Long id);
+
+    /**
+     * List a task's waitlist in queue order.
+     *
+     * @param taskId Task ID.
+     * @return Waitlist entries, head first; positions are not filled in.
+     */
+    @Query("SELECT new com.example.volunteer_platform.dto.WaitlistEntryDto(v.id, v.name, w.joinedAt) " +
+           "FROM WaitlistEntry w JOIN w.volunteer v WHERE w.task.id = :taskId ORDER BY w.id")
+    List<WaitlistEntryDto> findEntriesByTaskId(@Param("taskId") Long taskId);
+
+    /**
+     * Remove a volunteer from a task's waitlist.
+     *
+     * @param taskId Task ID.
+     * @param volunteerId Volunteer ID.
+     * @return Number of entries removed.
+     */
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM WaitlistEntry w WHERE w.task.id = :taskId AND w.volunteer.id = :volunteerId")
+    int deleteByTaskIdAndVolunteerId(@Param("taskId") Long taskId, @Param("volunteerId") Long volunteerId);
+
+    /**
+     * Remove a task's whole waitlist.
+     *
+     * @param taskId Task ID.
+     * @return Number of entries removed.
+     */
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM WaitlistEntry w WHERE w.task.id = :taskId")
+    int deleteByTaskId(@Param("taskId") Long taskId);
+
+    /**
+     * Remove a volunteer from every waitlist.
+     *
+     * @param volunteerId Volunteer ID.
+     * @return Number of entries removed.
+     */
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM WaitlistEntry w WHERE w.volunteer.id = :volunteerId")
+    int deleteByVolunteerId(@Param("volunteerId") Long volunteerId);
+
+    /**
+     * Remove the whole waitlists of the given tasks in a single statement.
+     *
+     * @param taskIds Task IDs.
+     * @return Number of entries removed.
+     */
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM WaitlistEntry w WHERE w.task.id IN :taskIds")
+    int deleteByTaskIdIn(@Param("taskIds") Collection<Long> taskIds);
+}
@@ -0,0 +1,34 @@
+package com.example.volunteer_platform.scheduler;
+
+import com.example.volunteer_platform.service.RatingsService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+@Component
+public class RatingAggregateBackfill {
+
+    private static final Logger logger = LoggerFactory.getLogger(RatingAggregateBackfill.class);
+
+    static final String LEASE = "rating-aggregates-backfill";
+
+    @Autowired
+    private RatingsService ratingsService;
+
+    @Autowired
+    private SchedulerLeases schedulerLeases;
+
+    /**
+     * Build missing rating totals at startup. Only the node holding the lease runs it, so nodes starting
+     * together do not insert the same totals twice.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfillAggregates() {
+        if (!schedulerLeases.runExclusively(LEASE, ratingsService::backfillAggregates)) {
+            logger.info("Rating aggregate backfill is running on another node, skipping");
+        }
+    }
+}
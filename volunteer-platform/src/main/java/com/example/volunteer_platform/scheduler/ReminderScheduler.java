@@ -1,81 +1,221 @@
 package com.example.volunteer_platform.scheduler;
 
+import com.example.volunteer_platform.dto.ReminderDto;
+import com.example.volunteer_platform.dto.ReminderRunSummaryDto;
 import com.example.volunteer_platform.service.EmailService;
+import com.example.volunteer_platform.repository.TaskRepository;
 import com.example.volunteer_platform.repository.TaskSignupRepository;
-import com.example.volunteer_platform.model.TaskSignup;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Transactional;
-import lombok.RequiredArgsConstructor;
 import java.time.LocalDate;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+/**
+ * Sends reminder emails for tasks happening tomorrow.
+ * Due signups are paged through in chunks by signup ID; each chunk is rendered and handed to a bounded
+ * pool of mail threads while the next chunk is read, and only confirmed deliveries are marked as sent,
+ * with one update statement per chunk. No database transaction is held open while talking to SMTP.
+ * <p>
+ * A run is split into shards of fixed task ID ranges, each guarded by its own scheduler lease, so every
+ * node of a cluster can start the run and the nodes divide the shards between them instead of sending
+ * duplicate emails. Shard boundaries depend only on the shard size, so all nodes agree on them.
+ */
 @Component
-@RequiredArgsConstructor
 public class ReminderScheduler {
 
     private static final Logger logger = LoggerFactory.getLogger(ReminderScheduler.class);
 
+    static final String LEASE_PREFIX = "reminders-";
+
+    private final TaskRepository taskRepository;
     private final TaskSignupRepository taskSignupRepository;
     private final EmailService emailService;
+    private final SchedulerLeases schedulerLeases;
+    private final int batchSize;
+    private final long shardSize;
+    private final ThreadPoolExecutor mailExecutor;
+    private final AtomicBoolean running = new AtomicBoolean();
 
-    @Transactional
-    // @Scheduled(cron = "0 0 8 * * *") // Uncomment for scheduling
-    public void sendTaskReminders() {
-        LocalDate tomorrow = LocalDate.now().plusDays(1); // Get tomorrow's date
+    public ReminderScheduler(TaskRepository taskRepository,
+                             TaskSignupRepository taskSignupRepository,
+                             EmailService emailService,
+                             SchedulerLeases schedulerLeases,
+                             @Value("${reminders.batch-size:200}") int batchSize,
+                             @Value("${reminders.parallelism:8}") int parallelism,
+                             @Value("${reminders.shard-size:100000}") long shardSize) {
+        this.taskRepository = taskRepository;
+        this.taskSignupRepository = taskSignupRepository;
+        this.emailService = emailService;
+        this.schedulerLeases = schedulerLeases;
+        this.batchSize = batchSize;
+        this.shardSize = shardSize;
+        AtomicInteger threadNumber = new AtomicInteger();
+        // The queue holds one chunk; if it ever fills up the scheduler thread sends the overflow itself
+        this.mailExecutor = new ThreadPoolExecutor(parallelism, parallelism, 60, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(batchSize),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "reminder-mail-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.CallerRunsPolicy());
+        this.mailExecutor.allowCoreThreadTimeOut(true); // Idle between daily runs
+    }
 
-        // Find all task signups where reminders haven't been sent and task is upcoming
-        List<TaskSignup> upcomingTasks = taskSignupRepository.findUpcomingTaskSignups(
-            tomorrow, false // Only tasks with reminderSent = false
-        );
+    @Scheduled(cron = "${reminders.cron:-}") // Disabled unless reminders.cron is set, e.g. "0 0 8 * * *"
+    public ReminderRunSummaryDto sendTaskReminders() {
+        if (!running.compareAndSet(false, true)) {
+            logger.warn("Reminder run already in progress, skipping");
+            return ReminderRunSummaryDto.builder().build();
+        }
+        try {
+            return sendReminders(LocalDate.now().plusDays(1)); // Tasks happening tomorrow
+        } finally {
+            running.set(false);
+        }
+    }
 
-        logger.info("Found {} upcoming task signups", upcomingTasks.size()); // Log the number of signups
-
-        for (TaskSignup signup : upcomingTasks) {
-            logger.info("Processing TaskSignup ID: {}", signup.getSignupId()); // Log the current signup ID
-
-            String emailBody = String.format(
-            	    "Dear %s,\n\n" +
-            	    "Thank you for signing up as a volunteer with us! This is a friendly reminder about your upcoming task:\n\n" +
-            	    "Task Title: %s\n" +
-            	    "Date: %s\n" +
-            	    "Location: %s\n" +
-            	    "Description: %s\n\n" +
-            	    "We appreciate your dedication and commitment to making a difference.\n\n" +
-            	    "If you have any questions or need further assistance, feel free to contact us.\n\n" +
-            	    "Thank you once again for your time and efforts.\n\n" +
-            	    "Warm regards,\n" +
-            	    "The Volunteer Platform Team",
-            	    signup.getVolunteer().getName(),  // Volunteer Name
-            	    signup.getTask().getTitle(),      // Task Title
-            	    signup.getTask().getEventDate(),  // Event Date
-            	    signup.getTask().getLocation(),   // Task Location
-            	    signup.getTask().getDescription() // Task Description
-            	);
+    private ReminderRunSummaryDto sendReminders(LocalDate eventDate) {
+        long start = System.nanoTime();
+        int due = 0;
+        int sent = 0;
+        int shards = 0;
+        int shardsSkipped = 0;
 
+        Long minTaskId = taskRepository.findMinIdByEventDate(eventDate);
+        Long maxTaskId = taskRepository.findMaxIdByEventDate(eventDate);
+        if (minTaskId != null) {
+            for (long shard = minTaskId / shardSize; shard <= maxTaskId / shardSize; shard++) {
+                long fromTaskId = shard * shardSize;
+                Optional<int[]> result = schedulerLeases.callExclusively(LEASE_PREFIX + shard,
+                        () -> sendShard(eventDate, fromTaskId, fromTaskId + shardSize));
+                if (result.isPresent()) {
+                    due += result.get()[0];
+                    sent += result.get()[1];
+                    shards++;
+                } else {
+                    shardsSkipped++;
+                }
+            }
+        }
 
-            try {
-                // Send email
-                emailService.sendReminderEmail(
-                    signup.getVolunteer().getEmail(),
-                    "Reminder: Upcoming Volunteer Task - " + signup.getTask().getTitle(),
-                    emailBody
-                );
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+        double perSecond = elapsedMillis == 0 ? sent : sent * 1000.0 / elapsedMillis;
+        logger.info("Reminder run for {}: {} due, {} sent, {} failed in {} ms ({} msg/s), {} shards, {} skipped",
+                eventDate, due, sent, due - sent, elapsedMillis, String.format("%.1f", perSecond), shards, shardsSkipped);
+        return ReminderRunSummaryDto.builder()
+                .due(due)
+                .sent(sent)
+                .failed(due - sent)
+                .elapsedMillis(elapsedMillis)
+                .messagesPerSecond(perSecond)
+                .shards(shards)
+                .shardsSkipped(shardsSkipped)
+                .build();
+    }
+
+    /**
+     * Send the reminders for tasks in one ID range.
+     *
+     * @return Number of reminders due and number sent.
+     */
+    private int[] sendShard(LocalDate eventDate, long fromTaskId, long toTaskId) {
+        int due = 0;
+        int sent = 0;
+
+        List<ReminderDto> chunk = nextChunk(eventDate, fromTaskId, toTaskId, 0L);
+        while (!chunk.isEmpty()) {
+            List<Future<Long>> deliveries = dispatch(chunk);
+
+            // Read the next chunk while this one is being sent
+            Long lastSignupId = chunk.get(chunk.size() - 1).getSignupId();
+            List<ReminderDto> next = chunk.size() < batchSize ? List.of()
+                    : nextChunk(eventDate, fromTaskId, toTaskId, lastSignupId);
 
-                // Mark reminder as sent and save to the database
-                signup.setReminderSent(true);
-                taskSignupRepository.save(signup); // Save the updated signup
+            List<Long> delivered = awaitDeliveries(deliveries);
+            if (!delivered.isEmpty()) {
+                taskSignupRepository.markRemindersSent(delivered);
+            }
+            due += chunk.size();
+            sent += delivered.size();
+            logger.debug("Reminder chunk up to signup {}: {} of {} delivered", lastSignupId, delivered.size(), chunk.size());
+            chunk = next;
+        }
+        return new int[] {due, sent};
+    }
 
-                // Log successful email
-                logger.info("Reminder sent for TaskSignup ID: {}", signup.getSignupId());
+    private List<ReminderDto> nextChunk(LocalDate eventDate, long fromTaskId, long toTaskId, Long afterSignupId) {
+        return taskSignupRepository.findDueReminders(eventDate, fromTaskId, toTaskId, afterSignupId,
+                PageRequest.of(0, batchSize));
+    }
 
-                // Ensure immediate database synchronization
-                taskSignupRepository.flush();
-            } catch (Exception e) {
-                logger.error("Failed to send email to: {}", signup.getVolunteer().getEmail(), e);
+    private List<Future<Long>> dispatch(List<ReminderDto> chunk) {
+        List<Future<Long>> deliveries = new ArrayList<>(chunk.size());
+        for (ReminderDto reminder : chunk) {
+            deliveries.add(mailExecutor.submit(() -> {
+                emailService.sendReminderEmail(
+                    reminder.getVolunteerEmail(),
+                    "Reminder: Upcoming Volunteer Task - " + reminder.getTaskTitle(),
+                    renderBody(reminder)
+                );
+                return reminder.getSignupId();
+            }));
+        }
+        return deliveries;
+    }
+
+    private List<Long> awaitDeliveries(List<Future<Long>> deliveries) {
+        List<Long> delivered = new ArrayList<>(deliveries.size());
+        for (Future<Long> delivery : deliveries) {
+            try {
+                delivered.add(delivery.get());
+            } catch (ExecutionException e) {
+                logger.error("Failed to send reminder email", e.getCause()); // Left unsent; retried on the next run
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break; // Still mark whatever was confirmed so far
             }
         }
+        return delivered;
+    }
+
+    private static String renderBody(ReminderDto reminder) {
+        return String.format(
+            "Dear %s,\n\n" +
+            "Thank you for signing up as a volunteer with us! This is a friendly reminder about your upcoming task:\n\n" +
+            "Task Title: %s\n" +
+            "Date: %s\n" +
+            "Location: %s\n" +
+            "Description: %s\n\n" +
+            "We appreciate your dedication and commitment to making a difference.\n\n" +
+            "If you have any questions or need further assistance, feel free to contact us.\n\n" +
+            "Thank you once again for your time and efforts.\n\n" +
+            "Warm regards,\n" +
+            "The Volunteer Platform Team",
+            reminder.getVolunteerName(),  // Volunteer Name
+            reminder.getTaskTitle(),      // Task Title
+            reminder.getEventDate(),      // Event Date
+            reminder.getLocation(),       // Task Location
+            reminder.getDescription()     // Task Description
+        );
+    }
+
+    @PreDestroy
+    void shutdown() {
+        mailExecutor.shutdown();
     }
 }
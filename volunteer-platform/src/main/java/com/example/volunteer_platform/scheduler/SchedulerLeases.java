@@ -0,0 +1,120 @@
+package com.example.volunteer_platform.scheduler;
+
+import com.example.volunteer_platform.repository.SchedulerLeaseRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+/**
+ * Runs scheduled jobs on one node of the cluster at a time, coordinated through rows of the
+ * scheduler_leases table. A node runs a job only after it has moved the row's lockedUntil into the
+ * future with a conditional update; other nodes skip the job until the lease expires.
+ * <p>
+ * When the job finishes the lease is kept until lockAtLeastFor after it was taken, so nodes whose
+ * cron fires a little later, or whose clock is behind, do not run the same period again. lockAtMostFor
+ * bounds how long a crashed node blocks the job and must exceed the longest run. Lease times come from
+ * the node clocks, so lockAtLeastFor should be larger than the clock skew between nodes.
+ */
+@Component
+public class SchedulerLeases {
+
+    private static final Logger logger = LoggerFactory.getLogger(SchedulerLeases.class);
+    private static final LocalDateTime EXPIRED = LocalDateTime.of(2000, 1, 1, 0, 0);
+
+    private final SchedulerLeaseRepository schedulerLeaseRepository;
+    private final String nodeId;
+    private final Duration lockAtMostFor;
+    private final Duration lockAtLeastFor;
+
+    public SchedulerLeases(SchedulerLeaseRepository schedulerLeaseRepository,
+                           @Value("${scheduler.node-id:}") String nodeId,
+                           @Value("${scheduler.lease.lock-at-most-for:1h}") Duration lockAtMostFor,
+                           @Value("${scheduler.lease.lock-at-least-for:5m}") Duration lockAtLeastFor) {
+        this.schedulerLeaseRepository = schedulerLeaseRepository;
+        this.nodeId = nodeId.isBlank() ? defaultNodeId() : nodeId;
+        this.lockAtMostFor = lockAtMostFor;
+        this.lockAtLeastFor = lockAtLeastFor;
+    }
+
+    /**
+     * Run a job if no other node holds its lease.
+     *
+     * @param name Job or shard name.
+     * @param job Job to run.
+     * @return true if the job ran on this node, false if another node holds the lease.
+     */
+    public boolean runExclusively(String name, Runnable job) {
+        return callExclusively(name, () -> {
+            job.run();
+            return Boolean.TRUE;
+        }).isPresent();
+    }
+
+    /**
+     * Run a job if no other node holds its lease, and return its result.
+     *
+     * @param name Job or shard name.
+     * @param job Job to run; must not return null.
+     * @return Result of the job, or empty if another node holds the lease.
+     */
+    public <T> Optional<T> callExclusively(String name, Supplier<T> job) {
+        LocalDateTime acquiredAt = LocalDateTime.now();
+        if (!acquire(name, acquiredAt)) {
+            logger.debug("Lease {} is held by another node, skipping", name);
+            return Optional.empty();
+        }
+        try {
+            return Optional.of(job.get());
+        } finally {
+            LocalDateTime now = LocalDateTime.now();
+            LocalDateTime keepUntil = acquiredAt.plus(lockAtLeastFor);
+            if (schedulerLeaseRepository.release(name, nodeId, keepUntil.isAfter(now) ? keepUntil : now) == 0) {
+                logger.warn("Lease {} expired while the job was running; raise scheduler.lease.lock-at-most-for", name);
+            }
+        }
+    }
+
+    private boolean acquire(String name, LocalDateTime now) {
+        LocalDateTime lockedUntil = now.plus(lockAtMostFor);
+        if (schedulerLeaseRepository.acquire(name, nodeId, now, lockedUntil) == 1) {
+            return true;
+        }
+        if (schedulerLeaseRepository.existsById(name)) {
+            return false;
+        }
+        try {
+            schedulerLeaseRepository.insertExpired(name, nodeId, EXPIRED);
+        } catch (DataIntegrityViolationException e) {
+            // Another node created the row first; the conditional update below decides who runs
+        }
+        return schedulerLeaseRepository.acquire(name, nodeId, now, lockedUntil) == 1;
+    }
+
+    /**
+     * @return Identifier this node records as the lease owner.
+     */
+    public String getNodeId() {
+        return nodeId;
+    }
+
+    private static String defaultNodeId() {
+        String host;
+        try {
+            host = InetAddress.getLocalHost().getHostName();
+        } catch (UnknownHostException e) {
+            host = "unknown";
+        }
+        // The random suffix keeps two application contexts in one JVM apart
+        return host + "-" + ProcessHandle.current().pid() + "-" + UUID.randomUUID().toString().substring(0, 8);
+    }
+}
@@ -1,42 +1,44 @@
 package com.example.volunteer_platform.scheduler;
 
-import com.example.volunteer_platform.model.Task;
-import com.example.volunteer_platform.repository.TaskRepository;
-import com.example.volunteer_platform.enums.TaskStatus;
+import com.example.volunteer_platform.service.TaskService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
 import java.time.LocalDate;
-import java.util.List;
 
 @Component
 public class TaskStatusScheduler {
 
+    private static final Logger logger = LoggerFactory.getLogger(TaskStatusScheduler.class);
+
+    static final String LEASE = "task-status";
+
     @Autowired
-    private TaskRepository taskRepository;
+    private TaskService taskService;
+
+    @Autowired
+    private SchedulerLeases schedulerLeases;
 
     /**
-     * Scheduled method to update task statuses to APPLICATION_ENDED if the application deadline has passed.
+     * Scheduled method to update task statuses to APPLICATION_ENDED if the application deadline has passed,
+     * and to ENDED if the event date has passed. Only the node holding the task-status lease runs it.
      */
     @Scheduled(cron = "0 0 0 * * *") // This will run every day at midnight
     public void updateTaskStatuses() {
-        List<Task> tasks = taskRepository.findAll();
+        if (!schedulerLeases.runExclusively(LEASE, this::transitionStatuses)) {
+            logger.info("Task status update is running on another node, skipping");
+        }
+    }
+
+    private void transitionStatuses() {
         LocalDate today = LocalDate.now();
 
-        for (Task task : tasks) {
-            // Check if the application deadline has passed and the task is available
-            if (task.getApplicationDeadline().isBefore(today)
-                    && task.getStatus() == TaskStatus.AVAILABLE) {
-                task.setStatus(TaskStatus.APPLICATION_ENDED);
-                taskRepository.save(task);
-            }
-
-            if (task.getEventDate().isBefore(today)
-                    && task.getStatus() != TaskStatus.ENDED) {
-                task.setStatus(TaskStatus.ENDED);
-                taskRepository.save(task);
-            }
-        }
+        int applicationsClosed = taskService.closeExpiredApplications(today);
+        int tasksEnded = taskService.endPastTasks(today);
+
+        logger.info("Task statuses updated: {} moved to APPLICATION_ENDED, {} moved to ENDED", applicationsClosed, tasksEnded);
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,348 @@
+package com.example.volunteer_platform.search;
+
+import com.example.volunteer_platform.model.Skill;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * In-memory index of volunteer and task skill sets for skill-based matching.
+ * Each skill set is a bitset with one bit per Skill.id, so overlap and Jaccard similarity
+ * between two sets are a few word-wise ANDs and popcounts.
+ * Each node builds its own copy from the database at startup and keeps it current through the services,
+ * which also record their changes for the other nodes to reload.
+ */
+@Component
+public class SkillMatchIndex {
+
+    private final SkillSetTable volunteers = new SkillSetTable();
+    private final SkillSetTable tasks = new SkillSetTable();
+
+    /**
+     * Add or replace a volunteer's skill set.
+     *
+     * @param volunteerId Volunteer ID.
+     * @param skillIds IDs of the volunteer's skills.
+     */
+    public void putVolunteer(Long volunteerId, Collection<Long> skillIds) {
+        volunteers.put(volunteerId, toBits(skillIds));
+    }
+
+    /**
+     * Add a single skill to a volunteer's skill set, creating the entry if needed.
+     *
+     * @param volunteerId Volunteer ID.
+     * @param skillId Skill ID.
+     */
+    public void addVolunteerSkill(Long volunteerId, Long skillId) {
+        volunteers.addBit(volunteerId, skillId);
+    }
+
+    /**
+     * Remove a volunteer from the index.
+     *
+     * @param volunteerId Volunteer ID.
+     */
+    public void removeVolunteer(Long volunteerId) {
+        volunteers.remove(volunteerId);
+    }
+
+    /**
+     * Add or replace a task's required skill set.
+     *
+     * @param taskId Task ID.
+     * @param skillIds IDs of the skills required for the task.
+     */
+    public void putTask(Long taskId, Collection<Long> skillIds) {
+        tasks.put(taskId, toBits(skillIds));
+    }
+
+    /**
+     * Add a single skill to a task's skill set, creating the entry if needed.
+     *
+     * @param taskId Task ID.
+     * @param skillId Skill ID.
+     */
+    public void addTaskSkill(Long taskId, Long skillId) {
+        tasks.addBit(taskId, skillId);
+    }
+
+    /**
+     * Remove a task from the index.
+     *
+     * @param taskId Task ID.
+     */
+    public void removeTask(Long taskId) {
+        tasks.remove(taskId);
+    }
+
+    /**
+     * Remove every volunteer and task from the index.
+     */
+    public void clear() {
+        volunteers.clear();
+        tasks.clear();
+    }
+
+    /**
+     * Get the number of indexed volunteers.
+     *
+     * @return Number of volunteers with at least one skill.
+     */
+    public int volunteerCount() {
+        return volunteers.size();
+    }
+
+    /**
+     * Get the number of indexed tasks.
+     *
+     * @return Number of tasks with at least one required skill.
+     */
+    public int taskCount() {
+        return tasks.size();
+    }
+
+    /**
+     * Find the tasks whose required skills best match a volunteer's skills.
+     *
+     * @param volunteerId Volunteer ID.
+     * @param limit Maximum number of matches.
+     * @return Matches ordered by Jaccard similarity, then by number of shared skills; empty if the volunteer has no skills.
+     */
+    public List<Match> topTasksForVolunteer(Long volunteerId, int limit) {
+        long[] skills = volunteers.get(volunteerId);
+        return skills == null ? List.of() : tasks.topMatches(skills, limit);
+    }
+
+    /**
+     * Find the volunteers whose skills best match a task's required skills.
+     *
+     * @param taskId Task ID.
+     * @param limit Maximum number of matches.
+     * @return Matches ordered by Jaccard similarity, then by number of shared skills; empty if the task requires no skills.
+     */
+    public List<Match> topVolunteersForTask(Long taskId, int limit) {
+        long[] skills = tasks.get(taskId);
+        return skills == null ? List.of() : volunteers.topMatches(skills, limit);
+    }
+
+    /**
+     * Get the IDs of a collection of skills.
+     *
+     * @param skills Skills, may be null.
+     * @return Skill IDs.
+     */
+    public static List<Long> skillIds(Collection<Skill> skills) {
+        if (skills == null) {
+            return List.of();
+        }
+        List<Long> ids = new ArrayList<>(skills.size());
+        for (Skill skill : skills) {
+            ids.add(skill.getId());
+        }
+        return ids;
+    }
+
+    static long[] toBits(Collection<Long> skillIds) {
+        long[] bits = new long[0];
+        for (Long skillId : skillIds) {
+            bits = setBit(bits, skillId);
+        }
+        return bits;
+    }
+
+    private static long[] setBit(long[] bits, long skillId) {
+        int word = (int) (skillId >>> 6);
+        if (word >= bits.length) {
+            bits = Arrays.copyOf(bits, word + 1);
+        }
+        bits[word] |= 1L << (skillId & 63);
+        return bits;
+    }
+
+    private static int popcount(long[] bits) {
+        int count = 0;
+        for (long word : bits) {
+            count += Long.bitCount(word);
+        }
+        return count;
+    }
+
+    /**
+     * A matched volunteer or task with its similarity to the query skill set.
+     */
+    @Getter
+    @AllArgsConstructor
+    public static class Match {
+        private final long id;
+        private final double score; // Jaccard similarity in (0, 1]
+        private final int sharedSkills;
+    }
+
+    /**
+     * Densely packed skill sets keyed by entity ID. Entries live in parallel arrays so a full scan
+     * touches contiguous memory; removal swaps the last entry into the freed slot.
+     */
+    private static class SkillSetTable {
+        private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+        private final Map<Long, Integer> slots = new HashMap<>();
+        private long[] ids = new long[1024];
+        private long[][] bits = new long[1024][];
+        private int[] cardinalities = new int[1024];
+        private int size;
+
+        void put(Long id, long[] skillBits) {
+            int cardinality = popcount(skillBits);
+            lock.writeLock().lock();
+            try {
+                if (cardinality == 0) {
+                    removeUnderLock(id); // Nothing to match against
+                    return;
+                }
+                Integer slot = slots.get(id);
+                if (slot == null) {
+                    slot = append(id);
+                }
+                bits[slot] = skillBits;
+                cardinalities[slot] = cardinality;
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+
+        void addBit(Long id, Long skillId) {
+            lock.writeLock().lock();
+            try {
+                Integer slot = slots.get(id);
+                if (slot == null) {
+                    slot = append(id);
+                    bits[slot] = new long[0];
+                }
+                bits[slot] = setBit(bits[slot], skillId);
+                cardinalities[slot] = popcount(bits[slot]);
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+
+        long[] get(Long id) {
+            lock.readLock().lock();
+            try {
+                Integer slot = slots.get(id);
+                return slot == null ? null : bits[slot];
+            } finally {
+                lock.readLock().unlock();
+            }
+        }
+
+        void remove(Long id) {
+            lock.writeLock().lock();
+            try {
+                removeUnderLock(id);
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+
+        void clear() {
+            lock.writeLock().lock();
+            try {
+                slots.clear();
+                Arrays.fill(bits, 0, size, null);
+                size = 0;
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+
+        int size() {
+            lock.readLock().lock();
+            try {
+                return size;
+            } finally {
+                lock.readLock().unlock();
+            }
+        }
+
+        List<Match> topMatches(long[] query, int limit) {
+            if (limit <= 0) {
+                return List.of();
+            }
+            int queryCardinality = popcount(query);
+            Comparator<Match> ranking = Comparator.comparingDouble(Match::getScore)
+                    .thenComparingInt(Match::getSharedSkills)
+                    .thenComparing(Comparator.comparingLong(Match::getId).reversed());
+            // Bounded min-heap: the weakest of the current top matches sits on top
+            PriorityQueue<Match> heap = new PriorityQueue<>(limit + 1, ranking);
+
+            lock.readLock().lock();
+            try {
+                for (int i = 0; i < size; i++) {
+                    long[] candidate = bits[i];
+                    int words = Math.min(candidate.length, query.length);
+                    int shared = 0;
+                    for (int w = 0; w < words; w++) {
+                        shared += Long.bitCount(candidate[w] & query[w]);
+                    }
+                    if (shared == 0) {
+                        continue;
+                    }
+                    double score = (double) shared / (queryCardinality + cardinalities[i] - shared);
+                    if (heap.size() == limit) {
+                        Match weakest = heap.peek();
+                        if (score < weakest.getScore() || (score == weakest.getScore() && shared <= weakest.getSharedSkills())) {
+                            continue;
+                        }
+                    }
+                    heap.offer(new Match(ids[i], score, shared));
+                    if (heap.size() > limit) {
+                        heap.poll();
+                    }
+                }
+            } finally {
+                lock.readLock().unlock();
+            }
+
+            List<Match> matches = new ArrayList<>(heap);
+            matches.sort(ranking.reversed());
+            return matches;
+        }
+
+        private int append(Long id) {
+            if (size == ids.length) {
+                int capacity = size * 2;
+                ids = Arrays.copyOf(ids, capacity);
+                bits = Arrays.copyOf(bits, capacity);
+                cardinalities = Arrays.copyOf(cardinalities, capacity);
+            }
+            ids[size] = id;
+            slots.put(id, size);
+            return size++;
+        }
+
+        private void removeUnderLock(Long id) {
+            Integer slot = slots.remove(id);
+            if (slot == null) {
+                return;
+            }
+            int last = --size;
+            if (slot != last) {
+                ids[slot] = ids[last];
+                bits[slot] = bits[last];
+                cardinalities[slot] = cardinalities[last];
+                slots.put(ids[slot], slot);
+            }
+            bits[last] = null;
+        }
+    }
+}
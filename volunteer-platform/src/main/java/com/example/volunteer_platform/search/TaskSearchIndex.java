@@ -0,0 +1,337 @@
+package com.example.volunteer_platform.search;
+
+import com.example.volunteer_platform.model.Skill;
+import com.example.volunteer_platform.model.Task;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * In-memory inverted index over task title, description, location and skill names.
+ * Terms are kept in a sorted map so that prefix queries are a single range scan.
+ * Each node builds its own copy from the database at startup and keeps it current through TaskService,
+ * which also records its changes for the other nodes to reload.
+ */
+@Component
+public class TaskSearchIndex {
+
+    /**
+     * Indexed task fields and their ranking weights.
+     */
+    public enum Field {
+        TITLE(3.0),
+        SKILL(2.0),
+        LOCATION(1.5),
+        DESCRIPTION(1.0);
+
+        private final double weight;
+
+        Field(double weight) {
+            this.weight = weight;
+        }
+
+        int bit() {
+            return 1 << ordinal();
+        }
+    }
+
+    private static final int ALL_FIELDS = (1 << Field.values().length) - 1;
+    private static final double PREFIX_MATCH_FACTOR = 0.5; // Prefix hits rank below exact term hits
+
+    private final NavigableMap<String, Map<Long, int[]>> postings = new TreeMap<>(); // term -> taskId -> term frequency per field
+    private final Map<Long, Set<String>> documentTerms = new HashMap<>(); // taskId -> terms, for removal on update
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    /**
+     * Add or replace a task in the index.
+     *
+     * @param task Task to index; its skills must be initialized.
+     */
+    public void index(Task task) {
+        List<String> skillNames = new ArrayList<>();
+        if (task.getSkills() != null) {
+            for (Skill skill : task.getSkills()) {
+                skillNames.add(skill.getName());
+            }
+        }
+        index(task.getId(), task.getTitle(), task.getDescription(), task.getLocation(), skillNames);
+    }
+
+    /**
+     * Add or replace a task in the index.
+     *
+     * @param taskId Task ID.
+     * @param title Title of the task.
+     * @param description Description of the task.
+     * @param location Location of the task.
+     * @param skillNames Names of the skills required for the task.
+     */
+    public void index(Long taskId, String title, String description, String location, Collection<String> skillNames) {
+        Map<String, int[]> frequencies = new HashMap<>();
+        addTerms(frequencies, Field.TITLE, title);
+        addTerms(frequencies, Field.DESCRIPTION, description);
+        addTerms(frequencies, Field.LOCATION, location);
+        for (String skillName : skillNames) {
+            addTerms(frequencies, Field.SKILL, skillName);
+        }
+
+        lock.writeLock().lock();
+        try {
+            removeUnderLock(taskId);
+            for (Map.Entry<String, int[]> entry : frequencies.entrySet()) {
+                postings.computeIfAbsent(entry.getKey(), term -> new HashMap<>()).put(taskId, entry.getValue());
+            }
+            documentTerms.put(taskId, frequencies.keySet());
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Remove a task from the index.
+     *
+     * @param taskId Task ID.
+     */
+    public void remove(Long taskId) {
+        lock.writeLock().lock();
+        try {
+            removeUnderLock(taskId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Remove every task from the index.
+     */
+    public void clear() {
+        lock.writeLock().lock();
+        try {
+            postings.clear();
+            documentTerms.clear();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Get the number of indexed tasks.
+     *
+     * @return Number of tasks in the index.
+     */
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return documentTerms.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Search the index. Every token of the free-text query must match some field, and every token of a
+     * field filter must match that field. Tokens match indexed terms exactly or by prefix.
+     *
+     * @param query Free-text query over all fields, or null.
+     * @param fieldFilters Per-field queries; blank values are ignored.
+     * @param offset Number of ranked results to skip.
+     * @param limit Maximum number of results to return.
+     * @return Ranked task IDs for the requested window and the total number of matches.
+     */
+    public SearchResult search(String query, Map<Field, String> fieldFilters, long offset, int limit) {
+        List<Clause> clauses = new ArrayList<>();
+        for (String token : tokenize(query)) {
+            clauses.add(new Clause(token, ALL_FIELDS));
+        }
+        for (Map.Entry<Field, String> filter : fieldFilters.entrySet()) {
+            for (String token : tokenize(filter.getValue())) {
+                clauses.add(new Clause(token, filter.getKey().bit()));
+            }
+        }
+        if (clauses.isEmpty()) {
+            return new SearchResult(Collections.emptyList(), 0);
+        }
+
+        lock.readLock().lock();
+        try {
+            Map<Long, Double> scores = null;
+            for (Clause clause : clauses) {
+                Map<Long, Double> clauseScores = scoreClause(clause, scores);
+                scores = scores == null ? clauseScores : intersect(scores, clauseScores);
+                if (scores.isEmpty()) {
+                    return new SearchResult(Collections.emptyList(), 0);
+                }
+            }
+            return new SearchResult(topRanked(scores, offset, limit), scores.size());
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private Map<Long, Double> scoreClause(Clause clause, Map<Long, Double> candidates) {
+        Map<Long, Double> clauseScores = new HashMap<>();
+        int documentCount = documentTerms.size();
+        // All terms starting with the token sort between the token itself and token + Character.MAX_VALUE
+        for (Map.Entry<String, Map<Long, int[]>> entry
+                : postings.subMap(clause.token, true, clause.token + Character.MAX_VALUE, true).entrySet()) {
+            Map<Long, int[]> termPostings = entry.getValue();
+            double idf = Math.log(1.0 + (double) documentCount / termPostings.size());
+            double matchFactor = entry.getKey().equals(clause.token) ? 1.0 : PREFIX_MATCH_FACTOR;
+
+            for (Map.Entry<Long, int[]> posting : termPostings.entrySet()) {
+                if (candidates != null && !candidates.containsKey(posting.getKey())) {
+                    continue;
+                }
+                double weight = 0;
+                int[] frequencies = posting.getValue();
+                for (Field field : Field.values()) {
+                    if ((clause.fieldMask & field.bit()) != 0) {
+                        weight += frequencies[field.ordinal()] * field.weight;
+                    }
+                }
+                if (weight > 0) {
+                    clauseScores.merge(posting.getKey(), weight * idf * matchFactor, Math::max);
+                }
+            }
+        }
+        return clauseScores;
+    }
+
+    private static Map<Long, Double> intersect(Map<Long, Double> scores, Map<Long, Double> clauseScores) {
+        Map<Long, Double> result = new HashMap<>();
+        for (Map.Entry<Long, Double> entry : clauseScores.entrySet()) {
+            Double previous = scores.get(entry.getKey());
+            if (previous != null) {
+                result.put(entry.getKey(), previous + entry.getValue());
+            }
+        }
+        return result;
+    }
+
+    private static List<Long> topRanked(Map<Long, Double> scores, long offset, int limit) {
+        if (limit <= 0 || offset >= scores.size()) {
+            return Collections.emptyList();
+        }
+        int window = (int) Math.min(offset + limit, scores.size()); // The offset is below the size, an int
+        // Highest score first; ties broken by task ID so pages are stable
+        Comparator<Map.Entry<Long, Double>> ranking = Map.Entry.<Long, Double>comparingByValue().reversed()
+                .thenComparing(Map.Entry.comparingByKey());
+        // Bounded heap holding the best `window` entries, worst on top
+        PriorityQueue<Map.Entry<Long, Double>> heap = new PriorityQueue<>(window + 1, ranking.reversed());
+        for (Map.Entry<Long, Double> entry : scores.entrySet()) {
+            heap.offer(entry);
+            if (heap.size() > window) {
+                heap.poll();
+            }
+        }
+        List<Map.Entry<Long, Double>> ranked = new ArrayList<>(heap);
+        ranked.sort(ranking);
+        List<Long> ids = new ArrayList<>(window - (int) offset);
+        for (int i = (int) offset; i < ranked.size(); i++) {
+            ids.add(ranked.get(i).getKey());
+        }
+        return ids;
+    }
+
+    private void removeUnderLock(Long taskId) {
+        Set<String> terms = documentTerms.remove(taskId);
+        if (terms == null) {
+            return;
+        }
+        for (String term : terms) {
+            Map<Long, int[]> termPostings = postings.get(term);
+            if (termPostings != null) {
+                termPostings.remove(taskId);
+                if (termPostings.isEmpty()) {
+                    postings.remove(term);
+                }
+            }
+        }
+    }
+
+    private static void addTerms(Map<String, int[]> frequencies, Field field, String text) {
+        for (String token : tokenize(text)) {
+            frequencies.computeIfAbsent(token, term -> new int[Field.values().length])[field.ordinal()]++;
+        }
+    }
+
+    /**
+     * Split text into lower-case alphanumeric tokens.
+     *
+     * @param text Text to tokenize, may be null.
+     * @return Tokens in order of appearance.
+     */
+    static List<String> tokenize(String text) {
+        List<String> tokens = new ArrayList<>();
+        if (text == null) {
+            return tokens;
+        }
+        String lower = text.toLowerCase(Locale.ROOT);
+        int start = -1;
+        for (int i = 0; i <= lower.length(); i++) {
+            boolean wordChar = i < lower.length() && Character.isLetterOrDigit(lower.charAt(i));
+            if (wordChar && start < 0) {
+                start = i;
+            } else if (!wordChar && start >= 0) {
+                tokens.add(lower.substring(start, i));
+                start = -1;
+            }
+        }
+        return tokens;
+    }
+
+    /**
+     * Builds the per-field filter map expected by {@link #search}.
+     *
+     * @param title Title query, or null.
+     * @param location Location query, or null.
+     * @param description Description query, or null.
+     * @param skill Skill name query, or null.
+     * @return Map of the non-blank filters.
+     */
+    public static Map<Field, String> fieldFilters(String title, String location, String description, String skill) {
+        Map<Field, String> filters = new EnumMap<>(Field.class);
+        putIfPresent(filters, Field.TITLE, title);
+        putIfPresent(filters, Field.LOCATION, location);
+        putIfPresent(filters, Field.DESCRIPTION, description);
+        putIfPresent(filters, Field.SKILL, skill);
+        return filters;
+    }
+
+    private static void putIfPresent(Map<Field, String> filters, Field field, String value) {
+        if (value != null && !value.isBlank()) {
+            filters.put(field, value);
+        }
+    }
+
+    @AllArgsConstructor
+    private static class Clause {
+        private final String token;
+        private final int fieldMask;
+    }
+
+    /**
+     * Ranked window of task IDs and the total number of matching tasks.
+     */
+    @Getter
+    @AllArgsConstructor
+    public static class SearchResult {
+        private final List<Long> taskIds; // Highest ranked first
+        private final int totalMatches;
+    }
+}
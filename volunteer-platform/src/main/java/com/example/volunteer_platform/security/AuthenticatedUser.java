@@ -0,0 +1,53 @@
+package com.example.volunteer_platform.security;
+
+import com.example.volunteer_platform.dto.UserCredentialsDto;
+import com.example.volunteer_platform.enums.UserType;
+import lombok.Getter;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import java.io.Serial;
+import java.util.List;
+
+/**
+ * Principal of a logged-in user, kept in the session through the security context. It holds only the
+ * email, the user ID and the role, so sessions stay small and serializable; the profile is looked up on
+ * demand through UserService.getProfile.
+ */
+@Getter
+public class AuthenticatedUser extends org.springframework.security.core.userdetails.User {
+
+    @Serial
+    private static final long serialVersionUID = 1L;
+
+    public static final String ROLE_ORGANIZATION = "ROLE_ORGANIZATION";
+    public static final String ROLE_VOLUNTEER = "ROLE_VOLUNTEER";
+
+    private final Long id;
+    private final String role;
+
+    /**
+     * Build the principal from the login projection of a user.
+     *
+     * @param credentials ID, email, password hash and type of the user.
+     */
+    public AuthenticatedUser(UserCredentialsDto credentials) {
+        this(credentials.getId(), credentials.getEmail(), credentials.getPassword(),
+                credentials.getUserType() == UserType.ORGANIZATION ? ROLE_ORGANIZATION : ROLE_VOLUNTEER);
+    }
+
+    private AuthenticatedUser(Long id, String email, String password, String role) {
+        super(email, password, List.of(new SimpleGrantedAuthority(role)));
+        this.id = id;
+        this.role = role;
+    }
+
+    /**
+     * Copy for the user cache. Credentials of the principal handed to Spring Security are erased after
+     * authentication, so the cache must never share its instance.
+     *
+     * @return An independent copy with the password hash.
+     */
+    public AuthenticatedUser copy() {
+        return new AuthenticatedUser(id, getUsername(), getPassword(), role);
+    }
+}
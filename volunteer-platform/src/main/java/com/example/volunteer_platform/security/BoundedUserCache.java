@@ -0,0 +1,54 @@
+package com.example.volunteer_platform.security;
+
+import com.example.volunteer_platform.cache.BoundedCache;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.userdetails.UserCache;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Least-recently-used cache of login principals by email, so repeated logins skip the user query.
+ * Entries expire after a fixed time. When a profile, password or account changes, the node making the
+ * change evicts the user at once and the other nodes within auth.cache-invalidation.poll-interval, so an
+ * old password or a deleted account keeps working elsewhere for at most that long. A cached hash that does
+ * not match the entered password makes the authentication provider reload the user before rejecting the login.
+ */
+@Component
+public class BoundedUserCache implements UserCache {
+
+    private final BoundedCache<String, AuthenticatedUser> entries;
+
+    public BoundedUserCache(@Value("${auth.user-cache.max-size:10000}") int maxSize,
+                            @Value("${auth.user-cache.ttl:10m}") Duration ttl) {
+        this.entries = new BoundedCache<>(maxSize, ttl);
+    }
+
+    @Override
+    public UserDetails getUserFromCache(String username) {
+        AuthenticatedUser user = entries.get(username);
+        return user == null ? null : user.copy();
+    }
+
+    @Override
+    public void putUserInCache(UserDetails user) {
+        if (user instanceof AuthenticatedUser authenticatedUser) {
+            entries.put(user.getUsername(), authenticatedUser.copy());
+        }
+    }
+
+    @Override
+    public void removeUserFromCache(String username) {
+        entries.remove(username);
+    }
+
+    /**
+     * Number of cached principals.
+     *
+     * @return Current size.
+     */
+    public int size() {
+        return entries.size();
+    }
+}
@@ -1,5 +1,7 @@
 package com.example.volunteer_platform.service;
 
+import java.time.LocalDate;
+
 /**
  * EmailService provides methods to send emails in the system.
  */
@@ -11,6 +13,18 @@ public interface EmailService {
      * @param to Recipient's email address.
      * @param subject Subject of the email.
      * @param body Body of the email.
+     * @throws org.springframework.mail.MailException If the message could not be delivered to the mail server.
      */
     void sendReminderEmail(String to, String subject, String body);
-}
\ No newline at end of file
+
+    /**
+     * Tell a volunteer that a slot opened up and they were moved from the waitlist onto a task.
+     *
+     * @param to Recipient's email address.
+     * @param volunteerName Name of the volunteer.
+     * @param taskTitle Title of the task.
+     * @param eventDate Date of the task.
+     * @throws org.springframework.mail.MailException If the message could not be delivered to the mail server.
+     */
+    void sendWaitlistPromotionEmail(String to, String volunteerName, String taskTitle, LocalDate eventDate);
+}
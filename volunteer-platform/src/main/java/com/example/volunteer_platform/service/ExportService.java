@@ -0,0 +1,38 @@
+package com.example.volunteer_platform.service;
+
+import com.example.volunteer_platform.enums.ExportFormat;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.LocalDate;
+
+/**
+ * ExportService writes reporting exports straight to an output stream, one row at a time,
+ * so memory use does not grow with the size of the export.
+ */
+public interface ExportService {
+
+    /**
+     * Export task signups.
+     *
+     * @param from Only signups for tasks with an event date on or after this date, or null.
+     * @param to Only signups for tasks with an event date on or before this date, or null.
+     * @param organizationId Only signups for tasks of this organization, or null.
+     * @param format Output format.
+     * @param out Stream to write to; it is flushed but not closed.
+     * @throws IOException If writing fails.
+     */
+    void exportSignups(LocalDate from, LocalDate to, Long organizationId, ExportFormat format, OutputStream out) throws IOException;
+
+    /**
+     * Export tasks.
+     *
+     * @param from Only tasks with an event date on or after this date, or null.
+     * @param to Only tasks with an event date on or before this date, or null.
+     * @param organizationId Only tasks of this organization, or null.
+     * @param format Output format.
+     * @param out Stream to write to; it is flushed but not closed.
+     * @throws IOException If writing fails.
+     */
+    void exportTasks(LocalDate from, LocalDate to, Long organizationId, ExportFormat format, OutputStream out) throws IOException;
+}
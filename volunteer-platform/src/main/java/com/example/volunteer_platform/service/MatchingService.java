@@ -0,0 +1,30 @@
+package com.example.volunteer_platform.service;
+
+import com.example.volunteer_platform.dto.TaskMatchDto;
+import com.example.volunteer_platform.dto.VolunteerMatchDto;
+
+import java.util.List;
+
+/**
+ * MatchingService provides skill-based recommendations between volunteers and tasks.
+ */
+public interface MatchingService {
+
+    /**
+     * Get the open tasks whose required skills best match a volunteer's skills.
+     *
+     * @param volunteerId Volunteer ID.
+     * @param limit Maximum number of tasks to return.
+     * @return Recommended tasks, best match first.
+     */
+    List<TaskMatchDto> recommendTasksForVolunteer(Long volunteerId, int limit);
+
+    /**
+     * Get the volunteers whose skills best match a task's required skills.
+     *
+     * @param taskId Task ID.
+     * @param limit Maximum number of volunteers to return.
+     * @return Suggested volunteers, best match first.
+     */
+    List<VolunteerMatchDto> suggestVolunteersForTask(Long taskId, int limit);
+}
@@ -1,5 +1,9 @@
 package com.example.volunteer_platform.service;
 
+import com.example.volunteer_platform.dto.LeaderboardEntryDto;
+import com.example.volunteer_platform.dto.RatingResponseDto;
+import com.example.volunteer_platform.dto.RatingSummaryDto;
+import com.example.volunteer_platform.enums.UserType;
 import com.example.volunteer_platform.model.Ratings;
 
 import java.util.List;
@@ -11,13 +15,24 @@ import java.util.Optional;
 public interface RatingsService {
 
     /**
-     * Submit a rating after validation.
+     * Submit a rating after validation and add it to the rated user's totals.
+     * A rating that already exists is handled as an edit of its score and review.
      *
      * @param rating The rating to be submitted.
      * @return The submitted rating.
      */
     Ratings submitRating(Ratings rating);
 
+    /**
+     * Change the score and review of an existing rating and update the rated user's totals.
+     *
+     * @param ratingId The ID of the rating.
+     * @param ratingScore The new rating score.
+     * @param review The new review text.
+     * @return Optional containing the updated rating, or empty if it does not exist.
+     */
+    Optional<Ratings> editRating(long ratingId, int ratingScore, String review);
+
     /**
      * Check if a rating can be submitted based on the event date.
      *
@@ -42,6 +57,22 @@ public interface RatingsService {
      */
     List<Ratings> getRatingsByUser (long ratedByUserId);
 
+    /**
+     * Get the REST views of the ratings for a specific user.
+     *
+     * @param ratedUserId The ID of the user being rated.
+     * @return Rating views, newest first.
+     */
+    List<RatingResponseDto> getRatingResponsesForUser(long ratedUserId);
+
+    /**
+     * Get the REST views of the ratings submitted by a specific user.
+     *
+     * @param ratedByUserId The ID of the user who submitted the ratings.
+     * @return Rating views, newest first.
+     */
+    List<RatingResponseDto> getRatingResponsesByUser(long ratedByUserId);
+
     /**
      * Get a specific rating by its ID.
      *
@@ -51,9 +82,33 @@ public interface RatingsService {
     Optional<Ratings> getRatingById(long ratingId);
 
     /**
-     * Delete a rating by its ID.
+     * Delete a rating by its ID and remove it from the rated user's totals.
      *
      * @param ratingId The ID of the rating to be deleted.
      */
     void deleteRating(long ratingId);
-}
\ No newline at end of file
+
+    /**
+     * Get the rating totals of a user.
+     *
+     * @param userId The ID of the rated user.
+     * @return Rating count, average and ranking score; zero counts if the user has not been rated.
+     */
+    RatingSummaryDto getRatingSummary(long userId);
+
+    /**
+     * Get a page of a leaderboard, best ranking score first.
+     *
+     * @param userType Leaderboard to read.
+     * @param page Zero-based page number.
+     * @param size Page size.
+     * @return Ranked leaderboard rows.
+     */
+    List<LeaderboardEntryDto> getLeaderboard(UserType userType, int page, int size);
+
+    /**
+     * Build the rating totals from the ratings table if they have never been built, e.g. on a database
+     * that predates them. Afterwards they are maintained with every rating change.
+     */
+    void backfillAggregates();
+}
@@ -1,7 +1,9 @@
 package com.example.volunteer_platform.service;
 
+import com.example.volunteer_platform.dto.SkillCacheStatsDto;
 import com.example.volunteer_platform.model.Skill;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -18,7 +20,7 @@ public interface SkillService {
     List<Skill> getAllSkills();
 
     /**
-     * Find a skill by its name.
+     * Find a skill by its name, ignoring case.
      *
      * @param name Name of the skill.
      * @return Optional containing the skill if found.
@@ -46,4 +48,20 @@ public interface SkillService {
      * @param skillId Skill ID.
      */
     void deleteSkillById(Long skillId);
-}
\ No newline at end of file
+
+    /**
+     * Resolve skill names to skills, creating the ones that do not exist yet.
+     * Names are matched ignoring case; new skills are stored in lower case.
+     *
+     * @param names Names of the skills; blank names and duplicates are skipped.
+     * @return One skill per distinct name, in order of first appearance.
+     */
+    List<Skill> resolveOrCreate(Collection<String> names);
+
+    /**
+     * Get hit and miss counts of the skill catalog cache.
+     *
+     * @return Cache statistics.
+     */
+    SkillCacheStatsDto getCacheStats();
+}
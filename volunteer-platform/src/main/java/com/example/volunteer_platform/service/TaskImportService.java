@@ -0,0 +1,43 @@
+package com.example.volunteer_platform.service;
+
+import com.example.volunteer_platform.dto.TaskDto;
+import com.example.volunteer_platform.dto.TaskImportResultDto;
+
+import java.io.InputStream;
+import java.util.List;
+
+/**
+ * TaskImportService creates many tasks for an organization in one request.
+ * Every row is validated on its own; valid rows are created and invalid ones are reported back.
+ */
+public interface TaskImportService {
+
+    /**
+     * Import tasks given as a list.
+     *
+     * @param organizationId ID of the organization that owns the tasks.
+     * @param tasks Tasks to create.
+     * @return Per-row import report.
+     */
+    TaskImportResultDto importTasks(Long organizationId, List<TaskDto> tasks);
+
+    /**
+     * Import tasks from newline-delimited JSON, one TaskDto object per line, reading the stream as it arrives.
+     *
+     * @param organizationId ID of the organization that owns the tasks.
+     * @param input UTF-8 NDJSON stream.
+     * @return Per-row import report.
+     */
+    TaskImportResultDto importTasksFromNdjson(Long organizationId, InputStream input);
+
+    /**
+     * Import tasks from CSV, reading the stream as it arrives. The first line is a header naming the columns
+     * title, description, location, eventDate, applicationDeadline, cancellationDeadline and skills, in any order.
+     * An optional capacity column may follow. Dates are yyyy-MM-dd and skills are separated by semicolons.
+     *
+     * @param organizationId ID of the organization that owns the tasks.
+     * @param input UTF-8 CSV stream.
+     * @return Per-row import report.
+     */
+    TaskImportResultDto importTasksFromCsv(Long organizationId, InputStream input);
+}
@@ -1,7 +1,15 @@
 package com.example.volunteer_platform.service;
 
+import com.example.volunteer_platform.dto.OpportunityDto;
+import com.example.volunteer_platform.dto.OrganizationTaskPageDto;
+import com.example.volunteer_platform.dto.TaskFeedPageDto;
+import com.example.volunteer_platform.dto.TaskResponseDto;
+import com.example.volunteer_platform.dto.TaskSearchPageDto;
+import com.example.volunteer_platform.enums.TaskStatus;
 import com.example.volunteer_platform.model.Task;
 
+import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -17,6 +25,58 @@ public interface TaskService {
      */
     List<Task> getAllTasks();
 
+    /**
+     * Get one page of the task feed, ordered by event date and ID.
+     *
+     * @param cursor Cursor token from the previous page, or null for the first page.
+     * @param status Status filter, or null for any status.
+     * @param from Earliest event date (inclusive), or null.
+     * @param to Latest event date (inclusive), or null.
+     * @param size Maximum number of tasks on the page.
+     * @return Page of task summaries with the cursor for the next page.
+     * @throws IllegalArgumentException if the cursor is malformed.
+     */
+    TaskFeedPageDto getTaskFeed(String cursor, TaskStatus status, LocalDate from, LocalDate to, int size);
+
+    /**
+     * Get all tasks open for application, each with the name of its organization.
+     *
+     * @return List of available opportunities ordered by event date.
+     */
+    List<OpportunityDto> getAvailableOpportunities();
+
+    /**
+     * Get the REST views of an organization's tasks.
+     *
+     * @param organizationId Organization ID.
+     * @param withSkills Whether to load the skill names of the tasks.
+     * @return Task views ordered by event date.
+     */
+    List<TaskResponseDto> getOrganizationTaskResponses(Long organizationId, boolean withSkills);
+
+    /**
+     * Get one page of an organization's tasks in the given statuses, with their skills, and the number of
+     * the organization's tasks in each status.
+     *
+     * @param organizationId Organization ID.
+     * @param statuses Statuses of the tasks to list.
+     * @param newestFirst Whether to list the latest event dates first instead of the earliest.
+     * @param page Zero-based page number.
+     * @param size Page size.
+     * @return Page of tasks with per-status counts.
+     */
+    OrganizationTaskPageDto getOrganizationTaskPage(Long organizationId, Collection<TaskStatus> statuses,
+                                                    boolean newestFirst, int page, int size);
+
+    /**
+     * Check whether a task belongs to an organization.
+     *
+     * @param taskId Task ID.
+     * @param organizationId Organization ID.
+     * @return True if the task exists and belongs to the organization.
+     */
+    boolean isTaskOfOrganization(Long taskId, Long organizationId);
+
     /**
      * Create a new task associated with an organization.
      *
@@ -24,6 +84,13 @@ public interface TaskService {
      */
     void saveTask(Task task);
 
+    /**
+     * Cancel a task whatever its status. Signups and the waitlist are kept.
+     *
+     * @param taskId Task ID.
+     */
+    void cancelTask(Long taskId);
+
     /**
      * Find a task by its ID.
      *
@@ -32,6 +99,14 @@ public interface TaskService {
      */
     Optional<Task> findById(Long taskId);
 
+    /**
+     * Find a task with its skills, for the task detail pages.
+     *
+     * @param taskId Task ID.
+     * @return Optional containing the task if found.
+     */
+    Optional<Task> findWithSkillsById(Long taskId);
+
     /**
      * Delete a task by its ID.
      *
@@ -40,14 +115,50 @@ public interface TaskService {
     void deleteByTaskId(Long taskId);
 
     /**
-     * Search tasks by title, location, or description.
+     * Delete tasks together with their signups, waitlists and skills, with one
+     * statement per table in a single transaction. Nobody is promoted or notified.
+     *
+     * @param taskIds Task IDs; callers chunk very large sets.
+     */
+    void deleteTasks(Collection<Long> taskIds);
+
+    /**
+     * Search tasks by free text and per-field filters. All given criteria must match;
+     * words match by prefix and results are ranked by relevance.
      *
+     * @param query Free-text query over title, description, location and skill names.
      * @param title Title of the task.
      * @param location Location of the task.
      * @param description Description of the task.
-     * @return List of tasks matching the search criteria.
+     * @param skill Name of a skill required for the task.
+     * @param page Zero-based page number.
+     * @param size Page size.
+     * @return Page of tasks matching the search criteria, best match first.
+     */
+    TaskSearchPageDto searchTasks(String query, String title, String location, String description, String skill, int page, int size);
+
+    /**
+     * Close applications for available and full tasks whose application deadline has passed.
+     *
+     * @param today Current date.
+     * @return Number of tasks moved to APPLICATION_ENDED.
+     */
+    int closeExpiredApplications(LocalDate today);
+
+    /**
+     * End tasks whose event date has passed.
+     *
+     * @param today Current date.
+     * @return Number of tasks moved to ENDED.
+     */
+    int endPastTasks(LocalDate today);
+
+    /**
+     * Change the capacity of a task. The task is filled or reopened to match its current signups.
+     *
+     * @param taskId Task ID.
+     * @param capacity New capacity.
+     * @return Status of the task afterwards, or null if the task does not exist.
      */
-    List<Task> searchTasks(String title, String location, String description);
-    
-   
-}
\ No newline at end of file
+    TaskStatus changeCapacity(Long taskId, int capacity);
+}
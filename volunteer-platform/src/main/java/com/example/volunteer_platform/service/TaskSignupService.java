@@ -1,8 +1,12 @@
 package com.example.volunteer_platform.service;
 
 import com.example.volunteer_platform.dto.ReminderStatusDTO;
+import com.example.volunteer_platform.dto.SignupResultDto;
+import com.example.volunteer_platform.dto.TaskSignupResponseDto;
+import com.example.volunteer_platform.dto.WaitlistEntryDto;
 import com.example.volunteer_platform.model.TaskSignup;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -34,6 +38,38 @@ public interface TaskSignupService {
      */
     List<TaskSignup> getTaskSignups(Long taskId);
 
+    /**
+     * Get the REST views of all signups.
+     *
+     * @return Signup views.
+     */
+    List<TaskSignupResponseDto> getAllSignupResponses();
+
+    /**
+     * Get the REST views of a volunteer's signups.
+     *
+     * @param volunteerId Volunteer ID.
+     * @return Signup views.
+     */
+    List<TaskSignupResponseDto> getUserSignupResponses(Long volunteerId);
+
+    /**
+     * Get the REST views of a task's signups.
+     *
+     * @param taskId Task ID.
+     * @return Signup views.
+     */
+    List<TaskSignupResponseDto> getTaskSignupResponses(Long taskId);
+
+    /**
+     * Count the signups for a task without loading them. The count is kept on the task and updated
+     * in the same statement that takes or gives back a slot.
+     *
+     * @param taskId Task ID.
+     * @return Number of signups; 0 if the task does not exist.
+     */
+    int countTaskSignups(Long taskId);
+
     /**
      * Find a task signup by its ID.
      *
@@ -65,12 +101,81 @@ public interface TaskSignupService {
     void save(TaskSignup taskSignup);
 
     /**
-     * Delete a task signup by its ID.
+     * Sign up a volunteer for a task, taking one of the task's slots.
+     * The task moves to FILLED when its last slot is taken; once it is full, volunteers join its waitlist.
+     * Safe against concurrent signups: the capacity is never exceeded and a volunteer never holds
+     * two signups for the same task.
+     *
+     * @param taskId Task ID.
+     * @param volunteerId Volunteer ID.
+     * @return Outcome and the new or existing signup.
+     */
+    SignupResultDto signUp(Long taskId, Long volunteerId);
+
+    /**
+     * Delete a task signup by its ID. Its slot goes to the head of the task's waitlist, who is notified
+     * by email, or back to the task if nobody is waiting.
      *
      * @param signupId Task signup ID.
      */
     void deleteById(Long signupId);
 
+    /**
+     * Move volunteers from the head of a task's waitlist onto the task while it has free slots,
+     * e.g. after its capacity was raised.
+     *
+     * @param taskId Task ID.
+     * @return Number of volunteers promoted.
+     */
+    int promoteFromWaitlist(Long taskId);
+
+    /**
+     * Get a task's waitlist in queue order.
+     *
+     * @param taskId Task ID.
+     * @return Waitlist entries with their positions, head first.
+     */
+    List<WaitlistEntryDto> getWaitlist(Long taskId);
+
+    /**
+     * Remove a volunteer from a task's waitlist.
+     *
+     * @param taskId Task ID.
+     * @param volunteerId Volunteer ID.
+     * @return True if the volunteer was waiting.
+     */
+    boolean leaveWaitlist(Long taskId, Long volunteerId);
+
+    /**
+     * Remove a task's whole waitlist without promoting anyone, e.g. before the task is deleted.
+     *
+     * @param taskId Task ID.
+     */
+    void clearWaitlist(Long taskId);
+
+    /**
+     * Remove a volunteer from every waitlist, e.g. before the volunteer is deleted.
+     *
+     * @param volunteerId Volunteer ID.
+     */
+    void removeFromAllWaitlists(Long volunteerId);
+
+    /**
+     * Delete the signups and waitlists of tasks about to be deleted, with one statement per table.
+     * Nobody is promoted and no slots are given back.
+     *
+     * @param taskIds Task IDs.
+     */
+    void deleteTaskSignups(Collection<Long> taskIds);
+
+    /**
+     * Delete all signups and waitlist entries of a volunteer about to be deleted, with one statement per
+     * table. The freed slots go to the heads of the tasks' waitlists as in deleteById.
+     *
+     * @param volunteerId Volunteer ID.
+     */
+    void deleteVolunteerSignups(Long volunteerId);
+
     /**
      * Get the reminder status for all task signups.
      *
@@ -1,9 +1,14 @@
 package com.example.volunteer_platform.service;
 
+import com.example.volunteer_platform.dto.ErasureJobDto;
 import com.example.volunteer_platform.dto.OrganizationDto;
 import com.example.volunteer_platform.dto.OrganizationPartialDto;
+import com.example.volunteer_platform.dto.OrganizationResponseDto;
+import com.example.volunteer_platform.dto.UserProfileDto;
+import com.example.volunteer_platform.dto.UserResponseDto;
 import com.example.volunteer_platform.dto.VolunteerDto;
 import com.example.volunteer_platform.dto.VolunteerPartialDto;
+import com.example.volunteer_platform.dto.VolunteerResponseDto;
 import com.example.volunteer_platform.model.*;
 
 import java.util.List;
@@ -64,6 +69,14 @@ public interface UserService {
      */
     Optional<User> findUserById(Long id);
 
+    /**
+     * Get the profile of a user for the views, from a cache that is evicted whenever the user changes.
+     *
+     * @param id User ID.
+     * @return Optional containing the profile if the user exists.
+     */
+    Optional<UserProfileDto> getProfile(Long id);
+
     /**
      * Delete a user by their ID.
      *
@@ -85,6 +98,28 @@ public interface UserService {
      */
     List<Volunteer> getAllVolunteers();
 
+    /**
+     * Get the REST views of all users.
+     *
+     * @return User views.
+     */
+    List<UserResponseDto> getAllUserResponses();
+
+    /**
+     * Get the REST views of all organizations.
+     *
+     * @return Organization views.
+     */
+    List<OrganizationResponseDto> getAllOrganizationResponses();
+
+    /**
+     * Get the REST views of all volunteers.
+     *
+     * @param withSkills Whether to load the skill names of the volunteers.
+     * @return Volunteer views.
+     */
+    List<VolunteerResponseDto> getAllVolunteerResponses(boolean withSkills);
+
     /**
      * Find an organization by its ID.
      *
@@ -101,6 +136,14 @@ public interface UserService {
      */
     Optional<Volunteer> findVolunteerById(Long id);
 
+    /**
+     * Find a volunteer with their skills, for the profile and skill pages.
+     *
+     * @param id Volunteer ID.
+     * @return Optional containing the volunteer if found.
+     */
+    Optional<Volunteer> findVolunteerWithSkillsById(Long id);
+
     /**
      * Update an organization's details.
      *
@@ -112,7 +155,8 @@ public interface UserService {
     Optional<Organization> updateOrganization(Long organizationId, OrganizationPartialDto updatedOrg);
 
     /**
-     * Delete an organization by its ID.
+     * Delete an organization by its ID. Its tasks are deleted in chunks, each in its own transaction,
+     * so an interrupted deletion leaves whole chunks deleted and can simply be repeated.
      *
      * @param organizationId ID of the organization to delete.
      * @return true if the organization was deleted, false if not found.
@@ -120,6 +164,23 @@ public interface UserService {
      */
     boolean deleteOrganizationById(Long organizationId);
 
+    /**
+     * Delete an organization in the background, as deleteOrganizationById does. Each node runs its erasures
+     * one at a time; the job can be polled from any node.
+     *
+     * @param organizationId ID of the organization to delete.
+     * @return The queued job, or empty if the organization was not found.
+     */
+    Optional<ErasureJobDto> startOrganizationErasure(Long organizationId);
+
+    /**
+     * Get the progress of a background erasure.
+     *
+     * @param jobId Job ID.
+     * @return The job, or empty if unknown or expired.
+     */
+    Optional<ErasureJobDto> getErasureJob(String jobId);
+
     /**
      * Update a volunteer's details.
      *
@@ -6,6 +6,8 @@ import org.springframework.stereotype.Service;
 import lombok.RequiredArgsConstructor;
 import com.example.volunteer_platform.service.EmailService;
 
+import java.time.LocalDate;
+
 /**
  * EmailServiceImplementation provides methods to send emails in the system.
  * This is an implementation of the EmailService interface.
@@ -17,16 +19,24 @@ public class EmailServiceImplementation implements EmailService {
 
     @Override
     public void sendReminderEmail(String to, String subject, String body) {
-        try {
-            SimpleMailMessage message = new SimpleMailMessage();
-            message.setTo(to);
-            message.setSubject(subject);
-            message.setText(body);
-            mailSender.send(message);
-            System.out.println("Email sent successfully to: " + to); // Add this for debug
-        } catch (Exception e) {
-            System.out.println("Failed to send email to: " + to);
-            e.printStackTrace();
-        }
+        SimpleMailMessage message = new SimpleMailMessage();
+        message.setTo(to);
+        message.setSubject(subject);
+        message.setText(body);
+        mailSender.send(message); // Failures propagate so callers only record confirmed deliveries
+    }
+
+    @Override
+    public void sendWaitlistPromotionEmail(String to, String volunteerName, String taskTitle, LocalDate eventDate) {
+        String body = String.format(
+            "Dear %s,\n\n" +
+            "Good news! A place opened up and you have been moved from the waitlist onto your task:\n\n" +
+            "Task Title: %s\n" +
+            "Date: %s\n\n" +
+            "If you can no longer attend, please cancel your signup so the next volunteer can take your place.\n\n" +
+            "Warm regards,\n" +
+            "The Volunteer Platform Team",
+            volunteerName, taskTitle, eventDate);
+        sendReminderEmail(to, "You're in: " + taskTitle, body);
     }
-}
\ No newline at end of file
+}
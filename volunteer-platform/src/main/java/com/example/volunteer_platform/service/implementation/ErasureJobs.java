@@ -0,0 +1,170 @@
+package com.example.volunteer_platform.service.implementation;
+
+import com.example.volunteer_platform.dto.ErasureJobDto;
+import com.example.volunteer_platform.enums.ErasureState;
+import com.example.volunteer_platform.scheduler.SchedulerLeases;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Consumer;
+import java.util.function.LongConsumer;
+
+/**
+ * Runs large erasures in the background, one at a time per node, and keeps their progress in erasure_jobs
+ * so any node can report it, also after a restart. The node running a job refreshes its row every
+ * heartbeat interval; a queued or running job whose node stopped, e.g. because it was restarted, is
+ * reported as failed once its row is STALE_HEARTBEATS intervals old. Erasing the user again resumes it.
+ * Uses plain JDBC so the bookkeeping does not show up in the Hibernate statistics.
+ */
+@Component
+class ErasureJobs {
+
+    private static final Logger logger = LoggerFactory.getLogger(ErasureJobs.class);
+
+    private static final int STALE_HEARTBEATS = 5;
+    private static final int MAX_ERROR_LENGTH = 1000;
+
+    private static final RowMapper<ErasureJobDto> JOB_MAPPER = (row, rowNum) -> ErasureJobDto.builder()
+            .jobId(row.getString("job_id"))
+            .userId(row.getLong("user_id"))
+            .state(ErasureState.valueOf(row.getString("state")))
+            .totalTasks(row.getLong("total_tasks"))
+            .tasksDeleted(row.getLong("tasks_deleted"))
+            .startedAt(toLocalDateTime(row.getTimestamp("started_at")))
+            .finishedAt(toLocalDateTime(row.getTimestamp("finished_at")))
+            .error(row.getString("error"))
+            .build();
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private SchedulerLeases schedulerLeases;
+
+    private final Duration staleAfter;
+    private final Duration ttl;
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "erasure");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    ErasureJobs(@Value("${erasure.jobs.heartbeat-interval:1m}") Duration heartbeatInterval,
+                @Value("${erasure.jobs.ttl:24h}") Duration ttl) {
+        this.staleAfter = heartbeatInterval.multipliedBy(STALE_HEARTBEATS);
+        this.ttl = ttl;
+    }
+
+    /**
+     * Queue an erasure.
+     *
+     * @param userId ID of the user being erased.
+     * @param totalTasks Number of tasks to delete, for progress reporting.
+     * @param erasure Erasure to run; reports the number of tasks deleted after each chunk.
+     * @return The queued job.
+     */
+    ErasureJobDto submit(Long userId, long totalTasks, Consumer<LongConsumer> erasure) {
+        ErasureJobDto job = ErasureJobDto.builder()
+                .jobId(UUID.randomUUID().toString())
+                .userId(userId)
+                .state(ErasureState.QUEUED)
+                .totalTasks(totalTasks)
+                .build();
+        jdbcTemplate.update("INSERT INTO erasure_jobs (job_id, user_id, node_id, state, total_tasks, tasks_deleted, updated_at) "
+                        + "VALUES (?, ?, ?, ?, ?, 0, ?)",
+                job.getJobId(), userId, schedulerLeases.getNodeId(), ErasureState.QUEUED.name(), totalTasks, LocalDateTime.now());
+        executor.execute(() -> run(job.getJobId(), userId, erasure));
+        return job;
+    }
+
+    /**
+     * Get the latest progress of a job, whichever node runs it.
+     *
+     * @param jobId Job ID.
+     * @return The job, or null if unknown or expired.
+     */
+    ErasureJobDto get(String jobId) {
+        List<ErasureJobDto> jobs = jdbcTemplate.query("SELECT * FROM erasure_jobs WHERE job_id = ?",
+                (row, rowNum) -> {
+                    ErasureJobDto job = JOB_MAPPER.mapRow(row, rowNum);
+                    LocalDateTime updatedAt = row.getTimestamp("updated_at").toLocalDateTime();
+                    if (isActive(job.getState()) && updatedAt.isBefore(LocalDateTime.now().minus(staleAfter))) {
+                        return job.toBuilder().state(ErasureState.FAILED).finishedAt(updatedAt)
+                                .error("Interrupted: node " + row.getString("node_id") + " stopped running the job").build();
+                    }
+                    return job;
+                },
+                jobId);
+        return jobs.isEmpty() ? null : jobs.get(0);
+    }
+
+    /**
+     * Show the other nodes that this node still runs its queued and running jobs, and purge old jobs.
+     */
+    @Scheduled(fixedDelayString = "${erasure.jobs.heartbeat-interval:1m}")
+    public void heartbeat() {
+        LocalDateTime now = LocalDateTime.now();
+        try {
+            jdbcTemplate.update("UPDATE erasure_jobs SET updated_at = ? WHERE node_id = ? AND state IN (?, ?)",
+                    now, schedulerLeases.getNodeId(), ErasureState.QUEUED.name(), ErasureState.RUNNING.name());
+            jdbcTemplate.update("DELETE FROM erasure_jobs WHERE updated_at < ?", now.minus(ttl));
+        } catch (DataAccessException e) {
+            logger.warn("Could not update erasure jobs; retrying at the next heartbeat", e);
+        }
+    }
+
+    private void run(String jobId, Long userId, Consumer<LongConsumer> erasure) {
+        jdbcTemplate.update("UPDATE erasure_jobs SET state = ?, started_at = ?, updated_at = ? WHERE job_id = ?",
+                ErasureState.RUNNING.name(), LocalDateTime.now(), LocalDateTime.now(), jobId);
+        long[] tasksDeleted = {0};
+        try {
+            erasure.accept(deleted -> {
+                tasksDeleted[0] += deleted;
+                jdbcTemplate.update("UPDATE erasure_jobs SET tasks_deleted = ?, updated_at = ? WHERE job_id = ?",
+                        tasksDeleted[0], LocalDateTime.now(), jobId);
+            });
+            finish(jobId, ErasureState.COMPLETED, null);
+            logger.info("Erasure {} of user {} deleted {} tasks", jobId, userId, tasksDeleted[0]);
+        } catch (RuntimeException e) {
+            logger.error("Erasure {} of user {} failed", jobId, userId, e);
+            finish(jobId, ErasureState.FAILED, e.getMessage());
+        }
+    }
+
+    private void finish(String jobId, ErasureState state, String error) {
+        if (error != null && error.length() > MAX_ERROR_LENGTH) {
+            error = error.substring(0, MAX_ERROR_LENGTH);
+        }
+        LocalDateTime now = LocalDateTime.now();
+        jdbcTemplate.update("UPDATE erasure_jobs SET state = ?, finished_at = ?, updated_at = ?, error = ? WHERE job_id = ?",
+                state.name(), now, now, error, jobId);
+    }
+
+    private static boolean isActive(ErasureState state) {
+        return state == ErasureState.QUEUED || state == ErasureState.RUNNING;
+    }
+
+    private static LocalDateTime toLocalDateTime(Timestamp timestamp) {
+        return timestamp == null ? null : timestamp.toLocalDateTime();
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdown();
+    }
+}
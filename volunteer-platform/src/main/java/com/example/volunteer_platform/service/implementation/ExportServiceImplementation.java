@@ -0,0 +1,81 @@
+package com.example.volunteer_platform.service.implementation;
+
+import com.example.volunteer_platform.dto.SignupExportDto;
+import com.example.volunteer_platform.dto.TaskExportDto;
+import com.example.volunteer_platform.enums.ExportFormat;
+import com.example.volunteer_platform.repository.TaskRepository;
+import com.example.volunteer_platform.repository.TaskSignupRepository;
+import com.example.volunteer_platform.service.ExportService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+/**
+ * ExportServiceImplementation provides streaming reporting exports.
+ * This is an implementation of the ExportService interface.
+ * Rows are projections read through a database cursor, so nothing accumulates in the persistence context.
+ */
+@Service
+public class ExportServiceImplementation implements ExportService {
+
+    private static final List<String> SIGNUP_COLUMNS = List.of("signupId", "signupDate", "reminderSent", "taskId",
+            "taskTitle", "eventDate", "organizationId", "volunteerId", "volunteerName", "volunteerEmail");
+    private static final List<String> TASK_COLUMNS = List.of("id", "title", "description", "location", "eventDate",
+            "applicationDeadline", "cancellationDeadline", "status", "organizationId", "createdAt");
+
+    @Autowired
+    private TaskSignupRepository taskSignupRepository;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Override
+    @Transactional(readOnly = true)
+    public void exportSignups(LocalDate from, LocalDate to, Long organizationId, ExportFormat format, OutputStream out) throws IOException {
+        try (Stream<SignupExportDto> rows = taskSignupRepository.streamForExport(from, to, organizationId)) {
+            writeAll(rows, writer(format, out, SIGNUP_COLUMNS, signup -> Arrays.asList(
+                    signup.getSignupId(), signup.getSignupDate(), signup.isReminderSent(), signup.getTaskId(),
+                    signup.getTaskTitle(), signup.getEventDate(), signup.getOrganizationId(), signup.getVolunteerId(),
+                    signup.getVolunteerName(), signup.getVolunteerEmail())));
+        }
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public void exportTasks(LocalDate from, LocalDate to, Long organizationId, ExportFormat format, OutputStream out) throws IOException {
+        try (Stream<TaskExportDto> rows = taskRepository.streamForExport(from, to, organizationId)) {
+            writeAll(rows, writer(format, out, TASK_COLUMNS, task -> Arrays.asList(
+                    task.getId(), task.getTitle(), task.getDescription(), task.getLocation(), task.getEventDate(),
+                    task.getApplicationDeadline(), task.getCancellationDeadline(), task.getStatus(),
+                    task.getOrganizationId(), task.getCreatedAt())));
+        }
+    }
+
+    private <T> ExportWriter<T> writer(ExportFormat format, OutputStream out, List<String> columns,
+                                       Function<T, List<Object>> values) throws IOException {
+        return format == ExportFormat.CSV
+                ? ExportWriter.csv(out, columns, values)
+                : ExportWriter.ndjson(out, objectMapper.writer());
+    }
+
+    private static <T> void writeAll(Stream<T> rows, ExportWriter<T> writer) throws IOException {
+        Iterator<T> iterator = rows.iterator();
+        while (iterator.hasNext()) {
+            writer.write(iterator.next());
+        }
+        writer.flush();
+    }
+}
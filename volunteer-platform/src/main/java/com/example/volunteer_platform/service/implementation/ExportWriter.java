@@ -0,0 +1,77 @@
+package com.example.volunteer_platform.service.implementation;
+
+import com.fasterxml.jackson.databind.ObjectWriter;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Writes export rows one at a time through a small buffer.
+ */
+abstract class ExportWriter<T> {
+
+    protected final Writer writer;
+
+    private ExportWriter(OutputStream out) {
+        this.writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+    }
+
+    abstract void write(T row) throws IOException;
+
+    void flush() throws IOException {
+        writer.flush();
+    }
+
+    /**
+     * One JSON object per line.
+     */
+    static <T> ExportWriter<T> ndjson(OutputStream out, ObjectWriter objectWriter) {
+        return new ExportWriter<>(out) {
+            @Override
+            void write(T row) throws IOException {
+                writer.write(objectWriter.writeValueAsString(row));
+                writer.write('\n');
+            }
+        };
+    }
+
+    /**
+     * CSV with a header line; the values of each row are produced by the given function.
+     */
+    static <T> ExportWriter<T> csv(OutputStream out, List<String> header, Function<T, List<Object>> values) throws IOException {
+        ExportWriter<T> csvWriter = new ExportWriter<>(out) {
+            @Override
+            void write(T row) throws IOException {
+                writeLine(writer, values.apply(row));
+            }
+        };
+        writeLine(csvWriter.writer, List.copyOf(header));
+        return csvWriter;
+    }
+
+    private static void writeLine(Writer writer, List<?> fields) throws IOException {
+        for (int i = 0; i < fields.size(); i++) {
+            if (i > 0) {
+                writer.write(',');
+            }
+            Object field = fields.get(i);
+            if (field != null) {
+                writer.write(escapeCsv(field.toString()));
+            }
+        }
+        writer.write('\n');
+    }
+
+    static String escapeCsv(String value) {
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+            return value;
+        }
+        return '"' + value.replace("\"", "\"\"") + '"';
+    }
+}
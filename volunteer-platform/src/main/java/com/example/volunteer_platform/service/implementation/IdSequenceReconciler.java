@@ -0,0 +1,74 @@
+package com.example.volunteer_platform.service.implementation;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Moves the pooled ID sequences past the IDs already in their tables. Rows created while the tables still
+ * used auto-increment columns, or written with explicit IDs by bulk loaders, would otherwise collide with
+ * the IDs the sequences hand out. Sequences are only ever moved forward, so blocks other nodes hold stay unique.
+ * <p>
+ * On H2 these are real sequences; on MySQL Hibernate emulates each one with a single-row table.
+ */
+@Component
+class IdSequenceReconciler implements SmartInitializingSingleton {
+
+    private static final Logger logger = LoggerFactory.getLogger(IdSequenceReconciler.class);
+
+    /**
+     * A sequence, the table and ID column it serves, and the allocationSize of its generator.
+     */
+    private record IdSequence(String name, String table, String idColumn, int allocationSize) { }
+
+    private static final List<IdSequence> SEQUENCES = List.of(
+            new IdSequence("task_signup_seq", "task_signup", "signup_id", 50),
+            new IdSequence("ratings_seq", "ratings", "rating_id", 50),
+            new IdSequence("skill_seq", "skill", "id", 1));
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    /**
+     * Runs once the schema is up to date and before the web server starts, so no request or startup
+     * listener inserts a row with an ID from the old range.
+     */
+    @Override
+    public void afterSingletonsInstantiated() {
+        boolean h2 = "H2".equals(jdbcTemplate.execute((ConnectionCallback<String>) connection ->
+                connection.getMetaData().getDatabaseProductName()));
+        for (IdSequence sequence : SEQUENCES) {
+            Long maxId = jdbcTemplate.queryForObject(
+                    "SELECT MAX(" + sequence.idColumn() + ") FROM " + sequence.table(), Long.class);
+            if (maxId == null) {
+                continue;
+            }
+            // The pooled optimizer hands out the block ending at the value it reads, so that block must start above maxId
+            long nextValue = maxId + sequence.allocationSize();
+            boolean advanced = h2 ? advanceH2Sequence(sequence.name(), nextValue) : advanceTableSequence(sequence.name(), nextValue);
+            if (advanced) {
+                logger.info("ID sequence {} moved to {} past the existing rows of {}", sequence.name(), nextValue, sequence.table());
+            }
+        }
+    }
+
+    private boolean advanceH2Sequence(String name, long nextValue) {
+        Long current = jdbcTemplate.queryForObject(
+                "SELECT BASE_VALUE FROM INFORMATION_SCHEMA.SEQUENCES WHERE UPPER(SEQUENCE_NAME) = UPPER(?)", Long.class, name);
+        if (current != null && current >= nextValue) {
+            return false;
+        }
+        jdbcTemplate.execute("ALTER SEQUENCE " + name + " RESTART WITH " + nextValue);
+        return true;
+    }
+
+    private boolean advanceTableSequence(String name, long nextValue) {
+        return jdbcTemplate.update("UPDATE " + name + " SET next_val = ? WHERE next_val < ?", nextValue, nextValue) > 0;
+    }
+}
@@ -0,0 +1,189 @@
+package com.example.volunteer_platform.service.implementation;
+
+import com.example.volunteer_platform.enums.TaskStatus;
+import com.example.volunteer_platform.scheduler.SchedulerLeases;
+import com.example.volunteer_platform.search.SkillMatchIndex;
+import com.example.volunteer_platform.search.TaskSearchIndex;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Keeps the task search and skill match indexes of every node current with changes made on other nodes.
+ * The node making a change updates its own indexes after commit, as before, and records the change in
+ * index_changes; the other nodes poll that table and reload the changed tasks and volunteers from the
+ * database within search.index-changes.poll-interval.
+ * <p>
+ * Each poll rereads the last LOOKBACK of rows, so a row whose transaction committed after a later row was
+ * seen is not missed; rows already handled are remembered by ID until they leave that window. LOOKBACK must
+ * exceed the clock skew between nodes. Uses plain JDBC so the polling does not show up in the Hibernate statistics.
+ */
+@Component
+class IndexChanges {
+
+    private static final Logger logger = LoggerFactory.getLogger(IndexChanges.class);
+
+    private static final String TASK = "TASK";
+    private static final String VOLUNTEER = "VOLUNTEER";
+    private static final Duration LOOKBACK = Duration.ofMinutes(1);
+    private static final Duration RETENTION = Duration.ofMinutes(10);
+    private static final int RELOAD_BATCH_SIZE = 500;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TaskSearchIndex taskSearchIndex;
+
+    @Autowired
+    private SkillMatchIndex skillMatchIndex;
+
+    @Autowired
+    private SchedulerLeases schedulerLeases;
+
+    private volatile LocalDateTime lastPollAt = LocalDateTime.now(); // Indexes are built from the database after this
+    private Set<Long> handled = Set.of(); // Rows within LOOKBACK already reloaded; only touched by the poller
+
+    /**
+     * Tell the other nodes that tasks were created, changed or deleted. Inside a transaction the record is
+     * part of it, so other nodes only act on changes that commit.
+     *
+     * @param taskIds Task IDs.
+     */
+    void tasksChanged(Collection<Long> taskIds) {
+        record(TASK, taskIds);
+    }
+
+    /**
+     * Tell the other nodes that a volunteer's skills changed or the volunteer was deleted.
+     *
+     * @param volunteerId Volunteer ID.
+     */
+    void volunteerChanged(Long volunteerId) {
+        record(VOLUNTEER, List.of(volunteerId));
+    }
+
+    /**
+     * Reload the tasks and volunteers other nodes changed since the last poll and purge old records.
+     */
+    @Scheduled(fixedDelayString = "${search.index-changes.poll-interval:2s}")
+    public void poll() {
+        LocalDateTime now = LocalDateTime.now();
+        try {
+            Set<Long> seen = new HashSet<>();
+            Set<Long> taskIds = new LinkedHashSet<>();
+            Set<Long> volunteerIds = new LinkedHashSet<>();
+            jdbcTemplate.query("SELECT id, entity_type, entity_id FROM index_changes WHERE created_at >= ? AND node_id <> ?",
+                    row -> {
+                        long id = row.getLong("id");
+                        seen.add(id);
+                        if (!handled.contains(id)) {
+                            (TASK.equals(row.getString("entity_type")) ? taskIds : volunteerIds).add(row.getLong("entity_id"));
+                        }
+                    },
+                    lastPollAt.minus(LOOKBACK), schedulerLeases.getNodeId());
+            reloadTasks(new ArrayList<>(taskIds));
+            reloadVolunteers(new ArrayList<>(volunteerIds));
+            handled = seen;
+            lastPollAt = now;
+            jdbcTemplate.update("DELETE FROM index_changes WHERE created_at < ?", now.minus(RETENTION));
+        } catch (DataAccessException e) {
+            logger.warn("Could not read index changes; retrying at the next poll", e);
+        }
+    }
+
+    private void record(String entityType, Collection<Long> ids) {
+        if (ids.isEmpty()) {
+            return;
+        }
+        LocalDateTime now = LocalDateTime.now();
+        String nodeId = schedulerLeases.getNodeId();
+        List<Object[]> rows = new ArrayList<>(ids.size());
+        for (Long id : ids) {
+            rows.add(new Object[]{entityType, id, nodeId, now});
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO index_changes (entity_type, entity_id, node_id, created_at) VALUES (?, ?, ?, ?)", rows);
+    }
+
+    private void reloadTasks(List<Long> taskIds) {
+        for (int from = 0; from < taskIds.size(); from += RELOAD_BATCH_SIZE) {
+            List<Long> batch = taskIds.subList(from, Math.min(from + RELOAD_BATCH_SIZE, taskIds.size()));
+            String in = placeholders(batch.size());
+            Map<Long, List<Long>> skillIds = new HashMap<>();
+            Map<Long, List<String>> skillNames = new HashMap<>();
+            jdbcTemplate.query("SELECT ts.task_id, s.id, s.name FROM task_skills ts JOIN skill s ON s.id = ts.skill_id "
+                            + "WHERE ts.task_id IN (" + in + ")",
+                    row -> {
+                        long taskId = row.getLong(1);
+                        skillIds.computeIfAbsent(taskId, id -> new ArrayList<>()).add(row.getLong(2));
+                        skillNames.computeIfAbsent(taskId, id -> new ArrayList<>()).add(row.getString(3));
+                    },
+                    batch.toArray());
+            Set<Long> found = new HashSet<>();
+            jdbcTemplate.query("SELECT id, title, description, location, status FROM tasks WHERE id IN (" + in + ")",
+                    row -> {
+                        long taskId = row.getLong("id");
+                        found.add(taskId);
+                        taskSearchIndex.index(taskId, row.getString("title"), row.getString("description"),
+                                row.getString("location"), skillNames.getOrDefault(taskId, List.of()));
+                        if (TaskStatus.AVAILABLE.name().equals(row.getString("status"))) {
+                            skillMatchIndex.putTask(taskId, skillIds.getOrDefault(taskId, List.of()));
+                        } else {
+                            skillMatchIndex.removeTask(taskId); // Only open tasks are recommended
+                        }
+                    },
+                    batch.toArray());
+            for (Long taskId : batch) {
+                if (!found.contains(taskId)) {
+                    taskSearchIndex.remove(taskId);
+                    skillMatchIndex.removeTask(taskId);
+                }
+            }
+        }
+        if (!taskIds.isEmpty()) {
+            logger.debug("Reloaded {} tasks changed on other nodes into the indexes", taskIds.size());
+        }
+    }
+
+    private void reloadVolunteers(List<Long> volunteerIds) {
+        for (int from = 0; from < volunteerIds.size(); from += RELOAD_BATCH_SIZE) {
+            List<Long> batch = volunteerIds.subList(from, Math.min(from + RELOAD_BATCH_SIZE, volunteerIds.size()));
+            String in = placeholders(batch.size());
+            Set<Long> found = new HashSet<>(jdbcTemplate.queryForList(
+                    "SELECT id FROM user WHERE user_type = 'VOLUNTEER' AND id IN (" + in + ")", Long.class, batch.toArray()));
+            Map<Long, List<Long>> skillIds = new HashMap<>();
+            jdbcTemplate.query("SELECT volunteer_id, skill_id FROM volunteer_skills WHERE volunteer_id IN (" + in + ")",
+                    row -> {
+                        skillIds.computeIfAbsent(row.getLong(1), id -> new ArrayList<>()).add(row.getLong(2));
+                    },
+                    batch.toArray());
+            for (Long volunteerId : batch) {
+                if (found.contains(volunteerId)) {
+                    skillMatchIndex.putVolunteer(volunteerId, skillIds.getOrDefault(volunteerId, List.of()));
+                } else {
+                    skillMatchIndex.removeVolunteer(volunteerId);
+                }
+            }
+        }
+    }
+
+    private static String placeholders(int count) {
+        return String.join(", ", Collections.nCopies(count, "?"));
+    }
+}
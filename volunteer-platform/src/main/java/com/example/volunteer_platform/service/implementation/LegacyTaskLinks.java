@@ -0,0 +1,53 @@
+package com.example.volunteer_platform.service.implementation;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.DatabaseMetaData;
+import java.sql.ResultSet;
+
+/**
+ * Tells whether the database still has the user_tasks join table that linked organizations to their tasks
+ * before tasks.organization_id alone owned the relationship. Nothing writes it any more, but on databases
+ * created before that change its foreign keys to tasks and users remain, so its rows must be deleted
+ * along with the tasks. Schemas created since never have the table.
+ */
+@Component
+class LegacyTaskLinks implements InitializingBean {
+
+    private static final Logger logger = LoggerFactory.getLogger(LegacyTaskLinks.class);
+
+    private static final String TABLE = "user_tasks";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private boolean present;
+
+    /**
+     * Checked once at startup, before requests are served.
+     */
+    @Override
+    public void afterPropertiesSet() {
+        present = Boolean.TRUE.equals(jdbcTemplate.execute((ConnectionCallback<Boolean>) connection -> {
+            DatabaseMetaData metaData = connection.getMetaData();
+            String name = metaData.storesUpperCaseIdentifiers() ? TABLE.toUpperCase() : TABLE;
+            String pattern = name.replace("_", metaData.getSearchStringEscape() + "_");
+            try (ResultSet tables = metaData.getTables(connection.getCatalog(), connection.getSchema(), pattern, new String[]{"TABLE"})) {
+                return tables.next();
+            }
+        }));
+        if (present) {
+            logger.info("Legacy table {} found; its rows are deleted together with their tasks", TABLE);
+        }
+    }
+
+    boolean isPresent() {
+        return present;
+    }
+}
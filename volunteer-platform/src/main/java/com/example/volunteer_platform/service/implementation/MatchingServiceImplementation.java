@@ -0,0 +1,136 @@
+package com.example.volunteer_platform.service.implementation;
+
+import com.example.volunteer_platform.dto.TaskMatchDto;
+import com.example.volunteer_platform.dto.TaskSummaryDto;
+import com.example.volunteer_platform.dto.VolunteerMatchDto;
+import com.example.volunteer_platform.enums.TaskStatus;
+import com.example.volunteer_platform.repository.TaskRepository;
+import com.example.volunteer_platform.repository.VolunteerRepository;
+import com.example.volunteer_platform.search.SkillMatchIndex;
+import com.example.volunteer_platform.service.MatchingService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * MatchingServiceImplementation answers skill-based recommendations from the in-memory SkillMatchIndex
+ * and loads only the matched rows from the database.
+ * This is an implementation of the MatchingService interface.
+ */
+@Service
+public class MatchingServiceImplementation implements MatchingService {
+
+    private static final Logger logger = LoggerFactory.getLogger(MatchingServiceImplementation.class);
+
+    private static final int INDEX_REBUILD_BATCH_SIZE = 5000;
+    private static final int OVERFETCH_FACTOR = 2; // Head-room for tasks whose status changed outside TaskService
+
+    @Autowired
+    private SkillMatchIndex skillMatchIndex;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private VolunteerRepository volunteerRepository;
+
+    @Override
+    public List<TaskMatchDto> recommendTasksForVolunteer(Long volunteerId, int limit) {
+        List<SkillMatchIndex.Match> matches = skillMatchIndex.topTasksForVolunteer(volunteerId, limit * OVERFETCH_FACTOR);
+        if (matches.isEmpty()) {
+            return List.of();
+        }
+
+        Map<Long, TaskSummaryDto> summaries = taskRepository.findSummariesByIdIn(ids(matches)).stream()
+                .collect(Collectors.toMap(TaskSummaryDto::getId, Function.identity()));
+        List<TaskMatchDto> recommendations = new ArrayList<>(limit);
+        for (SkillMatchIndex.Match match : matches) {
+            TaskSummaryDto task = summaries.get(match.getId());
+            // The scheduler closes tasks in bulk, so re-check the status the database holds now
+            if (task != null && task.getStatus() == TaskStatus.AVAILABLE) {
+                recommendations.add(new TaskMatchDto(task, match.getScore(), match.getSharedSkills()));
+                if (recommendations.size() == limit) {
+                    break;
+                }
+            }
+        }
+        return recommendations;
+    }
+
+    @Override
+    public List<VolunteerMatchDto> suggestVolunteersForTask(Long taskId, int limit) {
+        List<SkillMatchIndex.Match> matches = skillMatchIndex.topVolunteersForTask(taskId, limit);
+        if (matches.isEmpty()) {
+            return List.of();
+        }
+
+        Map<Long, String> names = new HashMap<>();
+        for (Object[] row : volunteerRepository.findNamesByIdIn(ids(matches))) {
+            names.put((Long) row[0], (String) row[1]);
+        }
+        List<VolunteerMatchDto> suggestions = new ArrayList<>(matches.size());
+        for (SkillMatchIndex.Match match : matches) {
+            String name = names.get(match.getId());
+            if (name != null) {
+                suggestions.add(new VolunteerMatchDto(match.getId(), name, match.getScore(), match.getSharedSkills()));
+            }
+        }
+        return suggestions;
+    }
+
+    /**
+     * Rebuild the skill match index from the database once the application has started.
+     * Skill assignments are read as (owner ID, skill ID) pairs in keyset-ordered batches.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void rebuildSkillMatchIndex() {
+        skillMatchIndex.clear();
+
+        long volunteerId = 0;
+        long skillId = 0;
+        List<Object[]> batch;
+        do {
+            batch = volunteerRepository.findSkillIdPairsAfter(volunteerId, skillId, PageRequest.of(0, INDEX_REBUILD_BATCH_SIZE));
+            for (Object[] row : batch) {
+                volunteerId = (Long) row[0];
+                skillId = (Long) row[1];
+                skillMatchIndex.addVolunteerSkill(volunteerId, skillId);
+            }
+        } while (batch.size() == INDEX_REBUILD_BATCH_SIZE);
+
+        long taskId = 0;
+        skillId = 0;
+        do {
+            batch = taskRepository.findSkillIdPairsAfter(TaskStatus.AVAILABLE, taskId, skillId, PageRequest.of(0, INDEX_REBUILD_BATCH_SIZE));
+            for (Object[] row : batch) {
+                taskId = (Long) row[0];
+                skillId = (Long) row[1];
+                skillMatchIndex.addTaskSkill(taskId, skillId);
+            }
+        } while (batch.size() == INDEX_REBUILD_BATCH_SIZE);
+
+        logger.info("Skill match index built with {} volunteers and {} tasks",
+                skillMatchIndex.volunteerCount(), skillMatchIndex.taskCount());
+    }
+
+    private static List<Long> ids(List<SkillMatchIndex.Match> matches) {
+        List<Long> ids = new ArrayList<>(matches.size());
+        for (SkillMatchIndex.Match match : matches) {
+            ids.add(match.getId());
+        }
+        return ids;
+    }
+}
@@ -1,12 +1,27 @@
 package com.example.volunteer_platform.service.implementation;
 
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import com.example.volunteer_platform.dto.LeaderboardEntryDto;
+import com.example.volunteer_platform.dto.RatingResponseDto;
+import com.example.volunteer_platform.dto.RatingSummaryDto;
+import com.example.volunteer_platform.enums.UserType;
+import com.example.volunteer_platform.model.Organization;
+import com.example.volunteer_platform.model.RatingAggregate;
 import com.example.volunteer_platform.model.Ratings;
+import com.example.volunteer_platform.model.User;
+import com.example.volunteer_platform.model.Volunteer;
+import com.example.volunteer_platform.repository.RatingAggregateRepository;
 import com.example.volunteer_platform.repository.RatingsRepository;
+import com.example.volunteer_platform.repository.UserRepository;
 import com.example.volunteer_platform.service.RatingsService;
 
 import java.time.LocalDate;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 
@@ -17,12 +32,44 @@ import java.util.Optional;
 @Service
 public class RatingsServiceImplementation implements RatingsService {
 
+    private static final Logger logger = LoggerFactory.getLogger(RatingsServiceImplementation.class);
+
     @Autowired
     private RatingsRepository ratingsRepository;
 
+    @Autowired
+    private RatingAggregateRepository ratingAggregateRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
     @Override
+    @Transactional
     public Ratings submitRating(Ratings rating) {
-        return ratingsRepository.save(rating);
+        if (rating.getRatingId() != 0) {
+            return editRating(rating.getRatingId(), rating.getRatingScore(), rating.getReview()).orElseThrow();
+        }
+        Ratings saved = ratingsRepository.save(rating);
+        applyToAggregate(saved.getRatedUserId(), 1, saved.getRatingScore());
+        return saved;
+    }
+
+    @Override
+    @Transactional
+    public Optional<Ratings> editRating(long ratingId, int ratingScore, String review) {
+        Optional<Ratings> ratingOpt = ratingsRepository.findById(ratingId);
+        if (ratingOpt.isEmpty()) {
+            return Optional.empty();
+        }
+        Ratings rating = ratingOpt.get();
+        int previousScore = rating.getRatingScore();
+        rating.setRatingScore(ratingScore);
+        rating.setReview(review);
+        Ratings saved = ratingsRepository.save(rating);
+        if (ratingScore != previousScore) {
+            applyToAggregate(saved.getRatedUserId(), 0, ratingScore - previousScore);
+        }
+        return Optional.of(saved);
     }
 
     @Override
@@ -36,23 +83,106 @@ public class RatingsServiceImplementation implements RatingsService {
     }
 
     @Override
+    @Transactional(readOnly = true)
     public List<Ratings> getRatingsForUser (long ratedUserId) {
         return ratingsRepository.findByRatedUserId(ratedUserId);
     }
 
     @Override
+    @Transactional(readOnly = true)
     public List<Ratings> getRatingsByUser (long ratedByUserId) {
         return ratingsRepository.findByRatedByUserId(ratedByUserId);
     }
 
     @Override
+    @Transactional(readOnly = true)
+    public List<RatingResponseDto> getRatingResponsesForUser(long ratedUserId) {
+        return ratingsRepository.findResponsesByRatedUserId(ratedUserId);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<RatingResponseDto> getRatingResponsesByUser(long ratedByUserId) {
+        return ratingsRepository.findResponsesByRatedByUserId(ratedByUserId);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
     public Optional<Ratings> getRatingById(long ratingId) {
         return ratingsRepository.findById(ratingId);
     }
 
     @Override
+    @Transactional
     public void deleteRating(long ratingId) {
-        ratingsRepository.deleteById(ratingId);
+        Optional<Ratings> ratingOpt = ratingsRepository.findById(ratingId);
+        if (ratingOpt.isEmpty()) {
+            return;
+        }
+        Ratings rating = ratingOpt.get();
+        ratingsRepository.delete(rating);
+        applyToAggregate(rating.getRatedUserId(), -1, -rating.getRatingScore());
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public RatingSummaryDto getRatingSummary(long userId) {
+        return ratingAggregateRepository.findById(userId)
+                .map(aggregate -> new RatingSummaryDto(userId, aggregate.getRatingCount(), aggregate.getAverage(), aggregate.getScore()))
+                .orElseGet(() -> new RatingSummaryDto(userId, 0, 0, RatingAggregate.PRIOR_MEAN));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<LeaderboardEntryDto> getLeaderboard(UserType userType, int page, int size) {
+        PageRequest pageRequest = PageRequest.of(page, size);
+        List<LeaderboardEntryDto> entries = userType == UserType.VOLUNTEER
+                ? ratingAggregateRepository.findVolunteerLeaderboard(pageRequest)
+                : ratingAggregateRepository.findOrganizationLeaderboard(pageRequest);
+        for (int i = 0; i < entries.size(); i++) {
+            entries.get(i).setRank(page * size + i + 1);
+        }
+        return entries;
+    }
+
+    @Override
+    @Transactional
+    public void backfillAggregates() {
+        if (ratingAggregateRepository.count() > 0) {
+            return;
+        }
+        List<RatingAggregate> aggregates = new ArrayList<>();
+        addAggregates(aggregates, UserType.VOLUNTEER, ratingsRepository.sumRatingsPerVolunteer());
+        addAggregates(aggregates, UserType.ORGANIZATION, ratingsRepository.sumRatingsPerOrganization());
+        ratingAggregateRepository.saveAll(aggregates);
+        if (!aggregates.isEmpty()) {
+            logger.info("Rating aggregates built for {} users", aggregates.size());
+        }
+    }
+
+    private static void addAggregates(List<RatingAggregate> aggregates, UserType userType, List<Object[]> rows) {
+        for (Object[] row : rows) {
+            RatingAggregate aggregate = new RatingAggregate((Long) row[0], userType, 0, 0, 0);
+            aggregate.apply((Long) row[1], ((Number) row[2]).longValue());
+            aggregates.add(aggregate);
+        }
+    }
+
+    private void applyToAggregate(long userId, long countDelta, long sumDelta) {
+        double priorWeight = RatingAggregate.PRIOR_WEIGHT;
+        double priorTotal = RatingAggregate.PRIOR_WEIGHT * RatingAggregate.PRIOR_MEAN;
+        if (ratingAggregateRepository.addToTotals(userId, countDelta, sumDelta, priorWeight, priorTotal) > 0) {
+            return;
+        }
+        Optional<User> user = userRepository.findById(userId);
+        if (user.isEmpty() || !(user.get() instanceof Volunteer || user.get() instanceof Organization)) {
+            logger.warn("Rating for unknown user {} not added to any leaderboard", userId);
+            return;
+        }
+        UserType userType = user.get() instanceof Volunteer ? UserType.VOLUNTEER : UserType.ORGANIZATION;
+        // First rating of the user: concurrent first ratings insert the row only once, then both add to it
+        ratingAggregateRepository.insertIfAbsent(userId, userType.name(), RatingAggregate.PRIOR_MEAN);
+        ratingAggregateRepository.addToTotals(userId, countDelta, sumDelta, priorWeight, priorTotal);
     }
 
     private LocalDate getEventDateForRating(Ratings rating) {
@@ -60,4 +190,4 @@ public class RatingsServiceImplementation implements RatingsService {
         // This may involve querying the task associated with the rating
         return null; // placeholder value
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,102 @@
+package com.example.volunteer_platform.service.implementation;
+
+import com.example.volunteer_platform.model.Skill;
+import org.springframework.stereotype.Component;
+
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * In-memory copy of the skill dictionary, keyed both by ID and by case-normalized name.
+ * Entries hold only the ID and name; callers always get a fresh Skill, so a cached entry can never be
+ * modified through an entity that escaped into a persistence context.
+ */
+@Component
+class SkillCatalog {
+
+    private final Map<String, Long> idsByName = new ConcurrentHashMap<>();
+    private final Map<Long, String> namesById = new ConcurrentHashMap<>();
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+
+    /**
+     * Look up a skill by name, ignoring case and surrounding whitespace.
+     *
+     * @param name Skill name.
+     * @return The skill, or null on a cache miss.
+     */
+    Skill getByName(String name) {
+        Long id = idsByName.get(normalize(name));
+        if (id == null) {
+            misses.incrementAndGet();
+            return null;
+        }
+        String storedName = namesById.get(id);
+        if (storedName == null) {
+            misses.incrementAndGet(); // Removed concurrently
+            return null;
+        }
+        hits.incrementAndGet();
+        return new Skill(id, storedName);
+    }
+
+    /**
+     * Look up a skill by ID.
+     *
+     * @param id Skill ID.
+     * @return The skill, or null on a cache miss.
+     */
+    Skill getById(Long id) {
+        String name = namesById.get(id);
+        if (name == null) {
+            misses.incrementAndGet();
+            return null;
+        }
+        hits.incrementAndGet();
+        return new Skill(id, name);
+    }
+
+    void put(Long id, String name) {
+        String previous = namesById.put(id, name);
+        if (previous != null && !normalize(previous).equals(normalize(name))) {
+            idsByName.remove(normalize(previous), id); // Renamed
+        }
+        idsByName.put(normalize(name), id);
+    }
+
+    void remove(Long id) {
+        String name = namesById.remove(id);
+        if (name != null) {
+            idsByName.remove(normalize(name), id);
+        }
+    }
+
+    void clear() {
+        namesById.clear();
+        idsByName.clear();
+    }
+
+    int size() {
+        return namesById.size();
+    }
+
+    long hits() {
+        return hits.get();
+    }
+
+    long misses() {
+        return misses.get();
+    }
+
+    /**
+     * Normalize a skill name for lookups and for newly created skills.
+     *
+     * @param name Skill name.
+     * @return Trimmed, lower-case name.
+     */
+    static String normalize(String name) {
+        return name.trim().toLowerCase(Locale.ROOT);
+    }
+}
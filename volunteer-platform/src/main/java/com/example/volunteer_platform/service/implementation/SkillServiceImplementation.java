@@ -1,24 +1,41 @@
 package com.example.volunteer_platform.service.implementation;
 
+import com.example.volunteer_platform.dto.SkillCacheStatsDto;
 import com.example.volunteer_platform.model.Skill;
 import com.example.volunteer_platform.repository.SkillRepository;
 import com.example.volunteer_platform.service.SkillService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 /**
  * SkillServiceImplementation provides methods to manage skills in the system.
  * This is an implementation of the SkillService interface.
+ * Lookups by name and ID are served from the in-memory SkillCatalog, which is loaded at startup
+ * and written through on every save and delete.
  */
 @Service
 public class SkillServiceImplementation implements SkillService {
 
+    private static final Logger logger = LoggerFactory.getLogger(SkillServiceImplementation.class);
+
     @Autowired
     private SkillRepository skillRepository;
 
+    @Autowired
+    private SkillCatalog skillCatalog;
+
     @Override
     public List<Skill> getAllSkills() {
         return skillRepository.findAll();
@@ -26,21 +43,105 @@ public class SkillServiceImplementation implements SkillService {
 
     @Override
     public Optional<Skill> findByName(String name) {
-        return skillRepository.findByName(name);
+        Skill cached = skillCatalog.getByName(name);
+        if (cached != null) {
+            return Optional.of(cached);
+        }
+        // Possibly created on another node since the catalog was loaded
+        Optional<Skill> skill = skillRepository.findByName(name);
+        if (skill.isEmpty()) {
+            skill = skillRepository.findByName(SkillCatalog.normalize(name));
+        }
+        skill.ifPresent(found -> skillCatalog.put(found.getId(), found.getName()));
+        return skill;
     }
 
     @Override
     public Optional<Skill> findById(Long skillId) {
-        return skillRepository.findById(skillId);
+        Skill cached = skillCatalog.getById(skillId);
+        if (cached != null) {
+            return Optional.of(cached);
+        }
+        Optional<Skill> skill = skillRepository.findById(skillId);
+        skill.ifPresent(found -> skillCatalog.put(found.getId(), found.getName()));
+        return skill;
     }
 
     @Override
     public void saveSkill(Skill skill) {
         skillRepository.save(skill);
+        Long skillId = skill.getId();
+        String name = skill.getName();
+        AfterCommit.run(() -> skillCatalog.put(skillId, name));
     }
 
     @Override
     public void deleteSkillById(Long skillId) {
         skillRepository.deleteById(skillId);
+        AfterCommit.run(() -> skillCatalog.remove(skillId));
+    }
+
+    @Override
+    @Transactional
+    public List<Skill> resolveOrCreate(Collection<String> names) {
+        Map<String, Skill> resolved = new LinkedHashMap<>(); // Normalized name -> skill, null until resolved
+        List<String> missing = new ArrayList<>();
+        for (String name : names) {
+            if (name == null || name.isBlank()) {
+                continue;
+            }
+            String key = SkillCatalog.normalize(name);
+            if (resolved.containsKey(key)) {
+                continue;
+            }
+            Skill cached = skillCatalog.getByName(key);
+            resolved.put(key, cached);
+            if (cached == null) {
+                missing.add(key);
+            }
+        }
+        if (missing.isEmpty()) {
+            return new ArrayList<>(resolved.values());
+        }
+
+        // One query for every name the catalog did not know, then create whatever is still missing
+        List<Skill> loaded = new ArrayList<>(skillRepository.findByNameIn(missing));
+        for (Skill skill : loaded) {
+            resolved.put(SkillCatalog.normalize(skill.getName()), skill);
+        }
+        List<Skill> created = new ArrayList<>();
+        for (String key : missing) {
+            if (resolved.get(key) == null) {
+                Skill skill = new Skill(null, key);
+                created.add(skill);
+                resolved.put(key, skill);
+            }
+        }
+        skillRepository.saveAllAndFlush(created); // One batch; written before callers link the skills with JDBC
+        loaded.addAll(created);
+
+        List<Skill> toCache = loaded.stream().map(skill -> new Skill(skill.getId(), skill.getName())).toList();
+        AfterCommit.run(() -> toCache.forEach(skill -> skillCatalog.put(skill.getId(), skill.getName())));
+        return new ArrayList<>(resolved.values());
+    }
+
+    @Override
+    public SkillCacheStatsDto getCacheStats() {
+        long hits = skillCatalog.hits();
+        long misses = skillCatalog.misses();
+        double hitRatio = hits + misses == 0 ? 0 : (double) hits / (hits + misses);
+        return new SkillCacheStatsDto(skillCatalog.size(), hits, misses, hitRatio);
+    }
+
+    /**
+     * Load the whole skill dictionary into the catalog once the application has started.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadSkillCatalog() {
+        skillCatalog.clear();
+        for (Skill skill : skillRepository.findAll()) {
+            skillCatalog.put(skill.getId(), skill.getName());
+        }
+        logger.info("Skill catalog loaded with {} skills", skillCatalog.size());
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,213 @@
+package com.example.volunteer_platform.service.implementation;
+
+import com.example.volunteer_platform.dto.TaskDto;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.function.Function;
+
+/**
+ * Turns bulk task uploads into a lazy sequence of rows, so large uploads are never held in memory.
+ * A row that cannot be parsed becomes an error row instead of failing the whole upload.
+ */
+final class TaskImportReader {
+
+    static final List<String> CSV_COLUMNS = List.of(
+            "title", "description", "location", "eventdate", "applicationdeadline", "cancellationdeadline", "skills");
+
+    private TaskImportReader() {
+    }
+
+    /**
+     * One uploaded row: either a task or the reason it could not be read.
+     */
+    static final class Row {
+        final TaskDto task;
+        final String error;
+
+        private Row(TaskDto task, String error) {
+            this.task = task;
+            this.error = error;
+        }
+    }
+
+    static Iterator<Row> fromList(List<TaskDto> tasks) {
+        Iterator<TaskDto> iterator = tasks.iterator();
+        return new Iterator<>() {
+            @Override
+            public boolean hasNext() {
+                return iterator.hasNext();
+            }
+
+            @Override
+            public Row next() {
+                TaskDto task = iterator.next();
+                return task == null ? new Row(null, "Row is empty") : new Row(task, null);
+            }
+        };
+    }
+
+    static Iterator<Row> fromNdjson(BufferedReader reader, ObjectMapper objectMapper) {
+        return new LineIterator(reader, line -> {
+            try {
+                return new Row(objectMapper.readValue(line, TaskDto.class), null);
+            } catch (JsonProcessingException e) {
+                return new Row(null, "Invalid JSON: " + e.getOriginalMessage());
+            }
+        });
+    }
+
+    /**
+     * Read CSV rows. Quoted fields may contain commas and doubled quotes but not line breaks.
+     *
+     * @throws IllegalArgumentException If the header is missing or lacks a required column.
+     */
+    static Iterator<Row> fromCsv(BufferedReader reader) {
+        String header = readLine(reader);
+        if (header == null) {
+            throw new IllegalArgumentException("CSV upload is empty");
+        }
+        Map<String, Integer> columns = new HashMap<>();
+        List<String> names = splitCsvLine(header.startsWith("\uFEFF") ? header.substring(1) : header); // Skip a byte order mark
+        for (int i = 0; i < names.size(); i++) {
+            columns.put(names.get(i).trim().toLowerCase(Locale.ROOT), i);
+        }
+        for (String column : CSV_COLUMNS) {
+            if (!columns.containsKey(column)) {
+                throw new IllegalArgumentException("CSV header is missing column " + column);
+            }
+        }
+        return new LineIterator(reader, line -> parseCsvRow(splitCsvLine(line), columns));
+    }
+
+    private static Row parseCsvRow(List<String> fields, Map<String, Integer> columns) {
+        TaskDto task = new TaskDto();
+        task.setTitle(field(fields, columns, "title"));
+        task.setDescription(field(fields, columns, "description"));
+        task.setLocation(field(fields, columns, "location"));
+        List<String> skills = new ArrayList<>();
+        String skillList = field(fields, columns, "skills");
+        if (skillList != null) {
+            for (String skill : skillList.split(";")) {
+                if (!skill.isBlank()) {
+                    skills.add(skill.trim());
+                }
+            }
+        }
+        task.setSkills(skills);
+        try {
+            task.setEventDate(dateField(fields, columns, "eventdate"));
+            task.setApplicationDeadline(dateField(fields, columns, "applicationdeadline"));
+            task.setCancellationDeadline(dateField(fields, columns, "cancellationdeadline"));
+        } catch (DateTimeParseException e) {
+            return new Row(null, "Invalid date '" + e.getParsedString() + "', expected yyyy-MM-dd");
+        }
+        String capacity = columns.containsKey("capacity") ? field(fields, columns, "capacity") : null; // Optional column
+        if (capacity != null) {
+            try {
+                task.setCapacity(Integer.valueOf(capacity));
+            } catch (NumberFormatException e) {
+                return new Row(null, "Invalid capacity '" + capacity + "'");
+            }
+        }
+        return new Row(task, null);
+    }
+
+    private static String field(List<String> fields, Map<String, Integer> columns, String column) {
+        int index = columns.get(column);
+        if (index >= fields.size()) {
+            return null;
+        }
+        String value = fields.get(index).trim();
+        return value.isEmpty() ? null : value;
+    }
+
+    private static LocalDate dateField(List<String> fields, Map<String, Integer> columns, String column) {
+        String value = field(fields, columns, column);
+        return value == null ? null : LocalDate.parse(value);
+    }
+
+    static List<String> splitCsvLine(String line) {
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c != '"') {
+                    field.append(c);
+                } else if (i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    field.append('"'); // Escaped quote
+                    i++;
+                } else {
+                    quoted = false;
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else {
+                field.append(c);
+            }
+        }
+        fields.add(field.toString());
+        return fields;
+    }
+
+    private static String readLine(BufferedReader reader) {
+        try {
+            return reader.readLine();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Yields one row per non-blank line, reading ahead by a single line.
+     */
+    private static final class LineIterator implements Iterator<Row> {
+        private final BufferedReader reader;
+        private final Function<String, Row> parser;
+        private String nextLine;
+
+        LineIterator(BufferedReader reader, Function<String, Row> parser) {
+            this.reader = reader;
+            this.parser = parser;
+            advance();
+        }
+
+        @Override
+        public boolean hasNext() {
+            return nextLine != null;
+        }
+
+        @Override
+        public Row next() {
+            if (nextLine == null) {
+                throw new NoSuchElementException();
+            }
+            String line = nextLine;
+            advance();
+            return parser.apply(line);
+        }
+
+        private void advance() {
+            do {
+                nextLine = readLine(reader);
+            } while (nextLine != null && nextLine.isBlank());
+        }
+    }
+}
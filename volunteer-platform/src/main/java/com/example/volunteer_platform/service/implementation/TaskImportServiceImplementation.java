@@ -0,0 +1,244 @@
+package com.example.volunteer_platform.service.implementation;
+
+import com.example.volunteer_platform.dto.TaskDto;
+import com.example.volunteer_platform.dto.TaskImportResultDto;
+import com.example.volunteer_platform.dto.TaskImportRowDto;
+import com.example.volunteer_platform.enums.TaskStatus;
+import com.example.volunteer_platform.model.Skill;
+import com.example.volunteer_platform.search.SkillMatchIndex;
+import com.example.volunteer_platform.search.TaskSearchIndex;
+import com.example.volunteer_platform.service.SkillService;
+import com.example.volunteer_platform.service.TaskImportService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * TaskImportServiceImplementation provides bulk task creation for organizations.
+ * This is an implementation of the TaskImportService interface.
+ * Valid rows are written in chunks with JDBC batch inserts; the skills of a chunk are resolved in one call.
+ * Each chunk commits on its own, so no transaction stays open while the upload is read; rows of the chunks
+ * committed before a failure stay created.
+ */
+@Service
+public class TaskImportServiceImplementation implements TaskImportService {
+
+    private static final int IMPORT_BATCH_SIZE = 500;
+
+    private static final String INSERT_TASK = "INSERT INTO tasks (title, description, location, event_date, " +
+            "cancellation_deadline, application_deadline, created_at, updated_at, status, organization_id, capacity, signup_count) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, 0)";
+    private static final String INSERT_TASK_SKILL = "INSERT INTO task_skills (task_id, skill_id) VALUES (?, ?)";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private SkillService skillService;
+
+    @Autowired
+    private Validator validator;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private TaskSearchIndex taskSearchIndex;
+
+    @Autowired
+    private SkillMatchIndex skillMatchIndex;
+
+    @Autowired
+    private IndexChanges indexChanges;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Override
+    public TaskImportResultDto importTasks(Long organizationId, List<TaskDto> tasks) {
+        return importRows(organizationId, TaskImportReader.fromList(tasks));
+    }
+
+    @Override
+    public TaskImportResultDto importTasksFromNdjson(Long organizationId, InputStream input) {
+        return importRows(organizationId, TaskImportReader.fromNdjson(reader(input), objectMapper));
+    }
+
+    @Override
+    public TaskImportResultDto importTasksFromCsv(Long organizationId, InputStream input) {
+        return importRows(organizationId, TaskImportReader.fromCsv(reader(input)));
+    }
+
+    private static BufferedReader reader(InputStream input) {
+        return new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8));
+    }
+
+    private TaskImportResultDto importRows(Long organizationId, Iterator<TaskImportReader.Row> rows) {
+        List<TaskImportRowDto> report = new ArrayList<>();
+        List<PendingTask> chunk = new ArrayList<>(IMPORT_BATCH_SIZE);
+        LocalDate today = LocalDate.now();
+        int rowNumber = 0;
+        int created = 0;
+
+        while (rows.hasNext()) {
+            TaskImportReader.Row row = rows.next();
+            rowNumber++;
+            List<String> errors = row.error != null ? List.of(row.error) : validate(row.task, today);
+            if (!errors.isEmpty()) {
+                report.add(new TaskImportRowDto(rowNumber, null, errors));
+                continue;
+            }
+            TaskImportRowDto result = new TaskImportRowDto(rowNumber, null, List.of());
+            report.add(result);
+            chunk.add(new PendingTask(row.task, result));
+            if (chunk.size() == IMPORT_BATCH_SIZE) {
+                created += transactionTemplate.execute(status -> insertChunk(organizationId, chunk));
+                chunk.clear();
+            }
+        }
+        if (!chunk.isEmpty()) {
+            created += transactionTemplate.execute(status -> insertChunk(organizationId, chunk));
+        }
+        return new TaskImportResultDto(rowNumber, created, rowNumber - created, report);
+    }
+
+    /**
+     * Same checks as single task creation: bean validation plus deadline ordering.
+     */
+    private List<String> validate(TaskDto task, LocalDate today) {
+        List<String> errors = new ArrayList<>();
+        for (ConstraintViolation<TaskDto> violation : validator.validate(task)) {
+            errors.add(violation.getPropertyPath() + ": " + violation.getMessage());
+        }
+        if (!errors.isEmpty()) {
+            return errors;
+        }
+        if (task.getApplicationDeadline().isBefore(today) || task.getCancellationDeadline().isBefore(today)) {
+            errors.add("Deadlines must not be in the past");
+        }
+        if (task.getApplicationDeadline().isAfter(task.getEventDate())
+                || task.getCancellationDeadline().isAfter(task.getEventDate())) {
+            errors.add("Deadlines must not be after the event date");
+        }
+        return errors;
+    }
+
+    private int insertChunk(Long organizationId, List<PendingTask> chunk) {
+        Map<String, Skill> skillsByName = resolveSkills(chunk);
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+        jdbcTemplate.batchUpdate(connection -> connection.prepareStatement(INSERT_TASK, new String[] {"id"}),
+                new BatchPreparedStatementSetter() {
+                    @Override
+                    public void setValues(PreparedStatement ps, int i) throws SQLException {
+                        TaskDto task = chunk.get(i).task;
+                        ps.setString(1, task.getTitle());
+                        ps.setString(2, task.getDescription());
+                        ps.setString(3, task.getLocation());
+                        ps.setDate(4, Date.valueOf(task.getEventDate()));
+                        ps.setDate(5, Date.valueOf(task.getCancellationDeadline()));
+                        ps.setDate(6, Date.valueOf(task.getApplicationDeadline()));
+                        ps.setTimestamp(7, now);
+                        ps.setTimestamp(8, now);
+                        ps.setString(9, TaskStatus.AVAILABLE.name());
+                        ps.setLong(10, organizationId);
+                        if (task.getCapacity() != null) {
+                            ps.setInt(11, task.getCapacity());
+                        } else {
+                            ps.setNull(11, Types.INTEGER);
+                        }
+                    }
+
+                    @Override
+                    public int getBatchSize() {
+                        return chunk.size();
+                    }
+                },
+                keyHolder);
+
+        List<Map<String, Object>> keys = keyHolder.getKeyList();
+        List<Object[]> taskSkillRows = new ArrayList<>();
+        for (int i = 0; i < chunk.size(); i++) {
+            PendingTask pending = chunk.get(i);
+            pending.taskId = ((Number) keys.get(i).values().iterator().next()).longValue();
+            pending.result.setTaskId(pending.taskId);
+            for (String name : pending.skillNames()) {
+                pending.skills.add(skillsByName.get(SkillCatalog.normalize(name)));
+            }
+            for (Skill skill : pending.skills) {
+                taskSkillRows.add(new Object[] {pending.taskId, skill.getId()});
+            }
+        }
+        jdbcTemplate.batchUpdate(INSERT_TASK_SKILL, taskSkillRows);
+
+        List<PendingTask> inserted = new ArrayList<>(chunk);
+        indexChanges.tasksChanged(inserted.stream().map(pending -> pending.taskId).toList());
+        AfterCommit.run(() -> {
+            for (PendingTask pending : inserted) {
+                TaskDto task = pending.task;
+                taskSearchIndex.index(pending.taskId, task.getTitle(), task.getDescription(), task.getLocation(),
+                        pending.skills.stream().map(Skill::getName).toList());
+                skillMatchIndex.putTask(pending.taskId, SkillMatchIndex.skillIds(pending.skills));
+            }
+        });
+        return chunk.size();
+    }
+
+    private Map<String, Skill> resolveSkills(List<PendingTask> chunk) {
+        Set<String> names = new LinkedHashSet<>();
+        for (PendingTask pending : chunk) {
+            names.addAll(pending.skillNames());
+        }
+        Map<String, Skill> skillsByName = new HashMap<>();
+        for (Skill skill : skillService.resolveOrCreate(names)) {
+            skillsByName.put(SkillCatalog.normalize(skill.getName()), skill);
+        }
+        return skillsByName;
+    }
+
+    /**
+     * A validated row waiting to be inserted.
+     */
+    private static final class PendingTask {
+        final TaskDto task;
+        final TaskImportRowDto result;
+        final Set<Skill> skills = new LinkedHashSet<>();
+        Long taskId;
+
+        PendingTask(TaskDto task, TaskImportRowDto result) {
+            this.task = task;
+            this.result = result;
+        }
+
+        List<String> skillNames() {
+            return task.getSkills().stream().filter(name -> name != null && !name.isBlank()).toList();
+        }
+    }
+}
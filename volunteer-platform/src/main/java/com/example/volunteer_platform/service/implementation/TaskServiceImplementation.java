@@ -1,14 +1,43 @@
 package com.example.volunteer_platform.service.implementation;
 
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import com.example.volunteer_platform.dto.OpportunityDto;
+import com.example.volunteer_platform.dto.OrganizationTaskPageDto;
+import com.example.volunteer_platform.dto.TaskFeedPageDto;
+import com.example.volunteer_platform.dto.TaskResponseDto;
+import com.example.volunteer_platform.dto.TaskSearchPageDto;
+import com.example.volunteer_platform.dto.TaskSummaryDto;
+import com.example.volunteer_platform.enums.TaskStatus;
+import com.example.volunteer_platform.model.Skill;
 import com.example.volunteer_platform.model.Task;
 import com.example.volunteer_platform.repository.TaskRepository;
+import com.example.volunteer_platform.search.SkillMatchIndex;
+import com.example.volunteer_platform.search.TaskSearchIndex;
 import com.example.volunteer_platform.service.TaskService;
+import com.example.volunteer_platform.service.TaskSignupService;
 
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 /**
  * TaskServiceImplementation provides methods to manage tasks in the system.
@@ -17,17 +46,148 @@ import java.util.Optional;
 @Service
 public class TaskServiceImplementation implements TaskService {
 
+    private static final Logger logger = LoggerFactory.getLogger(TaskServiceImplementation.class);
+
+    private static final int INDEX_REBUILD_BATCH_SIZE = 1000;
+    private static final int STATUS_UPDATE_BATCH_SIZE = 1000;
+
     @Autowired
     private TaskRepository taskRepository;
 
+    @Autowired
+    private TaskSearchIndex taskSearchIndex;
+
+    @Autowired
+    private LegacyTaskLinks legacyTaskLinks;
+
+    @Autowired
+    private SkillMatchIndex skillMatchIndex;
+
+    @Autowired
+    private IndexChanges indexChanges; // Brings the indexes of the other nodes up to date
+
+    @Autowired
+    private TaskSignupService taskSignupService;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
     @Override
     public List<Task> getAllTasks() {
         return taskRepository.findAll();
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public TaskFeedPageDto getTaskFeed(String cursor, TaskStatus status, LocalDate from, LocalDate to, int size) {
+        // Fetch one extra row to find out whether another page follows
+        PageRequest limit = PageRequest.of(0, size + 1);
+        List<TaskSummaryDto> rows;
+        if (cursor == null || cursor.isBlank()) {
+            rows = taskRepository.findTaskFeed(status, from, to, limit);
+        } else {
+            TaskFeedPageDto.Cursor position = TaskFeedPageDto.decodeCursor(cursor);
+            rows = taskRepository.findTaskFeedAfter(status, from, to, position.getEventDate(), position.getId(), limit);
+        }
+
+        if (rows.size() <= size) {
+            return new TaskFeedPageDto(rows, null);
+        }
+        List<TaskSummaryDto> items = rows.subList(0, size);
+        TaskSummaryDto last = items.get(size - 1);
+        return new TaskFeedPageDto(items, TaskFeedPageDto.encodeCursor(last.getEventDate(), last.getId()));
+    }
+
+    @Override
+    public List<OpportunityDto> getAvailableOpportunities() {
+        return taskRepository.findOpportunitiesByStatus(TaskStatus.AVAILABLE);
+    }
+
+    @Override
+    public List<TaskResponseDto> getOrganizationTaskResponses(Long organizationId, boolean withSkills) {
+        List<TaskResponseDto> tasks = taskRepository.findResponsesByOrganizationId(organizationId);
+        if (withSkills) {
+            fillSkillNames(tasks);
+        }
+        return tasks;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public OrganizationTaskPageDto getOrganizationTaskPage(Long organizationId, Collection<TaskStatus> statuses,
+                                                           boolean newestFirst, int page, int size) {
+        Map<TaskStatus, Long> statusCounts = new EnumMap<>(TaskStatus.class);
+        for (TaskStatus status : TaskStatus.values()) {
+            statusCounts.put(status, 0L);
+        }
+        for (Object[] row : taskRepository.countByOrganizationIdGroupByStatus(organizationId)) {
+            statusCounts.put((TaskStatus) row[0], (Long) row[1]);
+        }
+        long total = statuses.stream().mapToLong(statusCounts::get).sum();
+
+        // The counts give the total, so the page is read without a separate count query
+        List<TaskResponseDto> items = List.of();
+        if ((long) page * size < total) {
+            Sort.Direction direction = newestFirst ? Sort.Direction.DESC : Sort.Direction.ASC;
+            items = taskRepository.findResponsesByOrganizationIdAndStatusIn(organizationId, statuses,
+                    PageRequest.of(page, size, Sort.by(direction, "eventDate", "id")));
+            fillSkillNames(items);
+        }
+        return new OrganizationTaskPageDto(items, statusCounts, total, page, size);
+    }
+
+    @Override
+    public boolean isTaskOfOrganization(Long taskId, Long organizationId) {
+        return taskRepository.existsByIdAndOrganizationId(taskId, organizationId);
+    }
+
+    /**
+     * Set the skill names of task views with one query for all of them.
+     */
+    private void fillSkillNames(List<TaskResponseDto> tasks) {
+        if (tasks.isEmpty()) {
+            return;
+        }
+        Map<Long, List<String>> skillNames = new HashMap<>();
+        for (Object[] row : taskRepository.findSkillNamesByTaskIds(tasks.stream().map(TaskResponseDto::getId).toList())) {
+            skillNames.computeIfAbsent((Long) row[0], id -> new ArrayList<>()).add((String) row[1]);
+        }
+        for (TaskResponseDto task : tasks) {
+            task.setSkills(skillNames.getOrDefault(task.getId(), List.of()));
+        }
+    }
+
     @Override
     public void saveTask(Task task) {
+        boolean created = task.getId() == null;
         taskRepository.save(task);
+        List<String> skillNames = task.getSkills() == null ? List.of()
+                : task.getSkills().stream().map(Skill::getName).toList();
+        // Snapshot the indexed fields now; the index is only touched once the write is committed
+        Long taskId = task.getId();
+        String title = task.getTitle();
+        String description = task.getDescription();
+        String location = task.getLocation();
+        List<Long> skillIds = SkillMatchIndex.skillIds(task.getSkills());
+        // Only open tasks are recommended; the status of a loaded task may have changed since it was read
+        boolean matchable = (created ? task.getStatus() : taskRepository.findStatusById(taskId)) == TaskStatus.AVAILABLE;
+        indexChanges.tasksChanged(List.of(taskId));
+        AfterCommit.run(() -> {
+            taskSearchIndex.index(taskId, title, description, location, skillNames);
+            if (matchable) {
+                skillMatchIndex.putTask(taskId, skillIds);
+            } else {
+                skillMatchIndex.removeTask(taskId);
+            }
+        });
+    }
+
+    @Override
+    @Transactional
+    public void cancelTask(Long taskId) {
+        taskRepository.forceStatus(List.of(taskId), TaskStatus.CANCELLED, LocalDateTime.now());
+        indexChanges.tasksChanged(List.of(taskId));
+        AfterCommit.run(() -> skillMatchIndex.removeTask(taskId));
     }
 
     @Override
@@ -36,20 +196,156 @@ public class TaskServiceImplementation implements TaskService {
     }
 
     @Override
+    public Optional<Task> findWithSkillsById(Long taskId) {
+        return taskRepository.findWithSkillsById(taskId);
+    }
+
+    @Override
+    @Transactional
+    public void deleteTasks(Collection<Long> taskIds) {
+        if (taskIds.isEmpty()) {
+            return;
+        }
+        taskSignupService.deleteTaskSignups(taskIds);
+        if (legacyTaskLinks.isPresent()) {
+            taskRepository.deleteOrganizationLinks(taskIds);
+        }
+        taskRepository.deleteByIdIn(taskIds);
+        indexChanges.tasksChanged(taskIds);
+
+        List<Long> deleted = List.copyOf(taskIds);
+        AfterCommit.run(() -> {
+            for (Long taskId : deleted) {
+                taskSearchIndex.remove(taskId);
+                skillMatchIndex.removeTask(taskId);
+            }
+        });
+    }
+
+    @Override
+    @Transactional
     public void deleteByTaskId(Long taskId) {
+        if (legacyTaskLinks.isPresent()) {
+            taskRepository.deleteOrganizationLinks(List.of(taskId));
+        }
         taskRepository.deleteById(taskId);
+        indexChanges.tasksChanged(List.of(taskId));
+        AfterCommit.run(() -> {
+            taskSearchIndex.remove(taskId);
+            skillMatchIndex.removeTask(taskId);
+        });
     }
 
     @Override
-    public List<Task> searchTasks(String title, String location, String description) {
-        if (title != null) {
-            return taskRepository.findByTitleContaining(title);
-        } else if (location != null) {
-            return taskRepository.findByLocationContaining(location);
-        } else if (description != null) {
-            return taskRepository.findByDescriptionContaining(description);
-        } else {
-            return taskRepository.findAll();
+    public TaskSearchPageDto searchTasks(String query, String title, String location, String description, String skill, int page, int size) {
+        TaskSearchIndex.SearchResult result = taskSearchIndex.search(query,
+                TaskSearchIndex.fieldFilters(title, location, description, skill), (long) page * size, size);
+        if (result.getTaskIds().isEmpty()) {
+            return new TaskSearchPageDto(List.of(), result.getTotalMatches(), page, size);
+        }
+
+        // Load only the requested page, then restore the ranking order
+        Map<Long, TaskSummaryDto> summaries = taskRepository.findSummariesByIdIn(result.getTaskIds()).stream()
+                .collect(Collectors.toMap(TaskSummaryDto::getId, Function.identity()));
+        List<TaskSummaryDto> items = new ArrayList<>(summaries.size());
+        for (Long taskId : result.getTaskIds()) {
+            TaskSummaryDto summary = summaries.get(taskId);
+            if (summary != null) {
+                items.add(summary);
+            }
+        }
+        return new TaskSearchPageDto(items, result.getTotalMatches(), page, size);
+    }
+
+    @Override
+    public int closeExpiredApplications(LocalDate today) {
+        int closed = 0;
+        // Full tasks close too, so a cancellation after the deadline cannot reopen them
+        for (TaskStatus open : List.of(TaskStatus.AVAILABLE, TaskStatus.FILLED)) {
+            closed += transitionInBatches(
+                    limit -> taskRepository.findIdsByStatusAndApplicationDeadlineBefore(open, today, limit),
+                    ids -> taskRepository.transitionStatus(ids, open, TaskStatus.APPLICATION_ENDED, LocalDateTime.now()));
+        }
+        return closed;
+    }
+
+    @Override
+    public int endPastTasks(LocalDate today) {
+        return transitionInBatches(
+                limit -> taskRepository.findIdsByStatusNotAndEventDateBefore(TaskStatus.ENDED, today, limit),
+                ids -> taskRepository.forceStatus(ids, TaskStatus.ENDED, LocalDateTime.now()));
+    }
+
+    @Override
+    @Transactional
+    public TaskStatus changeCapacity(Long taskId, int capacity) {
+        Optional<Task> task = taskRepository.findById(taskId);
+        if (task.isEmpty()) {
+            return null;
         }
+        LocalDateTime now = LocalDateTime.now();
+        taskRepository.changeCapacity(taskId, capacity, now.toLocalDate(), now);
+        TaskStatus status = taskRepository.findStatusById(taskId);
+        List<Long> skillIds = SkillMatchIndex.skillIds(task.get().getSkills());
+        indexChanges.tasksChanged(List.of(taskId));
+        AfterCommit.run(() -> {
+            if (status == TaskStatus.AVAILABLE) {
+                skillMatchIndex.putTask(taskId, skillIds);
+            } else {
+                skillMatchIndex.removeTask(taskId);
+            }
+        });
+        return status;
+    }
+
+    /**
+     * Apply a status transition in fixed-size batches, each committed on its own, so memory and lock time
+     * stay bounded however many tasks are affected. Updated tasks no longer match the selection, so every
+     * round simply takes the first batch of remaining candidates.
+     */
+    private int transitionInBatches(Function<PageRequest, List<Long>> candidates, Function<List<Long>, Integer> update) {
+        PageRequest limit = PageRequest.of(0, STATUS_UPDATE_BATCH_SIZE);
+        int updated = 0;
+        List<Long> ids;
+        do {
+            ids = candidates.apply(limit);
+            if (ids.isEmpty()) {
+                break;
+            }
+            updated += update.apply(ids);
+            indexChanges.tasksChanged(ids); // Recorded once the batch is committed, so other nodes read the new status
+            ids.forEach(skillMatchIndex::removeTask); // Closed tasks are no longer recommended
+        } while (ids.size() == STATUS_UPDATE_BATCH_SIZE);
+        return updated;
+    }
+
+    /**
+     * Rebuild the search index from the database once the application has started.
+     * Tasks are read in ID order in fixed-size batches so memory stays bounded.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void rebuildSearchIndex() {
+        taskSearchIndex.clear();
+        long lastId = 0;
+        List<Task> batch;
+        do {
+            batch = taskRepository.findByIdGreaterThanOrderByIdAsc(lastId, PageRequest.of(0, INDEX_REBUILD_BATCH_SIZE));
+            if (batch.isEmpty()) {
+                break;
+            }
+            List<Long> ids = batch.stream().map(Task::getId).toList();
+            Map<Long, List<String>> skillNames = new HashMap<>();
+            for (Object[] row : taskRepository.findSkillNamesByTaskIds(ids)) {
+                skillNames.computeIfAbsent((Long) row[0], id -> new ArrayList<>()).add((String) row[1]);
+            }
+            for (Task task : batch) {
+                taskSearchIndex.index(task.getId(), task.getTitle(), task.getDescription(), task.getLocation(),
+                        skillNames.getOrDefault(task.getId(), List.of()));
+            }
+            lastId = ids.get(ids.size() - 1);
+            entityManager.clear(); // Drop the batch from the persistence context
+        } while (batch.size() == INDEX_REBUILD_BATCH_SIZE);
+        logger.info("Task search index built with {} tasks", taskSearchIndex.size());
     }
-}
\ No newline at end of file
+}
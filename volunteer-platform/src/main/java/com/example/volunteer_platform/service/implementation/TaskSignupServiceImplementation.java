@@ -3,15 +3,36 @@ package com.example.volunteer_platform.service.implementation;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.mail.MailException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import com.example.volunteer_platform.dto.ReminderStatusDTO;
+import com.example.volunteer_platform.dto.SignupResultDto;
+import com.example.volunteer_platform.dto.TaskSignupResponseDto;
+import com.example.volunteer_platform.dto.WaitlistEntryDto;
+import com.example.volunteer_platform.enums.SignupOutcome;
+import com.example.volunteer_platform.enums.TaskStatus;
+import com.example.volunteer_platform.model.Task;
 import com.example.volunteer_platform.model.TaskSignup;
+import com.example.volunteer_platform.model.Volunteer;
+import com.example.volunteer_platform.model.WaitlistEntry;
+import com.example.volunteer_platform.repository.TaskRepository;
 import com.example.volunteer_platform.repository.TaskSignupRepository;
+import com.example.volunteer_platform.repository.VolunteerRepository;
+import com.example.volunteer_platform.repository.WaitlistRepository;
+import com.example.volunteer_platform.search.SkillMatchIndex;
+import com.example.volunteer_platform.service.EmailService;
 import com.example.volunteer_platform.service.TaskSignupService;
 
 import lombok.RequiredArgsConstructor;
 
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.stream.Collectors;
@@ -32,6 +53,24 @@ public class TaskSignupServiceImplementation implements TaskSignupService {
     @Autowired
     private TaskSignupRepository taskSignupRepository;
 
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private VolunteerRepository volunteerRepository;
+
+    @Autowired
+    private WaitlistRepository waitlistRepository;
+
+    @Autowired
+    private SkillMatchIndex skillMatchIndex;
+
+    @Autowired
+    private IndexChanges indexChanges;
+
+    @Autowired
+    private EmailService emailService;
+
     @Override
     public List<TaskSignup> getAllSignups() {
         return taskSignupRepository.findAll();
@@ -44,6 +83,7 @@ public class TaskSignupServiceImplementation implements TaskSignupService {
     }
     
     @Override
+    @Transactional(readOnly = true)
     public List<TaskSignup> getUserSignups(Long volunteerId) {
         return taskSignupRepository.findByVolunteerId(volunteerId);
     }
@@ -53,6 +93,28 @@ public class TaskSignupServiceImplementation implements TaskSignupService {
         return taskSignupRepository.findByTaskId(taskId);
     }
 
+    @Override
+    public List<TaskSignupResponseDto> getAllSignupResponses() {
+        return taskSignupRepository.findAllResponses();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<TaskSignupResponseDto> getUserSignupResponses(Long volunteerId) {
+        return taskSignupRepository.findResponsesByVolunteerId(volunteerId);
+    }
+
+    @Override
+    public List<TaskSignupResponseDto> getTaskSignupResponses(Long taskId) {
+        return taskSignupRepository.findResponsesByTaskId(taskId);
+    }
+
+    @Override
+    public int countTaskSignups(Long taskId) {
+        Integer count = taskRepository.findSignupCountById(taskId);
+        return count == null ? 0 : count;
+    }
+
     @Override
     public Optional<TaskSignup> findById(Long signupId) {
         return taskSignupRepository.findById(signupId);
@@ -77,16 +139,231 @@ public class TaskSignupServiceImplementation implements TaskSignupService {
     }
 
     @Override
+    @Transactional
+    public SignupResultDto signUp(Long taskId, Long volunteerId) {
+        Optional<Volunteer> volunteer = volunteerRepository.findById(volunteerId);
+        if (volunteer.isEmpty()) {
+            return new SignupResultDto(SignupOutcome.VOLUNTEER_NOT_FOUND, null);
+        }
+        Optional<TaskSignup> existing = taskSignupRepository.findByTaskIdAndVolunteerId(taskId, volunteerId);
+        if (existing.isPresent()) {
+            return new SignupResultDto(SignupOutcome.ALREADY_SIGNED_UP, existing.get());
+        }
+
+        // The slot is taken before the insert; if the insert fails the rollback gives it back
+        LocalDateTime now = LocalDateTime.now();
+        if (taskRepository.reserveSlot(taskId, now.toLocalDate(), now) == 1) {
+            return new SignupResultDto(SignupOutcome.CREATED, createSignup(taskId, volunteer.get()));
+        }
+        TaskStatus status = taskRepository.findStatusById(taskId);
+        if (status == null) {
+            return new SignupResultDto(SignupOutcome.TASK_NOT_FOUND, null);
+        }
+        if (status != TaskStatus.FILLED || applicationsClosed(taskId, now)) {
+            return new SignupResultDto(SignupOutcome.NOT_AVAILABLE, null);
+        }
+        return joinWaitlist(taskId, volunteer.get());
+    }
+
+    @Override
+    @Transactional
     public void deleteById(Long signupId) {
-        //taskSignupRepository.deleteById(signupId);
         Optional<TaskSignup> signup = taskSignupRepository.findById(signupId);
-        signup.ifPresent(s -> logger.info("Volunteer {} canceled signup for task {}", s.getVolunteer().getId(), s.getTask().getId()));
-        taskSignupRepository.deleteById(signupId);
+        if (signup.isEmpty()) {
+            return;
+        }
+        Task task = signup.get().getTask();
+        logger.info("Volunteer {} canceled signup for task {}", signup.get().getVolunteer().getId(), task.getId());
+        taskSignupRepository.delete(signup.get());
+        LocalDateTime now = LocalDateTime.now();
+        taskRepository.releaseSlot(task.getId(), now.toLocalDate(), now); // Also takes the task's row lock
+        promoteUnderLock(task);
+    }
+
+    @Override
+    @Transactional
+    public int promoteFromWaitlist(Long taskId) {
+        if (taskRepository.lockById(taskId, LocalDateTime.now()) == 0) {
+            return 0;
+        }
+        return promoteUnderLock(taskRepository.findById(taskId).orElseThrow());
+    }
+
+    @Override
+    public List<WaitlistEntryDto> getWaitlist(Long taskId) {
+        List<WaitlistEntryDto> entries = waitlistRepository.findEntriesByTaskId(taskId);
+        for (int i = 0; i < entries.size(); i++) {
+            entries.get(i).setPosition(i + 1);
+        }
+        return entries;
+    }
+
+    @Override
+    public boolean leaveWaitlist(Long taskId, Long volunteerId) {
+        return waitlistRepository.deleteByTaskIdAndVolunteerId(taskId, volunteerId) > 0;
+    }
+
+    @Override
+    public void clearWaitlist(Long taskId) {
+        waitlistRepository.deleteByTaskId(taskId);
+    }
+
+    @Override
+    public void removeFromAllWaitlists(Long volunteerId) {
+        waitlistRepository.deleteByVolunteerId(volunteerId);
+    }
+
+    @Override
+    @Transactional
+    public void deleteTaskSignups(Collection<Long> taskIds) {
+        waitlistRepository.deleteByTaskIdIn(taskIds); // Nobody is promoted onto a task that is being deleted
+        taskSignupRepository.deleteByTaskIdIn(taskIds);
+    }
+
+    @Override
+    @Transactional
+    public void deleteVolunteerSignups(Long volunteerId) {
+        waitlistRepository.deleteByVolunteerId(volunteerId);
+        List<Long> taskIds = taskSignupRepository.findTaskIdsByVolunteerId(volunteerId);
+        if (taskIds.isEmpty()) {
+            return;
+        }
+
+        // Under the tasks' row locks no signup can fill a task between the status check and the release
+        LocalDateTime now = LocalDateTime.now();
+        taskRepository.lockByIdIn(taskIds, now);
+        List<Long> filledTaskIds = taskRepository.findIdsByIdInAndStatus(taskIds, TaskStatus.FILLED);
+        taskSignupRepository.deleteByVolunteerId(volunteerId);
+        taskRepository.releaseSlots(taskIds, now.toLocalDate(), now);
+
+        // Only full tasks can have a waitlist or be reopened for matching
+        for (Long taskId : filledTaskIds) {
+            promoteUnderLock(taskRepository.findById(taskId).orElseThrow());
+        }
+        logger.info("Deleted {} signups of volunteer {}", taskIds.size(), volunteerId);
+    }
+
+    /**
+     * Recount the signups of every task at startup, e.g. on a database that predates the stored counts.
+     * Afterwards they are maintained with every signup and cancellation.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void reconcileSignupCounts() {
+        int corrected = taskRepository.reconcileSignupCounts();
+        if (corrected > 0) {
+            logger.info("Signup counts corrected for {} tasks", corrected);
+        }
+    }
+
+    private TaskSignup createSignup(Long taskId, Volunteer volunteer) {
+        Task task = taskRepository.findById(taskId).orElseThrow();
+        TaskSignup signup = TaskSignup.builder()
+                .task(task)
+                .volunteer(volunteer)
+                .build();
+        taskSignupRepository.saveAndFlush(signup); // A concurrent duplicate fails here on the unique constraint
+
+        if (taskRepository.findStatusById(taskId) == TaskStatus.FILLED) {
+            indexChanges.tasksChanged(List.of(taskId));
+            AfterCommit.run(() -> skillMatchIndex.removeTask(taskId)); // Full tasks are no longer recommended
+        }
+        return signup;
+    }
+
+    private SignupResultDto joinWaitlist(Long taskId, Volunteer volunteer) {
+        // Under the task's row lock no cancellation can free a slot unseen between the check and the insert
+        LocalDateTime now = LocalDateTime.now();
+        taskRepository.lockById(taskId, now);
+        // A concurrent attempt of the same volunteer may have taken the last slot while this one waited for the lock
+        Optional<TaskSignup> existing = taskSignupRepository.findLockedByTaskIdAndVolunteerId(taskId, volunteer.getId());
+        if (existing.isPresent()) {
+            return new SignupResultDto(SignupOutcome.ALREADY_SIGNED_UP, existing.get());
+        }
+        if (taskRepository.reserveSlot(taskId, now.toLocalDate(), now) == 1) {
+            return new SignupResultDto(SignupOutcome.CREATED, createSignup(taskId, volunteer)); // A slot was freed meanwhile
+        }
+        if (taskRepository.findStatusById(taskId) != TaskStatus.FILLED || applicationsClosed(taskId, now)) {
+            return new SignupResultDto(SignupOutcome.NOT_AVAILABLE, null);
+        }
+
+        WaitlistEntry entry = waitlistRepository.findByTaskIdAndVolunteerId(taskId, volunteer.getId())
+                .orElseGet(() -> waitlistRepository.saveAndFlush(WaitlistEntry.builder()
+                        .task(taskRepository.findById(taskId).orElseThrow())
+                        .volunteer(volunteer)
+                        .build()));
+        int position = (int) waitlistRepository.countByTaskIdAndIdLessThanEqual(taskId, entry.getId());
+        return new SignupResultDto(SignupOutcome.WAITLISTED, null,
+                new WaitlistEntryDto(position, volunteer.getId(), volunteer.getName(), entry.getJoinedAt()));
+    }
+
+    /**
+     * A full task whose application deadline has passed keeps the FILLED status until the nightly status
+     * update closes it, but takes no more waitlist entries.
+     */
+    private boolean applicationsClosed(Long taskId, LocalDateTime now) {
+        return taskRepository.existsByIdAndApplicationDeadlineBefore(taskId, now.toLocalDate());
+    }
+
+    /**
+     * Move volunteers from the head of the task's waitlist onto the task while it has free slots.
+     * The caller must hold the task's row lock, so concurrent cancellations promote one at a time.
+     *
+     * @return Number of volunteers promoted.
+     */
+    private int promoteUnderLock(Task task) {
+        Long taskId = task.getId();
+        int promoted = 0;
+        while (true) {
+            List<WaitlistEntry> head = waitlistRepository.findHead(taskId, PageRequest.of(0, 1));
+            if (head.isEmpty()) {
+                break;
+            }
+            WaitlistEntry next = head.get(0);
+            Volunteer volunteer = next.getVolunteer();
+            if (taskSignupRepository.findLockedByTaskIdAndVolunteerId(taskId, volunteer.getId()).isPresent()) {
+                waitlistRepository.delete(next); // Already signed up, e.g. by an earlier concurrent attempt; takes no slot
+                continue;
+            }
+            LocalDateTime now = LocalDateTime.now();
+            if (taskRepository.reserveSlot(taskId, now.toLocalDate(), now) == 0) {
+                break;
+            }
+            waitlistRepository.delete(next);
+            taskSignupRepository.save(TaskSignup.builder().task(task).volunteer(volunteer).build());
+            promoted++;
+            logger.info("Volunteer {} promoted from the waitlist of task {}", volunteer.getId(), taskId);
+
+            String email = volunteer.getEmail();
+            String name = volunteer.getName();
+            String title = task.getTitle();
+            LocalDate eventDate = task.getEventDate();
+            AfterCommit.run(() -> notifyPromotion(email, name, title, eventDate));
+        }
+
+        boolean open = taskRepository.findStatusById(taskId) == TaskStatus.AVAILABLE;
+        List<Long> skillIds = SkillMatchIndex.skillIds(task.getSkills());
+        indexChanges.tasksChanged(List.of(taskId));
+        AfterCommit.run(() -> {
+            if (open) {
+                skillMatchIndex.putTask(taskId, skillIds); // A reopened task is recommended again
+            } else {
+                skillMatchIndex.removeTask(taskId);
+            }
+        });
+        return promoted;
+    }
+
+    private void notifyPromotion(String email, String name, String title, LocalDate eventDate) {
+        try {
+            emailService.sendWaitlistPromotionEmail(email, name, title, eventDate);
+        } catch (MailException e) {
+            logger.error("Failed to send waitlist promotion email to {}", email, e); // The promotion itself stands
+        }
     }
 
     @Override
     public List<ReminderStatusDTO> getReminderStatus() {
-        List<TaskSignup> signups = taskSignupRepository.findAll();
+        List<TaskSignup> signups = taskSignupRepository.findAllWithTaskAndVolunteer();
         return signups.stream()
                 .map(this::mapToReminderStatus)
                 .collect(Collectors.toList());
@@ -94,7 +371,7 @@ public class TaskSignupServiceImplementation implements TaskSignupService {
 
     @Override
     public ReminderStatusDTO getReminderStatusById(Long signupId) {
-        TaskSignup signup = taskSignupRepository.findById(signupId)
+        TaskSignup signup = taskSignupRepository.findWithTaskAndVolunteerBySignupId(signupId)
                 .orElseThrow();
         return mapToReminderStatus(signup);
     }
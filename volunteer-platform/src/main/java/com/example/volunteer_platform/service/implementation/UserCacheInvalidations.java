@@ -0,0 +1,88 @@
+package com.example.volunteer_platform.service.implementation;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.security.core.userdetails.UserCache;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Evicts changed users from the login principal and profile caches of every node. The node making the
+ * change evicts at once after commit and records the change in user_cache_invalidations; the other nodes
+ * poll that table and evict within auth.cache-invalidation.poll-interval.
+ * <p>
+ * Each poll rereads the last LOOKBACK of rows, so a row whose transaction committed after a later row was
+ * seen is not missed; evicting a user twice only costs a reload. LOOKBACK must exceed the clock skew
+ * between nodes. Uses plain JDBC so the polling does not show up in the Hibernate statistics.
+ */
+@Component
+class UserCacheInvalidations {
+
+    private static final Logger logger = LoggerFactory.getLogger(UserCacheInvalidations.class);
+
+    private static final Duration LOOKBACK = Duration.ofMinutes(1);
+    private static final Duration RETENTION = Duration.ofMinutes(10);
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private UserCache userCache;
+
+    @Autowired
+    private UserProfileCache userProfileCache;
+
+    private volatile LocalDateTime lastPollAt = LocalDateTime.now(); // Caches start empty, older changes do not matter
+
+    /**
+     * Evict a user on every node. The record is part of the current transaction, so other nodes only
+     * act on changes that commit.
+     *
+     * @param id     User ID.
+     * @param emails Current and, after a change, previous email of the user.
+     */
+    void evict(Long id, String... emails) {
+        LocalDateTime now = LocalDateTime.now();
+        List<Object[]> rows = new ArrayList<>();
+        for (String email : emails) {
+            rows.add(new Object[]{id, email, now});
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO user_cache_invalidations (user_id, email, created_at) VALUES (?, ?, ?)", rows);
+        AfterCommit.run(() -> evictLocally(id, List.of(emails)));
+    }
+
+    /**
+     * Evict the users other nodes changed since the last poll and purge old records.
+     */
+    @Scheduled(fixedDelayString = "${auth.cache-invalidation.poll-interval:2s}")
+    public void poll() {
+        LocalDateTime now = LocalDateTime.now();
+        try {
+            jdbcTemplate.query("SELECT user_id, email FROM user_cache_invalidations WHERE created_at >= ?",
+                    row -> {
+                        String email = row.getString("email");
+                        evictLocally(row.getLong("user_id"), email == null ? List.of() : List.of(email));
+                    },
+                    lastPollAt.minus(LOOKBACK));
+            lastPollAt = now;
+            jdbcTemplate.update("DELETE FROM user_cache_invalidations WHERE created_at < ?", now.minus(RETENTION));
+        } catch (DataAccessException e) {
+            logger.warn("Could not read user cache invalidations; retrying at the next poll", e);
+        }
+    }
+
+    private void evictLocally(Long id, List<String> emails) {
+        userProfileCache.remove(id);
+        for (String email : emails) {
+            userCache.removeUserFromCache(email);
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package com.example.volunteer_platform.service.implementation;
+
+import com.example.volunteer_platform.cache.BoundedCache;
+import com.example.volunteer_platform.dto.UserProfileDto;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Profiles of recently active users by ID, so views can show the logged-in user without a query per
+ * page and without copying the profile into the session. Evicted on every node through UserCacheInvalidations on change.
+ */
+@Component
+class UserProfileCache extends BoundedCache<Long, UserProfileDto> {
+
+    UserProfileCache(@Value("${auth.profile-cache.max-size:10000}") int maxSize,
+                     @Value("${auth.profile-cache.ttl:10m}") Duration ttl) {
+        super(maxSize, ttl);
+    }
+}
@@ -1,18 +1,28 @@
 package com.example.volunteer_platform.service.implementation;
 
+import com.example.volunteer_platform.dto.ErasureJobDto;
 import com.example.volunteer_platform.dto.OrganizationDto;
 import com.example.volunteer_platform.dto.OrganizationPartialDto;
+import com.example.volunteer_platform.dto.OrganizationResponseDto;
+import com.example.volunteer_platform.dto.UserCredentialsDto;
+import com.example.volunteer_platform.dto.UserProfileDto;
+import com.example.volunteer_platform.dto.UserResponseDto;
 import com.example.volunteer_platform.dto.VolunteerDto;
 import com.example.volunteer_platform.dto.VolunteerPartialDto;
+import com.example.volunteer_platform.dto.VolunteerResponseDto;
 import com.example.volunteer_platform.model.*;
 import com.example.volunteer_platform.repository.OrganizationRepository;
 import com.example.volunteer_platform.repository.SkillRepository;
+import com.example.volunteer_platform.repository.TaskRepository;
 import com.example.volunteer_platform.repository.TaskSignupRepository;
 import com.example.volunteer_platform.repository.VolunteerRepository;
+import com.example.volunteer_platform.search.SkillMatchIndex;
+import com.example.volunteer_platform.security.AuthenticatedUser;
 import com.example.volunteer_platform.service.TaskService;
 import com.example.volunteer_platform.service.TaskSignupService;
 import jakarta.transaction.Transactional;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
@@ -24,10 +34,14 @@ import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.function.LongConsumer;
 
 /**
  * UserServiceImplementation provides methods to manage users, including volunteers and organizations.
@@ -36,6 +50,8 @@ import java.util.Set;
 @Service
 public class UserServiceImplementation implements UserService, UserDetailsService {
 
+    private static final int ERASURE_BATCH_SIZE = 1000;
+
     @Autowired
     private UserRepository userRepository;
 
@@ -60,9 +76,34 @@ public class UserServiceImplementation implements UserService, UserDetailsServic
     @Autowired
     private PasswordEncoder passwordEncoder; // Autowire PasswordEncoder
 
+    @Autowired
+    private SkillMatchIndex skillMatchIndex;
+
+    @Autowired
+    private IndexChanges indexChanges; // Brings the skill match indexes of the other nodes up to date
+
+    @Autowired
+    private UserProfileCache userProfileCache; // Profiles for the views by ID; evicted with the login principal
+
+    @Autowired
+    private UserCacheInvalidations userCacheInvalidations; // Evicts login principals and profiles on every node
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private ErasureJobs erasureJobs;
+
     @Override
     public void saveUser (User user) {
         userRepository.save(user);
+        evictCachedUser(user.getId(), user.getEmail()); // Profile, password or skills may have changed
+        if (user instanceof Volunteer volunteer) {
+            Long volunteerId = volunteer.getId();
+            List<Long> skillIds = SkillMatchIndex.skillIds(volunteer.getSkills());
+            indexChanges.volunteerChanged(volunteerId);
+            AfterCommit.run(() -> skillMatchIndex.putVolunteer(volunteerId, skillIds));
+        }
     }
 
     
@@ -77,16 +118,33 @@ public class UserServiceImplementation implements UserService, UserDetailsServic
     
     @Override
     public UserDetails loadUserByUsername(String email) throws UsernameNotFoundException {
-        User user = userRepository.findByEmail(email);
-        if (user == null) {
-            throw new UsernameNotFoundException("User  not found with email: " + email);
+        UserCredentialsDto credentials = userRepository.findCredentialsByEmail(email) // One query, no skills or tasks
+                .orElseThrow(() -> new UsernameNotFoundException("User  not found with email: " + email));
+
+        return new AuthenticatedUser(credentials); // Role is ORGANIZATION or VOLUNTEER depending on the user type
+    }
+
+    @Override
+    public Optional<UserProfileDto> getProfile(Long id) {
+        UserProfileDto profile = userProfileCache.get(id);
+        if (profile == null) {
+            profile = userRepository.findProfileById(id).orElse(null);
+            if (profile != null) {
+                userProfileCache.put(id, profile);
+            }
         }
+        return Optional.ofNullable(profile);
+    }
 
-        return org.springframework.security.core.userdetails.User
-                .withUsername(user.getEmail())
-                .password(user.getPassword())
-                .roles(user instanceof Organization ? "ORGANIZATION" : "VOLUNTEER") // Assign roles dynamically
-                .build();
+    /**
+     * Drop the cached profile and login principals of a user on this node once the current transaction
+     * commits, and on the other nodes at their next poll.
+     *
+     * @param id     User ID.
+     * @param emails Current and, after a change, previous email of the user.
+     */
+    private void evictCachedUser(Long id, String... emails) {
+        userCacheInvalidations.evict(id, emails);
     }
     
     @Override
@@ -143,7 +201,10 @@ public class UserServiceImplementation implements UserService, UserDetailsServic
 
     @Override
     public void deleteUserById(Long id) {
+        userRepository.findById(id).ifPresent(user -> evictCachedUser(id, user.getEmail()));
         userRepository.deleteById(id);
+        indexChanges.volunteerChanged(id);
+        AfterCommit.run(() -> skillMatchIndex.removeVolunteer(id));
     }
 
     @Override
@@ -156,6 +217,32 @@ public class UserServiceImplementation implements UserService, UserDetailsServic
         return volunteerRepository.findAll();
     }
 
+    @Override
+    public List<UserResponseDto> getAllUserResponses() {
+        return userRepository.findAllResponses();
+    }
+
+    @Override
+    public List<OrganizationResponseDto> getAllOrganizationResponses() {
+        return organizationRepository.findAllResponses();
+    }
+
+    @Override
+    public List<VolunteerResponseDto> getAllVolunteerResponses(boolean withSkills) {
+        List<VolunteerResponseDto> volunteers = volunteerRepository.findAllResponses();
+        if (!withSkills || volunteers.isEmpty()) {
+            return volunteers;
+        }
+        Map<Long, List<String>> skillNames = new HashMap<>();
+        for (Object[] row : volunteerRepository.findSkillNamesByVolunteerIds(volunteers.stream().map(VolunteerResponseDto::getId).toList())) {
+            skillNames.computeIfAbsent((Long) row[0], id -> new ArrayList<>()).add((String) row[1]);
+        }
+        for (VolunteerResponseDto volunteer : volunteers) {
+            volunteer.setSkills(skillNames.getOrDefault(volunteer.getId(), List.of()));
+        }
+        return volunteers;
+    }
+
     @Override
     public Optional<Organization> findOrganizationById(Long id) {
         return organizationRepository.findById(id);
@@ -165,6 +252,11 @@ public class UserServiceImplementation implements UserService, UserDetailsServic
     public Optional<Volunteer> findVolunteerById(Long id) {
         return volunteerRepository.findById(id);
     }
+
+    @Override
+    public Optional<Volunteer> findVolunteerWithSkillsById(Long id) {
+        return volunteerRepository.findWithSkillsById(id);
+    }
     
     @Override
     public Optional<Volunteer> findVolunteerByEmailOptional(String email) {
@@ -182,9 +274,12 @@ public class UserServiceImplementation implements UserService, UserDetailsServic
                 return Optional.empty();
             }
 
+            String previousEmail = existingOrg.getEmail();
             existingOrg.setName(updatedOrg.getName() != null ? updatedOrg.getName() : existingOrg.getName());
             existingOrg.setEmail(updatedOrg.getEmail() != null ? updatedOrg.getEmail() : existingOrg.getEmail());
-            existingOrg.setPassword(updatedOrg.getPassword() != null ? updatedOrg.getPassword() : existingOrg.getPassword());
+            if (updatedOrg.getPassword() != null && !updatedOrg.getPassword().isEmpty()) {
+                existingOrg.setPassword(passwordEncoder.encode(updatedOrg.getPassword())); // Stored hashed, like volunteer passwords
+            }
             existingOrg.setPhoneNumber(updatedOrg.getPhoneNumber() != null ? updatedOrg.getPhoneNumber() : existingOrg.getPhoneNumber());
             existingOrg.setAddress(updatedOrg.getAddress() != null ? updatedOrg.getAddress() : existingOrg.getAddress());
             existingOrg.setWebsite(updatedOrg.getWebsite() != null ? updatedOrg.getWebsite() : existingOrg.getWebsite());
@@ -193,6 +288,7 @@ public class UserServiceImplementation implements UserService, UserDetailsServic
            
             
             saveUser (existingOrg);
+            evictCachedUser(organizationId, previousEmail); // The new email was evicted by saveUser
             return Optional.of(existingOrg);
         } catch (Exception e) {
             System.out.println("Error updating organization: " + e.getMessage());
@@ -201,28 +297,12 @@ public class UserServiceImplementation implements UserService, UserDetailsServic
     }
 
     @Override
-    @Transactional
     public boolean deleteOrganizationById(Long organizationId) {
         try {
-            Optional<Organization> organizationOpt = findOrganizationById(organizationId);
-            if (organizationOpt.isEmpty()) {
+            if (!organizationRepository.existsById(organizationId)) {
                 return false;
             }
-
-            Organization organization = organizationOpt.get();
-            List<Task> tasks = organization.getTasks();
-
-            for (Task task : tasks) {
-                List<TaskSignup> signups = taskSignupService.getTaskSignups(task.getId());
-
-                for (TaskSignup signup : signups) {
-                    taskSignupService.deleteById(signup.getSignupId());
-                }
-
-                taskService.deleteByTaskId(task.getId());
-            }
-
-            deleteUserById(organizationId);
+            eraseOrganization(organizationId, deleted -> { });
             return true;
         } catch (Exception e) {
             System.out.println("Error deleting organization: " + e.getMessage());
@@ -230,6 +310,38 @@ public class UserServiceImplementation implements UserService, UserDetailsServic
         }
     }
 
+    @Override
+    public Optional<ErasureJobDto> startOrganizationErasure(Long organizationId) {
+        if (!organizationRepository.existsById(organizationId)) {
+            return Optional.empty();
+        }
+        long totalTasks = taskRepository.countByOrganizationId(organizationId);
+        return Optional.of(erasureJobs.submit(organizationId, totalTasks, progress -> eraseOrganization(organizationId, progress)));
+    }
+
+    @Override
+    public Optional<ErasureJobDto> getErasureJob(String jobId) {
+        return Optional.ofNullable(erasureJobs.get(jobId));
+    }
+
+    /**
+     * Delete an organization's tasks chunk by chunk, then the organization itself. Each chunk is one
+     * transaction with one statement per table, so no transaction grows with the size of the organization.
+     *
+     * @param organizationId Organization ID.
+     * @param progress Receives the number of tasks deleted after each chunk.
+     */
+    private void eraseOrganization(Long organizationId, LongConsumer progress) {
+        List<Long> taskIds;
+        do {
+            taskIds = taskRepository.findIdsByOrganizationId(organizationId, PageRequest.of(0, ERASURE_BATCH_SIZE));
+            taskService.deleteTasks(taskIds);
+            progress.accept(taskIds.size());
+        } while (taskIds.size() == ERASURE_BATCH_SIZE);
+
+        deleteUserById(organizationId);
+    }
+
     @Override
     @Transactional
     public Optional<Volunteer> updateVolunteer(Long volunteerId, VolunteerPartialDto updatedVol) {
@@ -241,6 +353,8 @@ public class UserServiceImplementation implements UserService, UserDetailsServic
 
             Volunteer existingVol = optionalVol.get();
 
+            String previousEmail = existingVol.getEmail();
+
             // Update fields if provided
             if (updatedVol.getName() != null) existingVol.setName(updatedVol.getName());
             if (updatedVol.getEmail() != null) existingVol.setEmail(updatedVol.getEmail());
@@ -263,6 +377,7 @@ public class UserServiceImplementation implements UserService, UserDetailsServic
 
             // Save changes
             saveUser(existingVol);
+            evictCachedUser(volunteerId, previousEmail); // The new email was evicted by saveUser
             return Optional.of(existingVol);
         } catch (Exception e) {
             // Log the error
@@ -282,12 +397,7 @@ public class UserServiceImplementation implements UserService, UserDetailsServic
                 return false;
             }
 
-            List<TaskSignup> signups = taskSignupService.getUserSignups(volunteerId);
-
-            for (TaskSignup signup : signups) {
-                taskSignupService.deleteById(signup.getSignupId());
-            }
-
+            taskSignupService.deleteVolunteerSignups(volunteerId);
             deleteUserById(volunteerId);
             return true;
         } catch (Exception e) {
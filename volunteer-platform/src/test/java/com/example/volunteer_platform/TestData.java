@@ -0,0 +1,91 @@
+package com.example.volunteer_platform;
+
+import com.example.volunteer_platform.enums.Gender;
+import com.example.volunteer_platform.model.Organization;
+import com.example.volunteer_platform.model.Skill;
+import com.example.volunteer_platform.model.Task;
+import com.example.volunteer_platform.model.TaskSignup;
+import com.example.volunteer_platform.model.Volunteer;
+import com.example.volunteer_platform.repository.OrganizationRepository;
+import com.example.volunteer_platform.repository.TaskRepository;
+import com.example.volunteer_platform.repository.TaskSignupRepository;
+import com.example.volunteer_platform.repository.VolunteerRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * Saves valid organizations, tasks, volunteers and signups for tests. Number n keeps the unique
+ * columns of the users a test saves apart; tests delete what they save.
+ */
+@Component
+public class TestData {
+
+	@Autowired
+	private OrganizationRepository organizationRepository;
+
+	@Autowired
+	private TaskRepository taskRepository;
+
+	@Autowired
+	private VolunteerRepository volunteerRepository;
+
+	@Autowired
+	private TaskSignupRepository taskSignupRepository;
+
+	public Organization saveOrganization(int n) {
+		Organization organization = new Organization();
+		organization.setName("Organization " + n);
+		organization.setEmail("org" + n + "@example.com");
+		organization.setPassword("password" + n);
+		organization.setPhoneNumber(String.format("8%09d", n));
+		organization.setAddress("Street " + n);
+		organization.setWebsite("https://org" + n + ".example.com");
+		return organizationRepository.save(organization);
+	}
+
+	public Task saveTask(Organization organization, String title, LocalDate eventDate) {
+		return saveTask(organization, title, eventDate, null);
+	}
+
+	/**
+	 * Applications and cancellations close the day before the event.
+	 */
+	public Task saveTask(Organization organization, String title, LocalDate eventDate, Integer capacity) {
+		Task task = new Task();
+		task.setTitle(title);
+		task.setDescription("Description");
+		task.setLocation("Location");
+		task.setEventDate(eventDate);
+		task.setApplicationDeadline(eventDate.minusDays(1));
+		task.setCancellationDeadline(eventDate.minusDays(1));
+		task.setCapacity(capacity);
+		task.setOrganizationId(organization.getId());
+		return taskRepository.save(task);
+	}
+
+	public Volunteer saveVolunteer(int n) {
+		return saveVolunteer(n, Set.of());
+	}
+
+	public Volunteer saveVolunteer(int n, Set<Skill> skills) {
+		Volunteer volunteer = new Volunteer();
+		volunteer.setName("Volunteer " + n);
+		volunteer.setEmail("volunteer" + n + "@example.com");
+		volunteer.setPassword("password" + n);
+		volunteer.setPhoneNumber(String.format("7%09d", n));
+		volunteer.setGender(Gender.OTHER);
+		volunteer.setSkills(new HashSet<>(skills));
+		return volunteerRepository.save(volunteer);
+	}
+
+	/**
+	 * Saves the signup directly, without taking a slot or checking the task's status.
+	 */
+	public TaskSignup signUp(Volunteer volunteer, Task task) {
+		return taskSignupRepository.save(TaskSignup.builder().volunteer(volunteer).task(task).build());
+	}
+}
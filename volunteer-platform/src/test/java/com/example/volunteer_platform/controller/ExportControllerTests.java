@@ -0,0 +1,115 @@
+package com.example.volunteer_platform.controller;
+
+import com.example.volunteer_platform.TestData;
+import com.example.volunteer_platform.model.Organization;
+import com.example.volunteer_platform.model.Task;
+import com.example.volunteer_platform.model.Volunteer;
+import com.example.volunteer_platform.repository.OrganizationRepository;
+import com.example.volunteer_platform.repository.TaskRepository;
+import com.example.volunteer_platform.repository.TaskSignupRepository;
+import com.example.volunteer_platform.repository.VolunteerRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+class ExportControllerTests {
+
+	private static final LocalDate NEXT_WEEK = LocalDate.now().plusDays(7);
+	private static final LocalDate NEXT_MONTH = LocalDate.now().plusDays(30);
+
+	@Autowired
+	private MockMvc mockMvc;
+
+	@Autowired
+	private OrganizationRepository organizationRepository;
+
+	@Autowired
+	private TaskRepository taskRepository;
+
+	@Autowired
+	private VolunteerRepository volunteerRepository;
+
+	@Autowired
+	private TaskSignupRepository taskSignupRepository;
+
+	@Autowired
+	private TestData testData;
+
+	private Organization first;
+	private Organization second;
+
+	@BeforeEach
+	void setUp() {
+		first = testData.saveOrganization(1);
+		second = testData.saveOrganization(2);
+		Task soon = testData.saveTask(first, "Beach clean-up, north shore", NEXT_WEEK);
+		Task later = testData.saveTask(first, "Food bank", NEXT_MONTH);
+		Task other = testData.saveTask(second, "Tree planting", NEXT_WEEK);
+		for (int i = 0; i < 3; i++) {
+			Volunteer volunteer = testData.saveVolunteer(i);
+			testData.signUp(volunteer, soon);
+			testData.signUp(volunteer, later);
+			testData.signUp(volunteer, other);
+		}
+	}
+
+	@AfterEach
+	void cleanUp() {
+		taskSignupRepository.deleteAll();
+		taskRepository.deleteAll();
+		volunteerRepository.deleteAll();
+		organizationRepository.deleteAll();
+	}
+
+	@Test
+	void exportsSignupsAsNdjsonFilteredByOrganizationAndDate() throws Exception {
+		String body = mockMvc.perform(get("/api/export/signups")
+						.param("organizationId", first.getId().toString())
+						.param("to", NEXT_WEEK.format(DateTimeFormatter.ofPattern("dd-MM-yyyy"))))
+				.andExpect(status().isOk())
+				.andExpect(header().string("Content-Type", "application/x-ndjson;charset=UTF-8"))
+				.andReturn().getResponse().getContentAsString();
+
+		String[] lines = body.split("\n");
+		assertThat(lines).hasSize(3);
+		assertThat(lines[0]).startsWith("{\"signupId\":")
+				.contains("\"eventDate\":\"" + NEXT_WEEK + "\"")
+				.contains("\"organizationId\":" + first.getId());
+	}
+
+	@Test
+	void exportsTasksAsCsvWithHeaderAndQuoting() throws Exception {
+		String body = mockMvc.perform(get("/api/export/tasks")
+						.param("format", "csv")
+						.param("organizationId", first.getId().toString()))
+				.andExpect(status().isOk())
+				.andExpect(header().string("Content-Disposition", "attachment; filename=\"tasks.csv\""))
+				.andReturn().getResponse().getContentAsString();
+
+		String[] lines = body.split("\n");
+		assertThat(lines).hasSize(3);
+		assertThat(lines[0]).isEqualTo("id,title,description,location,eventDate,applicationDeadline,"
+				+ "cancellationDeadline,status,organizationId,createdAt");
+		assertThat(lines[1]).contains(",\"Beach clean-up, north shore\",");
+	}
+
+	@Test
+	void rejectsUnknownFormat() throws Exception {
+		mockMvc.perform(get("/api/export/tasks").param("format", "xml"))
+				.andExpect(status().isBadRequest());
+	}
+}
@@ -0,0 +1,152 @@
+package com.example.volunteer_platform.controller;
+
+import com.example.volunteer_platform.TestData;
+import com.example.volunteer_platform.model.Organization;
+import com.example.volunteer_platform.model.Task;
+import com.example.volunteer_platform.repository.OrganizationRepository;
+import com.example.volunteer_platform.repository.SkillRepository;
+import com.example.volunteer_platform.repository.TaskRepository;
+import com.example.volunteer_platform.service.SkillService;
+import com.example.volunteer_platform.service.TaskImportService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+class TaskImportTests {
+
+	private static final LocalDate EVENT = LocalDate.now().plusDays(30);
+	private static final LocalDate DEADLINE = LocalDate.now().plusDays(20);
+
+	@Autowired
+	private MockMvc mockMvc;
+
+	@Autowired
+	private OrganizationRepository organizationRepository;
+
+	@Autowired
+	private TaskRepository taskRepository;
+
+	@Autowired
+	private SkillRepository skillRepository;
+
+	@Autowired
+	private SkillService skillService;
+
+	@Autowired
+	private TransactionTemplate transactionTemplate;
+
+	@Autowired
+	private TaskImportService taskImportService;
+
+	@Autowired
+	private TestData testData;
+
+	private Organization organization;
+
+	@BeforeEach
+	void setUp() {
+		organization = testData.saveOrganization(1);
+	}
+
+	@AfterEach
+	void cleanUp() {
+		taskRepository.deleteAll(); // Before the organizations they reference
+		organizationRepository.deleteAll();
+		skillRepository.findAll().forEach(skill -> skillService.deleteSkillById(skill.getId()));
+	}
+
+	@Test
+	void importsCsvAndReportsInvalidRows() throws Exception {
+		String csv = "title,description,location,eventDate,applicationDeadline,cancellationDeadline,skills\n"
+				+ row("Beach clean-up", "cleaning;First Aid")
+				+ row("\"Food bank, evening\"", "cooking")
+				+ "Missing dates,Description,Pune,,,,\n"
+				+ "Bad date,Description,Pune,31-12-2099," + DEADLINE + "," + DEADLINE + ",\n";
+
+		mockMvc.perform(post("/api/organizations/{id}/tasks/bulk", organization.getId())
+						.contentType("text/csv").content(csv))
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$.total").value(4))
+				.andExpect(jsonPath("$.created").value(2))
+				.andExpect(jsonPath("$.rows[2].errors").isNotEmpty())
+				.andExpect(jsonPath("$.rows[3].taskId").doesNotExist());
+
+		assertThat(taskRepository.findAll()).extracting(Task::getTitle)
+				.containsExactlyInAnyOrder("Beach clean-up", "Food bank, evening");
+		assertThat(skillRepository.count()).isEqualTo(3);
+		transactionTemplate.executeWithoutResult(status -> assertThat(
+				organizationRepository.findById(organization.getId()).orElseThrow().getTasks()).hasSize(2));
+	}
+
+	@Test
+	void importsNdjsonLineByLine() throws Exception {
+		String ndjson = json("Tree planting", EVENT) + "\n"
+				+ "{not json}\n"
+				+ json("Past event", LocalDate.now().minusDays(1)) + "\n";
+
+		mockMvc.perform(post("/api/organizations/{id}/tasks/bulk", organization.getId())
+						.contentType(MediaType.APPLICATION_NDJSON).content(ndjson))
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$.created").value(1))
+				.andExpect(jsonPath("$.rejected").value(2))
+				.andExpect(jsonPath("$.rows[0].taskId").isNumber());
+	}
+
+	@Test
+	void readsTheUploadOutsideAnyTransaction() {
+		byte[] ndjson = (json("Tree planting", EVENT) + "\n" + json("Litter picking", EVENT) + "\n")
+				.getBytes(StandardCharsets.UTF_8);
+		AtomicBoolean readInTransaction = new AtomicBoolean();
+		InputStream input = new ByteArrayInputStream(ndjson) {
+			@Override
+			public synchronized int read(byte[] buffer, int offset, int length) {
+				readInTransaction.compareAndSet(false, TransactionSynchronizationManager.isActualTransactionActive());
+				return super.read(buffer, offset, length);
+			}
+		};
+
+		assertThat(taskImportService.importTasksFromNdjson(organization.getId(), input).getCreated()).isEqualTo(2);
+		assertThat(readInTransaction).isFalse();
+	}
+
+	@Test
+	void rejectsUnknownOrganizationAndIncompleteHeader() throws Exception {
+		mockMvc.perform(post("/api/organizations/{id}/tasks/bulk", organization.getId() + 1000)
+						.contentType(MediaType.APPLICATION_JSON).content("[" + json("Task", EVENT) + "]"))
+				.andExpect(status().isNotFound());
+
+		mockMvc.perform(post("/api/organizations/{id}/tasks/bulk", organization.getId())
+						.contentType("text/csv").content("title,description\nA,B\n"))
+				.andExpect(status().isBadRequest());
+	}
+
+	private static String row(String title, String skills) {
+		return title + ",Description,Mumbai," + EVENT + "," + DEADLINE + "," + DEADLINE + "," + skills + "\n";
+	}
+
+	private static String json(String title, LocalDate eventDate) {
+		return "{\"title\":\"" + title + "\",\"description\":\"Description\",\"location\":\"Pune\","
+				+ "\"skills\":[\"gardening\"],\"eventDate\":\"" + eventDate + "\","
+				+ "\"applicationDeadline\":\"" + DEADLINE + "\",\"cancellationDeadline\":\"" + DEADLINE + "\"}";
+	}
+}
@@ -0,0 +1,117 @@
+package com.example.volunteer_platform.controller;
+
+import com.example.volunteer_platform.TestData;
+import com.example.volunteer_platform.monitoring.QueryStatsFilter;
+import com.example.volunteer_platform.model.Skill;
+import com.example.volunteer_platform.repository.OrganizationRepository;
+import com.example.volunteer_platform.repository.SkillRepository;
+import com.example.volunteer_platform.repository.VolunteerRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+class UserControllerTests {
+
+	@Autowired
+	private MockMvc mockMvc;
+
+	@Autowired
+	private VolunteerRepository volunteerRepository;
+
+	@Autowired
+	private OrganizationRepository organizationRepository;
+
+	@Autowired
+	private SkillRepository skillRepository;
+
+	@Autowired
+	private EntityManagerFactory entityManagerFactory;
+
+	@Autowired
+	private MeterRegistry meterRegistry;
+
+	@Autowired
+	private TestData testData;
+
+	private Skill skill;
+
+	@BeforeEach
+	void setUp() {
+		skill = new Skill();
+		skill.setName("Radio operation");
+		skillRepository.save(skill);
+		for (int i = 0; i < 3; i++) {
+			testData.saveVolunteer(i, Set.of(skill));
+		}
+		testData.saveOrganization(1);
+	}
+
+	@AfterEach
+	void cleanUp() {
+		volunteerRepository.deleteAll();
+		organizationRepository.deleteAll();
+		skillRepository.delete(skill);
+	}
+
+	@Test
+	void listsVolunteersWithSkillNamesAndWithoutPasswords() throws Exception {
+		mockMvc.perform(get("/api/volunteers"))
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$.length()").value(3))
+				.andExpect(jsonPath("$[0].skills[0]").value("Radio operation"))
+				.andExpect(jsonPath("$[0].password").doesNotExist());
+
+		mockMvc.perform(get("/api/users"))
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$[3].userType").value("ORGANIZATION"))
+				.andExpect(jsonPath("$[3].tasks").doesNotExist())
+				.andExpect(jsonPath("$[3].password").doesNotExist());
+	}
+
+	@Test
+	void selectedFieldsLimitPropertiesAndSkipSkillQuery() throws Exception {
+		Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+		statistics.clear();
+
+		String body = mockMvc.perform(get("/api/volunteers").param("fields", "id,name"))
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$[0].name").value("Volunteer 0"))
+				.andReturn().getResponse().getContentAsString();
+
+		assertThat(body).doesNotContain("email", "skills", "gender");
+		assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+	}
+
+	@Test
+	void reportsStatementsAndRowsPerRequestAndRepositoryMethod() throws Exception {
+		// Volunteer projection plus the skill batch query; rows are 3 volunteers and 3 skill names
+		mockMvc.perform(get("/api/volunteers"))
+				.andExpect(status().isOk())
+				.andExpect(header().string(QueryStatsFilter.HEADER, org.hamcrest.Matchers.startsWith("statements=2; rows=6;")));
+
+		assertThat(meterRegistry.get("repository.rows")
+				.tags("repository", "VolunteerRepository", "method", "findAllResponses")
+				.summary().totalAmount()).isGreaterThanOrEqualTo(3);
+		assertThat(meterRegistry.get("request.statements")
+				.tags("method", "GET", "uri", "/api/volunteers")
+				.summary().count()).isGreaterThanOrEqualTo(1);
+	}
+}
@@ -0,0 +1,171 @@
+package com.example.volunteer_platform.controller.views;
+
+import com.example.volunteer_platform.TestData;
+import com.example.volunteer_platform.dto.OrganizationTaskPageDto;
+import com.example.volunteer_platform.enums.TaskStatus;
+import com.example.volunteer_platform.model.Organization;
+import com.example.volunteer_platform.model.Skill;
+import com.example.volunteer_platform.model.Task;
+import com.example.volunteer_platform.repository.OrganizationRepository;
+import com.example.volunteer_platform.repository.SkillRepository;
+import com.example.volunteer_platform.repository.TaskRepository;
+import com.example.volunteer_platform.repository.TaskSignupRepository;
+import com.example.volunteer_platform.repository.VolunteerRepository;
+import com.example.volunteer_platform.service.UserService;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.redirectedUrl;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+class OrganizationViewsControllerTests {
+
+	@Autowired
+	private MockMvc mockMvc;
+
+	@Autowired
+	private TestData testData;
+
+	@Autowired
+	private OrganizationRepository organizationRepository;
+
+	@Autowired
+	private TaskRepository taskRepository;
+
+	@Autowired
+	private VolunteerRepository volunteerRepository;
+
+	@Autowired
+	private TaskSignupRepository taskSignupRepository;
+
+	@Autowired
+	private SkillRepository skillRepository;
+
+	@Autowired
+	private UserService userService;
+
+	@Autowired
+	private EntityManagerFactory entityManagerFactory;
+
+	private int seeded;
+
+	@AfterEach
+	void cleanUp() {
+		taskSignupRepository.deleteAll();
+		taskRepository.deleteAll();
+		organizationRepository.deleteAll();
+		volunteerRepository.deleteAll();
+		skillRepository.deleteAll();
+	}
+
+	@Test
+	@WithMockUser(roles = "ORGANIZATION")
+	void historyPageReadsOnePageAndCountsInSql() throws Exception {
+		Organization organization = saveOrganization();
+		List<Task> tasks = saveTasks(organization, 30);
+		taskRepository.forceStatus(List.of(tasks.get(0).getId(), tasks.get(1).getId()), TaskStatus.ENDED, LocalDateTime.now());
+		saveTasks(saveOrganization(), 5);
+
+		userService.getProfile(organization.getId()); // Warm the profile cache the navbar reads the user's name from
+		Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+		statistics.clear();
+		OrganizationTaskPageDto page = (OrganizationTaskPageDto) mockMvc.perform(get("/o/history")
+						.sessionAttr("userId", organization.getId()))
+				.andExpect(status().isOk())
+				.andReturn().getModelAndView().getModel().get("taskPage");
+
+		assertThat(statistics.getPrepareStatementCount()).isEqualTo(3); // Counts, page and skills
+		assertThat(page.getTotal()).isEqualTo(30);
+		assertThat(page.getItems()).hasSize(24);
+		assertThat(page.getTotalPages()).isEqualTo(2);
+		assertThat(page.getStatusCounts()).containsEntry(TaskStatus.AVAILABLE, 28L).containsEntry(TaskStatus.ENDED, 2L);
+		assertThat(page.getItems().get(0).getEventDate()).isAfterOrEqualTo(page.getItems().get(23).getEventDate());
+	}
+
+	@Test
+	@WithMockUser(roles = "ORGANIZATION")
+	void currentTasksPageListsOpenAndFullTasks() throws Exception {
+		Organization organization = saveOrganization();
+		List<Task> tasks = saveTasks(organization, 3);
+		taskRepository.forceStatus(List.of(tasks.get(0).getId()), TaskStatus.CANCELLED, LocalDateTime.now());
+		taskRepository.forceStatus(List.of(tasks.get(1).getId()), TaskStatus.FILLED, LocalDateTime.now());
+
+		OrganizationTaskPageDto page = (OrganizationTaskPageDto) mockMvc.perform(get("/o/current_tasks")
+						.sessionAttr("userId", organization.getId()))
+				.andExpect(status().isOk())
+				.andReturn().getModelAndView().getModel().get("taskPage");
+
+		assertThat(page.getItems()).extracting("id").containsExactly(tasks.get(1).getId(), tasks.get(2).getId());
+	}
+
+	@Test
+	@WithMockUser(roles = "ORGANIZATION")
+	void taskOfAnotherOrganizationIsNotShown() throws Exception {
+		Organization owner = saveOrganization();
+		Organization other = saveOrganization();
+		Task task = saveTasks(owner, 1).get(0);
+
+		mockMvc.perform(get("/o/task/view").param("taskId", task.getId().toString())
+						.sessionAttr("userId", other.getId()))
+				.andExpect(redirectedUrl("/o/current_tasks"));
+		mockMvc.perform(get("/o/task/view").param("taskId", task.getId().toString())
+						.sessionAttr("userId", owner.getId()))
+				.andExpect(status().isOk());
+	}
+
+	@Test
+	@WithMockUser(roles = "ORGANIZATION")
+	void applicantsAndTheirSkillsAreLoadedInOneStatement() throws Exception {
+		Organization organization = saveOrganization();
+		List<Task> tasks = saveTasks(organization, 2);
+		Skill skill = new Skill();
+		skill.setName("First Aid");
+		skillRepository.save(skill);
+		for (int i = 0; i < 6; i++) {
+			testData.signUp(testData.saveVolunteer(i, Set.of(skill)), tasks.get(i == 0 ? 0 : 1));
+		}
+
+		long oneApplicant = applicantsPageStatements(tasks.get(0), organization);
+		long fiveApplicants = applicantsPageStatements(tasks.get(1), organization);
+
+		assertThat(fiveApplicants).isEqualTo(oneApplicant); // Task, then signups joined with volunteers and skills
+	}
+
+	private long applicantsPageStatements(Task task, Organization organization) throws Exception {
+		userService.getProfile(organization.getId()); // Warm the profile cache the navbar reads the user's name from
+		Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+		statistics.clear();
+		mockMvc.perform(get("/o/task/applicants").param("taskId", task.getId().toString())
+						.sessionAttr("userId", organization.getId()))
+				.andExpect(status().isOk());
+		return statistics.getPrepareStatementCount();
+	}
+
+	private Organization saveOrganization() {
+		return testData.saveOrganization(seeded++);
+	}
+
+	private List<Task> saveTasks(Organization organization, int count) {
+		return IntStream.range(0, count)
+				.mapToObj(i -> testData.saveTask(organization, "Task " + i, LocalDate.now().plusDays(10 + i)))
+				.toList();
+	}
+}
@@ -0,0 +1,137 @@
+package com.example.volunteer_platform.controller.views;
+
+import com.example.volunteer_platform.TestData;
+import com.example.volunteer_platform.model.Organization;
+import com.example.volunteer_platform.model.Task;
+import com.example.volunteer_platform.repository.OrganizationRepository;
+import com.example.volunteer_platform.repository.TaskRepository;
+import com.example.volunteer_platform.repository.TaskSignupRepository;
+import com.example.volunteer_platform.repository.VolunteerRepository;
+import com.example.volunteer_platform.service.TaskSignupService;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.model;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+class VolunteerViewsControllerTests {
+
+	@Autowired
+	private MockMvc mockMvc;
+
+	@Autowired
+	private OrganizationRepository organizationRepository;
+
+	@Autowired
+	private TaskRepository taskRepository;
+
+	@Autowired
+	private VolunteerRepository volunteerRepository;
+
+	@Autowired
+	private TaskSignupService taskSignupService;
+
+	@Autowired
+	private TaskSignupRepository taskSignupRepository;
+
+	@Autowired
+	private EntityManagerFactory entityManagerFactory;
+
+	@Autowired
+	private TestData testData;
+
+	private int seeded;
+
+	@AfterEach
+	void cleanUp() {
+		taskSignupRepository.deleteAll();
+		volunteerRepository.deleteAll();
+		taskRepository.deleteAll();
+		organizationRepository.deleteAll();
+	}
+
+	@Test
+	@WithMockUser(roles = "VOLUNTEER")
+	void opportunitiesPageRunsConstantNumberOfStatements() throws Exception {
+		seedOrganizationsWithTasks(2, 2);
+		long fewTasks = countStatementsForOpportunitiesPage();
+
+		seedOrganizationsWithTasks(10, 5);
+		long manyTasks = countStatementsForOpportunitiesPage();
+
+		assertThat(fewTasks).isEqualTo(1);
+		assertThat(manyTasks).isEqualTo(fewTasks);
+	}
+
+	@Test
+	@WithMockUser(roles = "VOLUNTEER")
+	void opportunitiesPageShowsOrganizationName() throws Exception {
+		seedOrganizationsWithTasks(1, 1);
+
+		mockMvc.perform(get("/v/opportunities"))
+				.andExpect(status().isOk())
+				.andExpect(content().string(org.hamcrest.Matchers.containsString("Organization " + (seeded - 1))));
+	}
+
+	@Test
+	@WithMockUser(roles = "VOLUNTEER")
+	void taskDetailsPageCountsApplicantsWithoutLoadingSignups() throws Exception {
+		seedOrganizationsWithTasks(1, 1);
+		Task task = taskRepository.findAll().get(0);
+		signUpVolunteers(task, 0, 1);
+		long oneApplicant = countStatementsForTaskDetailsPage(task);
+
+		signUpVolunteers(task, 1, 10);
+		long manyApplicants = countStatementsForTaskDetailsPage(task);
+
+		assertThat(manyApplicants).isEqualTo(oneApplicant);
+		mockMvc.perform(get("/v/opportunities/{taskId}", task.getId()))
+				.andExpect(model().attribute("applicantsCount", 10));
+	}
+
+	private long countStatementsForTaskDetailsPage(Task task) throws Exception {
+		Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+		statistics.clear();
+		mockMvc.perform(get("/v/opportunities/{taskId}", task.getId())).andExpect(status().isOk());
+		return statistics.getPrepareStatementCount();
+	}
+
+	private void signUpVolunteers(Task task, int from, int to) {
+		for (int i = from; i < to; i++) {
+			taskSignupService.signUp(task.getId(), testData.saveVolunteer(i).getId());
+		}
+	}
+
+	private long countStatementsForOpportunitiesPage() throws Exception {
+		Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+		statistics.clear();
+		mockMvc.perform(get("/v/opportunities")).andExpect(status().isOk());
+		return statistics.getPrepareStatementCount();
+	}
+
+	private void seedOrganizationsWithTasks(int organizations, int tasksPerOrganization) {
+		LocalDate eventDate = LocalDate.now().plusDays(30);
+		for (int i = 0; i < organizations; i++) {
+			int n = seeded++;
+			Organization organization = testData.saveOrganization(n);
+			for (int j = 0; j < tasksPerOrganization; j++) {
+				testData.saveTask(organization, "Task " + n + "-" + j, eventDate);
+			}
+		}
+	}
+}
@@ -0,0 +1,108 @@
+package com.example.volunteer_platform.datasource;
+
+import com.example.volunteer_platform.service.RatingsService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import javax.sql.DataSource;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * A second in-memory H2 database stands in for the replica. It gets the primary's schema, and the tests
+ * play replication by hand: a rating total only the replica has shows which database served a read.
+ */
+@SpringBootTest(properties = {
+		"datasource.replicas.urls=jdbc:h2:mem:volunteering_platform_replica;MODE=MySQL;NON_KEYWORDS=USER;DB_CLOSE_DELAY=-1",
+		"datasource.replicas.max-lag=5s",
+		"datasource.replicas.check-interval=1h" // Checked by the tests only
+})
+class ReadReplicaRoutingTests {
+
+	private static final long USER_ID = 424242L;
+
+	@Autowired
+	private ReplicaRoutingDataSource routingDataSource;
+
+	@Autowired
+	private ReplicaLagMonitor replicaLagMonitor;
+
+	@Autowired
+	private RatingsService ratingsService;
+
+	@Autowired
+	private PlatformTransactionManager transactionManager;
+
+	@Autowired
+	private DataSource dataSource;
+
+	private JdbcTemplate replica;
+
+	@BeforeEach
+	void setUpReplica() {
+		JdbcTemplate primary = new JdbcTemplate(routingDataSource.getPrimary());
+		replica = new JdbcTemplate(routingDataSource.getReplicas().get(0).dataSource());
+		replica.execute("DROP ALL OBJECTS");
+		for (String statement : primary.queryForList("SCRIPT NODATA", String.class)) {
+			replica.execute(statement);
+		}
+		replica.update("INSERT INTO rating_aggregates (user_id, user_type, rating_count, rating_sum, score) "
+				+ "VALUES (?, 'VOLUNTEER', 3, 12, 3.5)", USER_ID);
+	}
+
+	@AfterEach
+	void cleanUp() {
+		RequestContextHolder.resetRequestAttributes();
+		routingDataSource.setUsableReplicas(List.of());
+	}
+
+	@Test
+	void readOnlyTransactionsUseAFreshReplica() {
+		replicateHeartbeat(LocalDateTime.now());
+		assertThat(replicaLagMonitor.check()).hasSize(1);
+
+		assertThat(ratingsService.getRatingSummary(USER_ID).getRatingCount()).isEqualTo(3);
+		// Inside a read-write transaction the same method reads the primary, which has no ratings for the user
+		Long fromReadWrite = new TransactionTemplate(transactionManager)
+				.execute(status -> ratingsService.getRatingSummary(USER_ID).getRatingCount());
+		assertThat(fromReadWrite).isZero();
+	}
+
+	@Test
+	void laggingReplicaFallsBackToPrimary() {
+		replicateHeartbeat(LocalDateTime.now().minusMinutes(1));
+		assertThat(replicaLagMonitor.check()).isEmpty();
+
+		assertThat(ratingsService.getRatingSummary(USER_ID).getRatingCount()).isZero();
+	}
+
+	@Test
+	void requestStaysOnPrimaryAfterAWrite() {
+		replicateHeartbeat(LocalDateTime.now());
+		replicaLagMonitor.check();
+		RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest()));
+
+		assertThat(ratingsService.getRatingSummary(USER_ID).getRatingCount()).isEqualTo(3);
+		new TransactionTemplate(transactionManager).executeWithoutResult(status ->
+				new JdbcTemplate(dataSource).queryForObject("SELECT 1", Integer.class));
+		assertThat(ratingsService.getRatingSummary(USER_ID).getRatingCount()).isZero();
+	}
+
+	/**
+	 * Copy a heartbeat to the replica as replication would.
+	 */
+	private void replicateHeartbeat(LocalDateTime beatAt) {
+		replica.update("MERGE INTO replication_heartbeat (id, beat_at) KEY (id) VALUES (1, ?)", beatAt);
+	}
+}
@@ -0,0 +1,85 @@
+package com.example.volunteer_platform.scheduler;
+
+import com.example.volunteer_platform.TestData;
+import com.example.volunteer_platform.config.FakeJavaMailSender;
+import com.example.volunteer_platform.dto.ReminderRunSummaryDto;
+import com.example.volunteer_platform.model.Organization;
+import com.example.volunteer_platform.model.Task;
+import com.example.volunteer_platform.model.TaskSignup;
+import com.example.volunteer_platform.repository.OrganizationRepository;
+import com.example.volunteer_platform.repository.TaskRepository;
+import com.example.volunteer_platform.repository.TaskSignupRepository;
+import com.example.volunteer_platform.repository.VolunteerRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = {"reminders.batch-size=4", "reminders.parallelism=3"})
+@ActiveProfiles("fake-mail")
+class ReminderSchedulerTests {
+
+	@Autowired
+	private ReminderScheduler reminderScheduler;
+
+	@Autowired
+	private FakeJavaMailSender mailSender;
+
+	@Autowired
+	private OrganizationRepository organizationRepository;
+
+	@Autowired
+	private TaskRepository taskRepository;
+
+	@Autowired
+	private VolunteerRepository volunteerRepository;
+
+	@Autowired
+	private TaskSignupRepository taskSignupRepository;
+
+	@Autowired
+	private TestData testData;
+
+	@AfterEach
+	void cleanUp() {
+		taskSignupRepository.deleteAll();
+		taskRepository.deleteAll();
+		volunteerRepository.deleteAll();
+		organizationRepository.deleteAll();
+		mailSender.reset();
+	}
+
+	@Test
+	void sendsRemindersInChunksAndMarksOnlyDeliveredOnes() {
+		Organization organization = testData.saveOrganization(1);
+		Task tomorrow = testData.saveTask(organization, "Tomorrow", LocalDate.now().plusDays(1));
+		Task nextWeek = testData.saveTask(organization, "Next week", LocalDate.now().plusDays(7));
+		for (int i = 0; i < 10; i++) {
+			testData.signUp(testData.saveVolunteer(i), tomorrow);
+		}
+		testData.signUp(testData.saveVolunteer(10), nextWeek);
+		mailSender.rejectRecipients("volunteer3@example.com");
+
+		ReminderRunSummaryDto summary = reminderScheduler.sendTaskReminders();
+
+		assertThat(summary.getDue()).isEqualTo(10);
+		assertThat(summary.getSent()).isEqualTo(9);
+		assertThat(summary.getFailed()).isEqualTo(1);
+		assertThat(mailSender.getSentCount()).isEqualTo(9);
+		assertThat(mailSender.getRecipients()).doesNotContain("volunteer3@example.com", "volunteer10@example.com");
+		assertThat(taskSignupRepository.findAll())
+				.filteredOn(TaskSignup::isReminderSent)
+				.hasSize(9);
+
+		// The rejected reminder is retried on the next run; delivered ones are not sent twice
+		ReminderRunSummaryDto retry = reminderScheduler.sendTaskReminders();
+		assertThat(retry.getDue()).isEqualTo(1);
+		assertThat(retry.getSent()).isZero();
+		assertThat(mailSender.getSentCount()).isEqualTo(9);
+	}
+}
@@ -0,0 +1,121 @@
+package com.example.volunteer_platform.scheduler;
+
+import com.example.volunteer_platform.TestData;
+import com.example.volunteer_platform.config.FakeJavaMailSender;
+import com.example.volunteer_platform.dto.ReminderRunSummaryDto;
+import com.example.volunteer_platform.model.Organization;
+import com.example.volunteer_platform.model.SchedulerLease;
+import com.example.volunteer_platform.model.Task;
+import com.example.volunteer_platform.repository.OrganizationRepository;
+import com.example.volunteer_platform.repository.SchedulerLeaseRepository;
+import com.example.volunteer_platform.repository.TaskRepository;
+import com.example.volunteer_platform.repository.TaskSignupRepository;
+import com.example.volunteer_platform.repository.VolunteerRepository;
+import com.example.volunteer_platform.service.EmailService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = {"reminders.batch-size=4", "reminders.parallelism=3"})
+@ActiveProfiles("fake-mail")
+class SchedulerLeasesTests {
+
+	@Autowired
+	private SchedulerLeaseRepository schedulerLeaseRepository;
+
+	@Autowired
+	private EmailService emailService;
+
+	@Autowired
+	private FakeJavaMailSender mailSender;
+
+	@Autowired
+	private OrganizationRepository organizationRepository;
+
+	@Autowired
+	private TaskRepository taskRepository;
+
+	@Autowired
+	private VolunteerRepository volunteerRepository;
+
+	@Autowired
+	private TaskSignupRepository taskSignupRepository;
+
+	@Autowired
+	private TestData testData;
+
+	@AfterEach
+	void cleanUp() {
+		schedulerLeaseRepository.deleteAll();
+		taskSignupRepository.deleteAll();
+		taskRepository.deleteAll();
+		volunteerRepository.deleteAll();
+		organizationRepository.deleteAll();
+		mailSender.reset();
+	}
+
+	@Test
+	void onlyOneNodeRunsAJobUntilItsLeaseEnds() {
+		SchedulerLeases nodeA = node("node-a", Duration.ofHours(1));
+		SchedulerLeases nodeB = node("node-b", Duration.ZERO);
+
+		boolean[] nodeBRanInside = {true};
+		assertThat(nodeA.runExclusively("job", () -> nodeBRanInside[0] = nodeB.runExclusively("job", () -> { }))).isTrue();
+		assertThat(nodeBRanInside[0]).isFalse();
+
+		// Node A keeps the lease for lockAtLeastFor after finishing, but may run the job again itself
+		assertThat(nodeB.runExclusively("job", () -> { })).isFalse();
+		assertThat(nodeA.runExclusively("job", () -> { })).isTrue();
+	}
+
+	@Test
+	void expiredLeaseOfCrashedNodeIsTakenOver() {
+		LocalDateTime expired = LocalDateTime.now().minusMinutes(1);
+		schedulerLeaseRepository.save(new SchedulerLease("job", "crashed", expired.minusHours(1), expired));
+
+		assertThat(node("node-b", Duration.ZERO).runExclusively("job", () -> { })).isTrue();
+		assertThat(schedulerLeaseRepository.findById("job")).get().extracting(SchedulerLease::getOwner).isEqualTo("node-b");
+	}
+
+	@Test
+	void reminderShardsLeasedByAnotherNodeAreSkipped() {
+		Organization organization = testData.saveOrganization(1);
+		LocalDate tomorrow = LocalDate.now().plusDays(1);
+		Task first = testData.saveTask(organization, "Task", tomorrow);
+		Task second = testData.saveTask(organization, "Task", tomorrow);
+		for (int i = 0; i < 3; i++) {
+			testData.signUp(testData.saveVolunteer(i), first);
+			testData.signUp(testData.saveVolunteer(i + 3), second);
+		}
+		SchedulerLeases nodeA = node("node-a", Duration.ZERO);
+		SchedulerLeases nodeB = node("node-b", Duration.ofHours(1));
+		nodeB.runExclusively(ReminderScheduler.LEASE_PREFIX + first.getId(), () -> { }); // Node B has done this shard
+
+		// One task per shard, so node A only sends the reminders of the second task
+		ReminderScheduler reminderScheduler = new ReminderScheduler(taskRepository, taskSignupRepository,
+				emailService, nodeA, 4, 2, 1);
+		try {
+			ReminderRunSummaryDto summary = reminderScheduler.sendTaskReminders();
+
+			assertThat(summary.getShards()).isEqualTo(1);
+			assertThat(summary.getShardsSkipped()).isEqualTo(1);
+			assertThat(summary.getSent()).isEqualTo(3);
+			assertThat(mailSender.getRecipients())
+					.containsExactlyInAnyOrder("volunteer3@example.com", "volunteer4@example.com", "volunteer5@example.com");
+		} finally {
+			reminderScheduler.shutdown();
+		}
+	}
+
+	private SchedulerLeases node(String nodeId, Duration lockAtLeastFor) {
+		return new SchedulerLeases(schedulerLeaseRepository, nodeId, Duration.ofHours(1), lockAtLeastFor);
+	}
+}
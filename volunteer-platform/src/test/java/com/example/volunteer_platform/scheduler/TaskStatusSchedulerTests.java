@@ -0,0 +1,139 @@
+package com.example.volunteer_platform.scheduler;
+
+import com.example.volunteer_platform.enums.TaskStatus;
+import com.example.volunteer_platform.model.Task;
+import com.example.volunteer_platform.repository.TaskRepository;
+import com.example.volunteer_platform.service.TaskService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+class TaskStatusSchedulerTests {
+
+	@Autowired
+	private TaskService taskService;
+
+	@Autowired
+	private TaskRepository taskRepository;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	@AfterEach
+	void cleanUp() {
+		taskRepository.deleteAll();
+	}
+
+	@Test
+	void transitionsOnlyTasksPastTheirDates() {
+		LocalDate today = LocalDate.now();
+		Task applicationsOpen = saveTask(today.plusDays(20), today.plusDays(30));
+		Task applicationsClosed = saveTask(today.plusDays(2), today.plusDays(10));
+		Task filledAndClosed = saveTask(today.plusDays(2), today.plusDays(10), TaskStatus.FILLED);
+		Task eventOver = saveTask(today.plusDays(1), today.plusDays(3));
+
+		// Run as of a few days from now, since event dates must lie in the future when saved
+		LocalDate runDate = today.plusDays(5);
+		assertThat(taskService.closeExpiredApplications(runDate)).isEqualTo(3);
+		assertThat(taskService.endPastTasks(runDate)).isEqualTo(1);
+
+		assertThat(statusOf(applicationsOpen)).isEqualTo(TaskStatus.AVAILABLE);
+		assertThat(statusOf(applicationsClosed)).isEqualTo(TaskStatus.APPLICATION_ENDED);
+		assertThat(statusOf(filledAndClosed)).isEqualTo(TaskStatus.APPLICATION_ENDED);
+		assertThat(statusOf(eventOver)).isEqualTo(TaskStatus.ENDED);
+
+		// A second run finds nothing left to change
+		assertThat(taskService.closeExpiredApplications(runDate)).isZero();
+		assertThat(taskService.endPastTasks(runDate)).isZero();
+	}
+
+	@Test
+	void noSlotsChangeHandsAfterTheApplicationDeadline() {
+		LocalDate today = LocalDate.now();
+		Task open = saveTask(today.plusDays(2), today.plusDays(10));
+		Task full = saveTask(today.plusDays(2), today.plusDays(10), TaskStatus.FILLED);
+
+		LocalDate afterDeadline = today.plusDays(3);
+		assertThat(taskRepository.reserveSlot(open.getId(), afterDeadline, LocalDateTime.now())).isZero();
+		// A cancellation frees the slot but does not reopen the task
+		assertThat(taskRepository.releaseSlot(full.getId(), afterDeadline, LocalDateTime.now())).isEqualTo(1);
+		assertThat(statusOf(full)).isEqualTo(TaskStatus.FILLED);
+		assertThat(taskRepository.findSignupCountById(full.getId())).isZero();
+	}
+
+	@Test
+	void editingATaskKeepsTheStatusChangedMeanwhile() {
+		LocalDate today = LocalDate.now();
+		Task edited = saveTask(today.plusDays(2), today.plusDays(10));
+		taskRepository.transitionStatus(List.of(edited.getId()), TaskStatus.AVAILABLE, TaskStatus.APPLICATION_ENDED, LocalDateTime.now());
+
+		edited.setTitle("Renamed"); // Still holds AVAILABLE, as read before the transition
+		taskService.saveTask(edited);
+
+		Task saved = taskRepository.findById(edited.getId()).orElseThrow();
+		assertThat(saved.getTitle()).isEqualTo("Renamed");
+		assertThat(saved.getStatus()).isEqualTo(TaskStatus.APPLICATION_ENDED);
+	}
+
+	@Test
+	void changeOnAnotherNodeReachesTheSearchIndexAtTheNextPoll() throws Exception {
+		LocalDate today = LocalDate.now();
+		Task task = saveTask(today.plusDays(2), today.plusDays(10)); // Saved past the service, as on another node
+		task.setTitle("Zanzibar");
+		taskRepository.save(task);
+		assertThat(searchTitle("zanzibar")).isZero();
+
+		// What another node records when it changes a task
+		jdbcTemplate.update("INSERT INTO index_changes (entity_type, entity_id, node_id, created_at) VALUES ('TASK', ?, 'other-node', ?)",
+				task.getId(), LocalDateTime.now());
+
+		long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+		while (searchTitle("zanzibar") == 0 && System.nanoTime() < deadline) {
+			Thread.sleep(100);
+		}
+		assertThat(searchTitle("zanzibar")).isEqualTo(1);
+	}
+
+	private long searchTitle(String title) {
+		return taskService.searchTasks(null, title, null, null, null, 0, 10).getTotalMatches();
+	}
+
+	private TaskStatus statusOf(Task task) {
+		return taskRepository.findById(task.getId()).orElseThrow().getStatus();
+	}
+
+	private Task saveTask(LocalDate applicationDeadline, LocalDate eventDate) {
+		return saveTask(applicationDeadline, eventDate, TaskStatus.AVAILABLE);
+	}
+
+	/**
+	 * A FILLED task gets a capacity of one and takes its only slot.
+	 */
+	private Task saveTask(LocalDate applicationDeadline, LocalDate eventDate, TaskStatus status) {
+		Task task = new Task();
+		task.setTitle("Task");
+		task.setDescription("Description");
+		task.setLocation("Location");
+		task.setEventDate(eventDate);
+		task.setApplicationDeadline(applicationDeadline);
+		task.setCancellationDeadline(applicationDeadline);
+		if (status == TaskStatus.FILLED) {
+			task.setCapacity(1);
+		}
+		task = taskRepository.save(task);
+		if (status == TaskStatus.FILLED) {
+			taskRepository.reserveSlot(task.getId(), LocalDate.now(), LocalDateTime.now());
+		}
+		return task;
+	}
+}
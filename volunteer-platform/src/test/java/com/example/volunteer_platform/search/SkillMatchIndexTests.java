@@ -0,0 +1,56 @@
+package com.example.volunteer_platform.search;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SkillMatchIndexTests {
+
+	private SkillMatchIndex index;
+
+	@BeforeEach
+	void setUp() {
+		index = new SkillMatchIndex();
+		index.putTask(10L, List.of(1L, 2L, 3L));
+		index.putTask(11L, List.of(1L, 200L));
+		index.putTask(12L, List.of(4L));
+		index.putVolunteer(1L, List.of(1L, 2L, 3L));
+		index.putVolunteer(2L, List.of(1L, 200L));
+		index.putVolunteer(3L, List.of(5L));
+	}
+
+	@Test
+	void ranksTasksByJaccardSimilarity() {
+		List<SkillMatchIndex.Match> matches = index.topTasksForVolunteer(1L, 10);
+
+		assertThat(matches).extracting(SkillMatchIndex.Match::getId).containsExactly(10L, 11L);
+		assertThat(matches.get(0).getScore()).isEqualTo(1.0);
+		assertThat(matches.get(1).getScore()).isEqualTo(0.25);
+		assertThat(matches.get(1).getSharedSkills()).isEqualTo(1);
+	}
+
+	@Test
+	void matchesSkillIdsBeyondTheFirstWord() {
+		assertThat(index.topVolunteersForTask(11L, 1)).extracting(SkillMatchIndex.Match::getId).containsExactly(2L);
+	}
+
+	@Test
+	void keepsOnlyTopK() {
+		assertThat(index.topVolunteersForTask(10L, 1)).extracting(SkillMatchIndex.Match::getId).containsExactly(1L);
+	}
+
+	@Test
+	void reflectsSkillChangesAndRemovals() {
+		index.putVolunteer(3L, List.of(4L));
+		assertThat(index.topTasksForVolunteer(3L, 10)).extracting(SkillMatchIndex.Match::getId).containsExactly(12L);
+
+		index.removeTask(12L);
+		index.putVolunteer(1L, List.of());
+		assertThat(index.topTasksForVolunteer(3L, 10)).isEmpty();
+		assertThat(index.topTasksForVolunteer(1L, 10)).isEmpty();
+		assertThat(index.volunteerCount()).isEqualTo(2);
+	}
+}
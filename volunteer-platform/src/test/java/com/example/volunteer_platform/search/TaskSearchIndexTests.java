@@ -0,0 +1,69 @@
+package com.example.volunteer_platform.search;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TaskSearchIndexTests {
+
+	private TaskSearchIndex index;
+
+	@BeforeEach
+	void setUp() {
+		index = new TaskSearchIndex();
+		index.index(1L, "Beach clean-up", "Collect plastic along the shore", "Mumbai", List.of("cleaning"));
+		index.index(2L, "Food bank shift", "Sort donations for the beach community kitchen", "Pune", List.of("cooking", "logistics"));
+		index.index(3L, "Tree planting", "Plant saplings in the city park", "Mumbai", List.of("gardening"));
+	}
+
+	@Test
+	void ranksTitleMatchesAboveDescriptionMatches() {
+		TaskSearchIndex.SearchResult result = index.search("beach", Map.of(), 0, 10);
+
+		assertThat(result.getTaskIds()).containsExactly(1L, 2L);
+		assertThat(result.getTotalMatches()).isEqualTo(2);
+	}
+
+	@Test
+	void combinesFreeTextWithFieldFilters() {
+		TaskSearchIndex.SearchResult result = index.search("plant",
+				TaskSearchIndex.fieldFilters(null, "mumbai", null, null), 0, 10);
+
+		assertThat(result.getTaskIds()).containsExactly(3L);
+	}
+
+	@Test
+	void matchesByPrefix() {
+		assertThat(index.search(null, TaskSearchIndex.fieldFilters(null, null, null, "log"), 0, 10).getTaskIds())
+				.containsExactly(2L);
+	}
+
+	@Test
+	void pagesThroughRankedResults() {
+		TaskSearchIndex.SearchResult secondPage = index.search("mumbai", Map.of(), 1, 1);
+
+		assertThat(secondPage.getTaskIds()).hasSize(1);
+		assertThat(secondPage.getTotalMatches()).isEqualTo(2);
+	}
+
+	@Test
+	void pagesPastTheResultsAreEmptyWhateverTheirOffset() {
+		assertThat(index.search("mumbai", Map.of(), 2, 1).getTaskIds()).isEmpty();
+		assertThat(index.search("mumbai", Map.of(), 100L * Integer.MAX_VALUE, 100).getTaskIds()).isEmpty();
+		assertThat(index.search("mumbai", Map.of(), 1, Integer.MAX_VALUE).getTaskIds()).hasSize(1);
+	}
+
+	@Test
+	void reindexingReplacesAndRemovingDropsTerms() {
+		index.index(1L, "River clean-up", "Collect plastic along the river", "Mumbai", List.of("cleaning"));
+		assertThat(index.search("beach", Map.of(), 0, 10).getTaskIds()).containsExactly(2L);
+
+		index.remove(2L);
+		assertThat(index.search("beach", Map.of(), 0, 10).getTotalMatches()).isZero();
+		assertThat(index.size()).isEqualTo(2);
+	}
+}
@@ -0,0 +1,183 @@
+package com.example.volunteer_platform.security;
+
+import com.example.volunteer_platform.dto.VolunteerPartialDto;
+import com.example.volunteer_platform.enums.Gender;
+import com.example.volunteer_platform.model.Skill;
+import com.example.volunteer_platform.model.Volunteer;
+import com.example.volunteer_platform.repository.SkillRepository;
+import com.example.volunteer_platform.repository.VolunteerRepository;
+import com.example.volunteer_platform.service.UserService;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.mock.web.MockHttpSession;
+import org.springframework.security.core.userdetails.UserCache;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.security.web.context.HttpSessionSecurityContextRepository;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectOutputStream;
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestBuilders.formLogin;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.redirectedUrl;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+class LoginTests {
+
+	private static final String EMAIL = "login@example.com";
+
+	@Autowired
+	private MockMvc mockMvc;
+
+	@Autowired
+	private VolunteerRepository volunteerRepository;
+
+	@Autowired
+	private SkillRepository skillRepository;
+
+	@Autowired
+	private UserService userService;
+
+	@Autowired
+	private PasswordEncoder passwordEncoder;
+
+	@Autowired
+	private UserCache userCache;
+
+	@Autowired
+	private EntityManagerFactory entityManagerFactory;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	private Skill skill;
+	private Volunteer volunteer;
+
+	@BeforeEach
+	void setUp() {
+		skill = new Skill();
+		skill.setName("First aid");
+		skillRepository.save(skill);
+		volunteer = new Volunteer();
+		volunteer.setName("Login Volunteer");
+		volunteer.setEmail(EMAIL);
+		volunteer.setPassword(passwordEncoder.encode("secret"));
+		volunteer.setPhoneNumber("7999999999");
+		volunteer.setGender(Gender.FEMALE);
+		volunteer.setSkills(Set.of(skill));
+		volunteerRepository.save(volunteer);
+	}
+
+	@AfterEach
+	void cleanUp() {
+		userCache.removeUserFromCache(EMAIL);
+		volunteerRepository.deleteAll();
+		skillRepository.delete(skill);
+	}
+
+	@Test
+	void loginRunsOneStatementThenUsesCache() throws Exception {
+		Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+		statistics.clear();
+
+		mockMvc.perform(formLogin().user(EMAIL).password("secret"))
+				.andExpect(redirectedUrl("/v/opportunities"))
+				.andExpect(request().sessionAttribute("userId", volunteer.getId()));
+		assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+
+		statistics.clear();
+		mockMvc.perform(formLogin().user(EMAIL).password("secret"))
+				.andExpect(redirectedUrl("/v/opportunities"));
+		assertThat(statistics.getPrepareStatementCount()).isZero();
+	}
+
+	@Test
+	void sessionHoldsOnlyScalarsAndSerializesCompactly() throws Exception {
+		MockHttpSession session = (MockHttpSession) mockMvc.perform(formLogin().user(EMAIL).password("secret"))
+				.andReturn().getRequest().getSession();
+
+		assertThat(Collections.list(session.getAttributeNames()))
+				.containsExactlyInAnyOrder("user", "role", "userId", HttpSessionSecurityContextRepository.SPRING_SECURITY_CONTEXT_KEY);
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+			for (String name : Collections.list(session.getAttributeNames())) {
+				out.writeObject(session.getAttribute(name));
+			}
+		}
+		assertThat(bytes.size()).isLessThan(4096);
+	}
+
+	@Test
+	void navbarShowsTheNameOfTheLoggedInUser() throws Exception {
+		MockHttpSession session = (MockHttpSession) mockMvc.perform(formLogin().user(EMAIL).password("secret"))
+				.andReturn().getRequest().getSession();
+
+		mockMvc.perform(get("/home").session(session))
+				.andExpect(content().string(containsString("Login Volunteer")));
+	}
+
+	@Test
+	void profileIsCachedUntilTheUserChanges() {
+		Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+		assertThat(userService.getProfile(volunteer.getId())).get().extracting("name").isEqualTo("Login Volunteer");
+
+		statistics.clear();
+		assertThat(userService.getProfile(volunteer.getId())).get().extracting("gender").isEqualTo(Gender.FEMALE);
+		assertThat(statistics.getPrepareStatementCount()).isZero();
+
+		VolunteerPartialDto update = new VolunteerPartialDto();
+		update.setName("Renamed Volunteer");
+		userService.updateVolunteer(volunteer.getId(), update);
+		assertThat(userService.getProfile(volunteer.getId())).get().extracting("name").isEqualTo("Renamed Volunteer");
+	}
+
+	@Test
+	void passwordChangeEvictsCachedLogin() throws Exception {
+		mockMvc.perform(formLogin().user(EMAIL).password("secret"))
+				.andExpect(redirectedUrl("/v/opportunities"));
+
+		VolunteerPartialDto update = new VolunteerPartialDto();
+		update.setPassword("changed");
+		userService.updateVolunteer(volunteer.getId(), update);
+
+		mockMvc.perform(formLogin().user(EMAIL).password("secret"))
+				.andExpect(redirectedUrl("/login?error=true"));
+		mockMvc.perform(formLogin().user(EMAIL).password("changed"))
+				.andExpect(redirectedUrl("/v/opportunities"));
+	}
+
+	@Test
+	void changeOnAnotherNodeEvictsCachedLoginAtTheNextPoll() throws Exception {
+		mockMvc.perform(formLogin().user(EMAIL).password("secret"))
+				.andExpect(redirectedUrl("/v/opportunities"));
+		assertThat(userCache.getUserFromCache(EMAIL)).isNotNull();
+
+		// What another node records when it changes the user
+		jdbcTemplate.update("INSERT INTO user_cache_invalidations (user_id, email, created_at) VALUES (?, ?, ?)",
+				volunteer.getId(), EMAIL, LocalDateTime.now());
+
+		long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+		while (userCache.getUserFromCache(EMAIL) != null && System.nanoTime() < deadline) {
+			Thread.sleep(100);
+		}
+		assertThat(userCache.getUserFromCache(EMAIL)).isNull();
+	}
+}
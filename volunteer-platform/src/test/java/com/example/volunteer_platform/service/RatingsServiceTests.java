@@ -0,0 +1,140 @@
+package com.example.volunteer_platform.service;
+
+import com.example.volunteer_platform.TestData;
+import com.example.volunteer_platform.dto.LeaderboardEntryDto;
+import com.example.volunteer_platform.dto.RatingSummaryDto;
+import com.example.volunteer_platform.enums.UserType;
+import com.example.volunteer_platform.model.Ratings;
+import com.example.volunteer_platform.model.Volunteer;
+import com.example.volunteer_platform.repository.RatingAggregateRepository;
+import com.example.volunteer_platform.repository.RatingsRepository;
+import com.example.volunteer_platform.repository.VolunteerRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+class RatingsServiceTests {
+
+	@Autowired
+	private RatingsService ratingsService;
+
+	@Autowired
+	private RatingsRepository ratingsRepository;
+
+	@Autowired
+	private RatingAggregateRepository ratingAggregateRepository;
+
+	@Autowired
+	private VolunteerRepository volunteerRepository;
+
+	@Autowired
+	private MockMvc mockMvc;
+
+	@Autowired
+	private TestData testData;
+
+	@AfterEach
+	void cleanUp() {
+		ratingsRepository.deleteAll();
+		ratingAggregateRepository.deleteAll();
+		volunteerRepository.deleteAll();
+	}
+
+	@Test
+	void keepsTotalsInStepWithSubmitEditAndDelete() {
+		Volunteer volunteer = testData.saveVolunteer(1);
+		Ratings first = ratingsService.submitRating(rating(volunteer, 5));
+		ratingsService.submitRating(rating(volunteer, 3));
+
+		RatingSummaryDto summary = ratingsService.getRatingSummary(volunteer.getId());
+		assertThat(summary.getRatingCount()).isEqualTo(2);
+		assertThat(summary.getAverageRating()).isEqualTo(4.0);
+
+		ratingsService.editRating(first.getRatingId(), 1, "Changed my mind");
+		assertThat(ratingsService.getRatingSummary(volunteer.getId()).getAverageRating()).isEqualTo(2.0);
+
+		ratingsService.deleteRating(first.getRatingId());
+		summary = ratingsService.getRatingSummary(volunteer.getId());
+		assertThat(summary.getRatingCount()).isEqualTo(1);
+		assertThat(summary.getAverageRating()).isEqualTo(3.0);
+		assertThat(summary.getScore()).isCloseTo(3.0, within(1e-9));
+	}
+
+	@Test
+	void concurrentFirstRatingsAllCount() throws Exception {
+		Volunteer volunteer = testData.saveVolunteer(1);
+		ExecutorService executor = Executors.newFixedThreadPool(8);
+		try {
+			List<Future<Ratings>> submissions = new ArrayList<>();
+			for (int i = 0; i < 8; i++) {
+				submissions.add(executor.submit(() -> ratingsService.submitRating(rating(volunteer, 4))));
+			}
+			for (Future<Ratings> submission : submissions) {
+				submission.get(); // Rethrows a duplicate key from a second insert of the totals
+			}
+		} finally {
+			executor.shutdown();
+		}
+
+		RatingSummaryDto summary = ratingsService.getRatingSummary(volunteer.getId());
+		assertThat(summary.getRatingCount()).isEqualTo(8);
+		assertThat(summary.getAverageRating()).isEqualTo(4.0);
+	}
+
+	@Test
+	void ranksBySmoothedScoreSoFewRatingsDoNotDominate() {
+		Volunteer oneFiveStar = testData.saveVolunteer(1);
+		Volunteer manyFourStars = testData.saveVolunteer(2);
+		Volunteer unrated = testData.saveVolunteer(3);
+		ratingsService.submitRating(rating(oneFiveStar, 5));
+		for (int i = 0; i < 20; i++) {
+			ratingsService.submitRating(rating(manyFourStars, 4));
+		}
+
+		List<LeaderboardEntryDto> leaders = ratingsService.getLeaderboard(UserType.VOLUNTEER, 0, 10);
+
+		assertThat(leaders).extracting(LeaderboardEntryDto::getUserId)
+				.containsExactly(manyFourStars.getId(), oneFiveStar.getId())
+				.doesNotContain(unrated.getId());
+		assertThat(leaders).extracting(LeaderboardEntryDto::getRank).containsExactly(1, 2);
+		assertThat(ratingsService.getLeaderboard(UserType.VOLUNTEER, 1, 1))
+				.extracting(LeaderboardEntryDto::getRank).containsExactly(2);
+	}
+
+	@Test
+	@WithMockUser(roles = "VOLUNTEER")
+	void rankingsPageShowsRatedVolunteers() throws Exception {
+		Volunteer volunteer = testData.saveVolunteer(1);
+		ratingsService.submitRating(rating(volunteer, 4));
+
+		mockMvc.perform(get("/rankings/volunteers"))
+				.andExpect(status().isOk())
+				.andExpect(content().string(org.hamcrest.Matchers.containsString("Volunteer 1")));
+	}
+
+	private Ratings rating(Volunteer volunteer, int score) {
+		Ratings rating = new Ratings();
+		rating.setRatedByUserId(0);
+		rating.setRatedUserId(volunteer.getId());
+		rating.setRatingScore(score);
+		return rating;
+	}
+}
@@ -0,0 +1,68 @@
+package com.example.volunteer_platform.service;
+
+import com.example.volunteer_platform.model.Skill;
+import com.example.volunteer_platform.repository.SkillRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+class SkillServiceTests {
+
+	@Autowired
+	private SkillService skillService;
+
+	@Autowired
+	private SkillRepository skillRepository;
+
+	@Autowired
+	private EntityManagerFactory entityManagerFactory;
+
+	@AfterEach
+	void cleanUp() {
+		for (Skill skill : skillRepository.findAll()) {
+			skillService.deleteSkillById(skill.getId());
+		}
+	}
+
+	@Test
+	void resolvesNamesIgnoringCaseAndCreatesMissingOnes() {
+		List<Skill> skills = skillService.resolveOrCreate(List.of("Cooking", " cooking ", "First Aid"));
+
+		assertThat(skills).extracting(Skill::getName).containsExactly("cooking", "first aid");
+		assertThat(skillRepository.count()).isEqualTo(2);
+		assertThat(skillService.findByName("COOKING")).contains(skills.get(0));
+	}
+
+	@Test
+	void servesKnownSkillsWithoutQueries() {
+		skillService.resolveOrCreate(List.of("gardening", "logistics"));
+		Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+		statistics.clear();
+		long hitsBefore = skillService.getCacheStats().getHits();
+
+		List<Skill> skills = skillService.resolveOrCreate(List.of("Gardening", "logistics"));
+		skillService.findById(skills.get(0).getId());
+
+		assertThat(statistics.getPrepareStatementCount()).isZero();
+		assertThat(skillService.getCacheStats().getHits() - hitsBefore).isEqualTo(3);
+	}
+
+	@Test
+	void deletingASkillEvictsIt() {
+		Skill skill = skillService.resolveOrCreate(List.of("painting")).get(0);
+
+		skillService.deleteSkillById(skill.getId());
+
+		assertThat(skillService.findByName("painting")).isEmpty();
+		assertThat(skillService.findById(skill.getId())).isEmpty();
+	}
+}
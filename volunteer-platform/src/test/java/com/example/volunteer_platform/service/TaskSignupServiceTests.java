@@ -0,0 +1,209 @@
+package com.example.volunteer_platform.service;
+
+import com.example.volunteer_platform.TestData;
+import com.example.volunteer_platform.config.FakeJavaMailSender;
+import com.example.volunteer_platform.dto.SignupResultDto;
+import com.example.volunteer_platform.dto.WaitlistEntryDto;
+import com.example.volunteer_platform.enums.SignupOutcome;
+import com.example.volunteer_platform.enums.TaskStatus;
+import com.example.volunteer_platform.model.Task;
+import com.example.volunteer_platform.model.TaskSignup;
+import com.example.volunteer_platform.model.Volunteer;
+import com.example.volunteer_platform.model.WaitlistEntry;
+import com.example.volunteer_platform.repository.OrganizationRepository;
+import com.example.volunteer_platform.repository.TaskRepository;
+import com.example.volunteer_platform.repository.TaskSignupRepository;
+import com.example.volunteer_platform.repository.VolunteerRepository;
+import com.example.volunteer_platform.repository.WaitlistRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("fake-mail")
+class TaskSignupServiceTests {
+
+	private static final int CAPACITY = 50;
+	private static final int VOLUNTEERS = 400;
+	private static final int ATTEMPTS_PER_VOLUNTEER = 5;
+
+	@Autowired
+	private TaskSignupService taskSignupService;
+
+	@Autowired
+	private OrganizationRepository organizationRepository;
+
+	@Autowired
+	private TaskRepository taskRepository;
+
+	@Autowired
+	private VolunteerRepository volunteerRepository;
+
+	@Autowired
+	private TaskSignupRepository taskSignupRepository;
+
+	@Autowired
+	private WaitlistRepository waitlistRepository;
+
+	@Autowired
+	private FakeJavaMailSender mailSender;
+
+	@Autowired
+	private MockMvc mockMvc;
+
+	@Autowired
+	private TestData testData;
+
+	@AfterEach
+	void cleanUp() {
+		waitlistRepository.deleteAll();
+		taskSignupRepository.deleteAll();
+		taskRepository.deleteAll();
+		volunteerRepository.deleteAll();
+		organizationRepository.deleteAll();
+		mailSender.reset();
+	}
+
+	@Test
+	void concurrentSignupsNeverExceedCapacityOrDuplicate() throws Exception {
+		Task task = saveTask(CAPACITY);
+		List<Volunteer> volunteers = new ArrayList<>();
+		for (int i = 0; i < VOLUNTEERS; i++) {
+			volunteers.add(testData.saveVolunteer(i));
+		}
+		List<Volunteer> attempts = new ArrayList<>();
+		for (int i = 0; i < ATTEMPTS_PER_VOLUNTEER; i++) {
+			attempts.addAll(volunteers); // Every volunteer tries several times
+		}
+		Collections.shuffle(attempts);
+
+		Map<SignupOutcome, Integer> outcomes = new EnumMap<>(SignupOutcome.class);
+		int duplicatesRejected = 0;
+		ExecutorService executor = Executors.newFixedThreadPool(16);
+		try {
+			CountDownLatch start = new CountDownLatch(1);
+			List<Future<SignupOutcome>> results = new ArrayList<>();
+			for (Volunteer volunteer : attempts) {
+				results.add(executor.submit(() -> {
+					start.await();
+					try {
+						return taskSignupService.signUp(task.getId(), volunteer.getId()).getOutcome();
+					} catch (DataIntegrityViolationException e) {
+						return null; // Lost the race against the same volunteer's other attempt
+					}
+				}));
+			}
+			start.countDown();
+			for (Future<SignupOutcome> result : results) {
+				SignupOutcome outcome = result.get(60, TimeUnit.SECONDS);
+				if (outcome == null) {
+					duplicatesRejected++;
+				} else {
+					outcomes.merge(outcome, 1, Integer::sum);
+				}
+			}
+		} finally {
+			executor.shutdownNow();
+		}
+
+		assertThat(outcomes.get(SignupOutcome.CREATED)).isEqualTo(CAPACITY);
+		assertThat(outcomes.get(SignupOutcome.CREATED) + outcomes.getOrDefault(SignupOutcome.WAITLISTED, 0)
+				+ outcomes.getOrDefault(SignupOutcome.ALREADY_SIGNED_UP, 0) + duplicatesRejected)
+				.isEqualTo(attempts.size());
+		List<TaskSignup> signups = taskSignupRepository.findByTaskId(task.getId());
+		assertThat(signups).hasSize(CAPACITY);
+		assertThat(signups).extracting(signup -> signup.getVolunteer().getId()).doesNotHaveDuplicates();
+		Task filled = taskRepository.findById(task.getId()).orElseThrow();
+		assertThat(filled.getSignupCount()).isEqualTo(CAPACITY);
+		assertThat(filled.getStatus()).isEqualTo(TaskStatus.FILLED);
+		assertThat(taskSignupService.getWaitlist(task.getId())).hasSize(VOLUNTEERS - CAPACITY);
+	}
+
+	@Test
+	void headAlreadySignedUpIsDroppedInsteadOfPromoted() {
+		Task task = saveTask(2);
+		Volunteer first = testData.saveVolunteer(1);
+		taskSignupService.signUp(task.getId(), first.getId());
+		SignupResultDto second = taskSignupService.signUp(task.getId(), testData.saveVolunteer(2).getId());
+		// Left behind by a concurrent attempt of the first volunteer, ahead of the third
+		waitlistRepository.save(WaitlistEntry.builder().task(task).volunteer(first).build());
+		Volunteer third = testData.saveVolunteer(3);
+		assertThat(taskSignupService.signUp(task.getId(), third.getId()).getWaitlistPosition()).isEqualTo(2);
+
+		taskSignupService.deleteById(second.getSignup().getSignupId());
+
+		assertThat(taskSignupRepository.findByTaskId(task.getId()))
+				.extracting(signup -> signup.getVolunteer().getId()).containsExactlyInAnyOrder(first.getId(), third.getId());
+		assertThat(taskSignupService.getWaitlist(task.getId())).isEmpty();
+	}
+
+	@Test
+	void cancellationPromotesTheHeadOfTheWaitlist() throws Exception {
+		Task task = saveTask(2);
+		Volunteer first = testData.saveVolunteer(1);
+		SignupResultDto signup = taskSignupService.signUp(task.getId(), first.getId());
+		taskSignupService.signUp(task.getId(), testData.saveVolunteer(2).getId());
+		Volunteer third = testData.saveVolunteer(3);
+		Volunteer fourth = testData.saveVolunteer(4);
+
+		assertThat(taskSignupService.signUp(task.getId(), third.getId()).getWaitlistPosition()).isEqualTo(1);
+		// Over the REST API the waitlisted volunteer learns their place in the 202 body
+		mockMvc.perform(post("/api/task-signups").contentType(MediaType.APPLICATION_JSON)
+						.content("{\"taskId\": " + task.getId() + ", \"volunteerId\": " + fourth.getId() + "}"))
+				.andExpect(status().isAccepted())
+				.andExpect(jsonPath("$.position").value(2))
+				.andExpect(jsonPath("$.volunteerId").value(fourth.getId()));
+		assertThat(taskSignupService.signUp(task.getId(), third.getId()).getOutcome()).isEqualTo(SignupOutcome.WAITLISTED);
+
+		taskSignupService.deleteById(signup.getSignup().getSignupId());
+
+		assertThat(taskSignupService.isVolunteerSignedUpForTask(third.getId(), task.getId())).isTrue();
+		assertThat(taskSignupService.getWaitlist(task.getId())).extracting(WaitlistEntryDto::getVolunteerId)
+				.containsExactly(fourth.getId());
+		assertThat(mailSender.getRecipients()).containsExactly(third.getEmail());
+		Task stillFull = taskRepository.findById(task.getId()).orElseThrow();
+		assertThat(stillFull.getStatus()).isEqualTo(TaskStatus.FILLED);
+		assertThat(stillFull.getSignupCount()).isEqualTo(2);
+	}
+
+	@Test
+	void cancellingWithAnEmptyWaitlistReopensTheTask() {
+		Task task = saveTask(1);
+		SignupResultDto signup = taskSignupService.signUp(task.getId(), testData.saveVolunteer(1).getId());
+		assertThat(taskRepository.findById(task.getId()).orElseThrow().getStatus()).isEqualTo(TaskStatus.FILLED);
+
+		taskSignupService.deleteById(signup.getSignup().getSignupId());
+
+		Task reopened = taskRepository.findById(task.getId()).orElseThrow();
+		assertThat(reopened.getStatus()).isEqualTo(TaskStatus.AVAILABLE);
+		assertThat(reopened.getSignupCount()).isZero();
+	}
+
+	private Task saveTask(Integer capacity) {
+		return testData.saveTask(testData.saveOrganization(1), "Popular event", LocalDate.now().plusDays(30), capacity);
+	}
+}
@@ -0,0 +1,190 @@
+package com.example.volunteer_platform.service;
+
+import com.example.volunteer_platform.TestData;
+import com.example.volunteer_platform.config.FakeJavaMailSender;
+import com.example.volunteer_platform.dto.ErasureJobDto;
+import com.example.volunteer_platform.enums.ErasureState;
+import com.example.volunteer_platform.enums.SignupOutcome;
+import com.example.volunteer_platform.enums.TaskStatus;
+import com.example.volunteer_platform.model.Organization;
+import com.example.volunteer_platform.model.Skill;
+import com.example.volunteer_platform.model.Task;
+import com.example.volunteer_platform.model.Volunteer;
+import com.example.volunteer_platform.repository.OrganizationRepository;
+import com.example.volunteer_platform.repository.SkillRepository;
+import com.example.volunteer_platform.repository.TaskRepository;
+import com.example.volunteer_platform.repository.TaskSignupRepository;
+import com.example.volunteer_platform.repository.VolunteerRepository;
+import com.example.volunteer_platform.repository.WaitlistRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ActiveProfiles("fake-mail")
+class UserErasureTests {
+
+	@Autowired
+	private UserService userService;
+
+	@Autowired
+	private TaskSignupService taskSignupService;
+
+	@Autowired
+	private OrganizationRepository organizationRepository;
+
+	@Autowired
+	private TaskRepository taskRepository;
+
+	@Autowired
+	private VolunteerRepository volunteerRepository;
+
+	@Autowired
+	private TaskSignupRepository taskSignupRepository;
+
+	@Autowired
+	private WaitlistRepository waitlistRepository;
+
+	@Autowired
+	private SkillRepository skillRepository;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	@Autowired
+	private EntityManagerFactory entityManagerFactory;
+
+	@Autowired
+	private FakeJavaMailSender mailSender;
+
+	@Autowired
+	private TestData testData;
+
+	private int volunteerCount;
+
+	@AfterEach
+	void cleanUp() {
+		waitlistRepository.deleteAll();
+		taskSignupRepository.deleteAll();
+		taskRepository.deleteAll();
+		organizationRepository.deleteAll();
+		volunteerRepository.deleteAll();
+		skillRepository.deleteAll();
+		mailSender.reset();
+	}
+
+	@Test
+	void organizationIsDeletedWithOneStatementPerTable() {
+		Organization organization = saveOrganizationWithTasks(3, 2);
+		Organization other = saveOrganizationWithTasks(1, 1);
+		Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+		statistics.clear();
+
+		assertThat(userService.deleteOrganizationById(organization.getId())).isTrue();
+
+		assertThat(statistics.getPrepareStatementCount()).isLessThan(15); // Independent of tasks and signups
+		assertThat(organizationRepository.existsById(organization.getId())).isFalse();
+		assertThat(taskRepository.countByOrganizationId(organization.getId())).isZero();
+		assertRemainingRows(other, 1, 1);
+	}
+
+	@Test
+	void organizationIsDeletedInTheBackground() throws InterruptedException {
+		Organization organization = saveOrganizationWithTasks(3, 2);
+
+		ErasureJobDto job = userService.startOrganizationErasure(organization.getId()).orElseThrow();
+		assertThat(job.getTotalTasks()).isEqualTo(3);
+		for (int i = 0; i < 100 && job.getState() != ErasureState.COMPLETED; i++) {
+			Thread.sleep(50);
+			job = userService.getErasureJob(job.getJobId()).orElseThrow();
+		}
+
+		assertThat(job.getState()).isEqualTo(ErasureState.COMPLETED);
+		assertThat(job.getTasksDeleted()).isEqualTo(3);
+		assertThat(organizationRepository.existsById(organization.getId())).isFalse();
+		assertThat(userService.startOrganizationErasure(organization.getId())).isEmpty();
+	}
+
+	@Test
+	void jobOfAStoppedNodeIsReportedAsFailed() {
+		jdbcTemplate.update("INSERT INTO erasure_jobs (job_id, user_id, node_id, state, total_tasks, tasks_deleted, started_at, updated_at) "
+				+ "VALUES ('stopped-node-job', 1, 'stopped-node', 'RUNNING', 10, 4, ?, ?)",
+				LocalDateTime.now().minusHours(2), LocalDateTime.now().minusHours(1));
+
+		ErasureJobDto job = userService.getErasureJob("stopped-node-job").orElseThrow();
+
+		assertThat(job.getState()).isEqualTo(ErasureState.FAILED);
+		assertThat(job.getTasksDeleted()).isEqualTo(4);
+		assertThat(job.getError()).contains("stopped-node");
+	}
+
+	@Test
+	void deletedVolunteerFreesSlotsForTheWaitlist() {
+		Organization organization = saveOrganizationWithTasks(0, 0);
+		Task full = saveTask(organization, 1);
+		Task open = saveTask(organization, null);
+		Volunteer leaving = saveVolunteer();
+		Volunteer waiting = saveVolunteer();
+		taskSignupService.signUp(full.getId(), leaving.getId());
+		taskSignupService.signUp(open.getId(), leaving.getId());
+		assertThat(taskSignupService.signUp(full.getId(), waiting.getId()).getOutcome()).isEqualTo(SignupOutcome.WAITLISTED);
+
+		assertThat(userService.deleteVolunteerById(leaving.getId())).isTrue();
+
+		assertThat(taskSignupRepository.existsByVolunteerIdAndTaskId(waiting.getId(), full.getId())).isTrue();
+		assertThat(taskRepository.findStatusById(full.getId())).isEqualTo(TaskStatus.FILLED);
+		assertThat(taskRepository.findSignupCountById(full.getId())).isEqualTo(1);
+		assertThat(taskRepository.findSignupCountById(open.getId())).isZero();
+		assertThat(waitlistRepository.count()).isZero();
+		assertThat(mailSender.getRecipients()).containsExactly(waiting.getEmail());
+	}
+
+	private void assertRemainingRows(Organization organization, int tasks, int signupsPerTask) {
+		assertThat(taskRepository.count()).isEqualTo(tasks);
+		assertThat(taskSignupRepository.count()).isEqualTo((long) tasks * signupsPerTask);
+		assertThat(waitlistRepository.count()).isEqualTo(tasks);
+		assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM task_skills", Integer.class)).isEqualTo(tasks);
+		assertThat(taskRepository.countByOrganizationId(organization.getId())).isEqualTo(tasks);
+	}
+
+	/**
+	 * Organization whose tasks each have a skill, a number of signups filling them and one waitlisted volunteer.
+	 */
+	private Organization saveOrganizationWithTasks(int tasks, int signupsPerTask) {
+		Organization organization = testData.saveOrganization((int) organizationRepository.count());
+
+		Skill skill = new Skill();
+		skill.setName("Skill " + skillRepository.count());
+		skillRepository.save(skill);
+		for (int i = 0; i < tasks; i++) {
+			Task task = saveTask(organization, signupsPerTask);
+			task.setSkills(Set.of(skill));
+			taskRepository.save(task);
+			for (int j = 0; j < signupsPerTask; j++) {
+				taskSignupService.signUp(task.getId(), saveVolunteer().getId());
+			}
+			taskSignupService.signUp(task.getId(), saveVolunteer().getId()); // Waitlisted
+		}
+		return organization;
+	}
+
+	private Task saveTask(Organization organization, Integer capacity) {
+		return testData.saveTask(organization, "Task", LocalDate.now().plusDays(30), capacity);
+	}
+
+	private Volunteer saveVolunteer() {
+		return testData.saveVolunteer(volunteerCount++);
+	}
+}